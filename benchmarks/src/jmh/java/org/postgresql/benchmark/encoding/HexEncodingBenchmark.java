@@ -5,6 +5,8 @@
 
 package org.postgresql.benchmark.encoding;
 
+import org.postgresql.util.PGbytea;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -23,6 +25,8 @@
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
@@ -40,6 +44,11 @@
  * HexEncoding.digit2_string_array       100  avgt   15  453,326 ± 5,742  ns/op
  * HexEncoding.digit2_subarray           100  avgt   15  330,701 ± 2,523  ns/op
  * </pre>
+ *
+ * <p>{@code pgbytea_appendHexString} and {@code pgbytea_toBytes} measure the driver code, which
+ * uses the Vector API on Java 17+ for longer values. Pass
+ * {@code -jvmArgsAppend --add-modules=jdk.incubator.vector} to enable it, and
+ * {@code -Dpgjdbc.config.vector.enabled=false} to compare with the scalar loops.</p>
  */
 @Fork(value = 3, jvmArgsPrepend = "-Xmx128m")
 @Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
@@ -50,10 +59,11 @@
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 public class HexEncodingBenchmark {
 
-  @Param({"100"})//{"1", "5", "10", "50", "100"})
+  @Param({"100", "10000"})//{"1", "5", "10", "50", "100"})
   public int length;
 
   byte[] data;
+  byte[] hex;
   StringBuilder sb = new StringBuilder();
 
   private static final char[] HEX_DIGITS = "01234567890abcdef".toCharArray();
@@ -74,6 +84,7 @@ public void setup() {
     data = new byte[length];
     sb.ensureCapacity(length * 2);
     ThreadLocalRandom.current().nextBytes(data);
+    hex = PGbytea.toPGString(data).getBytes(StandardCharsets.US_ASCII);
   }
 
   @Setup(Level.Invocation)
@@ -161,6 +172,18 @@ public StringBuilder digit2_subarray() {
     return sb;
   }
 
+  @Benchmark
+  public StringBuilder pgbytea_appendHexString() {
+    StringBuilder sb = this.sb;
+    PGbytea.appendHexString(sb, data, 0, data.length);
+    return sb;
+  }
+
+  @Benchmark
+  public byte[] pgbytea_toBytes() throws SQLException {
+    return PGbytea.toBytes(hex);
+  }
+
   public static void main(String[] args) throws RunnerException {
     Options opt = new OptionsBuilder()
         .include(HexEncodingBenchmark.class.getSimpleName())
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.statement;
+
+import org.postgresql.test.TestUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures an IN-list style {@code = ANY(?)} query with a large array parameter. With
+ * {@code preferQueryMode=simple} the array is sent as a text literal that the server parses with
+ * {@code array_in}, otherwise it is sent in binary.
+ */
+@Fork(value = 5, jvmArgsPrepend = "-Xmx128m")
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnyArrayParameter {
+  private Connection connection;
+  private PreparedStatement ps;
+  private Object array;
+
+  @Param({"100", "10000"})
+  int arraySize;
+
+  @Param({"text", "uuid", "numeric", "timestamp"})
+  String type;
+
+  @Param({"extended", "simple"})
+  String preferQueryMode;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    Properties props = new Properties();
+    props.put("preferQueryMode", preferQueryMode);
+    connection = TestUtil.openDB(props);
+    ps = connection.prepareStatement("SELECT count(*) FROM (SELECT ?::" + type
+        + " v) t WHERE v = ANY(?)");
+    array = createArray();
+  }
+
+  private Object createArray() {
+    switch (type) {
+      case "text":
+        String[] strings = new String[arraySize];
+        for (int i = 0; i < arraySize; i++) {
+          strings[i] = "value " + i;
+        }
+        return strings;
+      case "uuid":
+        UUID[] uuids = new UUID[arraySize];
+        for (int i = 0; i < arraySize; i++) {
+          uuids[i] = new UUID(i, i);
+        }
+        return uuids;
+      case "numeric":
+        BigDecimal[] numbers = new BigDecimal[arraySize];
+        for (int i = 0; i < arraySize; i++) {
+          numbers[i] = BigDecimal.valueOf(i * 100L + 99, 2);
+        }
+        return numbers;
+      case "timestamp":
+        LocalDateTime[] timestamps = new LocalDateTime[arraySize];
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < arraySize; i++) {
+          timestamps[i] = start.plusSeconds(i);
+        }
+        return timestamps;
+      default:
+        throw new IllegalArgumentException("Unsupported type " + type);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    ps.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public long anyArray() throws SQLException {
+    ps.setObject(1, null);
+    ps.setObject(2, array);
+    try (ResultSet rs = ps.executeQuery()) {
+      rs.next();
+      return rs.getLong(1);
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(AnyArrayParameter.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+}
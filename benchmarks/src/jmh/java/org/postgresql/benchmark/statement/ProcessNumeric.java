@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.statement;
+
+import org.postgresql.test.TestUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark to test performance of ResultSet.getBigDecimal() for money-like numeric columns,
+ * comparing text and binary transfer.
+ */
+@Fork(value = 5, jvmArgsPrepend = "-Xmx128m")
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProcessNumeric {
+
+  private Connection connection;
+  private PreparedStatement ps;
+  private ResultSet rs;
+
+  @Param({"100", "10000"})
+  public int rowsize;
+
+  @Param({"numeric(12,2)", "numeric(18,2)", "numeric(38,10)"})
+  public String type;
+
+  @Param({"true", "false"})
+  public boolean binaryTransfer;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    Properties props = new Properties();
+    props.put("binaryTransfer", Boolean.toString(binaryTransfer));
+    // use a server prepared statement from the first execution, so binary transfer applies
+    props.put("prepareThreshold", "-1");
+    connection = TestUtil.openDB(props);
+    String column = "(random() * 10 ^ (" + precision(type) + " - " + scale(type) + "))::" + type;
+    ps = connection.prepareStatement(
+        "select " + column + ", " + column + ", " + column + " from generate_series(1, ?)",
+        ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+    ps.setInt(1, rowsize);
+    rs = ps.executeQuery();
+  }
+
+  private static int precision(String type) {
+    return Integer.parseInt(type.substring(type.indexOf('(') + 1, type.indexOf(',')));
+  }
+
+  private static int scale(String type) {
+    return Integer.parseInt(type.substring(type.indexOf(',') + 1, type.indexOf(')')));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    rs.close();
+    ps.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public void getBigDecimal(Blackhole b) throws SQLException {
+    rs.beforeFirst();
+    while (rs.next()) {
+      b.consume(rs.getBigDecimal(1));
+      b.consume(rs.getBigDecimal(2));
+      b.consume(rs.getBigDecimal(3));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(ProcessNumeric.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+}
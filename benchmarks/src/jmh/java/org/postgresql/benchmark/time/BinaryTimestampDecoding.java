@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.time;
+
+import org.postgresql.jdbc.TimestampUtils;
+import org.postgresql.util.ByteConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding of binary {@code timestamp} values into {@link Timestamp} and into
+ * {@code java.time} types. Run with the GC profiler to see the allocation per call.
+ */
+@Fork(value = 5, jvmArgsPrepend = "-Xmx128m")
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BinaryTimestampDecoding {
+
+  @Param({"UTC", "Europe/Moscow"})
+  String tz;
+
+  TimestampUtils timestampUtils;
+  TimeZone timeZone;
+  byte[] bytes = new byte[8];
+
+  @Setup
+  public void init() {
+    timeZone = TimeZone.getTimeZone(tz);
+    timestampUtils = new TimestampUtils(false, () -> timeZone);
+    // 2024-02-29 13:45:30.123456 as microseconds since 2000-01-01
+    ByteConverter.int8(bytes, 0, 762_529_530_123_456L);
+  }
+
+  @Benchmark
+  public Timestamp timestamp() throws SQLException {
+    return timestampUtils.toTimestampBin(timeZone, bytes, false);
+  }
+
+  @Benchmark
+  public Timestamp timestamptz() throws SQLException {
+    return timestampUtils.toTimestampBin(timeZone, bytes, true);
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTime() throws SQLException {
+    return timestampUtils.toLocalDateTimeBin(bytes);
+  }
+
+  @Benchmark
+  public OffsetDateTime offsetDateTime() throws SQLException {
+    return timestampUtils.toOffsetDateTimeBin(bytes);
+  }
+
+  @Benchmark
+  public Instant instant() throws SQLException {
+    return timestampUtils.toInstantBin(bytes);
+  }
+
+  @Benchmark
+  public LocalDate localDate() throws SQLException {
+    return timestampUtils.toLocalDateBin(bytes);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(BinaryTimestampDecoding.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -45,6 +45,14 @@ val java11 = sourceSets.create("java11") {
     compileClasspath += sourceSets.main.get().output
 }
 
+// Java 17+ specific code that uses the incubating Vector API (e.g., vectorized bytea hex conversion)
+val java17 = sourceSets.create("java17") {
+    java {
+        srcDir("src/main/java17")
+    }
+    compileClasspath += sourceSets.main.get().output
+}
+
 if (buildParameters.testJdkVersion >= 11) {
     // By default, Gradle uses "test classes" dir for classpath, so multi-release jar is not used there
     // So we explicitly prepend the classpath with Java 11 classes
@@ -53,6 +61,14 @@ if (buildParameters.testJdkVersion >= 11) {
     }
 }
 
+if (buildParameters.testJdkVersion >= 17) {
+    tasks.test {
+        classpath = java17.output + classpath
+        // The vectorized code is used only when the application adds the module
+        jvmArgs("--add-modules=jdk.incubator.vector")
+    }
+}
+
 // Configure the java11 source set to compile with Java 11
 tasks.named<JavaCompile>(java11.compileJavaTaskName) {
     options.release.set(11)
@@ -60,10 +76,29 @@ tasks.named<JavaCompile>(java11.compileJavaTaskName) {
     dependsOn(tasks.compileJava)
 }
 
+// Configure the java17 source set to compile with Java 17 against jdk.incubator.vector
+tasks.named<JavaCompile>(java17.compileJavaTaskName) {
+    if (buildParameters.buildJdkVersion < 17) {
+        javaCompiler.set(javaToolchains.compilerFor {
+            languageVersion.set(JavaLanguageVersion.of(17))
+        })
+    }
+    options.release.set(17)
+    options.compilerArgs.add("--add-modules=jdk.incubator.vector")
+    doFirst {
+        // javac always warns about incubating modules, and the warning can't be suppressed
+        options.compilerArgs.remove("-Werror")
+    }
+    dependsOn(tasks.compileJava)
+}
+
 fun CopySpec.addMultiReleaseContents() {
     into("META-INF/versions/11") {
         from(java11.output)
     }
+    into("META-INF/versions/17") {
+        from(java17.output)
+    }
 }
 
 // Add java11 compiled classes to the main JAR
@@ -174,6 +209,7 @@ dependencies {
 
     implementation("org.checkerframework:checker-qual:3.55.1")
     java11.implementationConfigurationName("org.checkerframework:checker-qual:3.55.1")
+    java17.implementationConfigurationName("org.checkerframework:checker-qual:3.55.1")
 
     testKitSourcesWithoutAnnotations(projects.testkit)
 
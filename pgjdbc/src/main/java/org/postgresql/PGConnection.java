@@ -5,6 +5,7 @@
 
 package org.postgresql;
 
+import org.postgresql.codec.BinaryCodec;
 import org.postgresql.copy.CopyManager;
 import org.postgresql.fastpath.Fastpath;
 import org.postgresql.jdbc.AutoSave;
@@ -23,6 +24,7 @@
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Map;
@@ -148,6 +150,28 @@ public interface PGConnection {
    */
   void addDataType(String type, Class<? extends PGobject> klass) throws SQLException;
 
+  /**
+   * Registers a codec that converts values of an extension or user-defined type to and from a Java
+   * class. The type name is resolved to an oid right away and, unless the type is listed in
+   * {@code binaryTransferDisable} or the connection uses {@code preferQueryMode=simple}, values of
+   * the type are received and sent in binary from then on.
+   *
+   * <p>Values of the type are returned by {@link java.sql.ResultSet#getObject(int)} as instances of
+   * {@link BinaryCodec#getJavaType()}, and instances of that class passed to
+   * {@link java.sql.PreparedStatement#setObject(int, Object)} are encoded with the codec. A codec
+   * registered for the same type or Java class replaces the previous one.</p>
+   *
+   * <p>The default implementation, for connections that do not support codecs, throws
+   * {@link SQLFeatureNotSupportedException}.</p>
+   *
+   * @param codec the codec to register
+   * @throws SQLException if the type of the codec does not exist
+   * @see BinaryCodec
+   */
+  default void addBinaryCodec(BinaryCodec<?> codec) throws SQLException {
+    throw Driver.notImplemented(getClass(), "addBinaryCodec(BinaryCodec)");
+  }
+
   /**
    * Set the default statement reuse threshold before enabling server-side prepare. See
    * {@link org.postgresql.PGStatement#setPrepareThreshold(int)} for details.
@@ -55,6 +55,21 @@ public enum PGProperty {
       "0",
       "Specifies minimum number of rows used by adaptive fetch."),
 
+  /**
+   * Decide per statement when to switch to a named server-prepared statement from how often it
+   * is executed and how long its executions take, instead of always switching on the
+   * {@link #PREPARE_THRESHOLD}-th execution. Statements executed at least once per second are
+   * prepared from their second execution, statements executed less than once per minute are not
+   * prepared, and a named statement that runs slower than unnamed executions, for instance with a
+   * generic plan, is closed and the statement goes back to unnamed executions for a while.
+   */
+  ADAPTIVE_PREPARE_THRESHOLD(
+      "adaptivePrepareThreshold",
+      "false",
+      "Decide per statement when to use a named server-prepared statement from its execution rate and time",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * When using the V3 protocol the driver monitors changes in certain server configuration
    * parameters that should not be touched by end users. The {@code client_encoding} setting is set
@@ -180,6 +195,17 @@ public enum PGProperty {
       false,
       new String[]{"true", "false"}),
 
+  /**
+   * Maximum number of distinct values per text column of a result set for which {@code getString}
+   * returns the same {@code String} instance when a value repeats. A value of {@code 0} disables
+   * the interning.
+   */
+  COLUMN_VALUE_INTERNING_LIMIT(
+      "columnValueInterningLimit",
+      "0",
+      "Maximum number of distinct values per text column of a result set for which getString returns the same String instance when a value repeats. "
+          + "0 disables the interning"),
+
   /**
    * Executor used to run the connection attempt that enforces {@code loginTimeout} during
    * connection establishment. Value must be the name of a class implementing {@link java.util.concurrent.Executor}.
@@ -249,6 +275,26 @@ public enum PGProperty {
       "5",
       "Specifies the maximum size (in megabytes) of fields to be cached per connection. A value of {@code 0} disables the cache."),
 
+  /**
+   * Specifies the maximum number of {@link java.sql.DatabaseMetaData} results, such as those of
+   * {@code getColumns}, {@code getPrimaryKeys} or {@code getIndexInfo}, cached and shared by the
+   * connections of the JVM to the same database. A value of {@code 0} disables the cache.
+   */
+  DATABASE_METADATA_CACHE_RESULTS(
+      "databaseMetadataCacheResults",
+      "0",
+      "Specifies the maximum number of DatabaseMetaData results shared by the connections to the same database. A value of {@code 0} disables the cache."),
+
+  /**
+   * Specifies the number of seconds a shared {@link java.sql.DatabaseMetaData} result is used
+   * before it is queried again. A value of {@code 0} keeps the results until a connection of the
+   * JVM changes the catalog.
+   */
+  DATABASE_METADATA_CACHE_TTL(
+      "databaseMetadataCacheTtl",
+      "300",
+      "Specifies the number of seconds a shared DatabaseMetaData result is used. A value of {@code 0} keeps the results until the catalog is changed."),
+
   /**
    * Default parameter for {@link java.sql.Statement#getFetchSize()}. A value of {@code 0} means
    * that need fetch all rows at once
@@ -545,6 +591,19 @@ public enum PGProperty {
           + "extendedCacheEverything means use extended protocol and try cache every statement (including Statement.execute(String sql)) in a query cache.", false,
       new String[]{"extended", "extendedForPrepared", "extendedCacheEverything", "simple"}),
 
+  /**
+   * Load the name, oid, SQL type, array type, array element type and delimiter of all the types
+   * outside of {@code pg_catalog} and {@code information_schema} with a single query when the
+   * connection is opened, instead of looking up each custom, enum, domain or array type the first
+   * time it is used.
+   */
+  PRELOAD_TYPES(
+      "preloadTypes",
+      "false",
+      "Load the information of all non-system types with a single query when the connection is opened",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * Specifies the maximum number of entries in cache of prepared statements. A value of {@code 0}
    * disables the cache.
@@ -672,6 +731,37 @@ public enum PGProperty {
                    "!password", "!md5", "!gss", "!sspi", "!scram-sha-256", "!none"}
   ),
 
+  /**
+   * Channel whose notifications drop the results shared by {@link #RESULT_CACHE_SIZE_MIB}. A
+   * dedicated connection to the primary listens to the channel, results are neither cached nor
+   * served while it is not listening. The name is case-sensitive.
+   */
+  RESULT_CACHE_NOTIFY_CHANNEL(
+      "resultCacheNotifyChannel",
+      null,
+      "Channel whose notifications drop the cached results of statements marked with PGStatement.setCacheResults"),
+
+  /**
+   * Specifies the maximum size (in megabytes) of the results of the statements marked with
+   * {@link PGStatement#setCacheResults(boolean)} cached and shared by the connections of the JVM
+   * to the same database, role and {@code search_path}. A value of {@code 0} disables the cache.
+   * Requires PostgreSQL 9.6 or later.
+   */
+  RESULT_CACHE_SIZE_MIB(
+      "resultCacheSizeMiB",
+      "0",
+      "Specifies the maximum size (in megabytes) of the cached results of statements marked with PGStatement.setCacheResults. A value of {@code 0} disables the cache."),
+
+  /**
+   * Specifies the number of seconds a result shared by {@link #RESULT_CACHE_SIZE_MIB} is used
+   * before the statement is executed again. A value of {@code 0} keeps the results until a
+   * notification is received on {@link #RESULT_CACHE_NOTIFY_CHANNEL}.
+   */
+  RESULT_CACHE_TTL(
+      "resultCacheTtl",
+      "60",
+      "Specifies the number of seconds a cached result is used. A value of {@code 0} keeps the results until a notification is received."),
+
   /**
    * Configure optimization to enable batch insert re-writing.
    */
@@ -727,6 +817,47 @@ public enum PGProperty {
       null,
       "Service name to be searched in pg_service.conf resource"),
 
+  /**
+   * Share the base table, column and nullability of result set columns looked up by
+   * {@link java.sql.ResultSetMetaData} between the connections of the JVM to the same database.
+   * The limits of the shared cache are those of the first connection that uses it. Requires
+   * PostgreSQL 9.6 or later.
+   */
+  SHARED_FIELD_METADATA_CACHE(
+      "sharedFieldMetadataCache",
+      "false",
+      "Share the result set column metadata looked up by ResultSetMetaData between the connections of the JVM to the same database",
+      false,
+      new String[]{"true", "false"}),
+
+  /**
+   * Share the result descriptions of statements between the connections of the JVM to the same
+   * database, role and {@code search_path}, so that the first execution of a statement on a
+   * connection can receive its results in binary without waiting for a Describe round trip. A
+   * connection checks a shared description once against the server before relying on it, and a
+   * statement that changes the catalog drops the shared descriptions. Requires PostgreSQL 9.6 or
+   * later.
+   */
+  SHARED_STATEMENT_DESCRIPTIONS(
+      "sharedStatementDescriptions",
+      "false",
+      "Share the result descriptions of statements between the connections of the JVM to the same database",
+      false,
+      new String[]{"true", "false"}),
+
+  /**
+   * Share the type information looked up by oid (SQL type, array element type and delimiter)
+   * between the connections of the JVM to the same database. The first connection loads the
+   * information of all types with a single query, later connections reuse it instead of querying
+   * the server for every type they meet. Requires PostgreSQL 9.6 or later.
+   */
+  SHARED_TYPE_CACHE(
+      "sharedTypeCache",
+      "false",
+      "Share the type information looked up by oid between the connections of the JVM to the same database",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * Socket factory used to create socket. A null value, which is the default, means system default.
    */
@@ -943,6 +1074,18 @@ public enum PGProperty {
       "false",
       "Use SPNEGO in SSPI authentication requests"),
 
+  /**
+   * SQL statements, separated by semicolons, that are server-prepared when the connection is
+   * opened, so that the first executions of these statements already use a named server-side
+   * statement. The statements are parsed and described in a single round trip and added to the
+   * statement cache. Requires {@code prepareThreshold} greater than 0 and is ignored with
+   * {@code preferQueryMode=simple}.
+   */
+  WARM_UP_STATEMENTS(
+      "warmUpStatements",
+      null,
+      "SQL statements, separated by semicolons, to server-prepare when the connection is opened"),
+
   /**
    * Factory class to instantiate factories for XML processing.
    * The default factory disables external entity processing.
@@ -94,4 +94,33 @@ public interface PGStatement {
    * @return state of adaptive fetch (turned on or off)
    */
   boolean getAdaptiveFetch();
+
+  /**
+   * Marks the queries of this statement as read-mostly, so that their results are kept in the
+   * result cache shared by the connections to the same database and later executions with the
+   * same SQL and parameters are answered from it without a round trip. Only read-only results of
+   * single {@code SELECT} statements are cached, and only when the {@code resultCacheSizeMiB}
+   * connection property enables the cache.
+   *
+   * <p>Cached results are snapshots: they are used until they expire or a notification is received
+   * on the {@code resultCacheNotifyChannel}. The cache is not used inside a transaction, so that
+   * the transaction reads its own writes, nor once the session changed a setting such as the role
+   * or the {@code search_path}.</p>
+   *
+   * <p>The default implementation ignores the request.</p>
+   *
+   * @param cacheResults true to use the result cache for the queries of this statement
+   */
+  default void setCacheResults(boolean cacheResults) {
+  }
+
+  /**
+   * Get whether the queries of this statement use the result cache.
+   *
+   * @return true if the queries of this statement use the result cache
+   * @see #setCacheResults(boolean)
+   */
+  default boolean getCacheResults() {
+    return false;
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.codec;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.sql.SQLException;
+
+/**
+ * Converts values of a PostgreSQL type, typically one created by an extension such as PostGIS
+ * {@code geometry}, {@code hstore} or {@code ltree}, to and from a Java class.
+ *
+ * <p>Unlike {@link org.postgresql.util.PGobject} based types, a codec works directly on the wire
+ * representation and is looked up by the type oid resolved when it is registered, so values of the
+ * type are received and sent in binary without going through the type name, reflection or an
+ * intermediate string. The text methods are used when the value is transferred as text, for
+ * instance before a statement is prepared on the server, with {@code preferQueryMode=simple} or
+ * when the type is listed in {@code binaryTransferDisable}.</p>
+ *
+ * <p>Codecs are registered per connection with
+ * {@link org.postgresql.PGConnection#addBinaryCodec(BinaryCodec)}, or for every connection by
+ * listing the implementation class in
+ * {@code META-INF/services/org.postgresql.codec.BinaryCodec}. Discovered codecs are registered
+ * when a connection first looks up a codec, and those whose type does not exist in the database
+ * are skipped. Discovered codec instances are created once per classloader and shared by all
+ * connections, so they must be thread-safe, and implementations must have a public no-argument
+ * constructor.</p>
+ *
+ * <p>Text values use the connection encoding, which is always UTF-8.</p>
+ *
+ * @param <T> Java type produced and consumed by this codec
+ */
+public interface BinaryCodec<T extends @NonNull Object> {
+
+  /**
+   * Returns the name of the PostgreSQL type handled by this codec. The name may be schema
+   * qualified and is resolved to an oid when the codec is registered.
+   *
+   * @return the PostgreSQL type name
+   */
+  String getTypeName();
+
+  /**
+   * Returns the Java class of decoded values. Values passed to
+   * {@link java.sql.PreparedStatement#setObject(int, Object)} that are instances of this class are
+   * encoded with this codec, unless the driver binds them itself, for instance {@link String},
+   * {@link Number}, {@link java.util.UUID} and {@code java.time} values.
+   *
+   * @return the Java class of the values
+   */
+  Class<T> getJavaType();
+
+  /**
+   * Decodes a value from its binary representation.
+   *
+   * @param bytes buffer that contains the value
+   * @param offset offset of the first byte of the value
+   * @param length number of bytes of the value
+   * @return the decoded value
+   * @throws SQLException if the value can not be decoded
+   */
+  T decodeBinary(byte[] bytes, int offset, int length) throws SQLException;
+
+  /**
+   * Decodes a value from its text representation.
+   *
+   * @param value the text representation as produced by the type output function
+   * @return the decoded value
+   * @throws SQLException if the value can not be decoded
+   */
+  T decodeText(String value) throws SQLException;
+
+  /**
+   * Returns the length of the binary representation of the given value.
+   *
+   * @param value the value to encode
+   * @return the number of bytes {@link #encodeBinary(Object, byte[], int)} writes
+   */
+  int lengthInBytes(T value);
+
+  /**
+   * Writes the binary representation of the value.
+   *
+   * @param value the value to encode
+   * @param bytes buffer to write to, with at least {@link #lengthInBytes(Object)} bytes available
+   *     after {@code offset}
+   * @param offset offset of the first byte to write
+   * @throws SQLException if the value can not be encoded
+   */
+  void encodeBinary(T value, byte[] bytes, int offset) throws SQLException;
+
+  /**
+   * Returns the text representation of the value as accepted by the type input function.
+   *
+   * @param value the value to encode
+   * @return the text representation
+   * @throws SQLException if the value can not be encoded
+   */
+  String encodeText(T value) throws SQLException;
+}
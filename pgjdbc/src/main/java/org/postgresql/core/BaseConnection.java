@@ -7,7 +7,9 @@
 
 import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
+import org.postgresql.codec.BinaryCodec;
 import org.postgresql.jdbc.FieldMetadata;
+import org.postgresql.jdbc.SharedFieldMetadataCache;
 import org.postgresql.jdbc.TimestampUtils;
 import org.postgresql.util.LruCache;
 import org.postgresql.xml.PGXmlFactoryFactory;
@@ -174,6 +176,26 @@ Object getObject(String type, @Nullable String value, byte @Nullable [] byteValu
    */
   boolean binaryTransferSend(int oid);
 
+  /**
+   * Returns the codec registered for the given type.
+   *
+   * @param oid the type oid
+   * @return the codec or null if no codec is registered for the type
+   * @throws SQLException if the types of the discovered codecs can not be resolved
+   * @see PGConnection#addBinaryCodec(BinaryCodec)
+   */
+  @Nullable BinaryCodec<?> getBinaryCodec(int oid) throws SQLException;
+
+  /**
+   * Returns the type oid of the codec that encodes the given value.
+   *
+   * @param value the value to encode
+   * @return the oid of the codec or {@link Oid#UNSPECIFIED} if no codec handles the value
+   * @throws SQLException if the types of the discovered codecs can not be resolved
+   * @see PGConnection#addBinaryCodec(BinaryCodec)
+   */
+  int getBinaryCodecOid(Object value) throws SQLException;
+
   /**
    * Return whether to disable column name sanitation.
    *
@@ -202,6 +224,14 @@ Object getObject(String type, @Nullable String value, byte @Nullable [] byteValu
    */
   LruCache<FieldMetadata.Key, FieldMetadata> getFieldMetadataCache();
 
+  /**
+   * Returns the metadata cache shared with the other connections to the same database, which
+   * {@link #getFieldMetadataCache()} returns the entries of.
+   *
+   * @return the shared metadata cache or null if the connection has its own cache
+   */
+  @Nullable SharedFieldMetadataCache getSharedFieldMetadataCache();
+
   CachedQuery createQuery(String sql, boolean escapeProcessing, boolean isParameterized,
       String... columnNames)
       throws SQLException;
@@ -244,4 +274,11 @@ CachedQuery createQuery(String sql, boolean escapeProcessing, boolean isParamete
    * @return true if boolean to numeric conversion is enabled
    */
   boolean getConvertBooleanToNumeric();
+
+  /**
+   * Returns the maximum number of distinct values per result set column for which
+   * {@code getString} returns the same {@code String} instance.
+   * @return the limit, 0 if values are not interned
+   */
+  int getColumnValueInterningLimit();
 }
@@ -7,6 +7,8 @@
 
 import org.postgresql.util.CanEstimateSize;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Stores information on the parsed JDBC query. It is used to cut parsing overhead when executing
  * the same query through {@link java.sql.Connection#prepareStatement(String)}.
@@ -20,6 +22,7 @@ public class CachedQuery implements CanEstimateSize {
   public final boolean isFunction;
 
   private int executeCount;
+  private @Nullable PrepareStatistics prepareStatistics;
 
   public CachedQuery(Object key, Query query, boolean isFunction) {
     assert key instanceof String || key instanceof CanEstimateSize
@@ -52,6 +55,20 @@ public int getExecuteCount() {
     return executeCount;
   }
 
+  /**
+   * Execution statistics used by {@code adaptivePrepareThreshold}, created on first use.
+   *
+   * @return execution statistics of this statement
+   */
+  public PrepareStatistics getPrepareStatistics() {
+    PrepareStatistics prepareStatistics = this.prepareStatistics;
+    if (prepareStatistics == null) {
+      prepareStatistics = new PrepareStatistics();
+      this.prepareStatistics = prepareStatistics;
+    }
+    return prepareStatistics;
+  }
+
   @Override
   public long getSize() {
     long queryLength;
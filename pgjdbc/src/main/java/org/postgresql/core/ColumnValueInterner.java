@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Returns the same {@code String} instance for repeated values of one result set column, keyed by
+ * the encoded bytes.
+ *
+ * <p>Unlike {@link AsciiStringInterner}, which canonicalizes column names and other protocol
+ * strings for the whole JVM, an instance belongs to a single column, holds strong references and
+ * remembers at most {@code limit} distinct values. Once the limit is reached, repeated values seen
+ * so far are still reused. If then {@code limit} values in a row are not found, the column is
+ * considered to have too many distinct values and lookups stop altogether.</p>
+ *
+ * <p><b>NOTE:</b> Instances are not safe for concurrent use.</p>
+ */
+public final class ColumnValueInterner {
+
+  /**
+   * Longer values are decoded without interning, low cardinality values are typically short.
+   */
+  static final int MAX_VALUE_LENGTH = 256;
+
+  /**
+   * Upper bound for the limit, which keeps the tables of a single column below a few megabytes.
+   */
+  static final int MAX_LIMIT = 1 << 16;
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int limit;
+  private byte[] @Nullable [] keys;
+  private @Nullable String[] values;
+  private int mask;
+  private int size;
+  private int misses;
+  private boolean disabled;
+
+  /**
+   * Creates an interner.
+   *
+   * @param limit maximum number of distinct values to remember, must be positive. Values above
+   *     {@value #MAX_LIMIT} are reduced to it.
+   */
+  public ColumnValueInterner(int limit) {
+    this.limit = Math.min(limit, MAX_LIMIT);
+    this.keys = new byte[INITIAL_CAPACITY][];
+    this.values = new String[INITIAL_CAPACITY];
+    this.mask = INITIAL_CAPACITY - 1;
+  }
+
+  /**
+   * Decodes the value, returning the instance returned for equal bytes before if there was one.
+   *
+   * @param bytes encoded value
+   * @param encoding encoding to decode the value with
+   * @return decoded value
+   * @throws IOException if the value can not be decoded
+   */
+  public String getString(byte[] bytes, Encoding encoding) throws IOException {
+    int length = bytes.length;
+    if (disabled || length > MAX_VALUE_LENGTH) {
+      return encoding.decode(bytes);
+    }
+    int index = hash(bytes) & mask;
+    byte[] key;
+    while ((key = keys[index]) != null) {
+      if (AsciiStringInterner.arrayEquals(key, 0, key.length, bytes, 0, length)) {
+        misses = 0;
+        return castNonNull(values[index]);
+      }
+      index = (index + 1) & mask;
+    }
+    String value = encoding.decode(bytes);
+    if (size < limit) {
+      // the row data is never modified, so the bytes can be used as the key without a copy
+      keys[index] = bytes;
+      values[index] = value;
+      size++;
+      // keep the load factor at or below 0.5 so probing stays short
+      if (size * 2 > keys.length) {
+        resize();
+      }
+    } else if (++misses >= limit) {
+      disabled = true;
+    }
+    return value;
+  }
+
+  /**
+   * Returns the number of distinct values remembered.
+   *
+   * @return the number of distinct values remembered
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns whether lookups stopped because the column has too many distinct values.
+   *
+   * @return true if values are no longer interned
+   */
+  public boolean isDisabled() {
+    return disabled;
+  }
+
+  @Override
+  public String toString() {
+    return "ColumnValueInterner{size=" + size + ", limit=" + limit + ", disabled=" + disabled + '}';
+  }
+
+  private void resize() {
+    byte[] @Nullable [] oldKeys = keys;
+    @Nullable String[] oldValues = values;
+    int capacity = oldKeys.length * 2;
+    keys = new byte[capacity][];
+    values = new String[capacity];
+    mask = capacity - 1;
+    for (int i = 0; i < oldKeys.length; i++) {
+      byte[] key = oldKeys[i];
+      if (key == null) {
+        continue;
+      }
+      int index = hash(key) & mask;
+      while (keys[index] != null) {
+        index = (index + 1) & mask;
+      }
+      keys[index] = key;
+      values[index] = oldValues[i];
+    }
+  }
+
+  private static int hash(byte[] bytes) {
+    int h = Arrays.hashCode(bytes);
+    // spread the high bits, as the table index uses the low bits only
+    return h ^ (h >>> 16);
+  }
+}
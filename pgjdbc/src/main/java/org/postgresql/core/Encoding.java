@@ -143,7 +143,7 @@ public static Encoding getJVMEncoding(String jvmEncoding) {
       return UTF8_ENCODING;
     }
     if (Charset.isSupported(jvmEncoding)) {
-      return new Encoding(Charset.forName(jvmEncoding));
+      return forCharset(Charset.forName(jvmEncoding));
     }
     return DEFAULT_ENCODING;
   }
@@ -167,7 +167,7 @@ public static Encoding getDatabaseEncoding(String databaseEncoding) {
       for (String candidate : candidates) {
         LOGGER.log(Level.FINEST, "Search encoding candidate {0}", candidate);
         if (Charset.isSupported(candidate)) {
-          return new Encoding(Charset.forName(candidate));
+          return forCharset(Charset.forName(candidate));
         }
       }
     }
@@ -175,7 +175,7 @@ public static Encoding getDatabaseEncoding(String databaseEncoding) {
     // Try the encoding name directly -- maybe the charset has been
     // provided by the user.
     if (Charset.isSupported(databaseEncoding)) {
-      return new Encoding(Charset.forName(databaseEncoding));
+      return forCharset(Charset.forName(databaseEncoding));
     }
 
     // Fall back to default JVM encoding.
@@ -183,6 +183,11 @@ public static Encoding getDatabaseEncoding(String databaseEncoding) {
     return DEFAULT_ENCODING;
   }
 
+  private static Encoding forCharset(Charset charset) {
+    Encoding singleByte = SingleByteEncoding.forCharset(charset);
+    return singleByte != null ? singleByte : new Encoding(charset);
+  }
+
   /**
    * Indicates that <i>string</i> should be staged as a canonicalized value.
    *
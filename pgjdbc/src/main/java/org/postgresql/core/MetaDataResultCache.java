@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.jdbc.ResourceLock;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Results of {@link java.sql.DatabaseMetaData} calls shared by all connections of the JVM to the
+ * same database, so that frameworks asking every connection of a pool for the columns, keys and
+ * indexes of their tables run each catalog query once.
+ *
+ * <p>A result is dropped when it gets older than the time to live, and all the results of the
+ * database, whatever the settings of the connections that cached them, are dropped when a
+ * connection of this JVM executes a statement that changes the catalog, such as {@code CREATE},
+ * {@code ALTER}, {@code DROP}, {@code COMMENT}, {@code GRANT} or {@code REVOKE}, and again when
+ * the transaction of that statement ends. Catalog changes made by other clients are only seen once
+ * the cached results expire.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class MetaDataResultCache {
+  private static final ConcurrentMap<String, MetaDataResultCache> CACHES = new ConcurrentHashMap<>();
+
+  /**
+   * A cached result. The fields and the list of rows are copied for every result set, the rows
+   * themselves are shared as result sets of metadata calls are read-only.
+   */
+  public static final class Result {
+    private final Field[] fields;
+    private final List<Tuple> rows;
+    private final long createdNanos;
+
+    Result(Field[] fields, List<Tuple> rows, long createdNanos) {
+      this.fields = copyFields(fields);
+      this.rows = new ArrayList<>(rows);
+      this.createdNanos = createdNanos;
+    }
+
+    public Field[] getFields() {
+      return copyFields(fields);
+    }
+
+    public List<Tuple> getRows() {
+      return new ArrayList<>(rows);
+    }
+  }
+
+  private final String databaseIdentity;
+  private final String key;
+  private final long ttlNanos;
+  private final ResourceLock lock = new ResourceLock();
+  private final LinkedHashMap<List<?>, Result> results;
+  private long epoch;
+
+  private MetaDataResultCache(String databaseIdentity, String key, final int maxResults,
+      long ttlNanos) {
+    this.databaseIdentity = databaseIdentity;
+    this.key = key;
+    this.ttlNanos = ttlNanos;
+    this.results = new LinkedHashMap<List<?>, Result>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<List<?>, Result> eldest) {
+        return size() > maxResults;
+      }
+    };
+  }
+
+  /**
+   * Returns the cache of a database, creating an empty one if needed. The limits are those of the
+   * connection that created the cache.
+   *
+   * @param databaseIdentity identifies the database
+   * @param settings the settings of the connection that influence the results
+   * @param maxResults maximum number of results to keep
+   * @param ttlSeconds number of seconds after which a result is dropped, {@code 0} to keep the
+   *     results until the catalog is changed
+   * @return the cache of the database
+   */
+  public static MetaDataResultCache forDatabase(String databaseIdentity, String settings,
+      int maxResults, int ttlSeconds) {
+    String key = databaseIdentity + "/" + settings;
+    MetaDataResultCache cache = CACHES.get(key);
+    if (cache == null) {
+      long ttlNanos = ttlSeconds <= 0 ? Long.MAX_VALUE : ttlSeconds * 1_000_000_000L;
+      cache = new MetaDataResultCache(databaseIdentity, key, maxResults, ttlNanos);
+      MetaDataResultCache existing = CACHES.putIfAbsent(key, cache);
+      if (existing != null) {
+        cache = existing;
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Returns a cached result.
+   *
+   * @param call the metadata method and its arguments
+   * @return the result or null if it is not cached or expired
+   */
+  public @Nullable Result get(List<?> call) {
+    try (ResourceLock ignore = lock.obtain()) {
+      Result result = results.get(call);
+      if (result != null && System.nanoTime() - result.createdNanos > ttlNanos) {
+        results.remove(call);
+        return null;
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Returns the current epoch of the cache, to pass to {@link #put} once the result is computed.
+   *
+   * @return the current epoch
+   */
+  public long getEpoch() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return epoch;
+    }
+  }
+
+  /**
+   * Caches a result. The result is dropped if the catalog changed since {@code startEpoch}, as it
+   * might have been computed from the old catalog.
+   *
+   * @param startEpoch the value returned by {@link #getEpoch()} before computing the result
+   * @param call the metadata method and its arguments
+   * @param fields the fields of the result
+   * @param rows the rows of the result
+   */
+  public void put(long startEpoch, List<?> call, Field[] fields, List<Tuple> rows) {
+    Result result = new Result(fields, rows, System.nanoTime());
+    try (ResourceLock ignore = lock.obtain()) {
+      if (epoch == startEpoch) {
+        results.put(call, result);
+      }
+    }
+  }
+
+  /**
+   * Drops all the results of this cache.
+   */
+  public void invalidate() {
+    try (ResourceLock ignore = lock.obtain()) {
+      epoch++;
+      results.clear();
+    }
+  }
+
+  /**
+   * Drops the results of all the caches of the database, whatever the settings of the connections
+   * that use them, called when the catalog changes. A statement run by a migration role changes
+   * what the connections of an application role see too.
+   */
+  public void invalidateDatabase() {
+    for (MetaDataResultCache cache : CACHES.values()) {
+      if (cache.databaseIdentity.equals(databaseIdentity)) {
+        cache.invalidate();
+      }
+    }
+  }
+
+  public int size() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return results.size();
+    }
+  }
+
+  /**
+   * Copies fields without the state result sets keep in them, such as the type information.
+   *
+   * @param fields the fields to copy
+   * @return the copies
+   */
+  public static Field[] copyFields(Field[] fields) {
+    Field[] copy = new Field[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      Field field = fields[i];
+      copy[i] = new Field(field.getColumnLabel(), field.getOID(), field.getLength(), field.getMod(),
+          field.getTableOid(), field.getPositionInTable());
+      copy[i].setFormat(field.getFormat());
+    }
+    return copy;
+  }
+
+  @Override
+  public String toString() {
+    return "MetaDataResultCache{" + key + ", results=" + size() + '}';
+  }
+}
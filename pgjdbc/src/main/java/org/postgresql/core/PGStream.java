@@ -35,6 +35,7 @@
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import javax.net.SocketFactory;
 
@@ -96,6 +97,8 @@ public void setSecContext(GSSContext secContext) throws GSSException {
   private long resultBufferByteCount;
 
   private int maxRowSizeBytes = -1;
+  // Number of data rows read so far by bit length of their size, used by adaptive fetch
+  private final int[] rowSizeHistogram = new int[Integer.SIZE];
 
   /**
    * Constructor: Connect to the PostgreSQL back end and return a stream connection.
@@ -611,6 +614,7 @@ public Tuple receiveTupleV3() throws IOException, OutOfMemoryError, SQLException
     //size = messageSize - 4 bytes of message size - 2 bytes of field count - 4 bytes for each column length
     int dataToReadSize = messageSize - 4 - 2 - 4 * nf;
     setMaxRowSizeBytes(dataToReadSize);
+    rowSizeHistogram[Integer.SIZE - Integer.numberOfLeadingZeros(dataToReadSize)]++;
 
     byte[][] answer = new byte[nf][];
 
@@ -793,6 +797,18 @@ public int getMaxRowSizeBytes() {
    */
   public void clearMaxRowSizeBytes() {
     maxRowSizeBytes = -1;
+    Arrays.fill(rowSizeHistogram, 0);
+  }
+
+  /**
+   * Get the sizes of the data rows read since the last {@link #clearMaxRowSizeBytes()}. Element
+   * {@code i} holds the number of rows whose size in bytes needs {@code i} bits, so rows of element
+   * {@code i > 0} are between {@code 2^(i-1)} and {@code 2^i - 1} bytes long.
+   *
+   * @return histogram of the row sizes, owned by this stream
+   */
+  public int[] getRowSizeHistogram() {
+    return rowSizeHistogram;
   }
 
   /**
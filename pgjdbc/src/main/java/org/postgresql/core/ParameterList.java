@@ -15,6 +15,7 @@
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * Abstraction of a list of parameters to be substituted into a Query. The protocol-specific details
@@ -153,6 +154,43 @@ void setBytea(@Positive int index, byte[] data,
    */
   void setText(@Positive int index, InputStream stream) throws SQLException;
 
+  /**
+   * Binds a text value of the given type stored as an InputStream that is a valid UTF-8 byte
+   * stream, for instance a {@code json} document. The stream is read into memory to find its
+   * length. The stream should remain valid until query execution has completed.
+   *
+   * @param index the 1-based parameter index to bind.
+   * @param stream a stream containing the parameter data.
+   * @param oid the type OID of the parameter, or <code>0</code> to infer the type.
+   * @throws SQLException on error or if <code>index</code> is out of range
+   */
+  void setText(@Positive int index, InputStream stream, int oid) throws SQLException;
+
+  /**
+   * Binds a text value of the given type stored as an InputStream of known length that is a valid
+   * UTF-8 byte stream. The stream is copied to the backend as the query is sent, so it should
+   * remain valid until query execution has completed.
+   *
+   * @param index the 1-based parameter index to bind.
+   * @param stream a stream containing the parameter data.
+   * @param length the number of bytes to read from the stream.
+   * @param oid the type OID of the parameter, or <code>0</code> to infer the type.
+   * @throws SQLException on error or if <code>index</code> is out of range
+   */
+  void setText(@Positive int index, InputStream stream, @NonNegative int length, int oid)
+      throws SQLException;
+
+  /**
+   * Binds a text value of the given type whose UTF-8 bytes are written by a ByteStreamWriter.
+   * The writer should remain valid until query execution has completed.
+   *
+   * @param index the 1-based parameter index to bind.
+   * @param writer a writer that can write the bytes for the parameter
+   * @param oid the type OID of the parameter, or <code>0</code> to infer the type.
+   * @throws SQLException on error or if <code>index</code> is out of range
+   */
+  void setText(@Positive int index, ByteStreamWriter writer, int oid) throws SQLException;
+
   /**
    * Binds given byte[] value to a parameter. The bytes must already be in correct format matching
    * the OID.
@@ -210,6 +248,14 @@ void setBytea(@Positive int index, byte[] data,
    */
   String toString(@Positive int index, SqlSerializationContext context);
 
+  /**
+   * Returns a value that is equal for parameter lists with the same types and values, to use as a
+   * cache key. Later changes of the parameters do not change the returned value.
+   *
+   * @return the key, or null if a parameter is not set or is read from a stream
+   */
+  @Nullable List<?> getValueKey();
+
   /**
    * Use this operation to append more parameters to the current list.
    * @param list of parameters to append with.
@@ -416,6 +416,54 @@ private static boolean addReturning(StringBuilder nativeSql, SqlCommandType curr
     return list.toArray();
   }
 
+  /**
+   * Split a list of SQL statements at the semicolons that are not inside a string, a quoted
+   * identifier or a comment.
+   *
+   * @param sql                       statements separated by semicolons
+   * @param standardConformingStrings whether backslashes in strings are ordinary characters
+   * @return the statements without the semicolons, surrounding whitespace and empty statements
+   */
+  public static List<String> splitStatements(String sql, boolean standardConformingStrings) {
+    char[] aChars = sql.toCharArray();
+    List<String> statements = new ArrayList<>();
+    int start = 0;
+    for (int i = 0; i < aChars.length; i++) {
+      switch (aChars[i]) {
+        case '\'':
+          i = parseSingleQuotes(aChars, i, standardConformingStrings);
+          break;
+        case '"':
+          i = parseDoubleQuotes(aChars, i);
+          break;
+        case '$':
+          i = parseDollarQuotes(aChars, i);
+          break;
+        case '-':
+          i = parseLineComment(aChars, i);
+          break;
+        case '/':
+          i = parseBlockComment(aChars, i);
+          break;
+        case ';':
+          addStatement(statements, sql, start, i);
+          start = i + 1;
+          break;
+        default:
+          break;
+      }
+    }
+    addStatement(statements, sql, start, aChars.length);
+    return statements;
+  }
+
+  private static void addStatement(List<String> statements, String sql, int start, int end) {
+    String statement = sql.substring(start, Math.min(end, sql.length())).trim();
+    if (!statement.isEmpty()) {
+      statements.add(statement);
+    }
+  }
+
   /**
    * Find the end of the single-quoted string starting at the given offset.
    *
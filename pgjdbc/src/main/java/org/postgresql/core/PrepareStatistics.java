@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+/**
+ * Execution statistics of a {@link CachedQuery} used to decide when it is worth using a named
+ * server-prepared statement, see the {@code adaptivePrepareThreshold} connection property.
+ *
+ * <p>The cost of parsing and planning a statement is not reported by the server, so it is
+ * estimated as the difference between the mean time of the executions with an unnamed statement,
+ * which parse and plan the statement, and the mean time of the executions of the named
+ * statement. When the named statement is slower, for instance because the server switched to a
+ * generic plan that does not suit the parameters, the statement goes back to unnamed executions
+ * for a while. The named statement is closed only once none of its portals can be open, as
+ * closing a statement closes its portals.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class PrepareStatistics {
+  // A statement executed at least this often is prepared from its second execution
+  static final long HOT_INTERVAL_NANOS = 1_000_000_000L;
+  // A statement executed less often than this is not prepared, so it takes no server memory
+  static final long RARE_INTERVAL_NANOS = 60_000_000_000L;
+  // The server plans the first five executions of a named statement with the parameter values
+  static final int MIN_NAMED_EXECUTIONS = 10;
+  // The named statement has to be slower by this factor and this time to count as harmful
+  static final double HARMFUL_RATIO = 1.5;
+  static final long HARMFUL_MIN_NANOS = 500_000L;
+  // Number of executions that use unnamed statements once the named statement was harmful
+  static final int UNNAMED_EXECUTIONS_AFTER_HARM = 256;
+  // Weight of the previous mean in the moving averages, in eighths
+  private static final int DECAY_EIGHTHS = 7;
+
+  private long lastExecutionNanos;
+  private long meanIntervalNanos = -1;
+  private long meanUnnamedNanos = -1;
+  private long meanNamedNanos = -1;
+  private int namedExecutions;
+  private int unnamedUntilExecuteCount;
+  private boolean closePending;
+
+  /**
+   * Decides whether an execution uses a named server-prepared statement.
+   *
+   * @param executeCount number of executions of the statement, including this one
+   * @param prepareThreshold the execution from which statements are prepared unless they are
+   *     executed rarely
+   * @param nowNanos the current {@link System#nanoTime()}
+   * @return true if the execution should use a named statement
+   */
+  public boolean shouldPrepare(int executeCount, int prepareThreshold, long nowNanos) {
+    if (executeCount > 1) {
+      meanIntervalNanos = average(meanIntervalNanos, nowNanos - lastExecutionNanos);
+    }
+    lastExecutionNanos = nowNanos;
+    if (executeCount <= 1 || executeCount <= unnamedUntilExecuteCount
+        || meanIntervalNanos > RARE_INTERVAL_NANOS) {
+      return false;
+    }
+    return meanIntervalNanos < HOT_INTERVAL_NANOS || executeCount >= prepareThreshold;
+  }
+
+  /**
+   * Records the time of an execution that fetched all its rows. Executions are ignored while the
+   * named statement waits to be closed, as they still use it.
+   *
+   * @param named true if the execution used a named statement
+   * @param elapsedNanos time the execution took
+   */
+  public void recordExecution(boolean named, long elapsedNanos) {
+    if (closePending) {
+      return;
+    }
+    if (named) {
+      meanNamedNanos = average(meanNamedNanos, elapsedNanos);
+      if (namedExecutions < Integer.MAX_VALUE) {
+        namedExecutions++;
+      }
+    } else {
+      meanUnnamedNanos = average(meanUnnamedNanos, elapsedNanos);
+    }
+  }
+
+  /**
+   * Checks whether the named statement is slower than unnamed executions, in which case the
+   * statement should be closed, see {@link #isNamedStatementClosePending()}. The following
+   * executions then use unnamed statements for a while.
+   *
+   * @param executeCount number of executions of the statement
+   * @return true if the named statement should be closed
+   */
+  public boolean isNamedStatementHarmful(int executeCount) {
+    if (namedExecutions < MIN_NAMED_EXECUTIONS || meanUnnamedNanos < 0
+        || meanNamedNanos < meanUnnamedNanos * HARMFUL_RATIO
+        || meanNamedNanos - meanUnnamedNanos < HARMFUL_MIN_NANOS) {
+      return false;
+    }
+    namedExecutions = 0;
+    meanNamedNanos = -1;
+    unnamedUntilExecuteCount = executeCount + UNNAMED_EXECUTIONS_AFTER_HARM;
+    closePending = true;
+    return true;
+  }
+
+  /**
+   * @return true if the named statement was found harmful and is not closed yet
+   */
+  public boolean isNamedStatementClosePending() {
+    return closePending;
+  }
+
+  /**
+   * Records that the named statement found harmful was closed.
+   */
+  public void namedStatementClosed() {
+    closePending = false;
+  }
+
+  /**
+   * @return estimated time the server spends parsing and planning the statement, or -1 if it is
+   *     not known yet
+   */
+  public long getParsePlanNanos() {
+    if (meanUnnamedNanos < 0 || meanNamedNanos < 0) {
+      return -1;
+    }
+    return Math.max(0, meanUnnamedNanos - meanNamedNanos);
+  }
+
+  private static long average(long mean, long sample) {
+    if (mean < 0) {
+      return sample;
+    }
+    return (mean * DECAY_EIGHTHS + sample) / 8;
+  }
+
+  @Override
+  public String toString() {
+    return "PrepareStatistics{"
+        + "meanIntervalNanos=" + meanIntervalNanos
+        + ", meanUnnamedNanos=" + meanUnnamedNanos
+        + ", meanNamedNanos=" + meanNamedNanos
+        + ", namedExecutions=" + namedExecutions
+        + ", closePending=" + closePending
+        + '}';
+  }
+}
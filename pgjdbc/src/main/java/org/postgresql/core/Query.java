@@ -89,11 +89,14 @@ public interface Query {
   int getBatchSize();
 
   /**
-   * Get a map that a result set can use to find the index associated to a name.
+   * Get a map that a result set can use to find the index associated to a name. The map is shared
+   * by the result sets of the executions that return the same column labels, so it is safe for
+   * concurrent use.
    *
+   * @param fields the fields of the result set
    * @return null if the query implementation does not support this method.
    */
-  @Nullable Map<String, Integer> getResultSetColumnNameIndexMap();
+  @Nullable Map<String, Integer> getResultSetColumnNameIndexMap(Field[] fields);
 
   /**
    * Return a list of the Query objects that make up this query. If this object is already a
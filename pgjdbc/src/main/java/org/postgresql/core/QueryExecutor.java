@@ -9,6 +9,7 @@
 import org.postgresql.PGNotification;
 import org.postgresql.copy.CopyOperation;
 import org.postgresql.core.v3.TypeTransferModeRegistry;
+import org.postgresql.core.v3.adaptivefetch.AdaptiveFetchQueryStatistics;
 import org.postgresql.jdbc.AutoSave;
 import org.postgresql.jdbc.BatchResultHandler;
 import org.postgresql.jdbc.EscapeSyntaxCallMode;
@@ -602,6 +603,66 @@ Object createQueryKey(String sql, boolean escapeProcessing, boolean isParameteri
    */
   void setFlushCacheOnDdl(boolean flushCacheOnDdl);
 
+  /**
+   * Returns the type catalog shared with other connections to the same database.
+   *
+   * @return the shared type catalog or null if the connection does not use one
+   */
+  @Nullable SharedTypeCatalog getSharedTypeCatalog();
+
+  /**
+   * Sets the type catalog shared with other connections to the same database. A
+   * {@code DROP}/{@code ALTER} of a type, domain, extension or schema executed on this connection
+   * invalidates it.
+   *
+   * @param sharedTypeCatalog the shared type catalog or null
+   */
+  void setSharedTypeCatalog(@Nullable SharedTypeCatalog sharedTypeCatalog);
+
+  /**
+   * Returns the cache of {@link java.sql.DatabaseMetaData} results shared with other connections
+   * to the same database.
+   *
+   * @return the shared metadata cache or null if the connection does not use one
+   */
+  @Nullable MetaDataResultCache getMetaDataResultCache();
+
+  /**
+   * Sets the cache of {@link java.sql.DatabaseMetaData} results shared with other connections to
+   * the same database. A statement that changes the catalog executed on this connection
+   * invalidates it.
+   *
+   * @param metaDataResultCache the shared metadata cache or null
+   */
+  void setMetaDataResultCache(@Nullable MetaDataResultCache metaDataResultCache);
+
+  /**
+   * Returns the cache of statement descriptions shared with other connections to the same
+   * database.
+   *
+   * @return the shared description cache or null if the connection does not use one
+   */
+  @Nullable StatementDescriptionCache getStatementDescriptionCache();
+
+  /**
+   * Sets the cache of statement descriptions shared with other connections to the same database.
+   * A statement that changes the catalog executed on this connection invalidates it, and a change
+   * of {@code search_path} stops the connection from using it.
+   *
+   * @param statementDescriptionCache the shared description cache or null
+   */
+  void setStatementDescriptionCache(@Nullable StatementDescriptionCache statementDescriptionCache);
+
+  /**
+   * Returns whether the session changed a setting that the results of queries might depend on,
+   * such as the role, the {@code search_path} or a custom setting used by row level security
+   * policies. Changes made with {@code SET}, {@code RESET} and {@code DISCARD} commands and the
+   * changes the server reports are detected, changes made inside functions usually are not.
+   *
+   * @return true once such a setting was changed
+   */
+  boolean isSessionSettingsChanged();
+
   /**
    * @return the ReplicationProtocol instance for this connection.
    */
@@ -657,4 +718,11 @@ Object createQueryKey(String sql, boolean escapeProcessing, boolean isParameteri
    *                      Portal class.
    */
   void removeQueryFromAdaptiveFetchCache(boolean adaptiveFetch, ResultCursor cursor);
+
+  /**
+   * Get the row size statistics adaptive fetch collected for the queries being fetched.
+   *
+   * @return statistics of the queries in the adaptive fetch cache
+   */
+  List<AdaptiveFetchQueryStatistics> getAdaptiveFetchStatistics();
 }
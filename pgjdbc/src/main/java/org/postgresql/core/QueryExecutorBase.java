@@ -58,6 +58,10 @@ public abstract class QueryExecutorBase implements QueryExecutor {
   private AutoSave autoSave;
   private boolean flushCacheOnDeallocate = true;
   private boolean flushCacheOnDdl = true;
+  private @Nullable SharedTypeCatalog sharedTypeCatalog;
+  private @Nullable MetaDataResultCache metaDataResultCache;
+  private @Nullable StatementDescriptionCache statementDescriptionCache;
+  private boolean sessionSettingsChanged;
   protected final boolean logServerErrorDetail;
 
   // default value for server versions that don't report standard_conforming_strings
@@ -480,6 +484,46 @@ public void setFlushCacheOnDdl(boolean flushCacheOnDdl) {
     this.flushCacheOnDdl = flushCacheOnDdl;
   }
 
+  @Override
+  public @Nullable SharedTypeCatalog getSharedTypeCatalog() {
+    return sharedTypeCatalog;
+  }
+
+  @Override
+  public void setSharedTypeCatalog(@Nullable SharedTypeCatalog sharedTypeCatalog) {
+    this.sharedTypeCatalog = sharedTypeCatalog;
+  }
+
+  @Override
+  public @Nullable MetaDataResultCache getMetaDataResultCache() {
+    return metaDataResultCache;
+  }
+
+  @Override
+  public void setMetaDataResultCache(@Nullable MetaDataResultCache metaDataResultCache) {
+    this.metaDataResultCache = metaDataResultCache;
+  }
+
+  @Override
+  public @Nullable StatementDescriptionCache getStatementDescriptionCache() {
+    return statementDescriptionCache;
+  }
+
+  @Override
+  public void setStatementDescriptionCache(
+      @Nullable StatementDescriptionCache statementDescriptionCache) {
+    this.statementDescriptionCache = statementDescriptionCache;
+  }
+
+  @Override
+  public boolean isSessionSettingsChanged() {
+    return sessionSettingsChanged;
+  }
+
+  protected void setSessionSettingsChanged() {
+    this.sessionSettingsChanged = true;
+  }
+
   protected boolean hasNotifications() {
     return !notifications.isEmpty();
   }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Type information shared by all connections of the JVM to the same database, so that a new
+ * connection does not look up the types the other connections already know.
+ *
+ * <p>Only information that is keyed by type oid and does not depend on the session is kept: the
+ * {@link java.sql.Types} code, the element type of array types and their delimiter. Type names
+ * depend on the {@code search_path} of the session, so they stay in the cache of each
+ * connection. A catalog is identified by the system identifier of the cluster and the oid of the
+ * database, so a standby and its primary share the catalog, which keeps it useful after a
+ * failover.</p>
+ *
+ * <p>The catalog is loaded with a single query by the first connection that uses it, other
+ * connections fall back to their lookups until it is loaded. {@code DROP} and {@code ALTER} of
+ * types, domains, extensions and schemas executed by any connection of this JVM clear the
+ * catalog, changes made by other clients are not detected.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class SharedTypeCatalog {
+  private static final ConcurrentMap<String, SharedTypeCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+  private final String key;
+  private final ConcurrentMap<Integer, Integer> sqlTypes = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Integer, Integer> arrayElements = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Integer, Character> arrayDelimiters = new ConcurrentHashMap<>();
+  private final AtomicBoolean loading = new AtomicBoolean();
+  private final AtomicInteger epoch = new AtomicInteger();
+  private volatile boolean loaded;
+
+  private SharedTypeCatalog(String key) {
+    this.key = key;
+  }
+
+  /**
+   * Returns the catalog of a database, creating an empty one if needed.
+   *
+   * @param key system identifier of the cluster and oid of the database
+   * @return the catalog of the database
+   */
+  public static SharedTypeCatalog forDatabase(String key) {
+    SharedTypeCatalog catalog = CATALOGS.get(key);
+    if (catalog == null) {
+      catalog = new SharedTypeCatalog(key);
+      SharedTypeCatalog existing = CATALOGS.putIfAbsent(key, catalog);
+      if (existing != null) {
+        catalog = existing;
+      }
+    }
+    return catalog;
+  }
+
+  /**
+   * Returns the {@link java.sql.Types} code of a type.
+   *
+   * @param oid type oid
+   * @return the code, or null if it is not known
+   */
+  public @Nullable Integer getSQLType(int oid) {
+    return sqlTypes.get(oid);
+  }
+
+  public void putSQLType(int oid, int sqlType) {
+    sqlTypes.put(oid, sqlType);
+  }
+
+  /**
+   * Returns the element type of an array type.
+   *
+   * @param oid array type oid
+   * @return the element type oid, or null if it is not known
+   */
+  public @Nullable Integer getArrayElement(int oid) {
+    return arrayElements.get(oid);
+  }
+
+  public void putArrayElement(int oid, int elementOid) {
+    arrayElements.put(oid, elementOid);
+  }
+
+  /**
+   * Returns the delimiter of an array type.
+   *
+   * @param oid array type oid
+   * @return the delimiter, or null if it is not known
+   */
+  public @Nullable Character getArrayDelimiter(int oid) {
+    return arrayDelimiters.get(oid);
+  }
+
+  public void putArrayDelimiter(int oid, char delimiter) {
+    arrayDelimiters.put(oid, delimiter);
+  }
+
+  /**
+   * Claims the load of the catalog. Only one connection at a time gets the claim, and none once
+   * the catalog is loaded.
+   *
+   * @return the epoch to pass to {@link #finishLoad}, or -1 if the caller should not load
+   */
+  public int startLoad() {
+    if (loaded || !loading.compareAndSet(false, true)) {
+      return -1;
+    }
+    return epoch.get();
+  }
+
+  /**
+   * Publishes the loaded information and releases the claim. If the catalog was invalidated while
+   * loading, the information might be stale and is dropped.
+   *
+   * @param loadEpoch the value returned by {@link #startLoad()}
+   * @param sqlTypes {@link java.sql.Types} codes by type oid
+   * @param arrayElements element type oids by array type oid
+   * @param arrayDelimiters delimiters by array type oid
+   */
+  public void finishLoad(int loadEpoch, Map<Integer, Integer> sqlTypes,
+      Map<Integer, Integer> arrayElements, Map<Integer, Character> arrayDelimiters) {
+    try {
+      if (epoch.get() != loadEpoch) {
+        return;
+      }
+      this.sqlTypes.putAll(sqlTypes);
+      this.arrayElements.putAll(arrayElements);
+      this.arrayDelimiters.putAll(arrayDelimiters);
+      loaded = true;
+    } finally {
+      loading.set(false);
+    }
+  }
+
+  /**
+   * Releases the claim after the load failed, so another connection can try.
+   */
+  public void abortLoad() {
+    loading.set(false);
+  }
+
+  public boolean isLoaded() {
+    return loaded;
+  }
+
+  /**
+   * Forgets everything, so the next connection loads the catalog again.
+   */
+  public void invalidate() {
+    epoch.incrementAndGet();
+    loaded = false;
+    sqlTypes.clear();
+    arrayElements.clear();
+    arrayDelimiters.clear();
+  }
+
+  @Override
+  public String toString() {
+    return "SharedTypeCatalog{" + key + ", loaded=" + loaded + ", types=" + sqlTypes.size() + '}';
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.checkerframework.checker.nullness.qual.PolyNull;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Encoding for single byte character sets such as {@code LATIN2}, {@code WIN1252} or
+ * {@code KOI8}, which converts with precomputed tables instead of a {@code CharsetEncoder}.
+ *
+ * <p>{@link String#getBytes(Charset)} creates an encoder for every call, the table lookups are
+ * several times faster. Decoding uses the tables on Java 8 only, later versions decode single byte
+ * charsets without creating a decoder, which is faster than the table. The results are the same as
+ * with the charset: bytes the charset does not map decode to {@code U+FFFD}, and characters it can
+ * not encode are replaced by the replacement byte of the charset, one per surrogate pair.</p>
+ */
+final class SingleByteEncoding extends Encoding {
+
+  private static final boolean DECODE_WITH_TABLE =
+      JavaVersion.getRuntimeVersion().compareTo(JavaVersion.v1_8) <= 0;
+
+  /**
+   * Instances by charset name, the tables of a charset are shared by all connections.
+   */
+  private static final ConcurrentMap<String, SingleByteEncoding> INSTANCES =
+      new ConcurrentHashMap<>();
+
+  private final char[] decodeTable;
+
+  /**
+   * Maps a character to its byte. Characters the charset can not encode map to a byte that does
+   * not decode back to them.
+   */
+  private final byte[] encodeTable;
+
+  private final byte replacement;
+
+  private SingleByteEncoding(Charset charset, char[] decodeTable, byte replacement) {
+    super(charset);
+    this.decodeTable = decodeTable;
+    this.replacement = replacement;
+    byte[] encodeTable = new byte[Character.MAX_VALUE + 1];
+    // iterate backwards, so the lowest byte wins if several bytes decode to the same character
+    for (int i = decodeTable.length - 1; i >= 0; i--) {
+      char c = decodeTable[i];
+      if (c != '\uFFFD') {
+        encodeTable[c] = (byte) i;
+      }
+    }
+    this.encodeTable = encodeTable;
+  }
+
+  /**
+   * Returns the table based encoding for the charset, or null if it is not a single byte charset
+   * or the JDK converts it faster.
+   *
+   * @param charset charset to use
+   * @return the encoding or null
+   */
+  static @Nullable Encoding forCharset(Charset charset) {
+    if (charset.equals(StandardCharsets.ISO_8859_1) || charset.equals(StandardCharsets.US_ASCII)) {
+      // the JDK has intrinsics for them
+      return null;
+    }
+    SingleByteEncoding encoding = INSTANCES.get(charset.name());
+    if (encoding != null) {
+      return encoding;
+    }
+    if (!charset.canEncode()) {
+      return null;
+    }
+    CharsetEncoder encoder = charset.newEncoder();
+    CharsetDecoder decoder = charset.newDecoder();
+    if (encoder.maxBytesPerChar() != 1.0f || decoder.maxCharsPerByte() != 1.0f
+        || encoder.replacement().length != 1) {
+      return null;
+    }
+    byte[] bytes = new byte[256];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    String decoded = new String(bytes, charset);
+    if (decoded.length() != bytes.length) {
+      return null;
+    }
+    encoding = new SingleByteEncoding(charset, decoded.toCharArray(), encoder.replacement()[0]);
+    SingleByteEncoding existing = INSTANCES.putIfAbsent(charset.name(), encoding);
+    return existing != null ? existing : encoding;
+  }
+
+  @Override
+  public byte @PolyNull [] encode(@PolyNull String s) throws IOException {
+    if (s == null) {
+      return null;
+    }
+    char[] decodeTable = this.decodeTable;
+    byte[] encodeTable = this.encodeTable;
+    int length = s.length();
+    byte[] result = new byte[length];
+    int pos = 0;
+    for (int i = 0; i < length; i++) {
+      char c = s.charAt(i);
+      byte b = encodeTable[c];
+      if (decodeTable[b & 0xff] != c) {
+        b = replacement;
+        if (Character.isHighSurrogate(c) && i + 1 < length
+            && Character.isLowSurrogate(s.charAt(i + 1))) {
+          // a surrogate pair is a single character, so it gets a single replacement
+          i++;
+        }
+      }
+      result[pos++] = b;
+    }
+    if (pos == length) {
+      return result;
+    }
+    byte[] trimmed = new byte[pos];
+    System.arraycopy(result, 0, trimmed, 0, pos);
+    return trimmed;
+  }
+
+  @Override
+  public String decode(byte[] encodedString, int offset, int length) throws IOException {
+    if (!DECODE_WITH_TABLE) {
+      return super.decode(encodedString, offset, length);
+    }
+    char[] decodeTable = this.decodeTable;
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = decodeTable[encodedString[offset + i] & 0xff];
+    }
+    return new String(chars);
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.postgresql.jdbc.ResourceLock;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Result descriptions of statements shared by all connections of the JVM to the same database, so
+ * that the first execution of a statement on a connection, including one-shot executions, can
+ * request binary results without waiting for the RowDescription of the server.
+ *
+ * <p>A description is keyed by the SQL text and the parameter types sent with Parse. It only
+ * chooses the result formats requested with Bind: the Describe message is still sent in the same
+ * round trip and the results are decoded with the description of the server, so a description
+ * made outdated by a change the driver did not see does not return wrong values. All the
+ * descriptions of the database are dropped when a connection of this JVM executes a statement that
+ * changes the catalog.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class StatementDescriptionCache {
+  private static final ConcurrentMap<String, StatementDescriptionCache> CACHES =
+      new ConcurrentHashMap<>();
+
+  /**
+   * The description of the result of a statement.
+   */
+  public static final class Description {
+    private final Field @Nullable [] fields;
+
+    Description(Field @Nullable [] fields) {
+      if (fields != null) {
+        fields = MetaDataResultCache.copyFields(fields);
+        // Each connection decides which columns it receives in binary
+        for (Field field : fields) {
+          field.setFormat(Field.TEXT_FORMAT);
+        }
+      }
+      this.fields = fields;
+    }
+
+    /**
+     * @return a copy of the fields, or null if the statement returns no rows
+     */
+    public Field @Nullable [] getFields() {
+      Field[] fields = this.fields;
+      return fields == null ? null : MetaDataResultCache.copyFields(fields);
+    }
+
+    /**
+     * Checks whether the server described the statement the same way.
+     *
+     * @param fields the fields reported by the server, null for NoData
+     * @return true if the column types are the same
+     */
+    public boolean matches(Field @Nullable [] fields) {
+      Field[] expected = this.fields;
+      if (expected == null || fields == null) {
+        return expected == fields;
+      }
+      if (expected.length != fields.length) {
+        return false;
+      }
+      for (int i = 0; i < fields.length; i++) {
+        if (expected[i].getOID() != fields[i].getOID()
+            || expected[i].getMod() != fields[i].getMod()
+            || !expected[i].getColumnLabel().equals(fields[i].getColumnLabel())) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class Key {
+    private final String sql;
+    private final int[] parameterTypes;
+
+    Key(String sql, int[] parameterTypes) {
+      this.sql = sql;
+      this.parameterTypes = parameterTypes;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return sql.equals(key.sql) && Arrays.equals(parameterTypes, key.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * sql.hashCode() + Arrays.hashCode(parameterTypes);
+    }
+  }
+
+  private final String key;
+  private final ResourceLock lock = new ResourceLock();
+  private final LinkedHashMap<Key, Description> descriptions;
+  private long epoch;
+
+  private StatementDescriptionCache(String key, final int maxEntries) {
+    this.key = key;
+    this.descriptions = new LinkedHashMap<Key, Description>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, Description> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  /**
+   * Returns the cache of a database, creating an empty one if needed. The limits are those of the
+   * connection that created the cache.
+   *
+   * @param key identifies the database and the settings that influence the name resolution
+   * @param maxEntries maximum number of descriptions to keep
+   * @return the cache of the database
+   */
+  public static StatementDescriptionCache forDatabase(String key, int maxEntries) {
+    StatementDescriptionCache cache = CACHES.get(key);
+    if (cache == null) {
+      cache = new StatementDescriptionCache(key, maxEntries);
+      StatementDescriptionCache existing = CACHES.putIfAbsent(key, cache);
+      if (existing != null) {
+        cache = existing;
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Returns a cached description.
+   *
+   * @param sql the native SQL of the statement
+   * @param parameterTypes the parameter types sent with Parse
+   * @return the description or null if it is not cached
+   */
+  public @Nullable Description get(String sql, int[] parameterTypes) {
+    Key key = new Key(sql, parameterTypes);
+    try (ResourceLock ignore = lock.obtain()) {
+      return descriptions.get(key);
+    }
+  }
+
+  /**
+   * Returns the current epoch of the cache, to pass to {@link #put} once the server described the
+   * statement.
+   *
+   * @return the current epoch
+   */
+  public long getEpoch() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return epoch;
+    }
+  }
+
+  /**
+   * Caches a description. The description is dropped if the catalog changed since
+   * {@code startEpoch}, as it might describe the old catalog.
+   *
+   * @param startEpoch the value returned by {@link #getEpoch()} before sending Describe
+   * @param sql the native SQL of the statement
+   * @param parameterTypes the parameter types sent with Parse
+   * @param fields the fields reported by the server, null for NoData
+   */
+  public void put(long startEpoch, String sql, int[] parameterTypes,
+      Field @Nullable [] fields) {
+    Key key = new Key(sql, parameterTypes.clone());
+    Description description = new Description(fields);
+    try (ResourceLock ignore = lock.obtain()) {
+      if (epoch == startEpoch) {
+        descriptions.put(key, description);
+      }
+    }
+  }
+
+  /**
+   * Drops all the descriptions, called when the catalog changes.
+   */
+  public void invalidate() {
+    try (ResourceLock ignore = lock.obtain()) {
+      epoch++;
+      descriptions.clear();
+    }
+  }
+
+  public int size() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return descriptions.size();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "StatementDescriptionCache{" + key + ", descriptions=" + size() + '}';
+  }
+}
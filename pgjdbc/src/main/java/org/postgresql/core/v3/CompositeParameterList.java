@@ -18,6 +18,8 @@
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Parameter list for V3 query strings that contain multiple statements. We delegate to one
@@ -136,6 +138,25 @@ public void setText(@Positive int index, InputStream stream) throws SQLException
     subparams[sub].setText(index - offsets[sub], stream);
   }
 
+  @Override
+  public void setText(@Positive int index, InputStream stream, int oid) throws SQLException {
+    int sub = findSubParam(index);
+    subparams[sub].setText(index - offsets[sub], stream, oid);
+  }
+
+  @Override
+  public void setText(@Positive int index, InputStream stream, @NonNegative int length, int oid)
+      throws SQLException {
+    int sub = findSubParam(index);
+    subparams[sub].setText(index - offsets[sub], stream, length, oid);
+  }
+
+  @Override
+  public void setText(@Positive int index, ByteStreamWriter writer, int oid) throws SQLException {
+    int sub = findSubParam(index);
+    subparams[sub].setText(index - offsets[sub], writer, oid);
+  }
+
   @Override
   public void setNull(@Positive int index, int oid) throws SQLException {
     int sub = findSubParam(index);
@@ -157,6 +178,19 @@ public String toString(@Positive int index, SqlSerializationContext context) {
     }
   }
 
+  @Override
+  public @Nullable List<?> getValueKey() {
+    List<Object> key = new ArrayList<>(subparams.length);
+    for (SimpleParameterList subparam : subparams) {
+      List<?> subkey = subparam.getValueKey();
+      if (subkey == null) {
+        return null;
+      }
+      key.add(subkey);
+    }
+    return key;
+  }
+
   @Override
   public ParameterList copy() {
     SimpleParameterList[] copySub = new SimpleParameterList[subparams.length];
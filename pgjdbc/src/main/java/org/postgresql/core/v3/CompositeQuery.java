@@ -6,6 +6,7 @@
 
 package org.postgresql.core.v3;
 
+import org.postgresql.core.Field;
 import org.postgresql.core.ParameterList;
 import org.postgresql.core.Query;
 import org.postgresql.core.SqlCommand;
@@ -112,7 +113,7 @@ public int getBatchSize() {
   }
 
   @Override
-  public @Nullable Map<String, Integer> getResultSetColumnNameIndexMap() {
+  public @Nullable Map<String, Integer> getResultSetColumnNameIndexMap(Field[] fields) {
     return null; // unsupported
   }
 
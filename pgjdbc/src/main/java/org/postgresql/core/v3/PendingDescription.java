@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3;
+
+import org.postgresql.core.StatementDescriptionCache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Information about a Describe whose answer goes to the shared statement description cache.
+ *
+ * @see QueryExecutorImpl#pendingSharedDescriptions
+ */
+class PendingDescription {
+  public final int[] parameterTypes;
+  public final long epoch;
+  public final StatementDescriptionCache.@Nullable Description applied;
+
+  PendingDescription(int[] parameterTypes, long epoch,
+      StatementDescriptionCache.@Nullable Description applied) {
+    this.parameterTypes = parameterTypes;
+    this.epoch = epoch;
+    this.applied = applied;
+  }
+}
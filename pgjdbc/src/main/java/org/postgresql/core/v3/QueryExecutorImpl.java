@@ -73,6 +73,7 @@
 import org.postgresql.core.Encoding;
 import org.postgresql.core.EncodingPredictor;
 import org.postgresql.core.Field;
+import org.postgresql.core.MetaDataResultCache;
 import org.postgresql.core.NativeQuery;
 import org.postgresql.core.Notification;
 import org.postgresql.core.Oid;
@@ -90,11 +91,14 @@
 import org.postgresql.core.ResultHandler;
 import org.postgresql.core.ResultHandlerBase;
 import org.postgresql.core.ResultHandlerDelegate;
+import org.postgresql.core.SharedTypeCatalog;
 import org.postgresql.core.SqlCommand;
 import org.postgresql.core.SqlCommandType;
+import org.postgresql.core.StatementDescriptionCache;
 import org.postgresql.core.TransactionState;
 import org.postgresql.core.Tuple;
 import org.postgresql.core.v3.adaptivefetch.AdaptiveFetchCache;
+import org.postgresql.core.v3.adaptivefetch.AdaptiveFetchQueryStatistics;
 import org.postgresql.core.v3.replication.V3ReplicationProtocol;
 import org.postgresql.jdbc.AutoSave;
 import org.postgresql.jdbc.BatchResultHandler;
@@ -126,8 +130,10 @@
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
@@ -211,6 +217,9 @@ public void handleWarning(SQLWarning warning) {
    * cheap.
    */
   private static final int SEARCH_PATH_SCAN_LIMIT = 1024;
+  // SET statements that do not change what queries return, see isResultNeutralSetting
+  private static final String[] RESULT_NEUTRAL_SETTINGS = {
+      "SET SESSION CHARACTERISTICS", "SET TRANSACTION", "SET CONSTRAINTS", "SET application_name"};
 
   /**
    * This caches the latest observed {@code set search_path} query so the reset of prepared
@@ -2165,6 +2174,14 @@ private void sendOneQuery(SimpleQuery query, SimpleParameterList params, int max
     boolean describeStatement = shouldDescribeStatement(describeOnly, oneShot, queryHasUnknown,
         paramsHasUnknown, query);
 
+    StatementDescriptionCache descriptionCache = getStatementDescriptionCache();
+    if (descriptionCache != null && !describeOnly && !noMeta
+        && (describeStatement || !query.isPortalDescribed())
+        && !pendingSharedDescriptions.containsKey(query)) {
+      useSharedDescription(descriptionCache, query, params.getTypeOIDs().clone(),
+          describeStatement || forceDescribePortal);
+    }
+
     if (!describeStatement && paramsHasUnknown && !queryHasUnknown) {
       resolveParameterTypes(query, params);
     }
@@ -2221,6 +2238,58 @@ private void sendOneQuery(SimpleQuery query, SimpleParameterList params, int max
     // After this method returns, caller sends Sync and processes all responses via processResults()
   }
 
+  /**
+   * Applies the description another connection got for the same statement, so that Bind can
+   * request binary results right away, and registers the describe request whose answer will
+   * validate or update the shared description. The shared description only chooses the result
+   * formats of Bind: the Describe Portal message is still sent, as the shared description might
+   * be outdated by DDL the driver did not see, and the results are decoded with the description of
+   * the server.
+   *
+   * @param descriptionCache the shared description cache
+   * @param query the query being sent
+   * @param parameterTypes the parameter types sent with Parse
+   * @param describeAnyway whether a Describe message is sent regardless of the shared description
+   */
+  private void useSharedDescription(StatementDescriptionCache descriptionCache, SimpleQuery query,
+      int[] parameterTypes, boolean describeAnyway) {
+    StatementDescriptionCache.Description applied = null;
+    if (!describeAnyway && query.getFields() == null) {
+      applied = descriptionCache.get(query.getNativeSql(), parameterTypes);
+      if (applied != null) {
+        query.setFields(applied.getFields());
+      }
+    }
+    pendingSharedDescriptions.put(query,
+        new PendingDescription(parameterTypes, descriptionCache.getEpoch(), applied));
+  }
+
+  /**
+   * Compares the description of the server with the shared one and updates the shared
+   * description cache.
+   *
+   * @param query the described query
+   * @param fields the fields reported by the server, null for NoData
+   */
+  private void receiveSharedDescription(SimpleQuery query, Field @Nullable [] fields) {
+    PendingDescription pending = pendingSharedDescriptions.remove(query);
+    StatementDescriptionCache descriptionCache = getStatementDescriptionCache();
+    if (pending == null || descriptionCache == null) {
+      return;
+    }
+    StatementDescriptionCache.Description applied = pending.applied;
+    if (applied != null) {
+      if (applied.matches(fields)) {
+        return;
+      }
+      LOGGER.log(Level.FINE, "Shared description of {0} is outdated, replacing it", query);
+      if (fields == null) {
+        query.setFields(null);
+      }
+    }
+    descriptionCache.put(pending.epoch, query.getNativeSql(), pending.parameterTypes, fields);
+  }
+
   private static int calculateRowsToFetch(boolean noResults, boolean usePortal, int maxRows, int fetchSize) {
     if (noResults) {
       return 1;
@@ -2452,7 +2521,10 @@ protected void processResults(ResultHandler handler, int flags, boolean adaptive
           pgStream.receiveInteger4(); // len, discarded
           LOGGER.log(Level.FINEST, " <=BE NoData");
 
-          pendingDescribePortalQueue.removeFirst();
+          SimpleQuery noDataQuery = pendingDescribePortalQueue.removeFirst();
+          if (!pendingSharedDescriptions.isEmpty()) {
+            receiveSharedDescription(noDataQuery, null);
+          }
 
           if (doneAfterRowDescNoData) {
             DescribeRequest describeData = pendingDescribeStatementQueue.removeFirst();
@@ -2481,8 +2553,8 @@ protected void processResults(ResultHandler handler, int flags, boolean adaptive
 
           if (currentPortal != null) {
             // Existence of portal defines if query was using fetching.
-            adaptiveFetchCache
-              .updateQueryFetchSize(adaptiveFetch, currentQuery, pgStream.getMaxRowSizeBytes());
+            adaptiveFetchCache.updateQueryFetchSize(adaptiveFetch, currentQuery,
+                pgStream.getMaxRowSizeBytes(), pgStream.getRowSizeHistogram());
           }
           pgStream.clearMaxRowSizeBytes();
 
@@ -2518,6 +2590,21 @@ protected void processResults(ResultHandler handler, int flags, boolean adaptive
             // type" to callers that don't opt into autosave=ALWAYS.
             deallocateEpoch++;
           }
+          SharedTypeCatalog sharedTypeCatalog = getSharedTypeCatalog();
+          if (sharedTypeCatalog != null && isTypeDdl(status)) {
+            // Another connection of this JVM may be using the dropped or altered type too
+            sharedTypeCatalog.invalidate();
+          }
+          MetaDataResultCache metaDataResultCache = getMetaDataResultCache();
+          if (metaDataResultCache != null && isCatalogDdl(status)) {
+            metaDataResultCache.invalidateDatabase();
+            // Other connections may cache the old catalog again until the change is committed
+            catalogChangedInTransaction = true;
+          }
+          StatementDescriptionCache statementDescriptionCache = getStatementDescriptionCache();
+          if (statementDescriptionCache != null && isCatalogDdl(status)) {
+            statementDescriptionCache.invalidate();
+          }
 
           doneAfterRowDescNoData = false;
 
@@ -2531,8 +2618,8 @@ protected void processResults(ResultHandler handler, int flags, boolean adaptive
             // Command executed, adaptive fetch size can be removed for this query, max row size can be cleared
             adaptiveFetchCache.removeQuery(adaptiveFetch, currentQuery);
             // Update to change fetch size for other fetch portals of this query
-            adaptiveFetchCache
-                .updateQueryFetchSize(adaptiveFetch, currentQuery, pgStream.getMaxRowSizeBytes());
+            adaptiveFetchCache.updateQueryFetchSize(adaptiveFetch, currentQuery,
+                pgStream.getMaxRowSizeBytes(), pgStream.getRowSizeHistogram());
           }
           pgStream.clearMaxRowSizeBytes();
 
@@ -2561,9 +2648,17 @@ && getParameterStatus("search_path") == null) {
               // Search path was changed, invalidate prepared statement cache
               lastSetSearchPathQuery = nativeSql;
               deallocateEpoch++;
+              // Shared descriptions are shared between connections with the same search_path
+              setStatementDescriptionCache(null);
             }
           }
 
+          if ((status.startsWith("SET") || status.startsWith("RESET")
+              || status.startsWith("DISCARD"))
+              && !isResultNeutralSetting(currentQuery.getNativeSql())) {
+            setSessionSettingsChanged();
+          }
+
           if (!executeData.asSimple) {
             pendingExecuteQueue.removeFirst();
           } else {
@@ -2706,6 +2801,9 @@ && getParameterStatus("search_path") == null) {
             pendingDescribePortalQueue.removeFirst();
           }
           query.setFields(fields);
+          if (!pendingSharedDescriptions.isEmpty()) {
+            receiveSharedDescription(query, fields);
+          }
 
           if (doneAfterRowDescNoData) {
             DescribeRequest describeData = pendingDescribeStatementQueue.removeFirst();
@@ -2763,6 +2861,7 @@ && castNonNull(pendingExecuteQueue.peekFirst()).asSimple) {
             LOGGER.log(Level.FINEST, " FE marking setPortalDescribed(false) for query {0}", describePortalQuery);
             describePortalQuery.setPortalDescribed(false);
           }
+          pendingSharedDescriptions.clear();
           pendingBindQueue.clear(); // No more BindComplete messages expected.
           pendingExecuteQueue.clear(); // No more query executions expected.
           break;
@@ -2813,6 +2912,34 @@ && castNonNull(pendingExecuteQueue.peekFirst()).asSimple) {
     }
   }
 
+  /**
+   * Tells whether the command tag is of a statement that drops or changes types. Creating a type
+   * only adds a new oid, so it does not make the shared type catalog stale.
+   *
+   * @param status the command tag
+   * @return {@code true} if the shared type catalog should be invalidated
+   */
+  private static boolean isTypeDdl(String status) {
+    return (status.startsWith("DROP ") || status.startsWith("ALTER "))
+        && (status.endsWith(" TYPE") || status.endsWith(" DOMAIN")
+            || status.endsWith(" EXTENSION") || status.endsWith(" SCHEMA"));
+  }
+
+  /**
+   * Tells whether the command tag is of a statement that changes what
+   * {@link java.sql.DatabaseMetaData} returns. {@code CREATE TABLE AS} reports a {@code SELECT}
+   * tag and is not detected, the cached results expire eventually.
+   *
+   * @param status the command tag
+   * @return {@code true} if the shared metadata cache should be invalidated
+   */
+  private static boolean isCatalogDdl(String status) {
+    return status.startsWith("CREATE ") || status.startsWith("ALTER ")
+        || status.startsWith("DROP ") || status.equals("COMMENT") || status.equals("GRANT")
+        || status.equals("REVOKE") || status.equals("SECURITY LABEL")
+        || status.equals("IMPORT FOREIGN SCHEMA");
+  }
+
   /**
    * Tells whether {@code needle} occurs in {@code sql} using ASCII case-insensitive matching,
    * starting at any offset in {@code [0, scanLimit]}. The scan is bounded so long statements are not
@@ -2834,6 +2961,28 @@ private static boolean containsIgnoreCase(String sql, String needle, int scanLim
     return false;
   }
 
+  /**
+   * Returns whether a {@code SET} statement only changes settings that do not change what queries
+   * return, such as the transaction characteristics the driver sets for
+   * {@link java.sql.Connection#setTransactionIsolation(int)} and
+   * {@link java.sql.Connection#setReadOnly(boolean)}.
+   *
+   * @param sql the statement text
+   * @return true if the statement does not change the results of queries
+   */
+  private static boolean isResultNeutralSetting(String sql) {
+    int start = 0;
+    while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+      start++;
+    }
+    for (String prefix : RESULT_NEUTRAL_SETTINGS) {
+      if (sql.regionMatches(true, start, prefix, 0, prefix.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /**
    * Ignore the response message by reading the message length and skipping over those bytes in the
    * communication stream.
@@ -2920,6 +3069,11 @@ public void addQueryToAdaptiveFetchCache(boolean adaptiveFetch, ResultCursor cur
     }
   }
 
+  @Override
+  public List<AdaptiveFetchQueryStatistics> getAdaptiveFetchStatistics() {
+    return adaptiveFetchCache.getStatistics();
+  }
+
   @Override
   public void removeQueryFromAdaptiveFetchCache(boolean adaptiveFetch, ResultCursor cursor) {
     if (cursor instanceof Portal) {
@@ -3053,6 +3207,13 @@ private void receiveRFQ() throws IOException {
       case 'I':
         transactionFailCause = null;
         setTransactionState(TransactionState.IDLE);
+        if (catalogChangedInTransaction) {
+          catalogChangedInTransaction = false;
+          MetaDataResultCache metaDataResultCache = getMetaDataResultCache();
+          if (metaDataResultCache != null) {
+            metaDataResultCache.invalidateDatabase();
+          }
+        }
         break;
       case 'T':
         transactionFailCause = null;
@@ -3166,6 +3327,15 @@ public void receiveParameterStatus() throws IOException, SQLException {
       String previousSearchPath = getParameterStatus(name);
       if (previousSearchPath != null && !previousSearchPath.equals(value)) {
         deallocateEpoch++;
+        setStatementDescriptionCache(null);
+        setSessionSettingsChanged();
+      }
+    }
+
+    if ("session_authorization".equals(name) || "is_superuser".equals(name)) {
+      String previousValue = getParameterStatus(name);
+      if (previousValue != null && !previousValue.equals(value)) {
+        setSessionSettingsChanged();
       }
     }
 
@@ -3349,6 +3519,12 @@ public boolean getIntegerDateTimes() {
   private final Deque<DescribeRequest> pendingDescribeStatementQueue =
       new ArrayDeque<>();
   private final Deque<SimpleQuery> pendingDescribePortalQueue = new ArrayDeque<>();
+  // Describe requests whose answer updates the shared description cache. There is at most one per
+  // query, so that the answer of a later Describe of the same query is not taken for this one.
+  private final Map<SimpleQuery, PendingDescription> pendingSharedDescriptions =
+      new IdentityHashMap<>();
+  // A statement changed the catalog in the current transaction, see receiveRFQ
+  private boolean catalogChangedInTransaction;
 
   private long nextUniqueID = 1;
   private final boolean allowEncodingChanges;
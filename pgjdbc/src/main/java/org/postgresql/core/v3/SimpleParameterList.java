@@ -16,6 +16,7 @@
 import org.postgresql.util.ByteConverter;
 import org.postgresql.util.ByteStreamWriter;
 import org.postgresql.util.GT;
+import org.postgresql.util.PGInterval;
 import org.postgresql.util.PGbytea;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
@@ -25,11 +26,16 @@
 import org.checkerframework.checker.index.qual.Positive;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Parameter list for a single-statement V3 query.
@@ -167,7 +173,23 @@ public void setBytea(@Positive int index, ByteStreamWriter writer) throws SQLExc
 
   @Override
   public void setText(@Positive int index, InputStream stream) throws SQLException {
-    bind(index, new StreamWrapper(stream), Oid.TEXT, TEXT);
+    setText(index, stream, Oid.TEXT);
+  }
+
+  @Override
+  public void setText(@Positive int index, InputStream stream, int oid) throws SQLException {
+    bind(index, new StreamWrapper(stream), oid, TEXT);
+  }
+
+  @Override
+  public void setText(@Positive int index, InputStream stream, @NonNegative int length, int oid)
+      throws SQLException {
+    bind(index, new StreamWrapper(stream, length), oid, TEXT);
+  }
+
+  @Override
+  public void setText(@Positive int index, ByteStreamWriter writer, int oid) throws SQLException {
+    bind(index, writer, oid, TEXT);
   }
 
   @Override
@@ -348,9 +370,41 @@ public String toString(@Positive int index, SqlSerializationContext context) {
           type = "box";
           break;
 
+        case Oid.BOOL:
+          textValue = ((byte[]) paramValue)[0] != 0 ? "TRUE" : "FALSE";
+          type = "boolean";
+          break;
+
+        case Oid.INTERVAL:
+          PGInterval pgInterval = new PGInterval();
+          try {
+            pgInterval.setByteValue((byte[]) paramValue, 0);
+          } catch (SQLException e) {
+            throw sneakyThrow(e);
+          }
+          textValue = pgInterval.toString();
+          type = "interval";
+          break;
+
         default:
           return "?";
       }
+    } else if (paramValue instanceof StreamWrapper || paramValue instanceof ByteStreamWriter) {
+      // streamed text such as a json document bound from an InputStream
+      try {
+        String streamedText = readStreamedText(paramValue, context);
+        if (streamedText == null) {
+          return "?";
+        }
+        textValue = streamedText;
+      } catch (IOException e) {
+        throw sneakyThrow(
+            new PSQLException(
+                GT.tr("Unable to convert text parameter at position {0} to literal", index),
+                PSQLState.INVALID_PARAMETER_VALUE,
+                e));
+      }
+      type = null;
     } else {
       textValue = paramValue.toString();
       switch (paramTypes[index]) {
@@ -409,6 +463,48 @@ public String toString(@Positive int index, SqlSerializationContext context) {
     return quoteAndCast(textValue, type, context.getStandardConformingStrings());
   }
 
+  /**
+   * Reads a streamed text parameter so it can be inlined into the query text.
+   *
+   * @param value {@link StreamWrapper} or {@link ByteStreamWriter} with UTF-8 bytes
+   * @param context specifies whether the value may be consumed
+   * @return the text or null if reading would consume a stream that can't be read again
+   * @throws IOException if the stream fails or ends prematurely
+   */
+  private static @Nullable String readStreamedText(Object value, SqlSerializationContext context)
+      throws IOException {
+    if (value instanceof StreamWrapper) {
+      StreamWrapper sw = (StreamWrapper) value;
+      byte[] bytes = sw.getBytes();
+      if (bytes != null) {
+        return new String(bytes, sw.getOffset(), sw.getLength(), StandardCharsets.UTF_8);
+      }
+      if (context.getIdempotent()) {
+        return null;
+      }
+      byte[] buffer = new byte[sw.getLength()];
+      InputStream in = sw.getStream();
+      int length = 0;
+      while (length < buffer.length) {
+        int read = in.read(buffer, length, buffer.length - length);
+        if (read == -1) {
+          throw new EOFException(
+              GT.tr("Premature end of input stream, expected {0} bytes, but only read {1}.",
+                  buffer.length, length));
+        }
+        length += read;
+      }
+      return new String(buffer, StandardCharsets.UTF_8);
+    }
+    if (context.getIdempotent()) {
+      return null;
+    }
+    ByteStreamWriter writer = (ByteStreamWriter) value;
+    ByteArrayOutputStream out = new ByteArrayOutputStream(writer.getLength());
+    writer.writeTo(() -> out);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
   @Override
   public void checkAllParametersSet() throws SQLException {
     for (int i = 0; i < paramTypes.length; i++) {
@@ -584,6 +680,26 @@ public void clear() {
     pos = 0;
   }
 
+  @Override
+  public @Nullable List<?> getValueKey() {
+    List<@Nullable Object> key = new ArrayList<>(paramValues.length * 3);
+    for (int i = 0; i < paramValues.length; i++) {
+      Object value = paramValues[i];
+      if (value instanceof byte[]) {
+        value = ByteBuffer.wrap(((byte[]) value).clone());
+      } else if (value == NULL_OBJECT) {
+        value = null;
+      } else if (!(value instanceof String)) {
+        // unset or streamed
+        return null;
+      }
+      key.add(paramTypes[i]);
+      key.add(flags[i]);
+      key.add(value);
+    }
+    return key;
+  }
+
   @Override
   public SimpleParameterList @Nullable [] getSubparams() {
     return null;
@@ -21,6 +21,7 @@
 import java.nio.charset.StandardCharsets;
 import java.util.BitSet;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -229,7 +230,6 @@ boolean hasUnresolvedTypes() {
    */
   void setFields(Field @Nullable [] fields) {
     this.fields = fields;
-    this.resultSetColumnNameIndexMap = null;
     this.cachedMaxResultRowSize = null;
     this.needUpdateFieldFormats = fields != null;
     this.hasBinaryFields = false; // just in case
@@ -323,7 +323,6 @@ void unprepare() {
     statementName = null;
     encodedStatementName = null;
     fields = null;
-    this.resultSetColumnNameIndexMap = null;
     portalDescribed = false;
     statementDescribed = false;
     cachedMaxResultRowSize = null;
@@ -342,20 +341,48 @@ public final int getBindCount() {
     return nativeQuery.bindPositions.length * getBatchSize();
   }
 
-  private @Nullable Map<String, Integer> resultSetColumnNameIndexMap;
+  private @Nullable ColumnNameIndex resultSetColumnNameIndex;
 
   @Override
-  public @Nullable Map<String, Integer> getResultSetColumnNameIndexMap() {
-    Map<String, Integer> columnPositions = this.resultSetColumnNameIndexMap;
-    if (columnPositions == null && fields != null) {
-      columnPositions =
-          PgResultSet.createColumnNameIndexMap(fields, sanitiserDisabled);
-      if (statementName != null) {
-        // Cache column positions for server-prepared statements only
-        this.resultSetColumnNameIndexMap = columnPositions;
+  public Map<String, Integer> getResultSetColumnNameIndexMap(Field[] fields) {
+    ColumnNameIndex index = this.resultSetColumnNameIndex;
+    if (index == null || !index.matches(fields)) {
+      // Executions with an unnamed statement receive new fields every time, so the map is reused
+      // as long as the labels are the same
+      index = new ColumnNameIndex(fields, sanitiserDisabled);
+      this.resultSetColumnNameIndex = index;
+    }
+    return index.map;
+  }
+
+  /**
+   * Label-to-index map shared by the result sets of the executions that return the same labels.
+   * Result sets add the spellings of the labels they look up, possibly from different threads.
+   */
+  private static final class ColumnNameIndex {
+    private final String[] labels;
+    private final Map<String, Integer> map;
+
+    ColumnNameIndex(Field[] fields, boolean sanitiserDisabled) {
+      this.labels = new String[fields.length];
+      for (int i = 0; i < fields.length; i++) {
+        labels[i] = fields[i].getColumnLabel();
+      }
+      this.map =
+          new ConcurrentHashMap<>(PgResultSet.createColumnNameIndexMap(fields, sanitiserDisabled));
+    }
+
+    boolean matches(Field[] fields) {
+      if (fields.length != labels.length) {
+        return false;
       }
+      for (int i = 0; i < fields.length; i++) {
+        if (!labels[i].equals(fields[i].getColumnLabel())) {
+          return false;
+        }
+      }
+      return true;
     }
-    return columnPositions;
   }
 
   @Override
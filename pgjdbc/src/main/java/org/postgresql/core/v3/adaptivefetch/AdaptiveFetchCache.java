@@ -7,24 +7,39 @@
 
 import org.postgresql.PGProperty;
 import org.postgresql.core.Query;
+import org.postgresql.jdbc.ResourceLock;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.sql.SQLException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
 /**
  * The main purpose of this class is to handle adaptive fetching process. Adaptive fetching is used
- * to compute fetch size to fully use size defined by maxResultBuffer. Computing is made by dividing
- * maxResultBuffer size by max row result size noticed so far. Each query have separate adaptive
- * fetch size computed, but same queries have it shared. If adaptive fetch is turned on, first fetch
- * is going to be made with defaultRowFetchSize, next fetching of resultSet will be made with
- * computed adaptive fetch size. If adaptive fetch is turned on during fetching, then first fetching
+ * to compute fetch size to fully use size defined by maxResultBuffer. Computing is made from a
+ * histogram of the recent row sizes of the query: maxResultBuffer is divided by the largest recent
+ * row size, so a fetch never exceeds maxResultBuffer even if all its rows are that large. The
+ * largest size fades out with the rows that had it, so a single large row lowers the fetch size
+ * only until more rows are fetched. The percentiles of the histogram are reported in the
+ * statistics of the query.
+ * Each query have separate adaptive fetch size computed, but same queries have it shared. The
+ * number of cached queries is bounded, least recently used queries are dropped first. If adaptive
+ * fetch is turned on, first fetch is going to be made with defaultRowFetchSize, next fetching of
+ * resultSet will be made with computed adaptive fetch size. If adaptive fetch is turned on during fetching, then first fetching
  * made by ResultSet will be made with defaultRowFetchSize, next will use computed adaptive fetch
  * size. Property adaptiveFetch need properties defaultRowFetchSize and maxResultBuffer to work.
  */
 public class AdaptiveFetchCache {
 
+  // Queries whose portal is never run to completion are not removed, so keep the map bounded
+  private static final int MAXIMUM_CACHED_QUERIES = 256;
+  private static final double ROW_SIZE_PERCENTILE = 0.9;
+
+  private final ResourceLock lock = new ResourceLock();
   private final Map<String, AdaptiveFetchCacheEntry> adaptiveFetchInfoMap;
   private boolean adaptiveFetch;
   private final int minimumAdaptiveFetchSize;
@@ -33,7 +48,13 @@ public class AdaptiveFetchCache {
 
   public AdaptiveFetchCache(long maximumResultBufferSize, Properties info)
       throws SQLException {
-    this.adaptiveFetchInfoMap = new HashMap<>();
+    this.adaptiveFetchInfoMap =
+        new LinkedHashMap<String, AdaptiveFetchCacheEntry>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, AdaptiveFetchCacheEntry> eldest) {
+            return size() > MAXIMUM_CACHED_QUERIES;
+          }
+        };
 
     this.adaptiveFetch = PGProperty.ADAPTIVE_FETCH.getBoolean(info);
     this.minimumAdaptiveFetchSize = PGProperty.ADAPTIVE_FETCH_MINIMUM.getInt(info);
@@ -51,13 +72,14 @@ public AdaptiveFetchCache(long maximumResultBufferSize, Properties info)
   public void addNewQuery(boolean adaptiveFetch, Query query) {
     if (adaptiveFetch && maximumResultBufferSize != -1) {
       String sql = query.getNativeSql().trim();
-      AdaptiveFetchCacheEntry adaptiveFetchCacheEntry = adaptiveFetchInfoMap.get(sql);
-      if (adaptiveFetchCacheEntry == null) {
-        adaptiveFetchCacheEntry = new AdaptiveFetchCacheEntry();
+      try (ResourceLock ignore = lock.obtain()) {
+        AdaptiveFetchCacheEntry adaptiveFetchCacheEntry = adaptiveFetchInfoMap.get(sql);
+        if (adaptiveFetchCacheEntry == null) {
+          adaptiveFetchCacheEntry = new AdaptiveFetchCacheEntry();
+          adaptiveFetchInfoMap.put(sql, adaptiveFetchCacheEntry);
+        }
+        adaptiveFetchCacheEntry.incrementCounter();
       }
-      adaptiveFetchCacheEntry.incrementCounter();
-
-      adaptiveFetchInfoMap.put(sql, adaptiveFetchCacheEntry);
     }
   }
 
@@ -71,24 +93,49 @@ public void addNewQuery(boolean adaptiveFetch, Query query) {
    *                            size for given query
    */
   public void updateQueryFetchSize(boolean adaptiveFetch, Query query, int maximumRowSizeBytes) {
-    if (adaptiveFetch && maximumResultBufferSize != -1) {
-      String sql = query.getNativeSql().trim();
-      AdaptiveFetchCacheEntry adaptiveFetchCacheEntry = adaptiveFetchInfoMap.get(sql);
-      if (adaptiveFetchCacheEntry != null) {
-        int adaptiveMaximumRowSize = adaptiveFetchCacheEntry.getMaximumRowSizeBytes();
-        if (adaptiveMaximumRowSize < maximumRowSizeBytes && maximumRowSizeBytes > 0) {
-          int newFetchSize = (int) (maximumResultBufferSize / maximumRowSizeBytes);
-          newFetchSize = adjustFetchSize(newFetchSize);
-
-          adaptiveFetchCacheEntry.setMaximumRowSizeBytes(maximumRowSizeBytes);
-          adaptiveFetchCacheEntry.setSize(newFetchSize);
+    updateQueryFetchSize(adaptiveFetch, query, maximumRowSizeBytes, null);
+  }
 
-          adaptiveFetchInfoMap.put(sql, adaptiveFetchCacheEntry);
+  /**
+   * Update adaptive fetch size for given query with the sizes of the rows of a fetch.
+   *
+   * @param adaptiveFetch       state of adaptive fetch, which should be used during updating fetch
+   *                            size for query
+   * @param query               query to be updated
+   * @param maximumRowSizeBytes max row size of the fetch
+   * @param rowSizeHistogram    number of rows of the fetch by bit length of their size, see
+   *                            {@link org.postgresql.core.PGStream#getRowSizeHistogram()}, or null
+   *                            if only the maximum row size is known
+   */
+  public void updateQueryFetchSize(boolean adaptiveFetch, Query query, int maximumRowSizeBytes,
+      int @Nullable [] rowSizeHistogram) {
+    if (adaptiveFetch && maximumResultBufferSize != -1 && maximumRowSizeBytes > 0) {
+      String sql = query.getNativeSql().trim();
+      try (ResourceLock ignore = lock.obtain()) {
+        AdaptiveFetchCacheEntry adaptiveFetchCacheEntry = adaptiveFetchInfoMap.get(sql);
+        if (adaptiveFetchCacheEntry != null) {
+          adaptiveFetchCacheEntry.addRowSizes(rowSizeHistogram, maximumRowSizeBytes);
+          int newFetchSize = computeFetchSize(adaptiveFetchCacheEntry);
+          adaptiveFetchCacheEntry.setSize(adjustFetchSize(newFetchSize));
         }
       }
     }
   }
 
+  /**
+   * Compute the number of rows that fit in maxResultBuffer. Every row of a fetch can be as large as
+   * the largest recent row, and PGStream fails the query once a fetch exceeds maxResultBuffer, so
+   * the fetch size is bounded by the largest recent row size. That size fades out with the rows
+   * that had it, so a single large row does not shrink every following fetch.
+   *
+   * @param adaptiveFetchCacheEntry row sizes of the query
+   * @return the fetch size, before applying the minimum and maximum constraints
+   */
+  private int computeFetchSize(AdaptiveFetchCacheEntry adaptiveFetchCacheEntry) {
+    int maximumRowSizeBytes = Math.max(1, adaptiveFetchCacheEntry.getMaximumRowSizeBytes());
+    return (int) Math.min(maximumResultBufferSize / maximumRowSizeBytes, Integer.MAX_VALUE);
+  }
+
   /**
    * Get adaptive fetch size for given query.
    *
@@ -100,9 +147,11 @@ public void updateQueryFetchSize(boolean adaptiveFetch, Query query, int maximum
   public int getFetchSizeForQuery(boolean adaptiveFetch, Query query) {
     if (adaptiveFetch && maximumResultBufferSize != -1) {
       String sql = query.getNativeSql().trim();
-      AdaptiveFetchCacheEntry adaptiveFetchCacheEntry = adaptiveFetchInfoMap.get(sql);
-      if (adaptiveFetchCacheEntry != null) {
-        return adaptiveFetchCacheEntry.getSize();
+      try (ResourceLock ignore = lock.obtain()) {
+        AdaptiveFetchCacheEntry adaptiveFetchCacheEntry = adaptiveFetchInfoMap.get(sql);
+        if (adaptiveFetchCacheEntry != null) {
+          return adaptiveFetchCacheEntry.getSize();
+        }
       }
     }
     return -1;
@@ -118,19 +167,35 @@ public int getFetchSizeForQuery(boolean adaptiveFetch, Query query) {
   public void removeQuery(boolean adaptiveFetch, Query query) {
     if (adaptiveFetch && maximumResultBufferSize != -1) {
       String sql = query.getNativeSql().trim();
-      AdaptiveFetchCacheEntry adaptiveFetchCacheEntry = adaptiveFetchInfoMap.get(sql);
-      if (adaptiveFetchCacheEntry != null) {
-        adaptiveFetchCacheEntry.decrementCounter();
+      try (ResourceLock ignore = lock.obtain()) {
+        AdaptiveFetchCacheEntry adaptiveFetchCacheEntry = adaptiveFetchInfoMap.get(sql);
+        if (adaptiveFetchCacheEntry != null) {
+          adaptiveFetchCacheEntry.decrementCounter();
 
-        if (adaptiveFetchCacheEntry.getCounter() < 1) {
-          adaptiveFetchInfoMap.remove(sql);
-        } else {
-          adaptiveFetchInfoMap.put(sql, adaptiveFetchCacheEntry);
+          if (adaptiveFetchCacheEntry.getCounter() < 1) {
+            adaptiveFetchInfoMap.remove(sql);
+          }
         }
       }
     }
   }
 
+  /**
+   * Get what adaptive fetch learned about the queries being fetched.
+   *
+   * @return statistics of the cached queries, most recently used last
+   */
+  public List<AdaptiveFetchQueryStatistics> getStatistics() {
+    try (ResourceLock ignore = lock.obtain()) {
+      List<AdaptiveFetchQueryStatistics> statistics = new ArrayList<>(adaptiveFetchInfoMap.size());
+      for (Map.Entry<String, AdaptiveFetchCacheEntry> entry : adaptiveFetchInfoMap.entrySet()) {
+        statistics.add(new AdaptiveFetchQueryStatistics(entry.getKey(), entry.getValue(),
+            ROW_SIZE_PERCENTILE));
+      }
+      return statistics;
+    }
+  }
+
   /**
    * Set maximum and minimum constraints on given value.
    *
@@ -5,11 +5,21 @@
 
 package org.postgresql.core.v3.adaptivefetch;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 public class AdaptiveFetchCacheEntry {
 
+  // Number of rows kept in the row size histogram before older rows start to fade out
+  private static final long DECAY_ROW_COUNT = 10_000;
+
   private int size = -1; // Holds information about adaptive fetch size for query
   private int counter; // Number of queries in execution using that query info
   private int maximumRowSizeBytes = -1; // Maximum row size in bytes saved for query so far
+  // Recent rows by bit length of their size, halved each time it holds more than DECAY_ROW_COUNT
+  private final long[] rowSizeHistogram = new long[Integer.SIZE];
+  private long histogramRowCount;
+  private long fetchCount; // Number of fetches whose rows were added to the histogram
+  private long rowCount; // Number of rows fetched, not decayed
 
   public int getSize() {
     return size;
@@ -42,4 +52,99 @@ public void incrementCounter() {
   public void decrementCounter() {
     counter--;
   }
+
+  public long getFetchCount() {
+    return fetchCount;
+  }
+
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Add the sizes of the rows of a fetch. Once the histogram holds more than
+   * {@link #DECAY_ROW_COUNT} rows, all its counts are halved, so a few very large rows stop
+   * lowering the fetch size once enough smaller rows were fetched after them.
+   *
+   * @param histogram           number of rows by bit length of their size, see
+   *                            {@link org.postgresql.core.PGStream#getRowSizeHistogram()}, or null
+   *                            if only the maximum row size is known
+   * @param maximumRowSizeBytes size of the largest row of the fetch
+   */
+  void addRowSizes(int @Nullable [] histogram, int maximumRowSizeBytes) {
+    long rows = 0;
+    if (histogram != null) {
+      for (int i = 0; i < rowSizeHistogram.length && i < histogram.length; i++) {
+        rowSizeHistogram[i] += histogram[i];
+        rows += histogram[i];
+      }
+    }
+    if (rows == 0) {
+      rowSizeHistogram[bucket(maximumRowSizeBytes)]++;
+      rows = 1;
+    }
+    fetchCount++;
+    rowCount += rows;
+    histogramRowCount += rows;
+
+    if (histogramRowCount > DECAY_ROW_COUNT) {
+      histogramRowCount = 0;
+      for (int i = 0; i < rowSizeHistogram.length; i++) {
+        rowSizeHistogram[i] >>>= 1;
+        histogramRowCount += rowSizeHistogram[i];
+      }
+    }
+
+    // The maximum fades out with the rows that had it
+    int top = rowSizeHistogram.length - 1;
+    while (top > 0 && rowSizeHistogram[top] == 0) {
+      top--;
+    }
+    this.maximumRowSizeBytes = Math.max(
+        Math.min(this.maximumRowSizeBytes, upperBound(top)), maximumRowSizeBytes);
+  }
+
+  /**
+   * Get the row size below which the given fraction of the recent rows are.
+   *
+   * @param percentile fraction of the rows, between 0 and 1
+   * @return the row size in bytes, rounded up to the next power of two minus one but not above
+   *     the maximum row size
+   */
+  public int getRowSizePercentileBytes(double percentile) {
+    long target = (long) Math.ceil(percentile * histogramRowCount);
+    long rows = 0;
+    for (int i = 0; i < rowSizeHistogram.length; i++) {
+      rows += rowSizeHistogram[i];
+      if (rows >= target && rows > 0) {
+        return Math.min(upperBound(i), maximumRowSizeBytes);
+      }
+    }
+    return maximumRowSizeBytes;
+  }
+
+  /**
+   * Get the mean size of the recent rows, each row counted with the upper bound of its histogram
+   * bucket, so the value errs on the large side.
+   *
+   * @return the mean row size in bytes
+   */
+  public int getMeanRowSizeBytes() {
+    if (histogramRowCount == 0) {
+      return maximumRowSizeBytes;
+    }
+    long bytes = 0;
+    for (int i = 0; i < rowSizeHistogram.length; i++) {
+      bytes += rowSizeHistogram[i] * Math.min(upperBound(i), maximumRowSizeBytes);
+    }
+    return (int) ((bytes + histogramRowCount - 1) / histogramRowCount);
+  }
+
+  private static int bucket(int rowSizeBytes) {
+    return Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(rowSizeBytes, 0));
+  }
+
+  private static int upperBound(int bucket) {
+    return bucket >= Integer.SIZE - 1 ? Integer.MAX_VALUE : (1 << bucket) - 1;
+  }
 }
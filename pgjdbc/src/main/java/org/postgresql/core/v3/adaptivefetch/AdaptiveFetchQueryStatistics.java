@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3.adaptivefetch;
+
+/**
+ * Snapshot of what adaptive fetch learned about a query, see
+ * {@link AdaptiveFetchCache#getStatistics()}.
+ */
+public final class AdaptiveFetchQueryStatistics {
+  private final String sql;
+  private final int fetchSize;
+  private final long fetchCount;
+  private final long rowCount;
+  private final int maximumRowSizeBytes;
+  private final int percentileRowSizeBytes;
+  private final int meanRowSizeBytes;
+
+  AdaptiveFetchQueryStatistics(String sql, AdaptiveFetchCacheEntry entry, double percentile) {
+    this.sql = sql;
+    this.fetchSize = entry.getSize();
+    this.fetchCount = entry.getFetchCount();
+    this.rowCount = entry.getRowCount();
+    this.maximumRowSizeBytes = entry.getMaximumRowSizeBytes();
+    this.percentileRowSizeBytes = entry.getRowSizePercentileBytes(percentile);
+    this.meanRowSizeBytes = entry.getMeanRowSizeBytes();
+  }
+
+  /**
+   * @return the native SQL of the query
+   */
+  public String getSql() {
+    return sql;
+  }
+
+  /**
+   * @return the fetch size used for the next fetches of the query, -1 if not computed yet
+   */
+  public int getFetchSize() {
+    return fetchSize;
+  }
+
+  /**
+   * @return number of fetches the row sizes were taken from
+   */
+  public long getFetchCount() {
+    return fetchCount;
+  }
+
+  /**
+   * @return number of rows fetched
+   */
+  public long getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * @return size in bytes of the largest recent row
+   */
+  public int getMaximumRowSizeBytes() {
+    return maximumRowSizeBytes;
+  }
+
+  /**
+   * @return row size in bytes below which most recent rows are
+   */
+  public int getPercentileRowSizeBytes() {
+    return percentileRowSizeBytes;
+  }
+
+  /**
+   * @return mean size in bytes of the recent rows, rounded up
+   */
+  public int getMeanRowSizeBytes() {
+    return meanRowSizeBytes;
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveFetchQueryStatistics{sql=" + sql + ", fetchSize=" + fetchSize
+        + ", fetchCount=" + fetchCount + ", rowCount=" + rowCount
+        + ", maximumRowSizeBytes=" + maximumRowSizeBytes
+        + ", percentileRowSizeBytes=" + percentileRowSizeBytes
+        + ", meanRowSizeBytes=" + meanRowSizeBytes + '}';
+  }
+}
@@ -6,8 +6,10 @@
 package org.postgresql.core.v3.replication;
 
 import org.postgresql.copy.CopyDual;
+import org.postgresql.jdbc.ResourceLock;
 import org.postgresql.replication.LogSequenceNumber;
 import org.postgresql.replication.PGReplicationStream;
+import org.postgresql.replication.ReplicationStreamStatistics;
 import org.postgresql.replication.ReplicationType;
 import org.postgresql.util.GT;
 import org.postgresql.util.PSQLException;
@@ -19,7 +21,11 @@
 import java.nio.ByteBuffer;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.Timer;
+import java.util.TimerTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,15 +34,39 @@ public class V3PGReplicationStream implements PGReplicationStream {
   private static final Logger LOGGER = Logger.getLogger(V3PGReplicationStream.class.getName());
   public static final long POSTGRES_EPOCH_2000_01_01 = 946684800000L;
   private static final long NANOS_PER_MILLISECOND = 1000000L;
+  /**
+   * Upper bound for the period of the background feedback task. The task only sends a status
+   * update when one is due, so it has to wake up more often than the status interval itself.
+   */
+  private static final long MAX_FEEDBACK_CHECK_INTERVAL_MS = 1000L;
+  // Incremented for each feedback timer, so each timer thread has a unique name
+  private static final AtomicInteger FEEDBACK_TIMER_COUNT = new AtomicInteger();
 
   private final CopyDual copyDual;
   private final long updateInterval;
   private final ReplicationType replicationType;
   private final boolean automaticFlush;
   private long lastStatusUpdate;
-  private boolean closeFlag;
+  private volatile boolean closeFlag;
+
+  /**
+   * Held while the stream exchanges messages with the backend, so the reading thread and the
+   * background feedback task never interleave their use of the copy protocol.
+   */
+  private final ResourceLock lock = new ResourceLock();
+  /**
+   * Runs the background feedback task. Each stream has its own timer thread, as the task may
+   * block on the socket and must not delay the tasks of the driver's shared timer, such as
+   * statement timeouts.
+   */
+  private final AtomicReference<@Nullable Timer> feedbackTimer = new AtomicReference<>();
+  /**
+   * XLogData message consumed by the background feedback task while it was looking for keepalive
+   * messages. It is handed to the application by the next read.
+   */
+  private @Nullable ByteBuffer pendingMessage;
 
-  private LogSequenceNumber lastServerLSN = LogSequenceNumber.INVALID_LSN;
+  private volatile LogSequenceNumber lastServerLSN = LogSequenceNumber.INVALID_LSN;
   /**
    * Last receive LSN + payload size.
    */
@@ -46,6 +76,17 @@ public class V3PGReplicationStream implements PGReplicationStream {
   private volatile LogSequenceNumber startOfLastMessageLSN = LogSequenceNumber.INVALID_LSN;
   private volatile LogSequenceNumber explicitlyFlushedLSN = LogSequenceNumber.INVALID_LSN;
 
+  /*
+   * Statistics counters. They are only modified while holding the lock, and are volatile so
+   * getStatistics() can be called from any thread.
+   */
+  private final long startTime = System.nanoTime();
+  private volatile long bytesReceived;
+  private volatile long messagesReceived;
+  private volatile long keepAlivesReceived;
+  private volatile long statusUpdatesSent;
+  private volatile long readBlockedNanos;
+
   /**
    * @param copyDual         bidirectional copy protocol
    * @param startLSN         the position in the WAL that we want to initiate replication from
@@ -60,6 +101,22 @@ public class V3PGReplicationStream implements PGReplicationStream {
    */
   public V3PGReplicationStream(CopyDual copyDual, LogSequenceNumber startLSN, long updateIntervalMs,
       boolean automaticFlush, ReplicationType replicationType
+  ) {
+    this(copyDual, startLSN, updateIntervalMs, automaticFlush, false, replicationType);
+  }
+
+  /**
+   * @param copyDual           bidirectional copy protocol
+   * @param startLSN           the position in the WAL that we want to initiate replication from
+   * @param updateIntervalMs   the number of millisecond between status packets sent back to the
+   *                           server
+   * @param automaticFlush     whether the flushed LSN can be advanced by keepalive messages
+   * @param backgroundFeedback whether status updates and keepalive replies are sent by a
+   *                           background task while the application is not reading the stream
+   * @param replicationType    LOGICAL or PHYSICAL
+   */
+  public V3PGReplicationStream(CopyDual copyDual, LogSequenceNumber startLSN, long updateIntervalMs,
+      boolean automaticFlush, boolean backgroundFeedback, ReplicationType replicationType
   ) {
     this.copyDual = copyDual;
     this.updateInterval = updateIntervalMs * NANOS_PER_MILLISECOND;
@@ -67,24 +124,31 @@ public V3PGReplicationStream(CopyDual copyDual, LogSequenceNumber startLSN, long
     this.lastReceiveLSN = startLSN;
     this.automaticFlush = automaticFlush;
     this.replicationType = replicationType;
+    if (backgroundFeedback) {
+      startFeedbackTask(updateIntervalMs);
+    }
   }
 
   @Override
   public @Nullable ByteBuffer read() throws SQLException {
     checkClose();
 
-    ByteBuffer payload = null;
-    while (payload == null && copyDual.isActive()) {
-      payload = readInternal(true);
-    }
+    try (ResourceLock ignore = lock.obtain()) {
+      ByteBuffer payload = null;
+      while (payload == null && copyDual.isActive()) {
+        payload = readInternal(true);
+      }
 
-    return payload;
+      return payload;
+    }
   }
 
   @Override
   public @Nullable ByteBuffer readPending() throws SQLException {
     checkClose();
-    return readInternal(false);
+    try (ResourceLock ignore = lock.obtain()) {
+      return readInternal(false);
+    }
   }
 
   @Override
@@ -92,6 +156,11 @@ public LogSequenceNumber getLastReceiveLSN() {
     return lastReceiveLSN;
   }
 
+  @Override
+  public LogSequenceNumber getLastMessageStartLSN() {
+    return startOfLastMessageLSN;
+  }
+
   @Override
   public LogSequenceNumber getLastFlushedLSN() {
     return lastFlushedLSN;
@@ -115,7 +184,22 @@ public void setAppliedLSN(LogSequenceNumber applied) {
   @Override
   public void forceUpdateStatus() throws SQLException {
     checkClose();
-    updateStatusInternal(lastReceiveLSN, lastFlushedLSN, lastAppliedLSN, true);
+    try (ResourceLock ignore = lock.obtain()) {
+      updateStatusInternal(lastReceiveLSN, lastFlushedLSN, lastAppliedLSN, true);
+    }
+  }
+
+  @Override
+  public ReplicationStreamStatistics getStatistics() {
+    return new ReplicationStreamStatistics(
+        System.nanoTime() - startTime,
+        bytesReceived,
+        messagesReceived,
+        keepAlivesReceived,
+        statusUpdatesSent,
+        readBlockedNanos,
+        lastServerLSN,
+        lastReceiveLSN);
   }
 
   @Override
@@ -161,9 +245,16 @@ public boolean isClosed() {
   }
 
   private @Nullable ByteBuffer receiveNextData(boolean block) throws SQLException {
+    ByteBuffer pending = pendingMessage;
+    if (pending != null) {
+      pendingMessage = null;
+      return pending;
+    }
+    long start = System.nanoTime();
     try {
       byte[] message = copyDual.readFromCopy(block);
       if (message != null) {
+        bytesReceived += message.length;
         return ByteBuffer.wrap(message);
       } else {
         return null;
@@ -175,6 +266,8 @@ public boolean isClosed() {
       }
 
       throw e;
+    } finally {
+      readBlockedNanos += System.nanoTime() - start;
     }
   }
 
@@ -201,6 +294,7 @@ private void updateStatusInternal(
 
     explicitlyFlushedLSN = flushed;
     lastStatusUpdate = System.nanoTime();
+    statusUpdatesSent++;
   }
 
   private byte[] prepareUpdateStatus(LogSequenceNumber received, LogSequenceNumber flushed,
@@ -234,6 +328,7 @@ private byte[] prepareUpdateStatus(LogSequenceNumber received, LogSequenceNumber
   }
 
   private boolean processKeepAliveMessage(ByteBuffer buffer) {
+    keepAlivesReceived++;
     lastServerLSN = LogSequenceNumber.valueOf(buffer.getLong());
     if (lastServerLSN.compareTo(lastReceiveLSN) > 0) {
       lastReceiveLSN = lastServerLSN;
@@ -263,6 +358,7 @@ private boolean processKeepAliveMessage(ByteBuffer buffer) {
   }
 
   private ByteBuffer processXLogData(ByteBuffer buffer) {
+    messagesReceived++;
     long startLsn = buffer.getLong();
     startOfLastMessageLSN = LogSequenceNumber.valueOf(startLsn);
     lastServerLSN = LogSequenceNumber.valueOf(buffer.getLong());
@@ -283,6 +379,92 @@ private ByteBuffer processXLogData(ByteBuffer buffer) {
     return buffer.slice();
   }
 
+  private void startFeedbackTask(long updateIntervalMs) {
+    long period = updateIntervalMs > 0
+        ? Math.min(updateIntervalMs, MAX_FEEDBACK_CHECK_INTERVAL_MS)
+        : MAX_FEEDBACK_CHECK_INTERVAL_MS;
+    Timer timer;
+    // Do not let the timer thread keep the context class loader, which may be the class loader
+    // of a web application, from being garbage collected
+    ClassLoader prevContextCL = Thread.currentThread().getContextClassLoader();
+    try {
+      Thread.currentThread().setContextClassLoader(null);
+      timer = new Timer("PostgreSQL-JDBC-ReplicationFeedback-"
+          + FEEDBACK_TIMER_COUNT.incrementAndGet(), true);
+    } finally {
+      Thread.currentThread().setContextClassLoader(prevContextCL);
+    }
+    try {
+      timer.schedule(new FeedbackTask(this), period, period);
+    } catch (RuntimeException e) {
+      timer.cancel();
+      throw e;
+    }
+    feedbackTimer.set(timer);
+  }
+
+  private void stopFeedbackTask() {
+    Timer timer = feedbackTimer.getAndSet(null);
+    if (timer != null) {
+      timer.cancel();
+    }
+  }
+
+  /**
+   * Answers keepalive messages and sends periodic status updates on behalf of an application that
+   * is busy processing the previously received data. Nothing is done while the application is
+   * reading, since the reading thread handles status updates itself.
+   */
+  private void sendBackgroundFeedback() {
+    if (isClosed()) {
+      // the copy operation may have ended without close(), e.g. when the connection was closed
+      stopFeedbackTask();
+      return;
+    }
+    if (!lock.tryLock()) {
+      return;
+    }
+    try {
+      boolean updateStatusRequired = false;
+      while (pendingMessage == null && copyDual.isActive()) {
+        ByteBuffer buffer = receiveNextData(false);
+        if (buffer == null) {
+          break;
+        }
+        if (buffer.get(buffer.position()) == 'k') {
+          buffer.get();
+          updateStatusRequired |= processKeepAliveMessage(buffer);
+        } else {
+          // keep the message for the application, and stop reading so at most one message is
+          // buffered on the client side
+          pendingMessage = buffer;
+        }
+      }
+
+      if (copyDual.isActive() && (updateStatusRequired || isTimeUpdate())) {
+        timeUpdateStatus();
+      }
+    } catch (SQLException e) {
+      LOGGER.log(Level.FINE, "Unable to send replication status update from background task", e);
+      stopFeedbackTask();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static class FeedbackTask extends TimerTask {
+    private final V3PGReplicationStream stream;
+
+    FeedbackTask(V3PGReplicationStream stream) {
+      this.stream = stream;
+    }
+
+    @Override
+    public void run() {
+      stream.sendBackgroundFeedback();
+    }
+  }
+
   private void checkClose() throws PSQLException {
     if (isClosed()) {
       throw new PSQLException(GT.tr("This replication stream has been closed."),
@@ -296,10 +478,19 @@ public void close() throws SQLException {
       return;
     }
 
-    LOGGER.log(Level.FINEST, " FE=> StopReplication");
+    stopFeedbackTask();
 
-    copyDual.endCopy();
+    // wait for a read or a status update in progress, so they do not interleave with CopyDone
+    try (ResourceLock ignore = lock.obtain()) {
+      if (isClosed()) {
+        return;
+      }
+
+      LOGGER.log(Level.FINEST, " FE=> StopReplication");
 
-    closeFlag = true;
+      copyDual.endCopy();
+
+      closeFlag = true;
+    }
   }
 }
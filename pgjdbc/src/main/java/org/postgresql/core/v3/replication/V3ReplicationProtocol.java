@@ -66,6 +66,7 @@ private PGReplicationStream initializeReplication(String query, CommonOptions op
         options.getStartLSNPosition(),
         options.getStatusInterval(),
         options.getAutomaticFlush(),
+        options.getBackgroundFeedback(),
         replicationType
     );
   }
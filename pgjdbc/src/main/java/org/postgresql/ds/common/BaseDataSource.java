@@ -554,6 +554,39 @@ public void setDatabaseMetadataCacheFieldsMiB(int cacheSize) {
     PGProperty.DATABASE_METADATA_CACHE_FIELDS_MIB.set(properties, cacheSize);
   }
 
+  /**
+   * @return maximum number of DatabaseMetaData results shared by the connections to a database
+   * @see PGProperty#DATABASE_METADATA_CACHE_RESULTS
+   */
+  public int getDatabaseMetadataCacheResults() {
+    return PGProperty.DATABASE_METADATA_CACHE_RESULTS.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param cacheSize maximum number of DatabaseMetaData results shared by the connections to a
+   *     database
+   * @see PGProperty#DATABASE_METADATA_CACHE_RESULTS
+   */
+  public void setDatabaseMetadataCacheResults(int cacheSize) {
+    PGProperty.DATABASE_METADATA_CACHE_RESULTS.set(properties, cacheSize);
+  }
+
+  /**
+   * @return number of seconds a shared DatabaseMetaData result is used
+   * @see PGProperty#DATABASE_METADATA_CACHE_TTL
+   */
+  public int getDatabaseMetadataCacheTtl() {
+    return PGProperty.DATABASE_METADATA_CACHE_TTL.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param seconds number of seconds a shared DatabaseMetaData result is used
+   * @see PGProperty#DATABASE_METADATA_CACHE_TTL
+   */
+  public void setDatabaseMetadataCacheTtl(int seconds) {
+    PGProperty.DATABASE_METADATA_CACHE_TTL.set(properties, seconds);
+  }
+
   /**
    * @param fetchSize default fetch size
    * @see PGProperty#DEFAULT_ROW_FETCH_SIZE
@@ -1001,6 +1034,22 @@ public void setDisableColumnSanitiser(boolean disableColumnSanitiser) {
     PGProperty.DISABLE_COLUMN_SANITISER.set(properties, disableColumnSanitiser);
   }
 
+  /**
+   * @return maximum number of distinct values per column that are interned
+   * @see PGProperty#COLUMN_VALUE_INTERNING_LIMIT
+   */
+  public int getColumnValueInterningLimit() {
+    return PGProperty.COLUMN_VALUE_INTERNING_LIMIT.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param limit maximum number of distinct values per column that are interned, 0 disables it
+   * @see PGProperty#COLUMN_VALUE_INTERNING_LIMIT
+   */
+  public void setColumnValueInterningLimit(int limit) {
+    PGProperty.COLUMN_VALUE_INTERNING_LIMIT.set(properties, limit);
+  }
+
   /**
    * @return convertBooleanToNumeric
    * @see PGProperty#CONVERT_BOOLEAN_TO_NUMERIC
@@ -1850,6 +1899,139 @@ public void setFlushCacheOnDdl(boolean flushCacheOnDdl) {
     PGProperty.FLUSH_CACHE_ON_DDL.set(properties, flushCacheOnDdl);
   }
 
+  /**
+   * @return boolean indicating whether result set column metadata is shared between connections
+   * @see PGProperty#SHARED_FIELD_METADATA_CACHE
+   */
+  public boolean getSharedFieldMetadataCache() {
+    return PGProperty.SHARED_FIELD_METADATA_CACHE.getBoolean(properties);
+  }
+
+  /**
+   * @param sharedFieldMetadataCache true to share result set column metadata between connections
+   *     to the same database
+   * @see PGProperty#SHARED_FIELD_METADATA_CACHE
+   */
+  public void setSharedFieldMetadataCache(boolean sharedFieldMetadataCache) {
+    PGProperty.SHARED_FIELD_METADATA_CACHE.set(properties, sharedFieldMetadataCache);
+  }
+
+  /**
+   * @return boolean indicating whether statement descriptions are shared between connections
+   * @see PGProperty#SHARED_STATEMENT_DESCRIPTIONS
+   */
+  public boolean getSharedStatementDescriptions() {
+    return PGProperty.SHARED_STATEMENT_DESCRIPTIONS.getBoolean(properties);
+  }
+
+  /**
+   * @param sharedStatementDescriptions true to share statement descriptions between connections
+   *     to the same database
+   * @see PGProperty#SHARED_STATEMENT_DESCRIPTIONS
+   */
+  public void setSharedStatementDescriptions(boolean sharedStatementDescriptions) {
+    PGProperty.SHARED_STATEMENT_DESCRIPTIONS.set(properties, sharedStatementDescriptions);
+  }
+
+  /**
+   * @return boolean indicating whether type information is shared between connections
+   * @see PGProperty#SHARED_TYPE_CACHE
+   */
+  public boolean getSharedTypeCache() {
+    return PGProperty.SHARED_TYPE_CACHE.getBoolean(properties);
+  }
+
+  /**
+   * @param sharedTypeCache true to share type information between connections to the same database
+   * @see PGProperty#SHARED_TYPE_CACHE
+   */
+  public void setSharedTypeCache(boolean sharedTypeCache) {
+    PGProperty.SHARED_TYPE_CACHE.set(properties, sharedTypeCache);
+  }
+
+  /**
+   * @return boolean indicating whether non-system types are loaded when the connection is opened
+   * @see PGProperty#PRELOAD_TYPES
+   */
+  public boolean getPreloadTypes() {
+    return PGProperty.PRELOAD_TYPES.getBoolean(properties);
+  }
+
+  /**
+   * @param preloadTypes true to load all non-system types when the connection is opened
+   * @see PGProperty#PRELOAD_TYPES
+   */
+  public void setPreloadTypes(boolean preloadTypes) {
+    PGProperty.PRELOAD_TYPES.set(properties, preloadTypes);
+  }
+
+  /**
+   * @return statements that are server-prepared when the connection is opened
+   * @see PGProperty#WARM_UP_STATEMENTS
+   */
+  public @Nullable String getWarmUpStatements() {
+    return PGProperty.WARM_UP_STATEMENTS.getOrDefault(properties);
+  }
+
+  /**
+   * @param warmUpStatements SQL statements, separated by semicolons, to server-prepare when the
+   *     connection is opened
+   * @see PGProperty#WARM_UP_STATEMENTS
+   */
+  public void setWarmUpStatements(@Nullable String warmUpStatements) {
+    PGProperty.WARM_UP_STATEMENTS.set(properties, warmUpStatements);
+  }
+
+  /**
+   * @return maximum size (in megabytes) of the shared results of statements marked with
+   *     {@link org.postgresql.PGStatement#setCacheResults(boolean)}
+   * @see PGProperty#RESULT_CACHE_SIZE_MIB
+   */
+  public int getResultCacheSizeMiB() {
+    return PGProperty.RESULT_CACHE_SIZE_MIB.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param resultCacheSizeMiB maximum size (in megabytes) of the shared results of statements
+   *     marked with {@link org.postgresql.PGStatement#setCacheResults(boolean)}
+   * @see PGProperty#RESULT_CACHE_SIZE_MIB
+   */
+  public void setResultCacheSizeMiB(int resultCacheSizeMiB) {
+    PGProperty.RESULT_CACHE_SIZE_MIB.set(properties, resultCacheSizeMiB);
+  }
+
+  /**
+   * @return number of seconds a cached result is used
+   * @see PGProperty#RESULT_CACHE_TTL
+   */
+  public int getResultCacheTtl() {
+    return PGProperty.RESULT_CACHE_TTL.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param seconds number of seconds a cached result is used
+   * @see PGProperty#RESULT_CACHE_TTL
+   */
+  public void setResultCacheTtl(int seconds) {
+    PGProperty.RESULT_CACHE_TTL.set(properties, seconds);
+  }
+
+  /**
+   * @return channel whose notifications drop the cached results
+   * @see PGProperty#RESULT_CACHE_NOTIFY_CHANNEL
+   */
+  public @Nullable String getResultCacheNotifyChannel() {
+    return PGProperty.RESULT_CACHE_NOTIFY_CHANNEL.getOrDefault(properties);
+  }
+
+  /**
+   * @param channel channel whose notifications drop the cached results
+   * @see PGProperty#RESULT_CACHE_NOTIFY_CHANNEL
+   */
+  public void setResultCacheNotifyChannel(@Nullable String channel) {
+    PGProperty.RESULT_CACHE_NOTIFY_CHANNEL.set(properties, channel);
+  }
+
   public @Nullable String getMaxResultBuffer() {
     return PGProperty.MAX_RESULT_BUFFER.getOrDefault(properties);
   }
@@ -1882,6 +2064,24 @@ public void setAdaptiveFetchMinimum(int adaptiveFetchMinimum) {
     PGProperty.ADAPTIVE_FETCH_MINIMUM.set(properties, adaptiveFetchMinimum);
   }
 
+  /**
+   * @return boolean indicating whether statements are prepared depending on their execution rate
+   *     and time
+   * @see PGProperty#ADAPTIVE_PREPARE_THRESHOLD
+   */
+  public boolean getAdaptivePrepareThreshold() {
+    return PGProperty.ADAPTIVE_PREPARE_THRESHOLD.getBoolean(properties);
+  }
+
+  /**
+   * @param adaptivePrepareThreshold true to prepare statements depending on their execution rate
+   *     and time
+   * @see PGProperty#ADAPTIVE_PREPARE_THRESHOLD
+   */
+  public void setAdaptivePrepareThreshold(boolean adaptivePrepareThreshold) {
+    PGProperty.ADAPTIVE_PREPARE_THRESHOLD.set(properties, adaptivePrepareThreshold);
+  }
+
   @Override
   public Logger getParentLogger() {
     return Logger.getLogger("org.postgresql");
@@ -13,6 +13,7 @@
 import org.postgresql.core.Parser;
 import org.postgresql.jdbc2.ArrayAssistant;
 import org.postgresql.jdbc2.ArrayAssistantRegistry;
+import org.postgresql.util.ByteConverter;
 import org.postgresql.util.GT;
 import org.postgresql.util.PGbytea;
 import org.postgresql.util.PSQLException;
@@ -310,9 +311,21 @@ Object parseValue(String stringVal, BaseConnection connection) throws SQLExcepti
     }
   };
 
-  private static final ArrayDecoder<BigDecimal[]> BIG_DECIMAL_STRING_DECODER = new AbstractObjectStringArrayDecoder<BigDecimal[]>(
+  private static final ArrayDecoder<BigDecimal[]> BIG_DECIMAL_OBJ_ARRAY = new AbstractObjectArrayDecoder<BigDecimal[]>(
       BigDecimal.class) {
 
+    @Override
+    Object parseValue(int length, ByteBuffer bytes, BaseConnection connection) throws SQLException {
+      assert bytes.hasArray();
+      final Number value = ByteConverter.numeric(bytes.array(), bytes.arrayOffset() + bytes.position(), length);
+      bytes.position(bytes.position() + length);
+      if (!(value instanceof BigDecimal)) {
+        throw new PSQLException(GT.tr("Bad value for type {0} : {1}", "BigDecimal", value),
+            PSQLState.NUMERIC_VALUE_OUT_OF_RANGE);
+      }
+      return value;
+    }
+
     @Override
     Object parseValue(String stringVal, BaseConnection connection) throws SQLException {
       return PgResultSet.toBigDecimal(stringVal);
@@ -381,7 +394,7 @@ Object parseValue(String stringVal, BaseConnection connection) throws SQLExcepti
     OID_TO_DECODER.put(Oid.BIT, BOOLEAN_OBJ_ARRAY);
     OID_TO_DECODER.put(Oid.BOOL, BOOLEAN_OBJ_ARRAY);
     OID_TO_DECODER.put(Oid.BYTEA, BYTE_ARRAY_ARRAY);
-    OID_TO_DECODER.put(Oid.NUMERIC, BIG_DECIMAL_STRING_DECODER);
+    OID_TO_DECODER.put(Oid.NUMERIC, BIG_DECIMAL_OBJ_ARRAY);
     OID_TO_DECODER.put(Oid.BPCHAR, STRING_ONLY_DECODER);
     OID_TO_DECODER.put(Oid.CHAR, STRING_ONLY_DECODER);
     OID_TO_DECODER.put(Oid.JSON, STRING_ONLY_DECODER);
@@ -555,6 +568,245 @@ public static Object readBinaryArray(int index, int count, byte[] bytes, BaseCon
     return array;
   }
 
+  /**
+   * Returns whether {@code type} is an array of {@code long}, {@code int}, {@code short},
+   * {@code double}, {@code float} or {@code boolean}, with any number of dimensions, that can be
+   * read with {@link #readBinaryPrimitiveArray(Class, byte[])}.
+   *
+   * @param type the requested class
+   * @return true if the class is a supported primitive array
+   */
+  static boolean isPrimitiveArrayType(Class<?> type) {
+    Class<?> leaf = leafComponentType(type);
+    return type.isArray()
+        && (leaf == long.class || leaf == int.class || leaf == short.class
+            || leaf == double.class || leaf == float.class || leaf == boolean.class);
+  }
+
+  private static Class<?> leafComponentType(Class<?> type) {
+    Class<?> leaf = type;
+    Class<?> component;
+    while ((component = leaf.getComponentType()) != null) {
+      leaf = component;
+    }
+    return leaf;
+  }
+
+  private static int dimensions(Class<?> type) {
+    int dimensions = 0;
+    Class<?> component = type;
+    while ((component = component.getComponentType()) != null) {
+      dimensions++;
+    }
+    return dimensions;
+  }
+
+  /**
+   * Returns whether elements of the given type can be stored in a primitive array with the given
+   * component type without loss.
+   */
+  private static boolean isPrimitiveCompatible(Class<?> leaf, int elementOid) {
+    switch (elementOid) {
+      case Oid.INT8:
+      case Oid.OID:
+        return leaf == long.class;
+      case Oid.INT4:
+        return leaf == long.class || leaf == int.class;
+      case Oid.INT2:
+        return leaf == long.class || leaf == int.class || leaf == short.class;
+      case Oid.FLOAT8:
+        return leaf == double.class;
+      case Oid.FLOAT4:
+        return leaf == double.class || leaf == float.class;
+      case Oid.BOOL:
+        return leaf == boolean.class;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Reads the binary representation of an array directly into a primitive array such as
+   * {@code long[]} or {@code double[][]}, without creating a wrapper object per element.
+   *
+   * @param type
+   *          The requested array class, see {@link #isPrimitiveArrayType(Class)}.
+   * @param bytes
+   *          The binary representation of the array.
+   * @return The parsed array.
+   * @throws SQLException
+   *           If the element type or number of dimensions does not match, or the array contains
+   *           nulls.
+   */
+  static Object readBinaryPrimitiveArray(Class<?> type, byte[] bytes) throws SQLException {
+    final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    final int dimensions = buffer.getInt();
+    final boolean hasNulls = buffer.getInt() != 0;
+    final int elementOid = buffer.getInt();
+
+    final Class<?> leaf = leafComponentType(type);
+    if (!isPrimitiveCompatible(leaf, elementOid)) {
+      throw new PSQLException(
+          GT.tr("Cannot convert the array of type {0} to requested type {1}.",
+              Oid.toString(elementOid), type.getSimpleName()),
+          PSQLState.DATA_TYPE_MISMATCH);
+    }
+    if (dimensions == 0) {
+      return Array.newInstance(castNonNull(type.getComponentType()), 0);
+    }
+    if (dimensions != dimensions(type)) {
+      throw new PSQLException(
+          GT.tr("Cannot convert the array with {0} dimensions to requested type {1}.",
+              dimensions, type.getSimpleName()),
+          PSQLState.DATA_TYPE_MISMATCH);
+    }
+    if (hasNulls) {
+      throw nullElement(type);
+    }
+
+    final int[] dimensionLengths = new int[dimensions];
+    for (int i = 0; i < dimensions; i++) {
+      dimensionLengths[i] = buffer.getInt();
+      buffer.position(buffer.position() + 4);
+    }
+    return readPrimitiveValues(type, elementOid, buffer, dimensionLengths, 0);
+  }
+
+  private static Object readPrimitiveValues(Class<?> type, int elementOid, ByteBuffer buffer,
+      int[] dimensionLengths, int dim) throws SQLException {
+    final int length = dimensionLengths[dim];
+    final Class<?> component = castNonNull(type.getComponentType());
+    if (dim < dimensionLengths.length - 1) {
+      final Object[] array = (Object[]) Array.newInstance(component, length);
+      for (int i = 0; i < length; i++) {
+        array[i] = readPrimitiveValues(component, elementOid, buffer, dimensionLengths, dim + 1);
+      }
+      return array;
+    }
+
+    if (component == long.class) {
+      final long[] array = new long[length];
+      for (int i = 0; i < length; i++) {
+        checkElementLength(type, buffer);
+        switch (elementOid) {
+          case Oid.INT8:
+            array[i] = buffer.getLong();
+            break;
+          case Oid.OID:
+            array[i] = buffer.getInt() & 0xFFFFFFFFL;
+            break;
+          case Oid.INT4:
+            array[i] = buffer.getInt();
+            break;
+          default:
+            array[i] = buffer.getShort();
+            break;
+        }
+      }
+      return array;
+    }
+    if (component == int.class) {
+      final int[] array = new int[length];
+      for (int i = 0; i < length; i++) {
+        checkElementLength(type, buffer);
+        array[i] = elementOid == Oid.INT4 ? buffer.getInt() : buffer.getShort();
+      }
+      return array;
+    }
+    if (component == short.class) {
+      final short[] array = new short[length];
+      for (int i = 0; i < length; i++) {
+        checkElementLength(type, buffer);
+        array[i] = buffer.getShort();
+      }
+      return array;
+    }
+    if (component == double.class) {
+      final double[] array = new double[length];
+      for (int i = 0; i < length; i++) {
+        checkElementLength(type, buffer);
+        array[i] = elementOid == Oid.FLOAT8 ? buffer.getDouble() : buffer.getFloat();
+      }
+      return array;
+    }
+    if (component == float.class) {
+      final float[] array = new float[length];
+      for (int i = 0; i < length; i++) {
+        checkElementLength(type, buffer);
+        array[i] = buffer.getFloat();
+      }
+      return array;
+    }
+    final boolean[] array = new boolean[length];
+    for (int i = 0; i < length; i++) {
+      checkElementLength(type, buffer);
+      array[i] = buffer.get() == 1;
+    }
+    return array;
+  }
+
+  private static void checkElementLength(Class<?> type, ByteBuffer buffer) throws PSQLException {
+    if (buffer.getInt() == -1) {
+      throw nullElement(type);
+    }
+  }
+
+  private static PSQLException nullElement(Class<?> type) {
+    return new PSQLException(
+        GT.tr("Cannot convert an array with null elements to requested type {0}.",
+            type.getSimpleName()),
+        PSQLState.DATA_TYPE_MISMATCH);
+  }
+
+  /**
+   * Copies an array of wrapper objects, as returned by {@link java.sql.Array#getArray()}, into a
+   * primitive array. This is used when the array was not received in binary format.
+   *
+   * @param type
+   *          The requested array class, see {@link #isPrimitiveArrayType(Class)}.
+   * @param array
+   *          The array of wrapper objects, with the same number of dimensions as <i>type</i>.
+   * @return The primitive array.
+   * @throws SQLException
+   *           If the elements cannot be converted, or the array contains nulls.
+   */
+  static Object toPrimitiveArray(Class<?> type, Object array) throws SQLException {
+    final Class<?> component = castNonNull(type.getComponentType());
+    if (array instanceof Object[] && ((Object[]) array).length == 0) {
+      // empty arrays have no dimensions
+      return Array.newInstance(component, 0);
+    }
+    if (!(array instanceof Object[]) || dimensions(array.getClass()) != dimensions(type)) {
+      throw new PSQLException(
+          GT.tr("Cannot convert the array with {0} dimensions to requested type {1}.",
+              dimensions(array.getClass()), type.getSimpleName()),
+          PSQLState.DATA_TYPE_MISMATCH);
+    }
+    final @Nullable Object[] values = (@Nullable Object[]) array;
+    final Object result = Array.newInstance(component, values.length);
+    for (int i = 0; i < values.length; i++) {
+      final Object value = values[i];
+      if (value == null) {
+        throw nullElement(type);
+      }
+      if (component.isArray()) {
+        Array.set(result, i, toPrimitiveArray(component, value));
+        continue;
+      }
+      try {
+        // unwraps the value and applies widening conversions, e.g. Integer to long
+        Array.set(result, i, value);
+      } catch (IllegalArgumentException e) {
+        throw new PSQLException(
+            GT.tr("Cannot convert the array of type {0} to requested type {1}.",
+                value.getClass().getSimpleName(), type.getSimpleName()),
+            PSQLState.DATA_TYPE_MISMATCH, e);
+      }
+    }
+    return result;
+  }
+
   @SuppressWarnings("unchecked")
   private static <A extends @NonNull Object> void storeValues(A[] array, ArrayDecoder<A> decoder, ByteBuffer bytes,
       int skip, int[] dimensionLengths, int dim, BaseConnection connection) throws SQLException {
@@ -15,14 +15,20 @@
 import org.postgresql.util.PSQLState;
 
 import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Utility for using arrays in requests.
@@ -766,90 +772,62 @@ public void appendArray(StringBuilder sb, char delim, String[] array) {
 
     @Override
     public byte[] toBinaryRepresentation(BaseConnection connection, String[] array, int oid) throws SQLException {
-      final ByteArrayOutputStream baos = new ByteArrayOutputStream(Math.min(1024, (array.length * 32) + 20));
-
       assert supportBinaryRepresentation(oid);
 
-      final byte[] buffer = new byte[4];
-
-      try {
-        // 1 dimension
-        ByteConverter.int4(buffer, 0, 1);
-        baos.write(buffer);
-        // null
-        ByteConverter.int4(buffer, 0, countNulls(array) > 0 ? 1 : 0);
-        baos.write(buffer);
-        // oid
-        ByteConverter.int4(buffer, 0, getTypeOID(oid));
-        baos.write(buffer);
-        // length
-        ByteConverter.int4(buffer, 0, array.length);
-        baos.write(buffer);
-
-        // postgresql uses 1 base by default
-        ByteConverter.int4(buffer, 0, 1);
-        baos.write(buffer);
+      final byte[] @Nullable [] encoded = new byte[array.length][];
+      final int length = encode(connection, array, encoded);
+      final byte[] bytes = new byte[20 + length];
 
-        final Encoding encoding = connection.getEncoding();
-        for (int i = 0; i < array.length; i++) {
-          final String string = array[i];
-          if (string != null) {
-            final byte[] encoded;
-            try {
-              encoded = encoding.encode(string);
-            } catch (IOException e) {
-              throw new PSQLException(GT.tr("Unable to translate data into the desired encoding."),
-                  PSQLState.DATA_ERROR, e);
-            }
-            ByteConverter.int4(buffer, 0, encoded.length);
-            baos.write(buffer);
-            baos.write(encoded);
-          } else {
-            ByteConverter.int4(buffer, 0, -1);
-            baos.write(buffer);
-          }
-        }
+      // 1 dimension
+      ByteConverter.int4(bytes, 0, 1);
+      // null
+      ByteConverter.int4(bytes, 4, countNulls(array) > 0 ? 1 : 0);
+      // oid
+      ByteConverter.int4(bytes, 8, getTypeOID(oid));
+      // length
+      ByteConverter.int4(bytes, 12, array.length);
+      // postgresql uses 1 base by default
+      ByteConverter.int4(bytes, 16, 1);
 
-        return baos.toByteArray();
-      } catch (IOException e) {
-        // this IO exception is from writing to baos, which will never throw an
-        // IOException
-        throw new java.lang.AssertionError(e);
-      }
+      writeElements(encoded, bytes, 20);
+      return bytes;
     }
 
     @Override
     byte[] toSingleDimensionBinaryRepresentation(BaseConnection connection, String[] array)
         throws SQLException, SQLFeatureNotSupportedException {
-      try {
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream(Math.min(1024, (array.length * 32) + 20));
-        final byte[] buffer = new byte[4];
-        final Encoding encoding = connection.getEncoding();
-        for (int i = 0; i < array.length; i++) {
-          final String string = array[i];
-          if (string != null) {
-            final byte[] encoded;
-            try {
-              encoded = encoding.encode(string);
-            } catch (IOException e) {
-              throw new PSQLException(GT.tr("Unable to translate data into the desired encoding."),
-                  PSQLState.DATA_ERROR, e);
-            }
-            ByteConverter.int4(buffer, 0, encoded.length);
-            baos.write(buffer);
-            baos.write(encoded);
-          } else {
-            ByteConverter.int4(buffer, 0, -1);
-            baos.write(buffer);
+      final byte[] @Nullable [] encoded = new byte[array.length][];
+      final byte[] bytes = new byte[encode(connection, array, encoded)];
+      writeElements(encoded, bytes, 0);
+      return bytes;
+    }
+
+    /**
+     * Encodes the non-null elements of <i>array</i> into <i>encoded</i>, so the
+     * result can be allocated with its exact size.
+     *
+     * @return The number of bytes needed for the elements including their lengths.
+     */
+    private int encode(BaseConnection connection, String[] array, byte[] @Nullable [] encoded)
+        throws SQLException {
+      final Encoding encoding = connection.getEncoding();
+      int length = 0;
+      for (int i = 0; i < array.length; i++) {
+        length += 4;
+        final String string = array[i];
+        if (string != null) {
+          final byte[] element;
+          try {
+            element = encoding.encode(string);
+          } catch (IOException e) {
+            throw new PSQLException(GT.tr("Unable to translate data into the desired encoding."),
+                PSQLState.DATA_ERROR, e);
           }
+          encoded[i] = element;
+          length += element.length;
         }
-
-        return baos.toByteArray();
-      } catch (IOException e) {
-        // this IO exception is from writing to baos, which will never throw an
-        // IOException
-        throw new java.lang.AssertionError(e);
       }
+      return length;
     }
   };
 
@@ -949,6 +927,249 @@ public void appendArray(StringBuilder sb, char delim, byte[][] array) {
     }
   };
 
+  /**
+   * Base support for arrays of objects which have a fixed size binary
+   * representation. The string representation uses {@link Object#toString()}
+   * of the elements, the same as for any other {@code Object[]}.
+   *
+   * @param <E>
+   *          The element type.
+   */
+  private abstract static class FixedSizeObjectArrayEncoder<E> extends AbstractArrayEncoder<E[]> {
+
+    private final int fieldSize;
+
+    /**
+     *
+     * @param fieldSize
+     *          The fixed size to represent each value in binary.
+     * @param oid
+     *          The base type oid.
+     * @param arrayOid
+     *          The array type oid.
+     */
+    FixedSizeObjectArrayEncoder(int fieldSize, int oid, int arrayOid) {
+      super(oid, arrayOid);
+      this.fieldSize = fieldSize;
+    }
+
+    @Override
+    final int countNulls(E[] array) {
+      int count = 0;
+      for (int i = 0; i < array.length; i++) {
+        if (array[i] == null) {
+          ++count;
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public final byte[] toBinaryRepresentation(BaseConnection connection, E[] array, int oid)
+        throws SQLException, SQLFeatureNotSupportedException {
+      assert oid == this.arrayOid;
+
+      final int nullCount = countNulls(array);
+
+      final byte[] bytes = writeBytes(connection, array, nullCount, 20);
+
+      // 1 dimension
+      ByteConverter.int4(bytes, 0, 1);
+      // no null
+      ByteConverter.int4(bytes, 4, nullCount == 0 ? 0 : 1);
+      // oid
+      ByteConverter.int4(bytes, 8, getTypeOID(oid));
+      // length
+      ByteConverter.int4(bytes, 12, array.length);
+      // postgresql uses 1 base by default
+      ByteConverter.int4(bytes, 16, 1);
+
+      return bytes;
+    }
+
+    @Override
+    final byte[] toSingleDimensionBinaryRepresentation(BaseConnection connection, E[] array)
+        throws SQLException, SQLFeatureNotSupportedException {
+      return writeBytes(connection, array, countNulls(array), 0);
+    }
+
+    private byte[] writeBytes(BaseConnection connection, E[] array, int nullCount, int offset)
+        throws SQLException {
+      final int length = offset + (4 * array.length) + (fieldSize * (array.length - nullCount));
+      final byte[] bytes = new byte[length];
+
+      int idx = offset;
+      for (int i = 0; i < array.length; i++) {
+        if (array[i] == null) {
+          ByteConverter.int4(bytes, idx, -1);
+          idx += 4;
+        } else {
+          ByteConverter.int4(bytes, idx, fieldSize);
+          idx += 4;
+          write(connection, array[i], bytes, idx);
+          idx += fieldSize;
+        }
+      }
+
+      return bytes;
+    }
+
+    /**
+     * Write single value to <i>bytes</i> beginning at <i>offset</i>.
+     *
+     * @param connection
+     *          The connection the binary representation will be used on.
+     * @param value
+     *          The value to write to <i>bytes</i>. This will never be {@code null}.
+     * @param bytes
+     *          The {@code byte[]} to write to.
+     * @param offset
+     *          The offset into <i>bytes</i> to write the value.
+     */
+    abstract void write(BaseConnection connection, E value, byte[] bytes, int offset)
+        throws SQLException;
+
+    @Override
+    public final void appendArray(StringBuilder sb, char delim, E[] array) {
+      OBJECT_ARRAY.appendArray(sb, delim, array);
+    }
+  }
+
+  private static final AbstractArrayEncoder<UUID[]> UUID_ARRAY = new FixedSizeObjectArrayEncoder<UUID>(16,
+      Oid.UUID, Oid.UUID_ARRAY) {
+
+    @Override
+    void write(BaseConnection connection, UUID value, byte[] bytes, int offset) {
+      ByteConverter.int8(bytes, offset, value.getMostSignificantBits());
+      ByteConverter.int8(bytes, offset + 8, value.getLeastSignificantBits());
+    }
+  };
+
+  private static final AbstractArrayEncoder<LocalDate[]> LOCAL_DATE_ARRAY =
+      new FixedSizeObjectArrayEncoder<LocalDate>(4, Oid.DATE, Oid.DATE_ARRAY) {
+
+        @Override
+        @SuppressWarnings("deprecation")
+        void write(BaseConnection connection, LocalDate value, byte[] bytes, int offset)
+            throws SQLException {
+          connection.getTimestampUtils().toBinLocalDate(bytes, offset, value);
+        }
+      };
+
+  private static final AbstractArrayEncoder<LocalDateTime[]> LOCAL_DATE_TIME_ARRAY =
+      new FixedSizeObjectArrayEncoder<LocalDateTime>(8, Oid.TIMESTAMP, Oid.TIMESTAMP_ARRAY) {
+
+        @Override
+        @SuppressWarnings("deprecation")
+        void write(BaseConnection connection, LocalDateTime value, byte[] bytes, int offset)
+            throws SQLException {
+          connection.getTimestampUtils().toBinLocalDateTime(bytes, offset, value);
+        }
+      };
+
+  private static final AbstractArrayEncoder<OffsetDateTime[]> OFFSET_DATE_TIME_ARRAY =
+      new FixedSizeObjectArrayEncoder<OffsetDateTime>(8, Oid.TIMESTAMPTZ, Oid.TIMESTAMPTZ_ARRAY) {
+
+        @Override
+        @SuppressWarnings("deprecation")
+        void write(BaseConnection connection, OffsetDateTime value, byte[] bytes, int offset)
+            throws SQLException {
+          connection.getTimestampUtils().toBinOffsetDateTime(bytes, offset, value);
+        }
+      };
+
+  private static final AbstractArrayEncoder<BigDecimal[]> BIG_DECIMAL_ARRAY = new AbstractArrayEncoder<BigDecimal[]>(
+      Oid.NUMERIC, Oid.NUMERIC_ARRAY) {
+
+    @Override
+    int countNulls(BigDecimal[] array) {
+      int count = 0;
+      for (int i = 0; i < array.length; i++) {
+        if (array[i] == null) {
+          ++count;
+        }
+      }
+      return count;
+    }
+
+    @Override
+    public byte[] toBinaryRepresentation(BaseConnection connection, BigDecimal[] array, int oid)
+        throws SQLException, SQLFeatureNotSupportedException {
+      assert oid == arrayOid;
+
+      final byte[] @Nullable [] encoded = new byte[array.length][];
+      final int length = encode(array, encoded);
+      final byte[] bytes = new byte[20 + length];
+
+      // 1 dimension
+      ByteConverter.int4(bytes, 0, 1);
+      // null
+      ByteConverter.int4(bytes, 4, countNulls(array) > 0 ? 1 : 0);
+      // oid
+      ByteConverter.int4(bytes, 8, getTypeOID(oid));
+      // length
+      ByteConverter.int4(bytes, 12, array.length);
+      // postgresql uses 1 base by default
+      ByteConverter.int4(bytes, 16, 1);
+
+      writeElements(encoded, bytes, 20);
+      return bytes;
+    }
+
+    @Override
+    byte[] toSingleDimensionBinaryRepresentation(BaseConnection connection, BigDecimal[] array)
+        throws SQLException, SQLFeatureNotSupportedException {
+      final byte[] @Nullable [] encoded = new byte[array.length][];
+      final byte[] bytes = new byte[encode(array, encoded)];
+      writeElements(encoded, bytes, 0);
+      return bytes;
+    }
+
+    /**
+     * Encodes the non-null elements of <i>array</i> into <i>encoded</i>.
+     *
+     * @return The number of bytes needed for the elements including their lengths.
+     */
+    private int encode(BigDecimal[] array, byte[] @Nullable [] encoded) {
+      int length = 0;
+      for (int i = 0; i < array.length; i++) {
+        length += 4;
+        if (array[i] != null) {
+          final byte[] element = ByteConverter.numeric(array[i]);
+          encoded[i] = element;
+          length += element.length;
+        }
+      }
+      return length;
+    }
+
+    @Override
+    public void appendArray(StringBuilder sb, char delim, BigDecimal[] array) {
+      OBJECT_ARRAY.appendArray(sb, delim, array);
+    }
+  };
+
+  /**
+   * Writes each element of <i>encoded</i> prefixed by its length to <i>bytes</i>
+   * beginning at <i>offset</i>, a {@code null} element is written as length
+   * {@code -1}.
+   */
+  private static void writeElements(byte[] @Nullable [] encoded, byte[] bytes, int offset) {
+    int idx = offset;
+    for (int i = 0; i < encoded.length; i++) {
+      final byte[] element = encoded[i];
+      if (element != null) {
+        ByteConverter.int4(bytes, idx, element.length);
+        idx += 4;
+        System.arraycopy(element, 0, bytes, idx, element.length);
+        idx += element.length;
+      } else {
+        ByteConverter.int4(bytes, idx, -1);
+        idx += 4;
+      }
+    }
+  }
+
   private static final AbstractArrayEncoder<Object[]> OBJECT_ARRAY = new AbstractArrayEncoder<Object[]>(0, 0) {
 
     @Override
@@ -1002,7 +1223,7 @@ public void appendArray(StringBuilder sb, char delim, Object[] array) {
 
   @SuppressWarnings("rawtypes")
   private static final Map<Class, AbstractArrayEncoder> ARRAY_CLASS_TO_ENCODER = new HashMap<>(
-      (int) (14 / .75) + 1);
+      (int) (19 / .75) + 1);
 
   static {
     ARRAY_CLASS_TO_ENCODER.put(long.class, LONG_ARRAY);
@@ -1019,6 +1240,11 @@ public void appendArray(StringBuilder sb, char delim, Object[] array) {
     ARRAY_CLASS_TO_ENCODER.put(Boolean.class, BOOLEAN_OBJ_ARRAY);
     ARRAY_CLASS_TO_ENCODER.put(byte[].class, BYTEA_ARRAY);
     ARRAY_CLASS_TO_ENCODER.put(String.class, STRING_ARRAY);
+    ARRAY_CLASS_TO_ENCODER.put(UUID.class, UUID_ARRAY);
+    ARRAY_CLASS_TO_ENCODER.put(BigDecimal.class, BIG_DECIMAL_ARRAY);
+    ARRAY_CLASS_TO_ENCODER.put(LocalDate.class, LOCAL_DATE_ARRAY);
+    ARRAY_CLASS_TO_ENCODER.put(LocalDateTime.class, LOCAL_DATE_TIME_ARRAY);
+    ARRAY_CLASS_TO_ENCODER.put(OffsetDateTime.class, OFFSET_DATE_TIME_ARRAY);
   }
 
   /**
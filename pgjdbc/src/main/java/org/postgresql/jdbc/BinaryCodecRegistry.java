@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.codec.BinaryCodec;
+import org.postgresql.core.Oid;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds the {@link BinaryCodec} instances of a connection, keyed by the resolved type oid and by
+ * the Java class of the values.
+ */
+class BinaryCodecRegistry {
+  private static final Logger LOGGER = Logger.getLogger(BinaryCodecRegistry.class.getName());
+
+  /**
+   * Codecs discovered per classloader. The lists are weakly referenced and kept reachable by the
+   * connections that use them, so the services of a classloader are loaded once while it has
+   * connections, and a web application classloader can still be garbage collected.
+   */
+  private static final Map<ClassLoader, WeakReference<List<BinaryCodec<?>>>> DISCOVERED =
+      new WeakHashMap<>();
+
+  private final Map<Integer, BinaryCodec<?>> codecsByOid = new ConcurrentHashMap<>();
+
+  /**
+   * Oid to use for values of a given class, {@link Oid#UNSPECIFIED} when no codec handles it.
+   * Negative results are cached as well so unrelated parameter types pay a single lookup.
+   */
+  private final Map<Class<?>, Integer> oidsByClass = new ConcurrentHashMap<>();
+
+  /**
+   * Registers the codec for the given oid. A codec registered earlier for the same oid or for the
+   * same Java class is replaced.
+   *
+   * @param oid resolved oid of {@link BinaryCodec#getTypeName()}
+   * @param codec the codec
+   */
+  synchronized void register(int oid, BinaryCodec<?> codec) {
+    Class<?> javaType = codec.getJavaType();
+    codecsByOid.values().removeIf(existing -> existing.getJavaType() == javaType);
+    codecsByOid.put(oid, codec);
+    oidsByClass.clear();
+  }
+
+  @Nullable BinaryCodec<?> getCodec(int oid) {
+    if (codecsByOid.isEmpty()) {
+      return null;
+    }
+    return codecsByOid.get(oid);
+  }
+
+  /**
+   * Returns the oid of the codec that encodes the given value. A codec for the exact class of the
+   * value wins over codecs for its superclasses and interfaces.
+   *
+   * @param value the value to encode
+   * @return the oid of the codec or {@link Oid#UNSPECIFIED} if no codec handles the value
+   */
+  int getOid(Object value) {
+    if (codecsByOid.isEmpty()) {
+      return Oid.UNSPECIFIED;
+    }
+    Class<?> klass = value.getClass();
+    Integer oid = oidsByClass.get(klass);
+    if (oid == null) {
+      oid = findOid(klass);
+      oidsByClass.put(klass, oid);
+    }
+    return oid;
+  }
+
+  private int findOid(Class<?> klass) {
+    int assignableOid = Oid.UNSPECIFIED;
+    for (Map.Entry<Integer, BinaryCodec<?>> entry : codecsByOid.entrySet()) {
+      Class<?> javaType = entry.getValue().getJavaType();
+      if (javaType == klass) {
+        return entry.getKey();
+      }
+      if (assignableOid == Oid.UNSPECIFIED && javaType.isAssignableFrom(klass)) {
+        assignableOid = entry.getKey();
+      }
+    }
+    return assignableOid;
+  }
+
+  /**
+   * Loads the codecs listed in {@code META-INF/services/org.postgresql.codec.BinaryCodec} by each
+   * of the classloaders. The services of a classloader are only loaded once and the codec
+   * instances are shared by the connections. Codecs that fail to load are logged and skipped.
+   *
+   * @param classLoaders classloaders to search
+   * @return the discovered codecs of each classloader that has any, in the order of the
+   *     classloaders
+   */
+  static List<List<BinaryCodec<?>>> discover(List<ClassLoader> classLoaders) {
+    List<List<BinaryCodec<?>>> result = new ArrayList<>(classLoaders.size());
+    for (ClassLoader classLoader : classLoaders) {
+      List<BinaryCodec<?>> codecs = discover(classLoader);
+      if (!codecs.isEmpty()) {
+        result.add(codecs);
+      }
+    }
+    return result;
+  }
+
+  private static List<BinaryCodec<?>> discover(ClassLoader classLoader) {
+    synchronized (DISCOVERED) {
+      WeakReference<List<BinaryCodec<?>>> ref = DISCOVERED.get(classLoader);
+      List<BinaryCodec<?>> codecs = ref == null ? null : ref.get();
+      if (codecs == null) {
+        codecs = load(classLoader);
+        DISCOVERED.put(classLoader, new WeakReference<>(codecs));
+      }
+      return codecs;
+    }
+  }
+
+  private static List<BinaryCodec<?>> load(ClassLoader classLoader) {
+    List<BinaryCodec<?>> codecs = new ArrayList<>();
+    @SuppressWarnings("rawtypes")
+    Iterator<BinaryCodec> it = ServiceLoader.load(BinaryCodec.class, classLoader).iterator();
+    while (true) {
+      try {
+        if (!it.hasNext()) {
+          break;
+        }
+        codecs.add(it.next());
+      } catch (ServiceConfigurationError e) {
+        LOGGER.log(Level.WARNING, "Unable to load binary codec", e);
+      }
+    }
+    // the empty list is a constant, so classloaders without codecs stay cached
+    return codecs.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(codecs);
+  }
+}
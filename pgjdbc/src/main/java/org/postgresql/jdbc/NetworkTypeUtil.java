@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+/**
+ * Helper class to convert the binary representation of PostgreSQL network types ({@code inet},
+ * {@code cidr}, {@code macaddr} and {@code macaddr8}) to the same text the server produces.
+ */
+class NetworkTypeUtil {
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  // Address families as sent by the server, see PGSQL_AF_INET in utils/inet.h
+  private static final int PGSQL_AF_INET = 2;
+  private static final int PGSQL_AF_INET6 = 3;
+
+  private NetworkTypeUtil() {
+  }
+
+  /**
+   * Converts binary {@code inet} or {@code cidr} to string. The layout is family, number of mask
+   * bits, cidr flag, number of address bytes and the address bytes.
+   *
+   * @param value binary representation of {@code inet} or {@code cidr}
+   * @return string representation, e.g. {@code 192.168.0.1/24} or {@code ::1}
+   * @throws PSQLException if the value is malformed
+   */
+  static String toStringInet(byte[] value) throws PSQLException {
+    if (value.length < 4 || value.length != 4 + (value[3] & 0xFF)) {
+      throw invalidValue("inet", value.length);
+    }
+    int family = value[0];
+    int bits = value[1] & 0xFF;
+    boolean cidr = value[2] != 0;
+    StringBuilder sb = new StringBuilder(value.length * 3 + 4);
+    int maxBits;
+    if (family == PGSQL_AF_INET && value.length == 8) {
+      maxBits = 32;
+      appendIpv4(sb, value, 4);
+    } else if (family == PGSQL_AF_INET6 && value.length == 20) {
+      maxBits = 128;
+      appendIpv6(sb, value, 4);
+    } else {
+      throw invalidValue("inet", value.length);
+    }
+    // inet omits the mask length for host addresses, cidr always includes it
+    if (cidr || bits != maxBits) {
+      sb.append('/').append(bits);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Converts binary {@code macaddr} or {@code macaddr8} to string.
+   *
+   * @param value binary representation of {@code macaddr} or {@code macaddr8}
+   * @return string representation, e.g. {@code 08:00:2b:01:02:03}
+   */
+  static String toStringMacaddr(byte[] value) {
+    StringBuilder sb = new StringBuilder(value.length * 3);
+    for (int i = 0; i < value.length; i++) {
+      if (i != 0) {
+        sb.append(':');
+      }
+      sb.append(HEX_DIGITS[(value[i] >> 4) & 0xF]).append(HEX_DIGITS[value[i] & 0xF]);
+    }
+    return sb.toString();
+  }
+
+  private static void appendIpv4(StringBuilder sb, byte[] value, int offset) {
+    for (int i = 0; i < 4; i++) {
+      if (i != 0) {
+        sb.append('.');
+      }
+      sb.append(value[offset + i] & 0xFF);
+    }
+  }
+
+  /**
+   * Appends an IPv6 address the way the server's {@code inet_net_ntop} does: the longest run of
+   * at least two zero words is replaced with {@code ::}, and IPv4-compatible or IPv4-mapped
+   * addresses end in dotted decimal.
+   */
+  private static void appendIpv6(StringBuilder sb, byte[] value, int offset) {
+    int[] words = new int[8];
+    for (int i = 0; i < 8; i++) {
+      words[i] = ((value[offset + 2 * i] & 0xFF) << 8) | (value[offset + 2 * i + 1] & 0xFF);
+    }
+    int bestBase = -1;
+    int bestLen = 0;
+    int curBase = -1;
+    for (int i = 0; i <= 8; i++) {
+      if (i < 8 && words[i] == 0) {
+        if (curBase == -1) {
+          curBase = i;
+        }
+      } else if (curBase != -1) {
+        if (i - curBase > bestLen) {
+          bestBase = curBase;
+          bestLen = i - curBase;
+        }
+        curBase = -1;
+      }
+    }
+    if (bestLen < 2) {
+      bestBase = -1;
+    }
+
+    for (int i = 0; i < 8; i++) {
+      if (bestBase != -1 && i >= bestBase && i < bestBase + bestLen) {
+        if (i == bestBase) {
+          sb.append(':');
+        }
+        continue;
+      }
+      if (i != 0) {
+        sb.append(':');
+      }
+      if (i == 6 && bestBase == 0 && (bestLen == 6 || (bestLen == 5 && words[5] == 0xffff))) {
+        appendIpv4(sb, value, offset + 12);
+        return;
+      }
+      sb.append(Integer.toHexString(words[i]));
+    }
+    if (bestBase != -1 && bestBase + bestLen == 8) {
+      sb.append(':');
+    }
+  }
+
+  private static PSQLException invalidValue(String type, int length) {
+    return new PSQLException(
+        GT.tr("Invalid binary {0} value of length {1}", type, length),
+        PSQLState.DATA_ERROR);
+  }
+}
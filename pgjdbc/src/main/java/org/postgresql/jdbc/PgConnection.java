@@ -10,20 +10,26 @@
 import org.postgresql.Driver;
 import org.postgresql.PGNotification;
 import org.postgresql.PGProperty;
+import org.postgresql.codec.BinaryCodec;
 import org.postgresql.copy.CopyManager;
 import org.postgresql.core.BaseConnection;
 import org.postgresql.core.BaseStatement;
 import org.postgresql.core.CachedQuery;
 import org.postgresql.core.ConnectionFactory;
 import org.postgresql.core.Encoding;
+import org.postgresql.core.MetaDataResultCache;
 import org.postgresql.core.Oid;
+import org.postgresql.core.ParameterList;
+import org.postgresql.core.Parser;
 import org.postgresql.core.ProtocolVersion;
 import org.postgresql.core.Query;
 import org.postgresql.core.QueryExecutor;
 import org.postgresql.core.ReplicationProtocol;
 import org.postgresql.core.ResultHandlerBase;
 import org.postgresql.core.ServerVersion;
+import org.postgresql.core.SharedTypeCatalog;
 import org.postgresql.core.SqlCommand;
+import org.postgresql.core.StatementDescriptionCache;
 import org.postgresql.core.TransactionState;
 import org.postgresql.core.TypeInfo;
 import org.postgresql.core.Utils;
@@ -85,11 +91,13 @@
 import java.sql.Statement;
 import java.sql.Struct;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -180,6 +188,8 @@ private enum ReadOnlyBehavior {
 
   // Default statement prepare threshold.
   protected int prepareThreshold;
+  // Decide per statement when to prepare it, see PGProperty#ADAPTIVE_PREPARE_THRESHOLD
+  private final boolean adaptivePrepareThreshold;
 
   /**
    * Default fetch size for statement.
@@ -203,6 +213,17 @@ private enum ReadOnlyBehavior {
    */
   private final Set<? extends Integer> binaryDisabledOids;
 
+  /**
+   * Codecs for extension and user-defined types.
+   */
+  private final BinaryCodecRegistry binaryCodecs = new BinaryCodecRegistry();
+  /**
+   * Codecs listed in {@code META-INF/services}, per classloader. They are registered on the first
+   * codec lookup, see {@link #registerDiscoveredBinaryCodecs()}.
+   */
+  private List<List<BinaryCodec<?>>> discoveredBinaryCodecs = Collections.emptyList();
+  private volatile boolean discoveredBinaryCodecsRegistered;
+
   private int rsHoldability = ResultSet.CLOSE_CURSORS_AT_COMMIT;
   private int savepointId;
   // Connection's autocommit state.
@@ -211,12 +232,22 @@ private enum ReadOnlyBehavior {
   private boolean readOnly;
   // Filter out database objects for which the current user has no privileges granted from the DatabaseMetaData
   private final boolean  hideUnprivilegedObjects ;
+  // Maximum number of shared DatabaseMetaData results, 0 when the shared cache is disabled
+  private int metaDataCacheResults;
+  private final int metaDataCacheTtl;
+  private @Nullable MetaDataResultCache metaDataResultCache;
+  private @Nullable QueryResultCache queryResultCache;
+  private boolean setConfigCalled;
+  // "<system identifier>/<database oid>", queried on first use
+  private @Nullable String databaseIdentity;
   // Whether to include error details in logging and exceptions
   private final boolean logServerErrorDetail;
   // Bind String to UNSPECIFIED or VARCHAR?
   private final boolean bindStringAsVarchar;
   // Convert boolean values to numeric types?
   private final boolean convertBooleanToNumeric;
+  // Maximum number of distinct values per result set column that are interned
+  private final int columnValueInterningLimit;
 
   // Current warnings; there might be more on queryExecutor too.
   private @Nullable SQLWarning firstWarning;
@@ -228,6 +259,7 @@ private enum ReadOnlyBehavior {
   private final boolean replicationConnection;
 
   private final LruCache<FieldMetadata.Key, FieldMetadata> fieldMetadataCache;
+  private final @Nullable SharedFieldMetadataCache sharedFieldMetadataCache;
 
   private final @Nullable String xmlFactoryFactoryClass;
   private @Nullable PGXmlFactoryFactory xmlFactoryFactory;
@@ -287,6 +319,7 @@ public PgConnection(HostSpec[] hostSpecs,
     setQueryTimeout(PGProperty.QUERY_TIMEOUT.getInt(info));
 
     setPrepareThreshold(PGProperty.PREPARE_THRESHOLD.getInt(info));
+    adaptivePrepareThreshold = PGProperty.ADAPTIVE_PREPARE_THRESHOLD.getBoolean(info);
     if (prepareThreshold == -1) {
       setForceBinary(true);
     }
@@ -312,6 +345,8 @@ public PgConnection(HostSpec[] hostSpecs,
       }
 
       this.hideUnprivilegedObjects = PGProperty.HIDE_UNPRIVILEGED_OBJECTS.getBoolean(info);
+      this.metaDataCacheResults = PGProperty.DATABASE_METADATA_CACHE_RESULTS.getInt(info);
+      this.metaDataCacheTtl = PGProperty.DATABASE_METADATA_CACHE_TTL.getInt(info);
 
       // Default is true: DDL transparently invalidates the prepared-statement
       // cache so the driver re-prepares server plans rather than surfacing
@@ -338,6 +373,12 @@ public PgConnection(HostSpec[] hostSpecs,
        */
       useBinarySendForOids.remove(Oid.DATE);
 
+      /*
+       * Text booleans can be read with getInt(), getString() and friends as 't' or 'f', and
+       * convertBooleanToNumeric relies on that, so booleans are only sent in binary.
+       */
+      useBinaryReceiveForOids.remove(Oid.BOOL);
+
       queryExecutor.setBinaryReceiveOids(useBinaryReceiveForOids);
       queryExecutor.setBinarySendOids(useBinarySendForOids);
 
@@ -382,7 +423,22 @@ public PgConnection(HostSpec[] hostSpecs,
       @SuppressWarnings("argument")
       TypeInfo typeCache = createTypeInfo(this, unknownLength);
       this.typeCache = typeCache;
+      if (PGProperty.SHARED_TYPE_CACHE.getBoolean(info) && typeCache instanceof TypeInfoCache
+          && PGProperty.REPLICATION.getOrDefault(info) == null) {
+        initSharedTypeCatalog((TypeInfoCache) typeCache);
+      }
+      if (PGProperty.PRELOAD_TYPES.getBoolean(info) && typeCache instanceof TypeInfoCache
+          && PGProperty.REPLICATION.getOrDefault(info) == null) {
+        ((TypeInfoCache) typeCache).preloadTypes();
+      }
+      if (PGProperty.SHARED_STATEMENT_DESCRIPTIONS.getBoolean(info)
+          && PGProperty.REPLICATION.getOrDefault(info) == null
+          && getPreferQueryMode() != PreferQueryMode.SIMPLE) {
+        initSharedStatementDescriptions(PGProperty.PREPARED_STATEMENT_CACHE_QUERIES.getInt(info));
+      }
       initObjectTypes(info);
+      discoveredBinaryCodecs = BinaryCodecRegistry.discover(classLoaderStrategy.classLoaders(
+          getClass().getClassLoader(), Thread.currentThread().getContextClassLoader()));
 
       if (PGProperty.LOG_UNCLOSED_CONNECTIONS.getBoolean(info)) {
         openStackTrace = new Throwable("Connection was created at this point:");
@@ -391,6 +447,7 @@ public PgConnection(HostSpec[] hostSpecs,
       this.logServerErrorDetail = PGProperty.LOG_SERVER_ERROR_DETAIL.getBoolean(info);
       this.disableColumnSanitiser = PGProperty.DISABLE_COLUMN_SANITISER.getBoolean(info);
       this.convertBooleanToNumeric = PGProperty.CONVERT_BOOLEAN_TO_NUMERIC.getBoolean(info);
+      this.columnValueInterningLimit = PGProperty.COLUMN_VALUE_INTERNING_LIMIT.getInt(info);
 
       if (haveMinimumServerVersion(ServerVersion.v8_3)) {
         typeCache.addCoreType("uuid", Oid.UUID, Types.OTHER, "java.util.UUID", Oid.UUID_ARRAY);
@@ -406,15 +463,46 @@ public PgConnection(HostSpec[] hostSpecs,
         this.clientInfo.put("ApplicationName", appName);
       }
 
-      fieldMetadataCache = new LruCache<>(
-          Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS.getInt(info)),
-          Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS_MIB.getInt(info) * 1024L * 1024L),
-          false);
+      int metadataCacheFields = Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS.getInt(info));
+      long metadataCacheBytes =
+          Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS_MIB.getInt(info) * 1024L * 1024L);
+      String databaseIdentity = null;
+      if (PGProperty.SHARED_FIELD_METADATA_CACHE.getBoolean(info)
+          && PGProperty.REPLICATION.getOrDefault(info) == null) {
+        databaseIdentity = getDatabaseIdentity();
+        if (databaseIdentity == null) {
+          LOGGER.log(Level.FINE, "sharedFieldMetadataCache requires PostgreSQL 9.6 or later, ignoring it");
+        }
+      }
+      if (databaseIdentity != null) {
+        sharedFieldMetadataCache = SharedFieldMetadataCache.forDatabase(databaseIdentity,
+            metadataCacheFields, metadataCacheBytes);
+        fieldMetadataCache = sharedFieldMetadataCache.getCache();
+      } else {
+        sharedFieldMetadataCache = null;
+        fieldMetadataCache = new LruCache<>(metadataCacheFields, metadataCacheBytes, false);
+      }
 
       replicationConnection = PGProperty.REPLICATION.getOrDefault(info) != null;
 
       xmlFactoryFactoryClass = PGProperty.XML_FACTORY_FACTORY.getOrDefault(info);
       cleanable = LazyCleanerImpl.getInstance().register(leakHandle, finalizeAction);
+
+      // Attach the DatabaseMetaData cache right away, so that the catalog changes this connection
+      // makes invalidate it before it calls DatabaseMetaData
+      if (metaDataCacheResults > 0 && !replicationConnection) {
+        getMetaDataResultCache();
+      }
+
+      int resultCacheMiB = PGProperty.RESULT_CACHE_SIZE_MIB.getInt(info);
+      if (resultCacheMiB > 0 && !replicationConnection) {
+        initQueryResultCache(hostSpecs, info, url, resultCacheMiB * 1024L * 1024L);
+      }
+
+      String warmUpStatements = PGProperty.WARM_UP_STATEMENTS.getOrDefault(info);
+      if (warmUpStatements != null && !replicationConnection) {
+        warmUpStatements(warmUpStatements);
+      }
     } catch (SQLException | RuntimeException | Error e) {
       // close() is idempotent (QueryExecutorBase.close checks isClosed), so this is a safe no-op
       // if a setup step already closed the executor.
@@ -467,7 +555,16 @@ private static Set<Integer> getSupportedBinaryOids() {
         Oid.TEXT_ARRAY,
         Oid.POINT,
         Oid.BOX,
-        Oid.UUID));
+        Oid.UUID,
+        Oid.BOOL,
+        Oid.OID,
+        Oid.NAME,
+        Oid.JSONB,
+        Oid.INTERVAL,
+        Oid.INET,
+        Oid.CIDR,
+        Oid.MACADDR,
+        Oid.MACADDR8));
   }
 
   /**
@@ -854,6 +951,301 @@ public void addDataType(String type, Class<? extends PGobject> klass) throws SQL
     }
   }
 
+  @Override
+  public void addBinaryCodec(BinaryCodec<?> codec) throws SQLException {
+    checkClosed();
+    // the codec replaces a discovered codec for the same type, so register those first
+    registerDiscoveredBinaryCodecs();
+    String type = codec.getTypeName();
+    int oid = typeCache.getPGType(type);
+    if (oid == Oid.UNSPECIFIED) {
+      throw new PSQLException(GT.tr("Unknown type {0}.", type),
+          PSQLState.INVALID_PARAMETER_TYPE);
+    }
+    registerBinaryCodec(oid, codec);
+  }
+
+  private void registerBinaryCodec(int oid, BinaryCodec<?> codec) {
+    binaryCodecs.register(oid, codec);
+    if (getPreferQueryMode() != PreferQueryMode.SIMPLE && !binaryDisabledOids.contains(oid)) {
+      queryExecutor.addBinaryReceiveOid(oid);
+      queryExecutor.addBinarySendOid(oid);
+    }
+  }
+
+  /**
+   * Registers the codecs listed in {@code META-INF/services} whose type exists in this database.
+   * This runs on the first codec lookup rather than when connecting, so connections that never
+   * use the codecs do not resolve their type names.
+   */
+  private void registerDiscoveredBinaryCodecs() throws SQLException {
+    if (discoveredBinaryCodecsRegistered) {
+      return;
+    }
+    // a codec class found by several classloaders is only registered once
+    Set<String> classNames = new HashSet<>();
+    for (List<BinaryCodec<?>> codecs : discoveredBinaryCodecs) {
+      for (BinaryCodec<?> codec : codecs) {
+        if (!classNames.add(codec.getClass().getName())) {
+          continue;
+        }
+        int oid = typeCache.getPGType(codec.getTypeName());
+        if (oid == Oid.UNSPECIFIED) {
+          LOGGER.log(Level.FINE, "Skipping binary codec {0}, type {1} does not exist",
+              new Object[]{codec.getClass().getName(), codec.getTypeName()});
+          continue;
+        }
+        registerBinaryCodec(oid, codec);
+      }
+    }
+    discoveredBinaryCodecsRegistered = true;
+  }
+
+  @Override
+  public @Nullable BinaryCodec<?> getBinaryCodec(int oid) throws SQLException {
+    BinaryCodec<?> codec = binaryCodecs.getCodec(oid);
+    if (codec == null && !discoveredBinaryCodecsRegistered) {
+      registerDiscoveredBinaryCodecs();
+      codec = binaryCodecs.getCodec(oid);
+    }
+    return codec;
+  }
+
+  @Override
+  public int getBinaryCodecOid(Object value) throws SQLException {
+    int oid = binaryCodecs.getOid(value);
+    if (oid == Oid.UNSPECIFIED && !discoveredBinaryCodecsRegistered) {
+      registerDiscoveredBinaryCodecs();
+      oid = binaryCodecs.getOid(value);
+    }
+    return oid;
+  }
+
+  /**
+   * Server-prepares the given statements and keeps them in the statement cache, so that their
+   * first executions already use named statements. All the statements are parsed and described in
+   * a single round trip, so a statement that fails to prepare aborts the ones after it. The failure
+   * is logged and leaves the connection usable, the statements that were not prepared are then
+   * prepared as usual once they reach {@code prepareThreshold}.
+   *
+   * @param sql statements separated by semicolons
+   */
+  private void warmUpStatements(String sql) {
+    if (prepareThreshold == 0 || getPreferQueryMode() == PreferQueryMode.SIMPLE) {
+      LOGGER.log(Level.FINE,
+          "warmUpStatements requires prepareThreshold > 0 and extended protocol, ignoring it");
+      return;
+    }
+    List<CachedQuery> cachedQueries = new ArrayList<>();
+    try {
+      for (String statement : Parser.splitStatements(sql, getStandardConformingStrings())) {
+        CachedQuery cachedQuery = borrowQuery(statement);
+        cachedQueries.add(cachedQuery);
+      }
+      List<Query> queries = new ArrayList<>(cachedQueries.size());
+      List<ParameterList> parameterLists = new ArrayList<>(cachedQueries.size());
+      for (CachedQuery cachedQuery : cachedQueries) {
+        // Statements such as "select 1; select 2" can not be server-prepared as a whole
+        if (cachedQuery.query.getSubqueries() == null && !cachedQuery.query.isEmpty()) {
+          queries.add(cachedQuery.query);
+          parameterLists.add(cachedQuery.query.createParameterList());
+        }
+      }
+      if (queries.isEmpty()) {
+        return;
+      }
+      Query[] queryArray = queries.toArray(new Query[0]);
+      ParameterList[] parameterArray = parameterLists.toArray(new ParameterList[0]);
+      try (PgStatement statement = (PgStatement) createStatement()) {
+        BatchResultHandler handler =
+            new BatchResultHandler(statement, queryArray, parameterArray, false);
+        queryExecutor.execute(queryArray, parameterArray, handler, 0, 0,
+            QueryExecutor.QUERY_DESCRIBE_ONLY | QueryExecutor.QUERY_SUPPRESS_BEGIN);
+      }
+      LOGGER.log(Level.FINE, "  warmed up {0} statements", queryArray.length);
+    } catch (SQLException e) {
+      LOGGER.log(Level.WARNING, "Could not prepare warmUpStatements", e);
+    } finally {
+      for (CachedQuery cachedQuery : cachedQueries) {
+        // Statements that precede a failing one are still prepared, and their next execution
+        // uses the named statement, see PgStatement.isOneShotQuery
+        if (cachedQuery.query.isStatementDescribed()) {
+          cachedQuery.increaseExecuteCount(prepareThreshold);
+        }
+        releaseQuery(cachedQuery);
+      }
+    }
+  }
+
+  // Attaches the type catalog shared with the other connections to the same database
+  private void initSharedTypeCatalog(TypeInfoCache typeInfoCache) throws SQLException {
+    String databaseIdentity = getDatabaseIdentity();
+    if (databaseIdentity == null) {
+      LOGGER.log(Level.FINE, "sharedTypeCache requires PostgreSQL 9.6 or later, ignoring it");
+      return;
+    }
+    SharedTypeCatalog catalog = SharedTypeCatalog.forDatabase(databaseIdentity);
+    queryExecutor.setSharedTypeCatalog(catalog);
+    typeInfoCache.setSharedCatalog(catalog);
+  }
+
+  // Attaches the result cache shared with the other connections to the same database
+  private void initQueryResultCache(HostSpec[] hostSpecs, Properties info, String url,
+      long maxBytes) throws SQLException {
+    String databaseIdentity = getDatabaseIdentity();
+    if (databaseIdentity == null) {
+      LOGGER.log(Level.FINE, "resultCacheSizeMiB requires PostgreSQL 9.6 or later, ignoring it");
+      return;
+    }
+    String channel = PGProperty.RESULT_CACHE_NOTIFY_CHANNEL.getOrDefault(info);
+    String key = databaseIdentity + "/" + getCurrentUser() + "/" + getSearchPath() + "/" + channel;
+    QueryResultCache queryResultCache;
+    do {
+      queryResultCache = QueryResultCache.forDatabase(key, maxBytes,
+          PGProperty.RESULT_CACHE_TTL.getInt(info), channel);
+    } while (!queryResultCache.attach(hostSpecs, info, url));
+    finalizeAction.setQueryResultCache(queryResultCache);
+    this.queryResultCache = queryResultCache;
+  }
+
+  // Attaches the statement descriptions shared with the other connections to the same database
+  private void initSharedStatementDescriptions(int maxEntries) throws SQLException {
+    String databaseIdentity = getDatabaseIdentity();
+    if (databaseIdentity == null) {
+      LOGGER.log(Level.FINE, "sharedStatementDescriptions requires PostgreSQL 9.6 or later, ignoring it");
+      return;
+    }
+    String key = databaseIdentity + "/" + getUserName() + "/" + getSearchPath();
+    queryExecutor.setStatementDescriptionCache(
+        StatementDescriptionCache.forDatabase(key, Math.max(1, maxEntries)));
+  }
+
+  /**
+   * Returns an identifier of the database that is the same for all connections to it, including
+   * connections to its standbys: the system identifier of the cluster and the oid of the database.
+   *
+   * @return the identifier or null if the server is older than 9.6
+   * @throws SQLException if the identifier can not be queried
+   */
+  private @Nullable String getDatabaseIdentity() throws SQLException {
+    String databaseIdentity = this.databaseIdentity;
+    if (databaseIdentity != null || !haveMinimumServerVersion(ServerVersion.v9_6)) {
+      return databaseIdentity;
+    }
+    ResultSet rs = execSQLQuery("SELECT s.system_identifier, d.oid"
+        + " FROM pg_catalog.pg_control_system() s, pg_catalog.pg_database d"
+        + " WHERE d.datname = pg_catalog.current_database()");
+    if (rs.next()) {
+      databaseIdentity = rs.getString(1) + "/" + rs.getLong(2);
+    }
+    rs.close();
+    this.databaseIdentity = databaseIdentity;
+    return databaseIdentity;
+  }
+
+  /**
+   * Returns the cache of the results of the statements marked with
+   * {@link org.postgresql.PGStatement#setCacheResults(boolean)}.
+   *
+   * @return the cache or null if it is disabled
+   */
+  @Nullable QueryResultCache getQueryResultCache() {
+    return queryResultCache;
+  }
+
+  /**
+   * Returns the cache of the results of the statements marked with
+   * {@link org.postgresql.PGStatement#setCacheResults(boolean)} for an execution of a query. The
+   * cache is shared by the sessions that started with the same role and {@code search_path}, so it
+   * is not used once the session changed a setting the results might depend on. It is not used
+   * inside a transaction either, so that the transaction reads its own writes.
+   *
+   * @param query the query to execute
+   * @param cacheResults whether the statement asked to cache its results
+   * @return the cache or null if the execution must not use it
+   * @throws SQLException if the transaction state can not be read
+   */
+  @Nullable QueryResultCache getQueryResultCache(Query query, boolean cacheResults)
+      throws SQLException {
+    QueryResultCache queryResultCache = this.queryResultCache;
+    if (queryResultCache == null) {
+      return null;
+    }
+    // set_config() changes settings without a SET command tag, for instance the tenant of row
+    // level security policies
+    if (!setConfigCalled && containsSetConfig(query.getNativeSql())) {
+      setConfigCalled = true;
+    }
+    if (!cacheResults || setConfigCalled || queryExecutor.isSessionSettingsChanged()
+        || !getAutoCommit() || queryExecutor.getTransactionState() != TransactionState.IDLE) {
+      return null;
+    }
+    return queryResultCache;
+  }
+
+  private static boolean containsSetConfig(String sql) {
+    String needle = "set_config";
+    for (int i = 0, last = sql.length() - needle.length(); i <= last; i++) {
+      if (sql.regionMatches(true, i, needle, 0, needle.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the cache of {@link DatabaseMetaData} results shared with the other connections to the
+   * same database, creating it on first use. Connections share results only if they use the same
+   * current role, {@code search_path} and {@code hideUnprivilegedObjects} setting, so the cache is
+   * not used once the session changed its settings.
+   *
+   * @return the cache or null if it is disabled
+   * @throws SQLException if the database can not be identified
+   */
+  @Nullable MetaDataResultCache getMetaDataResultCache() throws SQLException {
+    if (metaDataCacheResults <= 0 || queryExecutor.isSessionSettingsChanged()) {
+      return null;
+    }
+    try (ResourceLock ignore = lock.obtain()) {
+      MetaDataResultCache metaDataResultCache = this.metaDataResultCache;
+      if (metaDataResultCache != null) {
+        return metaDataResultCache;
+      }
+      String databaseIdentity = getDatabaseIdentity();
+      if (databaseIdentity == null) {
+        LOGGER.log(Level.FINE, "databaseMetadataCacheResults requires PostgreSQL 9.6 or later, ignoring it");
+        metaDataCacheResults = 0;
+        return null;
+      }
+      String settings = getCurrentUser() + "/" + hideUnprivilegedObjects + "/" + getSearchPath();
+      metaDataResultCache = MetaDataResultCache.forDatabase(databaseIdentity, settings,
+          metaDataCacheResults, metaDataCacheTtl);
+      queryExecutor.setMetaDataResultCache(metaDataResultCache);
+      this.metaDataResultCache = metaDataResultCache;
+      return metaDataResultCache;
+    }
+  }
+
+  private String getCurrentUser() throws SQLException {
+    String currentUser = "";
+    ResultSet rs = execSQLQuery("SELECT current_user");
+    if (rs.next()) {
+      currentUser = castNonNull(rs.getString(1));
+    }
+    rs.close();
+    return currentUser;
+  }
+
+  private String getSearchPath() throws SQLException {
+    String searchPath = "";
+    ResultSet rs = execSQLQuery("SELECT pg_catalog.current_setting('search_path')");
+    if (rs.next()) {
+      searchPath = castNonNull(rs.getString(1));
+    }
+    rs.close();
+    return searchPath;
+  }
+
   // This initialises the objectTypes hash map
   private void initObjectTypes(Properties info) throws SQLException {
     // Add in the types that come packaged with the driver.
@@ -866,7 +1258,9 @@ private void initObjectTypes(Properties info) throws SQLException {
     addDataType("point", PGpoint.class);
     addDataType("polygon", PGpolygon.class);
     addDataType("money", PGmoney.class);
-    addDataType("interval", PGInterval.class);
+    // binary transfer of interval follows the binaryTransfer setting like the other built-in
+    // types, so it is not enabled here although PGInterval supports it
+    typeCache.addDataType("interval", PGInterval.class);
 
     Enumeration<?> e = info.propertyNames();
     while (e.hasMoreElements()) {
@@ -1287,6 +1681,10 @@ public int getPrepareThreshold() {
     return prepareThreshold;
   }
 
+  boolean getAdaptivePrepareThreshold() {
+    return adaptivePrepareThreshold;
+  }
+
   @Override
   public void setDefaultFetchSize(int fetchSize) throws SQLException {
     if (fetchSize < 0) {
@@ -1434,6 +1832,11 @@ public LruCache<FieldMetadata.Key, FieldMetadata> getFieldMetadataCache() {
     return fieldMetadataCache;
   }
 
+  @Override
+  public @Nullable SharedFieldMetadataCache getSharedFieldMetadataCache() {
+    return sharedFieldMetadataCache;
+  }
+
   @Override
   public PGReplicationConnection getReplicationAPI() {
     return new PGReplicationConnectionImpl(this);
@@ -1718,6 +2121,11 @@ public boolean getConvertBooleanToNumeric() {
     return convertBooleanToNumeric;
   }
 
+  @Override
+  public int getColumnValueInterningLimit() {
+    return columnValueInterningLimit;
+  }
+
   @Override
   public boolean isWrapperFor(Class<?> iface) throws SQLException {
     checkClosed();
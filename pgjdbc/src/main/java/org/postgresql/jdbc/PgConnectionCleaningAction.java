@@ -21,10 +21,11 @@
  * This class segregates the minimal resources required for proper cleanup in case
  * the connection has not been closed by the user code.
  *
- * <p>For now, it has two actions:</p>
+ * <p>For now, it has three actions:</p>
  * <ul>
  *   <li>Print stacktrace when the connection has been created, so users can identify the leak</li>
  *   <li>Release shared timer registration</li>
+ *   <li>Release the shared result cache registration</li>
  * </ul>
  */
 class PgConnectionCleaningAction implements LazyCleaner.CleaningAction<IOException> {
@@ -42,6 +43,11 @@ class PgConnectionCleaningAction implements LazyCleaner.CleaningAction<IOExcepti
    */
   private @Nullable Timer cancelTimer;
 
+  /**
+   * Result cache the connection is attached to, released along with the connection.
+   */
+  private @Nullable QueryResultCache queryResultCache;
+
   PgConnectionCleaningAction(
       ResourceLock lock,
       @Nullable Throwable openStackTrace,
@@ -71,6 +77,22 @@ public void releaseTimer() {
     }
   }
 
+  public void setQueryResultCache(QueryResultCache queryResultCache) {
+    try (ResourceLock ignore = lock.obtain()) {
+      this.queryResultCache = queryResultCache;
+    }
+  }
+
+  private void releaseQueryResultCache() {
+    try (ResourceLock ignore = lock.obtain()) {
+      QueryResultCache queryResultCache = this.queryResultCache;
+      if (queryResultCache != null) {
+        this.queryResultCache = null;
+        queryResultCache.release();
+      }
+    }
+  }
+
   public void purgeTimerTasks() {
     try (ResourceLock ignore = lock.obtain()) {
       Timer timer = cancelTimer;
@@ -87,6 +109,7 @@ public void onClean(boolean leak) throws IOException {
     }
     openStackTrace = null;
     releaseTimer();
+    releaseQueryResultCache();
     queryExecutorCloseAction.close();
   }
 }
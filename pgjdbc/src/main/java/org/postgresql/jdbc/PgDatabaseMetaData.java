@@ -10,6 +10,7 @@
 import org.postgresql.Driver;
 import org.postgresql.core.BaseStatement;
 import org.postgresql.core.Field;
+import org.postgresql.core.MetaDataResultCache;
 import org.postgresql.core.Oid;
 import org.postgresql.core.ServerVersion;
 import org.postgresql.core.Tuple;
@@ -1456,6 +1457,14 @@ public ResultSet getProcedureColumns(@Nullable String catalog, @Nullable String
   @Override
   public ResultSet getTables(@Nullable String catalog, @Nullable String schemaPattern,
       @Nullable String tableNamePattern, String @Nullable [] types) throws SQLException {
+    return cached(
+        Arrays.asList("getTables", catalog, schemaPattern, tableNamePattern,
+            types == null ? null : Arrays.asList(types)),
+        () -> getTablesUncached(catalog, schemaPattern, tableNamePattern, types));
+  }
+
+  private ResultSet getTablesUncached(@Nullable String catalog, @Nullable String schemaPattern,
+      @Nullable String tableNamePattern, String @Nullable [] types) throws SQLException {
     String orderby;
     String useSchemas = "SCHEMAS";
     int columns = 10;
@@ -1710,6 +1719,14 @@ public ResultSet getTableTypes() throws SQLException {
   public ResultSet getColumns(@Nullable String catalog, @Nullable String schemaPattern,
       @Nullable String tableNamePattern,
       @Nullable String columnNamePattern) throws SQLException {
+    return cached(
+        Arrays.asList("getColumns", catalog, schemaPattern, tableNamePattern, columnNamePattern),
+        () -> getColumnsUncached(catalog, schemaPattern, tableNamePattern, columnNamePattern));
+  }
+
+  private ResultSet getColumnsUncached(@Nullable String catalog, @Nullable String schemaPattern,
+      @Nullable String tableNamePattern,
+      @Nullable String columnNamePattern) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     int numberOfFields = 24; // JDBC4
@@ -2427,6 +2444,12 @@ public ResultSet getVersionColumns(
   @Override
   public ResultSet getPrimaryKeys(@Nullable String catalog, @Nullable String schema, String table)
       throws SQLException {
+    return cached(Arrays.asList("getPrimaryKeys", catalog, schema, table),
+        () -> getPrimaryKeysUncached(catalog, schema, table));
+  }
+
+  private ResultSet getPrimaryKeysUncached(@Nullable String catalog, @Nullable String schema,
+      String table) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     Field[] f = new Field[6];
@@ -2573,6 +2596,17 @@ protected ResultSet getImportedExportedKeys(
       @Nullable String primaryCatalog, @Nullable String primarySchema, @Nullable String primaryTable,
       @Nullable String foreignCatalog, @Nullable String foreignSchema, @Nullable String foreignTable)
           throws SQLException {
+    return cached(
+        Arrays.asList("getImportedExportedKeys", primaryCatalog, primarySchema, primaryTable,
+            foreignCatalog, foreignSchema, foreignTable),
+        () -> getImportedExportedKeysUncached(primaryCatalog, primarySchema, primaryTable,
+            foreignCatalog, foreignSchema, foreignTable));
+  }
+
+  private ResultSet getImportedExportedKeysUncached(
+      @Nullable String primaryCatalog, @Nullable String primarySchema, @Nullable String primaryTable,
+      @Nullable String foreignCatalog, @Nullable String foreignSchema, @Nullable String foreignTable)
+          throws SQLException {
 
     Field[] f = new Field[14];
     List<Tuple> v = new ArrayList<>(); // The new ResultSet tuple stuff
@@ -2715,6 +2749,10 @@ public ResultSet getCrossReference(
 
   @Override
   public ResultSet getTypeInfo() throws SQLException {
+    return cached(Collections.singletonList("getTypeInfo"), this::getTypeInfoUncached);
+  }
+
+  private ResultSet getTypeInfoUncached() throws SQLException {
 
     Field[] f = new Field[18];
     List<Tuple> v = new ArrayList<>(); // The new ResultSet tuple stuff
@@ -2846,6 +2884,13 @@ public int compare(Tuple o1, Tuple o2) {
   public ResultSet getIndexInfo(
       @Nullable String catalog, @Nullable String schema, String tableName,
       boolean unique, boolean approximate) throws SQLException {
+    return cached(Arrays.asList("getIndexInfo", catalog, schema, tableName, unique, approximate),
+        () -> getIndexInfoUncached(catalog, schema, tableName, unique, approximate));
+  }
+
+  private ResultSet getIndexInfoUncached(
+      @Nullable String catalog, @Nullable String schema, String tableName,
+      boolean unique, boolean approximate) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     Field[] f = new Field[14];
@@ -3176,6 +3221,45 @@ public Connection getConnection() throws SQLException {
     return connection;
   }
 
+  /**
+   * Computes the result of a metadata call.
+   */
+  private interface MetaDataQuery {
+    ResultSet execute() throws SQLException;
+  }
+
+  /**
+   * Returns the result of a metadata call from the cache shared with the other connections to the
+   * database, or computes it and caches it if the result set holds all the rows.
+   *
+   * @param call the metadata method and its arguments
+   * @param query computes the result
+   * @return the result set
+   * @throws SQLException if the result can not be computed
+   */
+  private ResultSet cached(List<?> call, MetaDataQuery query) throws SQLException {
+    MetaDataResultCache cache = connection.getMetaDataResultCache();
+    if (cache == null) {
+      return query.execute();
+    }
+    MetaDataResultCache.Result result = cache.get(call);
+    if (result != null) {
+      return ((BaseStatement) createMetaDataStatement())
+          .createDriverResultSet(result.getFields(), result.getRows());
+    }
+    long epoch = cache.getEpoch();
+    ResultSet rs = query.execute();
+    if (rs instanceof PgResultSet) {
+      PgResultSet pgRs = (PgResultSet) rs;
+      List<Tuple> rows = pgRs.rows;
+      // with a fetch size the result set holds only the first rows
+      if (pgRs.cursor == null && rows != null) {
+        cache.put(epoch, call, pgRs.fields, rows);
+      }
+    }
+    return rs;
+  }
+
   protected Statement createMetaDataStatement() throws SQLException {
     Statement statement = connection.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
         ResultSet.CONCUR_READ_ONLY);
@@ -8,6 +8,7 @@
 import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.Driver;
+import org.postgresql.codec.BinaryCodec;
 import org.postgresql.core.BaseConnection;
 import org.postgresql.core.CachedQuery;
 import org.postgresql.core.Oid;
@@ -305,6 +306,10 @@ public void setNull(int parameterIndex, int sqlType) throws SQLException {
   @Override
   public void setBoolean(@Positive int parameterIndex, boolean x) throws SQLException {
     checkClosed();
+    if (connection.binaryTransferSend(Oid.BOOL)) {
+      bindBytes(parameterIndex, new byte[]{(byte) (x ? 1 : 0)}, Oid.BOOL);
+      return;
+    }
     // The key words TRUE and FALSE are the preferred (SQL-compliant) usage.
     bindLiteral(parameterIndex, x ? "TRUE" : "FALSE", Oid.BOOL);
   }
@@ -544,6 +549,29 @@ private void setPGobject(@Positive int parameterIndex, PGobject x) throws SQLExc
     }
   }
 
+  private void setBinaryCodecValue(@Positive int parameterIndex, Object x) throws SQLException {
+    int oid = connection.getBinaryCodecOid(x);
+    BinaryCodec<?> codec = castNonNull(connection.getBinaryCodec(oid));
+    if (connection.binaryTransferSend(oid)) {
+      bindBytes(parameterIndex, encodeBinary(codec, x), oid);
+    } else {
+      setString(parameterIndex, encodeText(codec, x), oid);
+    }
+  }
+
+  private static <T extends @NonNull Object> byte[] encodeBinary(BinaryCodec<T> codec, Object x)
+      throws SQLException {
+    T value = codec.getJavaType().cast(x);
+    byte[] data = new byte[codec.lengthInBytes(value)];
+    codec.encodeBinary(value, data, 0);
+    return data;
+  }
+
+  private static <T extends @NonNull Object> String encodeText(BinaryCodec<T> codec, Object x)
+      throws SQLException {
+    return codec.encodeText(codec.getJavaType().cast(x));
+  }
+
   private void setMap(@Positive int parameterIndex, Map<?, ?> x) throws SQLException {
     int oid = connection.getTypeInfo().getPGType("hstore");
     if (oid == Oid.UNSPECIFIED) {
@@ -754,6 +782,20 @@ public void setObject(@Positive int parameterIndex, @Nullable Object in,
           setPGobject(parameterIndex, (PGobject) in);
         } else if (in instanceof Map) {
           setMap(parameterIndex, (Map<?, ?>) in);
+        } else if (in instanceof InputStream) {
+          // UTF-8 text such as a json document, the server infers the type from the context
+          if (scale >= 0) {
+            preparedParameters.setText(parameterIndex, (InputStream) in, scale, Oid.UNSPECIFIED);
+          } else {
+            preparedParameters.setText(parameterIndex, (InputStream) in, Oid.UNSPECIFIED);
+          }
+        } else if (in instanceof ByteStreamWriter) {
+          preparedParameters.setText(parameterIndex, (ByteStreamWriter) in, Oid.UNSPECIFIED);
+        } else if (!(in instanceof String)
+            && connection.getBinaryCodecOid(in) != Oid.UNSPECIFIED) {
+          // codecs only bind the types the driver does not handle itself, as a codec for a
+          // supertype such as String, Number or Object would otherwise take over them
+          setBinaryCodecValue(parameterIndex, in);
         } else {
           bindString(parameterIndex, in.toString(), Oid.UNSPECIFIED);
         }
@@ -1084,6 +1126,10 @@ public void setObject(@Positive int parameterIndex, @Nullable Object x) throws S
             GT.tr("Cannot cast an instance of {0} to type {1}", x.getClass().getName(), "Types.ARRAY"),
             PSQLState.INVALID_PARAMETER_TYPE, e);
       }
+    } else if (connection.getBinaryCodecOid(x) != Oid.UNSPECIFIED) {
+      // codecs only bind the types the driver does not handle itself, as a codec for a supertype
+      // such as String, Number or Object would otherwise take over them
+      setBinaryCodecValue(parameterIndex, x);
     } else {
       // Can't infer a type.
       throw new PSQLException(GT.tr(
@@ -10,8 +10,10 @@
 import org.postgresql.Driver;
 import org.postgresql.PGRefCursorResultSet;
 import org.postgresql.PGResultSetMetaData;
+import org.postgresql.codec.BinaryCodec;
 import org.postgresql.core.BaseConnection;
 import org.postgresql.core.BaseStatement;
+import org.postgresql.core.ColumnValueInterner;
 import org.postgresql.core.Encoding;
 import org.postgresql.core.Field;
 import org.postgresql.core.Oid;
@@ -73,9 +75,11 @@
 import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Statement;
+import java.sql.Struct;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -263,6 +267,22 @@ public URL getURL(String columnName) throws SQLException {
         return getBlob(columnIndex);
 
       default:
+        BinaryCodec<?> codec = connection.getBinaryCodec(field.getOID());
+        if (codec != null) {
+          if (isBinary(columnIndex)) {
+            byte[] value = castNonNull(thisRow.get(columnIndex - 1));
+            return codec.decodeBinary(value, 0, value.length);
+          }
+          return codec.decodeText(castNonNull(getString(columnIndex)));
+        }
+
+        if (isBinary(columnIndex)
+            && (field.getOID() == Oid.RECORD || getSQLType(columnIndex) == Types.STRUCT)) {
+          byte[] value = castNonNull(thisRow.get(columnIndex - 1));
+          return StructDecoding.readBinaryStruct(connection, field.getOID(), value, 0,
+              value.length);
+        }
+
         String type = getPGType(columnIndex);
 
         // if the backend doesn't know the type then coerce to String
@@ -478,10 +498,23 @@ protected Blob makeBlob(long oid) throws SQLException {
 
   @Override
   public @Nullable Reader getCharacterStream(int i) throws SQLException {
-    String value = getString(i);
-    if (value == null) {
+    byte[] rawValue = getRawValue(i);
+    if (rawValue == null) {
       return null;
     }
+    // json documents can be large, so decode them on the fly instead of building a String
+    InputStream json = getJsonStream(i, rawValue);
+    if (json != null) {
+      try {
+        return connection.getEncoding().getDecodingReader(json);
+      } catch (IOException ioe) {
+        throw new PSQLException(
+            GT.tr(
+                "Invalid character data was found.  This is most likely caused by stored data containing characters that are invalid for the character set the database was created in.  The most common example of this is storing 8bit data in a SQL_ASCII database."),
+            PSQLState.DATA_ERROR, ioe);
+      }
+    }
+    String value = castNonNull(getString(i));
 
     // Version 7.2 supports AsciiStream for all the PG text types
     // As the spec/javadoc for this method indicate this is to be used for
@@ -701,6 +734,39 @@ public int getConcurrency() throws SQLException {
         PSQLState.DATA_TYPE_MISMATCH);
   }
 
+  private @Nullable Instant getInstant(int i) throws SQLException {
+    byte[] value = getRawValue(i);
+    if (value == null) {
+      return null;
+    }
+
+    int oid = fields[i - 1].getOID();
+    if (oid == Oid.TIMESTAMPTZ || oid == Oid.TIMESTAMP) {
+      if (isBinary(i)) {
+        return getTimestampUtils().toInstantBin(value);
+      }
+      return getTimestampUtils().toOffsetDateTime(value).toInstant();
+    }
+
+    throw new PSQLException(
+        GT.tr("Cannot convert the column of type {0} to requested type {1}.",
+            Oid.toString(oid), "java.time.Instant"),
+        PSQLState.DATA_TYPE_MISMATCH);
+  }
+
+  private @Nullable Object getPrimitiveArray(int i, Class<?> type) throws SQLException {
+    byte[] value = getRawValue(i);
+    if (value == null) {
+      return null;
+    }
+
+    if (isBinary(i)) {
+      // decode straight into the primitive array, without a wrapper object per element
+      return ArrayDecoding.readBinaryPrimitiveArray(type, value);
+    }
+    return ArrayDecoding.toPrimitiveArray(type, castNonNull(getArray(i)).getArray());
+  }
+
   private @Nullable OffsetTime getOffsetTime(int i) throws SQLException {
     byte[] value = getRawValue(i);
     if (value == null) {
@@ -757,10 +823,8 @@ public int getConcurrency() throws SQLException {
     int oid = fields[col].getOID();
 
     if (isBinary(i)) {
-      if (oid == Oid.DATE) {
+      if (oid == Oid.DATE || oid == Oid.TIMESTAMP) {
         return getTimestampUtils().toLocalDateBin(value);
-      } else if (oid == Oid.TIMESTAMP) {
-        return getTimestampUtils().toLocalDateTimeBin(value).toLocalDate();
       }
     } else {
       // string
@@ -2436,6 +2500,11 @@ public boolean wasNull() throws SQLException {
           return ts.toString(ts.toLocalDateTimeBin(value));
         case Oid.TIMESTAMPTZ:
           return ts.toStringOffsetDateTime(value);
+        default:
+          String text = getBinaryText(field.getOID(), value);
+          if (text != null) {
+            return trimString(columnIndex, text);
+          }
       }
       // internalGetObject requires thisRow to be non-null
       castNonNull(thisRow, "thisRow");
@@ -2449,15 +2518,17 @@ public boolean wasNull() throws SQLException {
         }
         return obj.toString();
       }
-      if ("hstore".equals(getPGType(columnIndex))) {
+      if (obj instanceof Map && "hstore".equals(getPGType(columnIndex))) {
         return HStoreConverter.toString((Map<?, ?>) obj);
       }
       return trimString(columnIndex, obj.toString());
     }
 
     Encoding encoding = connection.getEncoding();
+    ColumnValueInterner interner = getColumnValueInterner(columnIndex);
     try {
-      return trimString(columnIndex, encoding.decode(value));
+      return trimString(columnIndex,
+          interner == null ? encoding.decode(value) : interner.getString(value, encoding));
     } catch (IOException ioe) {
       throw new PSQLException(
           GT.tr(
@@ -2466,6 +2537,107 @@ public boolean wasNull() throws SQLException {
     }
   }
 
+  /**
+   * Returns the interner for a text column if {@code columnValueInterningLimit} is set.
+   */
+  private @Nullable ColumnValueInterner getColumnValueInterner(@Positive int columnIndex)
+      throws SQLException {
+    int limit = connection.getColumnValueInterningLimit();
+    if (limit <= 0) {
+      return null;
+    }
+    @Nullable ColumnValueInterner[] interners = columnValueInterners;
+    if (interners == null) {
+      interners = new ColumnValueInterner[fields.length];
+      columnValueInterners = interners;
+    }
+    ColumnValueInterner interner = interners[columnIndex - 1];
+    if (interner == null) {
+      int sqlType = getSQLType(columnIndex);
+      if (sqlType != Types.CHAR && sqlType != Types.VARCHAR && sqlType != Types.LONGVARCHAR) {
+        return null;
+      }
+      interner = new ColumnValueInterner(limit);
+      interners[columnIndex - 1] = interner;
+    }
+    return interner;
+  }
+
+  /**
+   * Binary jsonb is sent as a format version followed by the text of the document.
+   *
+   * @param value binary jsonb value
+   * @throws PSQLException if the format version is not supported
+   */
+  static void checkJsonbVersion(byte[] value) throws PSQLException {
+    if (value.length == 0 || value[0] != 1) {
+      throw new PSQLException(
+          GT.tr("Unsupported binary jsonb version {0}", value.length == 0 ? -1 : value[0]),
+          PSQLState.DATA_ERROR);
+    }
+  }
+
+  /**
+   * Returns the text of a {@code json} or {@code jsonb} value as a stream over the received bytes,
+   * without copying them.
+   *
+   * @param columnIndex the first column is 1, the second is 2, ...
+   * @param value the received value
+   * @return stream of the document in the connection encoding or null if the column is not json
+   * @throws PSQLException if binary jsonb has an unsupported format version
+   */
+  private @Nullable InputStream getJsonStream(@Positive int columnIndex, byte[] value)
+      throws PSQLException {
+    int oid = fields[columnIndex - 1].getOID();
+    if (oid == Oid.JSONB && isBinary(columnIndex)) {
+      checkJsonbVersion(value);
+      return new ByteArrayInputStream(value, 1, value.length - 1);
+    }
+    if (oid == Oid.JSON || oid == Oid.JSONB) {
+      return new ByteArrayInputStream(value);
+    }
+    return null;
+  }
+
+  /**
+   * Converts binary values of types that are received in binary by default to the text the server
+   * would send for them, so they can be returned from {@code getString} and {@code getBytes} and
+   * as the value of a {@link PGobject}.
+   *
+   * @param oid the oid of the column
+   * @param value binary value
+   * @return the text representation or null if the type is not handled here
+   * @throws SQLException if the value is malformed
+   */
+  private @Nullable String getBinaryText(int oid, byte[] value) throws SQLException {
+    switch (oid) {
+      case Oid.JSONB:
+        checkJsonbVersion(value);
+        try {
+          return connection.getEncoding().decode(value, 1, value.length - 1);
+        } catch (IOException ioe) {
+          throw new PSQLException(
+              GT.tr(
+                  "Invalid character data was found.  This is most likely caused by stored data containing characters that are invalid for the character set the database was created in.  The most common example of this is storing 8bit data in a SQL_ASCII database."),
+              PSQLState.DATA_ERROR, ioe);
+        }
+      case Oid.INET:
+      case Oid.CIDR:
+        return NetworkTypeUtil.toStringInet(value);
+      case Oid.MACADDR:
+      case Oid.MACADDR8:
+        return NetworkTypeUtil.toStringMacaddr(value);
+      case Oid.INTERVAL:
+        return TimestampUtils.toStringInterval(value,
+            connection.getParameterStatus("IntervalStyle"));
+      case Oid.OID:
+        // oid is an unsigned 4-byte integer
+        return Long.toString(ByteConverter.int4(value, 0) & 0xFFFFFFFFL);
+      default:
+        return null;
+    }
+  }
+
   /**
    * Retrieves the value of the designated column in the current row of this <code>ResultSet</code>
    * object as a <code>boolean</code> in the Java programming language.
@@ -2514,6 +2686,9 @@ public boolean getBoolean(@Positive int columnIndex) throws SQLException {
   private static final BigInteger BYTEMAX = new BigInteger(Byte.toString(Byte.MAX_VALUE));
   private static final BigInteger BYTEMIN = new BigInteger(Byte.toString(Byte.MIN_VALUE));
 
+  // Per column interners of repeated text values, see columnValueInterningLimit
+  private @Nullable ColumnValueInterner @Nullable [] columnValueInterners;
+
   // Cache for the boolean conversion property to avoid repeated property lookups
   private @MonotonicNonNull Boolean convertBooleanToNumericCache;
 
@@ -2970,6 +3145,17 @@ public double getDouble(@Positive int columnIndex) throws SQLException {
     }
 
     if (isBinary(columnIndex)) {
+      int oid = fields[columnIndex - 1].getOID();
+      if (oid == Oid.JSONB) {
+        // return the text of the document as for text transfer
+        checkJsonbVersion(value);
+        return Arrays.copyOfRange(value, 1, value.length);
+      }
+      // types that are only transferred in binary by default return their text as well
+      String text = getBinaryText(oid, value);
+      if (text != null) {
+        return trimBytes(columnIndex, text.getBytes(StandardCharsets.US_ASCII));
+      }
       // If the data is already binary then just return it
       return value;
     }
@@ -3049,6 +3235,12 @@ public double getDouble(@Positive int columnIndex) throws SQLException {
       return null;
     }
 
+    // json and jsonb are returned as the text of the document without copying it
+    InputStream json = getJsonStream(columnIndex, value);
+    if (json != null) {
+      return json;
+    }
+
     // Version 7.2 supports BinaryStream for all PG bytea type
     // As the spec/javadoc for this method indicate this is to be used for
     // large binary values (i.e. LONGVARBINARY) PG doesn't have a separate
@@ -3211,7 +3403,8 @@ protected void addWarning(SQLWarning warnings) {
     }
 
     if (isBinary(columnIndex)) {
-      return connection.getObject(getPGType(columnIndex), null, value);
+      return connection.getObject(getPGType(columnIndex), getBinaryText(field.getOID(), value),
+          value);
     }
     String stringValue = castNonNull(getString(columnIndex));
     return connection.getObject(getPGType(columnIndex), stringValue, null);
@@ -3255,7 +3448,7 @@ public static Map<String, Integer> createColumnNameIndexMap(Field[] fields,
   private @NonNegative int findColumnIndex(String columnName) {
     if (columnNameIndexMap == null) {
       if (originalQuery != null) {
-        columnNameIndexMap = originalQuery.getResultSetColumnNameIndexMap();
+        columnNameIndexMap = originalQuery.getResultSetColumnNameIndexMap(fields);
       }
       if (columnNameIndexMap == null) {
         columnNameIndexMap = createColumnNameIndexMap(fields, connection.isColumnSanitiserDisabled());
@@ -3682,6 +3875,8 @@ private static double readDoubleValue(byte[] bytes, int oid, String targetType)
         return ByteConverter.float8(bytes, 0);
       case Oid.NUMERIC:
         return ByteConverter.numeric(bytes).doubleValue();
+      case Oid.OID:
+        return ByteConverter.int4(bytes, 0) & 0xFFFFFFFFL;
     }
     throw new PSQLException(GT.tr("Cannot convert the column of type {0} to requested type {1}.",
         Oid.toString(oid), targetType), PSQLState.DATA_TYPE_MISMATCH);
@@ -3726,6 +3921,10 @@ private static long readLongValue(byte[] bytes, int oid, long minVal, long maxVa
       case Oid.INT8:
         val = ByteConverter.int8(bytes, 0);
         break;
+      case Oid.OID:
+        // oid is an unsigned 4-byte integer
+        val = ByteConverter.int4(bytes, 0) & 0xFFFFFFFFL;
+        break;
       case Oid.FLOAT4:
         float f = ByteConverter.float4(bytes, 0);
         // for float values we know to be within values of long, just cast directly to long
@@ -3896,6 +4095,10 @@ public void updateArray(String columnName, @Nullable Array x) throws SQLExceptio
       throw new SQLException("type is null");
     }
     int sqlType = getSQLType(columnIndex);
+    BinaryCodec<?> codec = connection.getBinaryCodec(fields[columnIndex - 1].getOID());
+    if (codec != null && type.isAssignableFrom(codec.getJavaType())) {
+      return type.cast(getObject(columnIndex));
+    }
     if (type == BigDecimal.class) {
       if (sqlType == Types.NUMERIC || sqlType == Types.DECIMAL) {
         return type.cast(getBigDecimal(columnIndex));
@@ -4046,6 +4249,13 @@ public void updateArray(String columnName, @Nullable Array x) throws SQLExceptio
         throw new PSQLException(GT.tr("conversion to {0} from {1} not supported", type, getPGType(columnIndex)),
             PSQLState.INVALID_PARAMETER_VALUE);
       }
+    } else if (ArrayDecoding.isPrimitiveArrayType(type)) {
+      if (sqlType == Types.ARRAY) {
+        return type.cast(getPrimitiveArray(columnIndex, type));
+      } else {
+        throw new PSQLException(GT.tr("conversion to {0} from {1} not supported", type, getPGType(columnIndex)),
+            PSQLState.INVALID_PARAMETER_VALUE);
+      }
     } else if (type == java.util.Date.class) {
       if (sqlType == Types.TIMESTAMP) {
         Timestamp timestamp = getTimestamp(columnIndex);
@@ -4097,11 +4307,20 @@ public void updateArray(String columnName, @Nullable Array x) throws SQLExceptio
       return type.cast(getOffsetDateTime(columnIndex));
     } else if (type == OffsetTime.class) {
       return type.cast(getOffsetTime(columnIndex));
+    } else if (type == Instant.class) {
+      return type.cast(getInstant(columnIndex));
+    } else if (type == Struct.class) {
+      Object object = getObject(columnIndex);
+      if (object == null || object instanceof Struct) {
+        return type.cast(object);
+      }
     } else if (PGobject.class.isAssignableFrom(type)) {
       Object object;
       if (isBinary(columnIndex)) {
         byte[] byteValue = castNonNull(thisRow, "thisRow").get(columnIndex - 1);
-        object = connection.getObject(getPGType(columnIndex), null, byteValue);
+        String text = byteValue == null ? null
+            : getBinaryText(fields[columnIndex - 1].getOID(), byteValue);
+        object = connection.getObject(getPGType(columnIndex), text, byteValue);
       } else {
         object = connection.getObject(getPGType(columnIndex), getString(columnIndex), null);
       }
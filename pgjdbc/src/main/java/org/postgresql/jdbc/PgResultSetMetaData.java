@@ -25,8 +25,12 @@
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class PgResultSetMetaData implements ResultSetMetaData, PGResultSetMetaData {
   protected final BaseConnection connection;
@@ -178,8 +182,8 @@ public String getSchemaName(int column) throws SQLException {
   private boolean populateFieldsWithMetadata(Gettable<FieldMetadata.Key, FieldMetadata> metadata) {
     boolean allOk = true;
     for (Field field : fields) {
-      if (field.getMetadata() != null) {
-        // No need to update metadata
+      if (field.getMetadata() != null || field.getTableOid() == 0) {
+        // No need to update metadata, or there is none as the column is not a table column
         continue;
       }
 
@@ -204,6 +208,62 @@ private void fetchFieldMetaData() throws SQLException {
       return;
     }
 
+    SharedFieldMetadataCache sharedCache = connection.getSharedFieldMetadataCache();
+    if (sharedCache == null) {
+      queryFieldMetaData(getFieldsWithoutMetadata());
+      return;
+    }
+
+    // Look up only the fields no other connection is looking up, then wait for the others
+    List<Field> claimedFields = new ArrayList<>();
+    List<FieldMetadata.Key> claimedKeys = new ArrayList<>();
+    List<CountDownLatch> pendingLoads = new ArrayList<>();
+    for (Field field : getFieldsWithoutMetadata()) {
+      FieldMetadata.Key key = new FieldMetadata.Key(field.getTableOid(), field.getPositionInTable());
+      CountDownLatch pendingLoad = sharedCache.claimLoad(key);
+      if (pendingLoad == null) {
+        claimedFields.add(field);
+        claimedKeys.add(key);
+      } else {
+        pendingLoads.add(pendingLoad);
+      }
+    }
+    try {
+      queryFieldMetaData(claimedFields);
+    } finally {
+      sharedCache.finishLoad(claimedKeys);
+    }
+    if (pendingLoads.isEmpty()) {
+      return;
+    }
+    try {
+      // Do not wait for a lookup that hangs, querying the fields again is only slower
+      long deadline = System.nanoTime() + SharedFieldMetadataCache.LOAD_TIMEOUT_NANOS;
+      for (CountDownLatch pendingLoad : pendingLoads) {
+        if (!pendingLoad.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (!populateFieldsWithMetadata(connection.getFieldMetadataCache())) {
+      // The other lookup failed, timed out or its result is evicted already
+      queryFieldMetaData(getFieldsWithoutMetadata());
+    }
+  }
+
+  private List<Field> getFieldsWithoutMetadata() {
+    List<Field> result = new ArrayList<>();
+    for (Field field : fields) {
+      if (field.getMetadata() == null && field.getTableOid() != 0) {
+        result.add(field);
+      }
+    }
+    return result;
+  }
+
+  private void queryFieldMetaData(List<Field> missingFields) throws SQLException {
     StringBuilder sql = new StringBuilder(
         "SELECT c.oid, a.attnum, a.attname, c.relname, n.nspname, "
             + "a.attnotnull OR (t.typtype = 'd' AND t.typnotnull), ");
@@ -225,11 +285,7 @@ private void fetchFieldMetaData() throws SQLException {
     //
     boolean hasSourceInfo = false;
     Set<String> oidSet = new HashSet<>();
-    for (Field field : fields) {
-      if (field.getMetadata() != null) {
-        continue;
-      }
-
+    for (Field field : missingFields) {
       if (hasSourceInfo) {
         sql.append(" UNION ALL ");
       }
@@ -257,7 +313,7 @@ private void fetchFieldMetaData() throws SQLException {
     }
 
     if (!hasSourceInfo) {
-      fieldInfoFetched = true;
+      fieldInfoFetched = getFieldsWithoutMetadata().isEmpty();
       return;
     }
 
@@ -15,12 +15,14 @@
 import org.postgresql.core.NativeQuery;
 import org.postgresql.core.ParameterList;
 import org.postgresql.core.Parser;
+import org.postgresql.core.PrepareStatistics;
 import org.postgresql.core.Provider;
 import org.postgresql.core.Query;
 import org.postgresql.core.QueryExecutor;
 import org.postgresql.core.ResultCursor;
 import org.postgresql.core.ResultHandlerBase;
 import org.postgresql.core.SqlCommand;
+import org.postgresql.core.SqlCommandType;
 import org.postgresql.core.TransactionState;
 import org.postgresql.core.Tuple;
 import org.postgresql.util.GT;
@@ -39,14 +41,19 @@
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.TimeZone;
 import java.util.TimerTask;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public class PgStatement implements Statement, BaseStatement {
+  private static final Logger LOGGER = Logger.getLogger(PgStatement.class.getName());
   private static final String[] NO_RETURNING_COLUMNS = new String[0];
 
   /**
@@ -159,6 +166,8 @@ public class PgStatement implements Statement, BaseStatement {
 
   protected boolean adaptiveFetch;
 
+  protected boolean cacheResults;
+
   private @Nullable TimestampUtils timestampUtils; // our own Object because it's not thread safe
 
   @SuppressWarnings("method.invocation")
@@ -437,6 +446,20 @@ protected boolean isOneShotQuery(@Nullable CachedQuery cachedQuery) {
       return true;
     }
     cachedQuery.increaseExecuteCount();
+    if (mPrepareThreshold > 0 && connection.getAdaptivePrepareThreshold()
+        && !getForceBinaryTransfer()) {
+      PrepareStatistics statistics = cachedQuery.getPrepareStatistics();
+      // Closing a statement closes its portals, and portals only live inside a transaction
+      if (statistics.isNamedStatementClosePending()
+          && connection.getQueryExecutor().getTransactionState() == TransactionState.IDLE) {
+        LOGGER.log(Level.FINE, "Closing named statement slower than unnamed executions: {0}",
+            cachedQuery.query);
+        statistics.namedStatementClosed();
+        cachedQuery.query.close();
+      }
+      return !statistics.shouldPrepare(cachedQuery.getExecuteCount(), mPrepareThreshold,
+          System.nanoTime());
+    }
     return (mPrepareThreshold == 0 || cachedQuery.getExecuteCount() < mPrepareThreshold)
         && !getForceBinaryTransfer();
   }
@@ -466,6 +489,20 @@ private void executeInternal(CachedQuery cachedQuery,
       throws SQLException {
     closeForNextExecution();
 
+    QueryResultCache resultCache = connection.getQueryResultCache(cachedQuery.query, cacheResults);
+    List<?> resultCacheKey = resultCache == null ? null
+        : getResultCacheKey(cachedQuery, queryParameters, flags);
+    long resultCacheEpoch = 0;
+    if (resultCache != null && resultCacheKey != null) {
+      QueryResultCache.Result cached = resultCache.get(resultCacheKey);
+      if (cached != null) {
+        result = firstUnclosedResult = new ResultWrapper(
+            createResultSet(cachedQuery.query, cached.getFields(), cached.getRows(), null));
+        return;
+      }
+      resultCacheEpoch = resultCache.getEpoch();
+    }
+
     // Enable cursor-based resultset if possible.
     // A server-side cursor requires an active transaction block. Without one,
     // PostgreSQL auto-commits each statement, and the cursor is destroyed before
@@ -528,6 +565,7 @@ private void executeInternal(CachedQuery cachedQuery,
 
     StatementResultHandler handler = new StatementResultHandler();
     result = null;
+    long startNanos = System.nanoTime();
     try {
       startTimer();
       connection.getQueryExecutor().execute(queryToExecute, queryParameters, handler, maxrows,
@@ -536,10 +574,29 @@ private void executeInternal(CachedQuery cachedQuery,
       killTimerTask();
     }
     checkClosed();
-
     ResultWrapper currentResult = handler.getResults();
+    // The time of an execution that leaves rows in a cursor does not compare with the others
+    if (mPrepareThreshold > 0 && connection.getAdaptivePrepareThreshold()
+        && queryToExecute.getSubqueries() == null && !hasOpenCursor(currentResult)) {
+      recordExecution(cachedQuery, (flags & QueryExecutor.QUERY_ONESHOT) == 0,
+          System.nanoTime() - startNanos);
+    }
+
     result = firstUnclosedResult = currentResult;
 
+    if (resultCache != null && resultCacheKey != null && currentResult != null
+        && currentResult.getNext() == null) {
+      ResultSet rs = currentResult.getResultSet();
+      if (rs instanceof PgResultSet) {
+        PgResultSet pgRs = (PgResultSet) rs;
+        List<Tuple> rows = pgRs.rows;
+        // with a fetch size the result set holds only the first rows
+        if (pgRs.cursor == null && rows != null) {
+          resultCache.put(resultCacheEpoch, resultCacheKey, pgRs.fields, rows);
+        }
+      }
+    }
+
     if (wantsGeneratedKeysOnce || wantsGeneratedKeysAlways) {
       generatedKeys = currentResult;
       result = castNonNull(currentResult, "handler.getResults()").getNext();
@@ -550,6 +607,66 @@ private void executeInternal(CachedQuery cachedQuery,
     }
   }
 
+  /**
+   * Records the time of an execution for {@code adaptivePrepareThreshold}. A named statement that
+   * runs slower than unnamed executions is closed by the next {@link #isOneShotQuery} outside a
+   * transaction, as the open portals of a cursor-based execution depend on it.
+   *
+   * @param cachedQuery the executed query
+   * @param named true if the execution used a named statement
+   * @param elapsedNanos time the execution took
+   */
+  private static void recordExecution(CachedQuery cachedQuery, boolean named, long elapsedNanos) {
+    PrepareStatistics statistics = cachedQuery.getPrepareStatistics();
+    statistics.recordExecution(named, elapsedNanos);
+    if (named && statistics.isNamedStatementHarmful(cachedQuery.getExecuteCount())) {
+      LOGGER.log(Level.FINE, "Named statement is slower than unnamed executions: {0}",
+          cachedQuery.query);
+    }
+  }
+
+  private static boolean hasOpenCursor(@Nullable ResultWrapper result) {
+    for (ResultWrapper r = result; r != null; r = r.getNext()) {
+      ResultSet rs = r.getResultSet();
+      if (rs instanceof PgResultSet && ((PgResultSet) rs).cursor != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+
+  /**
+   * Returns the key of an execution in the result cache.
+   *
+   * @param cachedQuery the query to execute
+   * @param queryParameters the parameters of the query
+   * @param flags the execution flags
+   * @return the key, or null if the results of the execution can not be cached
+   */
+  private @Nullable List<?> getResultCacheKey(CachedQuery cachedQuery,
+      @Nullable ParameterList queryParameters, int flags) {
+    Query query = cachedQuery.query;
+    SqlCommand sqlCommand = query.getSqlCommand();
+    if (sqlCommand == null || sqlCommand.getType() != SqlCommandType.SELECT
+        || query.getSubqueries() != null || wantsGeneratedKeysOnce || wantsGeneratedKeysAlways
+        || concurrency != ResultSet.CONCUR_READ_ONLY
+        || (flags & (QueryExecutor.QUERY_NO_RESULTS | QueryExecutor.QUERY_DESCRIBE_ONLY)) != 0) {
+      return null;
+    }
+    List<?> parameters = queryParameters == null
+        ? Collections.emptyList() : queryParameters.getValueKey();
+    if (parameters == null) {
+      return null;
+    }
+    QueryExecutor queryExecutor = connection.getQueryExecutor();
+    // The text of dates, times and intervals depends on these settings
+    return Arrays.asList(query.getNativeSql(), parameters, maxrows,
+        queryExecutor.getParameterStatus("TimeZone"),
+        queryExecutor.getParameterStatus("DateStyle"),
+        queryExecutor.getParameterStatus("IntervalStyle"));
+  }
+
   @Override
   public void setCursorName(String name) throws SQLException {
     checkClosed();
@@ -1397,6 +1514,16 @@ public boolean getAdaptiveFetch() {
     return adaptiveFetch;
   }
 
+  @Override
+  public void setCacheResults(boolean cacheResults) {
+    this.cacheResults = cacheResults;
+  }
+
+  @Override
+  public boolean getCacheResults() {
+    return cacheResults;
+  }
+
   protected TimestampUtils getTimestampUtils() {
     if (timestampUtils == null) {
       timestampUtils = new TimestampUtils(!connection.getQueryExecutor().getIntegerDateTimes(), (Provider<TimeZone>) new QueryExecutorTimeZoneProvider(connection.getQueryExecutor()));
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Struct;
+import java.util.Map;
+
+/**
+ * Struct holds the attributes of a composite or anonymous record value received in binary.
+ *
+ * <p>The attributes are converted with the default mapping of their type, the same way
+ * {@link ResultSet#getObject(int)} converts a column of that type. Nested composite values are
+ * returned as {@code Struct}. {@link #toString()} returns the text representation of the value as
+ * the server formats it.</p>
+ *
+ * @see ResultSet#getObject(int)
+ */
+public class PgStruct implements Struct {
+  private final String sqlTypeName;
+  private final @Nullable Object[] attributes;
+  private final String text;
+
+  PgStruct(String sqlTypeName, @Nullable Object[] attributes, String text) {
+    this.sqlTypeName = sqlTypeName;
+    this.attributes = attributes;
+    this.text = text;
+  }
+
+  @Override
+  public String getSQLTypeName() {
+    return sqlTypeName;
+  }
+
+  @Override
+  public @Nullable Object[] getAttributes() {
+    return attributes.clone();
+  }
+
+  @Override
+  public @Nullable Object[] getAttributes(@Nullable Map<String, Class<?>> map) throws SQLException {
+    if (map != null && !map.isEmpty()) {
+      throw new PSQLException(GT.tr("Custom type maps are not supported."),
+          PSQLState.NOT_IMPLEMENTED);
+    }
+    return getAttributes();
+  }
+
+  @Override
+  public String toString() {
+    return text;
+  }
+}
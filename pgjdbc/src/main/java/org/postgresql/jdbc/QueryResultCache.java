@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.PGNotification;
+import org.postgresql.PGProperty;
+import org.postgresql.core.Field;
+import org.postgresql.core.MetaDataResultCache;
+import org.postgresql.core.Tuple;
+import org.postgresql.core.Utils;
+import org.postgresql.util.HostSpec;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Results of the statements marked with {@link org.postgresql.PGStatement#setCacheResults} shared
+ * by all connections of the JVM to the same database, so that read-mostly queries, such as those
+ * of lookup tables, are answered without a round trip to the server.
+ *
+ * <p>A result is dropped when it gets older than the time to live, and the least recently used
+ * results are dropped when the results exceed the size limit. If a notification channel is
+ * configured, a dedicated connection listens to it and all the results are dropped whenever a
+ * notification is received on the channel. Results are neither cached nor served while that
+ * connection is not listening, for instance while it reconnects after a failure.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class QueryResultCache {
+  private static final Logger LOGGER = Logger.getLogger(QueryResultCache.class.getName());
+  private static final ConcurrentMap<String, QueryResultCache> CACHES = new ConcurrentHashMap<>();
+
+  // Rough memory used by the objects that hold a row and a value besides the value bytes
+  private static final int ROW_OVERHEAD_BYTES = 32;
+  private static final int VALUE_OVERHEAD_BYTES = 16;
+  private static final int POLL_MILLIS = 1000;
+  private static final int RETRY_MILLIS = 5000;
+
+  /**
+   * A cached result. The fields, the rows and their values are copied when the result is cached
+   * and for every result set, as {@link java.sql.ResultSet#getBytes} returns the value arrays
+   * without copying them.
+   */
+  public static final class Result {
+    private final Field[] fields;
+    private final List<Tuple> rows;
+    private final long createdNanos;
+    private final long sizeBytes;
+
+    Result(Field[] fields, List<Tuple> rows, long createdNanos, long sizeBytes) {
+      this.fields = MetaDataResultCache.copyFields(fields);
+      this.rows = copyRows(rows);
+      this.createdNanos = createdNanos;
+      this.sizeBytes = sizeBytes;
+    }
+
+    public Field[] getFields() {
+      return MetaDataResultCache.copyFields(fields);
+    }
+
+    public List<Tuple> getRows() {
+      return copyRows(rows);
+    }
+  }
+
+  private final String key;
+  private final long maxBytes;
+  private final long ttlNanos;
+  private final @Nullable String channel;
+  private final ResourceLock lock = new ResourceLock();
+  private final LinkedHashMap<List<?>, Result> results = new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeBytes;
+  private long epoch;
+  private int refCount;
+  private @Nullable Listener listener;
+  private boolean listening;
+  private boolean retired;
+
+  private QueryResultCache(String key, long maxBytes, long ttlNanos, @Nullable String channel) {
+    this.key = key;
+    this.maxBytes = maxBytes;
+    this.ttlNanos = ttlNanos;
+    this.channel = channel;
+  }
+
+  /**
+   * Returns the cache of a database, creating an empty one if needed. The limits are those of the
+   * connection that created the cache.
+   *
+   * @param key identifies the database, the settings that influence the results and the channel
+   * @param maxBytes maximum size of the results to keep
+   * @param ttlSeconds number of seconds after which a result is dropped, {@code 0} to keep the
+   *     results until they are invalidated
+   * @param channel the channel whose notifications drop the results, or null
+   * @return the cache of the database
+   */
+  public static QueryResultCache forDatabase(String key, long maxBytes, int ttlSeconds,
+      @Nullable String channel) {
+    QueryResultCache cache = CACHES.get(key);
+    if (cache == null) {
+      long ttlNanos = ttlSeconds <= 0 ? Long.MAX_VALUE : ttlSeconds * 1_000_000_000L;
+      cache = new QueryResultCache(key, maxBytes, ttlNanos, channel);
+      QueryResultCache existing = CACHES.putIfAbsent(key, cache);
+      if (existing != null) {
+        cache = existing;
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Returns a cached result.
+   *
+   * @param call the SQL of the statement, its parameters and the settings that shape the result
+   * @return the result or null if it is not cached, expired, or the channel is not listened to
+   */
+  public @Nullable Result get(List<?> call) {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (channel != null && !listening) {
+        return null;
+      }
+      Result result = results.get(call);
+      if (result != null && System.nanoTime() - result.createdNanos > ttlNanos) {
+        remove(call);
+        return null;
+      }
+      return result;
+    }
+  }
+
+  /**
+   * Returns the current epoch of the cache, to pass to {@link #put} once the result is received.
+   *
+   * @return the current epoch
+   */
+  public long getEpoch() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return epoch;
+    }
+  }
+
+  /**
+   * Caches a result. The result is dropped if the results were invalidated since
+   * {@code startEpoch}, as it might have been read before the change that invalidated them, or if
+   * it would take more than half of the cache.
+   *
+   * @param startEpoch the value returned by {@link #getEpoch()} before executing the statement
+   * @param call the SQL of the statement, its parameters and the settings that shape the result
+   * @param fields the fields of the result
+   * @param rows the rows of the result
+   */
+  public void put(long startEpoch, List<?> call, Field[] fields, List<Tuple> rows) {
+    long size = estimateSize(fields, rows);
+    if (size * 2 > maxBytes) {
+      return;
+    }
+    Result result = new Result(fields, rows, System.nanoTime(), size);
+    try (ResourceLock ignore = lock.obtain()) {
+      if (epoch != startEpoch || channel != null && !listening) {
+        return;
+      }
+      remove(call);
+      results.put(call, result);
+      sizeBytes += size;
+      Iterator<Result> it = results.values().iterator();
+      while (sizeBytes > maxBytes && it.hasNext()) {
+        sizeBytes -= it.next().sizeBytes;
+        it.remove();
+      }
+    }
+  }
+
+  /**
+   * Drops all the results, called when a notification is received on the channel.
+   */
+  public void invalidate() {
+    try (ResourceLock ignore = lock.obtain()) {
+      epoch++;
+      results.clear();
+      sizeBytes = 0;
+    }
+  }
+
+  public int size() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return results.size();
+    }
+  }
+
+  public long getSizeBytes() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return sizeBytes;
+    }
+  }
+
+  boolean isListening() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return listening;
+    }
+  }
+
+  /**
+   * Registers a connection that uses the cache. The first connection starts listening to the
+   * channel with a dedicated connection opened with its hosts and properties.
+   *
+   * @param hostSpecs the hosts of the connection
+   * @param info the properties of the connection
+   * @param url the URL of the connection
+   * @return false if the last connection released the cache in the meantime, the caller should
+   *     get the cache from {@link #forDatabase} again
+   */
+  boolean attach(HostSpec[] hostSpecs, Properties info, String url) {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (retired) {
+        return false;
+      }
+      refCount++;
+      String channel = this.channel;
+      if (channel == null || listener != null) {
+        return true;
+      }
+      Properties listenerInfo = new Properties();
+      for (String name : info.stringPropertyNames()) {
+        listenerInfo.setProperty(name, info.getProperty(name));
+      }
+      // The listening connection must neither use the cache nor warm up statements, and
+      // notifications are only delivered on the primary
+      listenerInfo.remove(PGProperty.RESULT_CACHE_SIZE_MIB.getName());
+      listenerInfo.remove(PGProperty.WARM_UP_STATEMENTS.getName());
+      PGProperty.TARGET_SERVER_TYPE.set(listenerInfo, "primary");
+      Listener listener = new Listener(channel, hostSpecs, listenerInfo, url);
+      this.listener = listener;
+      Thread thread = new Thread(listener, "PostgreSQL JDBC driver result cache listener");
+      thread.setDaemon(true); // Don't prevent the VM from shutting down
+      thread.start();
+      return true;
+    }
+  }
+
+  /**
+   * Unregisters a connection that uses the cache. The last connection stops the listening, drops
+   * the results and removes the cache, so that the memory of roles and {@code search_path}
+   * values that are no longer used is freed.
+   */
+  void release() {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (--refCount > 0) {
+        return;
+      }
+      refCount = 0;
+      Listener listener = this.listener;
+      if (listener != null) {
+        listener.running = false;
+        setListening(listener, false);
+        this.listener = null;
+      }
+      retired = true;
+      invalidate();
+    }
+    CACHES.remove(key, this);
+  }
+
+  private void setListening(Listener listener, boolean listening) {
+    try (ResourceLock ignore = lock.obtain()) {
+      if (this.listener != listener) {
+        return;
+      }
+      // Results read while nobody listened might have missed a notification
+      invalidate();
+      this.listening = listening;
+    }
+  }
+
+  private void remove(List<?> call) {
+    Result previous = results.remove(call);
+    if (previous != null) {
+      sizeBytes -= previous.sizeBytes;
+    }
+  }
+
+  private static List<Tuple> copyRows(List<Tuple> rows) {
+    List<Tuple> copy = new ArrayList<>(rows.size());
+    for (Tuple row : rows) {
+      byte[][] values = new byte[row.fieldCount()][];
+      for (int i = 0; i < values.length; i++) {
+        byte[] value = row.get(i);
+        values[i] = value == null ? null : value.clone();
+      }
+      copy.add(new Tuple(values));
+    }
+    return copy;
+  }
+
+  private static long estimateSize(Field[] fields, List<Tuple> rows) {
+    long size = (long) fields.length * ROW_OVERHEAD_BYTES;
+    for (Tuple row : rows) {
+      size += ROW_OVERHEAD_BYTES + (long) row.fieldCount() * VALUE_OVERHEAD_BYTES + row.length();
+    }
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return "QueryResultCache{" + key + ", results=" + size() + '}';
+  }
+
+  /**
+   * Listens to the channel on a dedicated connection and drops the results on every
+   * notification, reconnecting after failures as long as connections use the cache.
+   */
+  private final class Listener implements Runnable {
+    private final String channel;
+    private final HostSpec[] hostSpecs;
+    private final Properties info;
+    private final String url;
+    volatile boolean running = true;
+
+    Listener(String channel, HostSpec[] hostSpecs, Properties info, String url) {
+      this.channel = channel;
+      this.hostSpecs = hostSpecs;
+      this.info = info;
+      this.url = url;
+    }
+
+    @Override
+    public void run() {
+      while (running) {
+        try (PgConnection connection = new PgConnection(hostSpecs, info, url)) {
+          try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + Utils.escapeIdentifier(null, channel));
+          }
+          setListening(this, true);
+          LOGGER.log(Level.FINE, "Result cache listens to channel {0}", channel);
+          while (running) {
+            PGNotification[] notifications = connection.getNotifications(POLL_MILLIS);
+            for (PGNotification notification : notifications) {
+              if (channel.equals(notification.getName())) {
+                LOGGER.log(Level.FINE, "Result cache invalidated by a notification on {0}",
+                    channel);
+                invalidate();
+                break;
+              }
+            }
+          }
+        } catch (SQLException | RuntimeException e) {
+          LOGGER.log(Level.WARNING,
+              "Could not listen to channel " + channel + ", results are not cached until it"
+                  + " is listened to again", e);
+        } finally {
+          setListening(this, false);
+        }
+        if (running) {
+          try {
+            Thread.sleep(RETRY_MILLIS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+          }
+        }
+      }
+    }
+  }
+}
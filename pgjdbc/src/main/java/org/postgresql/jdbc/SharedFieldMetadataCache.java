@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.util.LruCache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FieldMetadata} cache shared by all connections of the JVM to the same database, so that
+ * {@link java.sql.ResultSetMetaData} calls on a pooled connection reuse the base table, column and
+ * nullability another connection already looked up.
+ *
+ * <p>The metadata is keyed by table oid and column number, which do not depend on the session.
+ * When several connections need the same columns at the same time, only the first one queries
+ * them and the others wait for its result, for at most {@link #LOAD_TIMEOUT_NANOS} before they
+ * query the columns themselves. As with the cache of a single connection, renamed
+ * columns and changed nullability are not detected until the entry is evicted.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class SharedFieldMetadataCache {
+  /**
+   * How long a connection waits for the lookup of another connection.
+   */
+  static final long LOAD_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private static final ConcurrentMap<String, SharedFieldMetadataCache> CACHES =
+      new ConcurrentHashMap<>();
+
+  private final LruCache<FieldMetadata.Key, FieldMetadata> cache;
+  private final ConcurrentMap<FieldMetadata.Key, CountDownLatch> loads = new ConcurrentHashMap<>();
+
+  private SharedFieldMetadataCache(int maxSizeEntries, long maxSizeBytes) {
+    cache = new LruCache<>(maxSizeEntries, maxSizeBytes, false);
+  }
+
+  /**
+   * Returns the cache of a database, creating an empty one if needed. The limits are those of the
+   * connection that created the cache.
+   *
+   * @param databaseIdentity system identifier of the cluster and oid of the database
+   * @param maxSizeEntries maximum number of fields
+   * @param maxSizeBytes maximum size of the fields in bytes
+   * @return the cache of the database
+   */
+  public static SharedFieldMetadataCache forDatabase(String databaseIdentity, int maxSizeEntries,
+      long maxSizeBytes) {
+    SharedFieldMetadataCache cache = CACHES.get(databaseIdentity);
+    if (cache == null) {
+      cache = new SharedFieldMetadataCache(maxSizeEntries, maxSizeBytes);
+      SharedFieldMetadataCache existing = CACHES.putIfAbsent(databaseIdentity, cache);
+      if (existing != null) {
+        cache = existing;
+      }
+    }
+    return cache;
+  }
+
+  public LruCache<FieldMetadata.Key, FieldMetadata> getCache() {
+    return cache;
+  }
+
+  /**
+   * Claims the lookup of a field. The caller that gets the claim must release it with
+   * {@link #finishLoad(Collection)} once the result is in the cache or the lookup failed.
+   *
+   * @param key the field
+   * @return null if the caller got the claim, otherwise a latch that opens when the connection
+   *     holding the claim finished the lookup
+   */
+  @Nullable CountDownLatch claimLoad(FieldMetadata.Key key) {
+    return loads.putIfAbsent(key, new CountDownLatch(1));
+  }
+
+  /**
+   * Releases the claims of the given fields and wakes up the connections waiting for them.
+   *
+   * @param keys the fields claimed with {@link #claimLoad(FieldMetadata.Key)}
+   */
+  void finishLoad(Collection<FieldMetadata.Key> keys) {
+    for (FieldMetadata.Key key : keys) {
+      CountDownLatch latch = loads.remove(key);
+      if (latch != null) {
+        latch.countDown();
+      }
+    }
+  }
+}
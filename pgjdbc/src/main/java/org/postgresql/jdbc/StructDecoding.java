@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.codec.BinaryCodec;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.Oid;
+import org.postgresql.core.TypeInfo;
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.GT;
+import org.postgresql.util.PGInterval;
+import org.postgresql.util.PGbytea;
+import org.postgresql.util.PGobject;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Utility for decoding the binary representation of composite and anonymous record values, as
+ * produced by the server's {@code record_send}, into {@link PgStruct}.
+ *
+ * <p>The binary form is the number of attributes followed by the type oid, the length (-1 for
+ * null) and the binary value of every attribute. As every attribute carries its type oid, anonymous
+ * records can be decoded without looking up the row type.</p>
+ */
+final class StructDecoding {
+
+  private StructDecoding() {
+  }
+
+  /**
+   * Reads the binary representation of a composite or record value.
+   *
+   * @param connection the connection the value was received from
+   * @param oid oid of the composite type or {@link Oid#RECORD}
+   * @param bytes buffer that contains the value
+   * @param offset offset of the value
+   * @param length length of the value
+   * @return the decoded value
+   * @throws SQLException if the value is malformed or an attribute can not be decoded
+   */
+  static PgStruct readBinaryStruct(BaseConnection connection, int oid, byte[] bytes, int offset,
+      int length) throws SQLException {
+    String typeName = connection.getTypeInfo().getPGType(oid);
+    if (typeName == null) {
+      typeName = "record";
+    }
+    int end = offset + length;
+    if (length < 4) {
+      throw invalidValue("record", length);
+    }
+    int count = ByteConverter.int4(bytes, offset);
+    if (count < 0 || count > (length - 4) / 8) {
+      throw invalidValue("record", length);
+    }
+    int pos = offset + 4;
+    @Nullable Object[] attributes = new Object[count];
+    StringBuilder text = new StringBuilder(length + 2);
+    text.append('(');
+    for (int i = 0; i < count; i++) {
+      if (i != 0) {
+        text.append(',');
+      }
+      if (end - pos < 8) {
+        throw invalidValue("record", length);
+      }
+      int attributeOid = ByteConverter.int4(bytes, pos);
+      int attributeLength = ByteConverter.int4(bytes, pos + 4);
+      pos += 8;
+      if (attributeLength == -1) {
+        continue;
+      }
+      if (attributeLength < 0 || attributeLength > end - pos) {
+        throw invalidValue("record", length);
+      }
+      byte[] value = Arrays.copyOfRange(bytes, pos, pos + attributeLength);
+      pos += attributeLength;
+      Object attribute = readAttribute(connection, attributeOid, value);
+      attributes[i] = attribute;
+      appendAttribute(text, toText(connection, attributeOid, value, attribute));
+    }
+    text.append(')');
+    return new PgStruct(typeName, attributes, text.toString());
+  }
+
+  @SuppressWarnings("deprecation")
+  private static Object readAttribute(BaseConnection connection, int oid, byte[] value)
+      throws SQLException {
+    TimestampUtils ts = connection.getTimestampUtils();
+    switch (oid) {
+      case Oid.BOOL:
+        checkLength(oid, value, 1);
+        return value[0] != 0;
+      case Oid.INT2:
+        checkLength(oid, value, 2);
+        return (int) ByteConverter.int2(value, 0);
+      case Oid.INT4:
+        checkLength(oid, value, 4);
+        return ByteConverter.int4(value, 0);
+      case Oid.OID:
+        checkLength(oid, value, 4);
+        return ByteConverter.int4(value, 0) & 0xFFFFFFFFL;
+      case Oid.INT8:
+        checkLength(oid, value, 8);
+        return ByteConverter.int8(value, 0);
+      case Oid.FLOAT4:
+        checkLength(oid, value, 4);
+        return ByteConverter.float4(value, 0);
+      case Oid.FLOAT8:
+        checkLength(oid, value, 8);
+        return ByteConverter.float8(value, 0);
+      case Oid.NUMERIC:
+        return ByteConverter.numeric(value);
+      case Oid.TEXT:
+      case Oid.VARCHAR:
+      case Oid.BPCHAR:
+      case Oid.CHAR:
+      case Oid.NAME:
+      case Oid.JSON:
+        return decode(connection, value, 0);
+      case Oid.JSONB:
+        PgResultSet.checkJsonbVersion(value);
+        return decode(connection, value, 1);
+      case Oid.BYTEA:
+        return value;
+      case Oid.UUID:
+        checkLength(oid, value, 16);
+        return new UUID(ByteConverter.int8(value, 0), ByteConverter.int8(value, 8));
+      case Oid.DATE:
+        return ts.toDateBin(null, value);
+      case Oid.TIME:
+      case Oid.TIMETZ:
+        return ts.toTimeBin(null, value);
+      case Oid.TIMESTAMP:
+        return ts.toTimestampBin(null, value, false);
+      case Oid.TIMESTAMPTZ:
+        return ts.toTimestampBin(null, value, true);
+      case Oid.INTERVAL:
+        PGInterval interval = new PGInterval();
+        interval.setByteValue(value, 0);
+        return interval;
+      case Oid.RECORD:
+        return readBinaryStruct(connection, oid, value, 0, value.length);
+      default:
+        break;
+    }
+
+    BinaryCodec<?> codec = connection.getBinaryCodec(oid);
+    if (codec != null) {
+      return codec.decodeBinary(value, 0, value.length);
+    }
+    TypeInfo typeInfo = connection.getTypeInfo();
+    if (typeInfo.getPGArrayElement(oid) != Oid.UNSPECIFIED) {
+      return new PgArray(connection, oid, value);
+    }
+    int sqlType = typeInfo.getSQLType(oid);
+    if (sqlType == Types.STRUCT) {
+      return readBinaryStruct(connection, oid, value, 0, value.length);
+    }
+    if (sqlType == Types.CHAR || sqlType == Types.VARCHAR) {
+      // enums, their binary form is the label
+      return decode(connection, value, 0);
+    }
+    String typeName = typeInfo.getPGType(oid);
+    if (typeName == null) {
+      throw new PSQLException(GT.tr("Unknown type {0}.", oid), PSQLState.DATA_ERROR);
+    }
+    return connection.getObject(typeName, null, value);
+  }
+
+  /**
+   * Returns the text of an attribute the way {@code getString} returns it for a binary column of
+   * the same type.
+   */
+  @SuppressWarnings("deprecation")
+  private static @Nullable String toText(BaseConnection connection, int oid, byte[] value,
+      Object attribute) throws SQLException {
+    TimestampUtils ts = connection.getTimestampUtils();
+    switch (oid) {
+      case Oid.BOOL:
+        return (Boolean) attribute ? "t" : "f";
+      case Oid.BYTEA:
+        StringBuilder sb = new StringBuilder(2 + value.length * 2);
+        sb.append("\\x");
+        PGbytea.appendHexString(sb, value, 0, value.length);
+        return sb.toString();
+      case Oid.DATE:
+        return ts.toString(ts.toLocalDateBin(value));
+      case Oid.TIME:
+        return ts.toString(ts.toLocalTimeBin(value));
+      case Oid.TIMETZ:
+        return ts.toStringOffsetTimeBin(value);
+      case Oid.TIMESTAMP:
+        return ts.toString(ts.toLocalDateTimeBin(value));
+      case Oid.TIMESTAMPTZ:
+        return ts.toStringOffsetDateTime(value);
+      case Oid.INTERVAL:
+        return TimestampUtils.toStringInterval(value,
+            connection.getParameterStatus("IntervalStyle"));
+      default:
+        break;
+    }
+    if (attribute instanceof BigDecimal) {
+      return ((BigDecimal) attribute).toPlainString();
+    }
+    if (attribute instanceof PGobject) {
+      return ((PGobject) attribute).getValue();
+    }
+    return attribute.toString();
+  }
+
+  /**
+   * Appends an attribute to the text of a record, quoted like the server's {@code record_out}
+   * does.
+   */
+  private static void appendAttribute(StringBuilder sb, @Nullable String value) {
+    if (value == null) {
+      return;
+    }
+    boolean quote = value.isEmpty();
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == '"' || c == '\\' || c == '(' || c == ')' || c == ','
+          || Character.isWhitespace(c);
+    }
+    if (!quote) {
+      sb.append(value);
+      return;
+    }
+    sb.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append(c);
+      }
+      sb.append(c);
+    }
+    sb.append('"');
+  }
+
+  private static String decode(BaseConnection connection, byte[] value, int offset)
+      throws SQLException {
+    try {
+      return connection.getEncoding().decode(value, offset, value.length - offset);
+    } catch (IOException ioe) {
+      throw new PSQLException(
+          GT.tr(
+              "Invalid character data was found.  This is most likely caused by stored data containing characters that are invalid for the character set the database was created in.  The most common example of this is storing 8bit data in a SQL_ASCII database."),
+          PSQLState.DATA_ERROR, ioe);
+    }
+  }
+
+  private static void checkLength(int oid, byte[] value, int expected) throws PSQLException {
+    if (value.length != expected) {
+      throw invalidValue(Oid.toString(oid), value.length);
+    }
+  }
+
+  private static PSQLException invalidValue(String type, int length) {
+    return new PSQLException(
+        GT.tr("Invalid binary {0} value of length {1}", type, length),
+        PSQLState.DATA_ERROR);
+  }
+}
@@ -69,6 +69,10 @@ public class TimestampUtils {
   private static final OffsetDateTime MIN_OFFSET_DATETIME = MIN_LOCAL_DATETIME.atOffset(ZoneOffset.UTC);
   private static final Duration PG_EPOCH_DIFF =
       Duration.between(Instant.EPOCH, LocalDate.of(2000, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC));
+  private static final long PG_EPOCH_SECONDS = PG_EPOCH_DIFF.getSeconds();
+  private static final long PG_EPOCH_DAYS = PG_EPOCH_DIFF.toDays();
+  private static final long MICROS_PER_SECOND = 1000000L;
+  private static final long SECONDS_PER_DAY = 86400L;
 
   private static final @Nullable Field DEFAULT_TIME_ZONE_FIELD;
 
@@ -681,6 +685,18 @@ public OffsetDateTime toOffsetDateTime(Time t) {
    * @throws PSQLException If binary format could not be parsed.
    */
   public OffsetDateTime toOffsetDateTimeBin(byte[] bytes) throws PSQLException {
+    if (!usesDouble) {
+      long micros = toMicrosBin(bytes);
+      if (micros == Long.MAX_VALUE) {
+        return OffsetDateTime.MAX;
+      } else if (micros == Long.MIN_VALUE) {
+        return OffsetDateTime.MIN;
+      }
+      // Postgres is always UTC, and UTC needs no time zone rules
+      return OffsetDateTime.of(
+          LocalDateTime.ofEpochSecond(epochSecond(micros), nanoOfSecond(micros), ZoneOffset.UTC),
+          ZoneOffset.UTC);
+    }
     ParsedBinaryTimestamp parsedTimestamp = this.toProlepticParsedTimestampBin(bytes);
     if (parsedTimestamp.infinity == Infinity.POSITIVE) {
       return OffsetDateTime.MAX;
@@ -1192,6 +1208,259 @@ public String toStringOffsetDateTime(byte[] value) throws PSQLException {
     return toString(withClientOffsetSameInstant(offsetDateTime));
   }
 
+  /**
+   * Converts the binary representation of {@code interval} to string the same way the server
+   * does for the given {@code IntervalStyle}, e.g. {@code 1 year 2 mons -3 days +04:05:06.789}
+   * for the default {@code postgres} style.
+   *
+   * @param value binary representation of {@code interval}
+   * @param intervalStyle value of the {@code IntervalStyle} setting, null means {@code postgres}
+   * @return string representation of {@code interval}
+   */
+  public static String toStringInterval(byte[] value, @Nullable String intervalStyle) {
+    long time = ByteConverter.int8(value, 0);
+    int days = ByteConverter.int4(value, 8);
+    int months = ByteConverter.int4(value, 12);
+    if (time == Long.MAX_VALUE && days == Integer.MAX_VALUE && months == Integer.MAX_VALUE) {
+      return "infinity";
+    } else if (time == Long.MIN_VALUE && days == Integer.MIN_VALUE
+        && months == Integer.MIN_VALUE) {
+      return "-infinity";
+    }
+
+    // Split the value the same way as interval2itm does on the server
+    int years = months / 12;
+    months %= 12;
+    long hours = time / 3600_000_000L;
+    time -= hours * 3600_000_000L;
+    int minutes = (int) (time / 60_000_000L);
+    time -= minutes * 60_000_000L;
+    int seconds = (int) (time / 1000_000L);
+    int micros = (int) (time - seconds * 1000_000L);
+
+    StringBuilder sb = new StringBuilder(32);
+    if ("sql_standard".equals(intervalStyle)) {
+      appendSqlStandardInterval(sb, years, months, days, hours, minutes, seconds, micros);
+    } else if ("iso_8601".equals(intervalStyle)) {
+      appendIso8601Interval(sb, years, months, days, hours, minutes, seconds, micros);
+    } else if ("postgres_verbose".equals(intervalStyle)) {
+      appendVerboseInterval(sb, years, months, days, hours, minutes, seconds, micros);
+    } else {
+      boolean before = appendIntervalPart(sb, years, " year", false);
+      before = appendIntervalPart(sb, months, " mon", before);
+      before = appendIntervalPart(sb, days, " day", before);
+      if (sb.length() == 0 || hours != 0 || minutes != 0 || seconds != 0 || micros != 0) {
+        if (sb.length() != 0) {
+          sb.append(' ');
+        }
+        if (hours < 0 || minutes < 0 || seconds < 0 || micros < 0) {
+          sb.append('-');
+        } else if (before) {
+          sb.append('+');
+        }
+        appendIntervalTime(sb, hours, minutes, seconds, micros);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Appends an interval in the {@code sql_standard} style: {@code 1-2} for year-month
+   * intervals, {@code 3 4:05:06} for day-time intervals, and all the fields with explicit signs
+   * for values that mix both or have fields of different signs.
+   */
+  private static void appendSqlStandardInterval(StringBuilder sb, int years, int months,
+      int days, long hours, int minutes, int seconds, int micros) {
+    boolean hasNegative = years < 0 || months < 0 || days < 0 || hours < 0 || minutes < 0
+        || seconds < 0 || micros < 0;
+    boolean hasPositive = years > 0 || months > 0 || days > 0 || hours > 0 || minutes > 0
+        || seconds > 0 || micros > 0;
+    boolean hasYearMonth = years != 0 || months != 0;
+    boolean hasDayTime = days != 0 || hours != 0 || minutes != 0 || seconds != 0 || micros != 0;
+    boolean sqlStandardValue = !(hasNegative && hasPositive) && !(hasYearMonth && hasDayTime);
+
+    if (!hasNegative && !hasPositive) {
+      sb.append('0');
+    } else if (!sqlStandardValue) {
+      sb.append(years < 0 || months < 0 ? '-' : '+');
+      sb.append(Math.abs(years)).append('-').append(Math.abs(months)).append(' ');
+      sb.append(days < 0 ? '-' : '+').append(Math.abs((long) days)).append(' ');
+      sb.append(hours < 0 || minutes < 0 || seconds < 0 || micros < 0 ? '-' : '+');
+      sb.append(Math.abs(hours)).append(':');
+      appendIntervalSeconds(sb, minutes, seconds, micros);
+    } else {
+      // a value with a single sign is printed with a leading minus only
+      if (hasNegative) {
+        sb.append('-');
+      }
+      if (hasYearMonth) {
+        sb.append(Math.abs(years)).append('-').append(Math.abs(months));
+      } else {
+        if (days != 0) {
+          sb.append(Math.abs((long) days)).append(' ');
+        }
+        sb.append(Math.abs(hours)).append(':');
+        appendIntervalSeconds(sb, minutes, seconds, micros);
+      }
+    }
+  }
+
+  /**
+   * Appends an interval in the {@code iso_8601} style, e.g. {@code P1Y2M-3DT4H5M6.789S}.
+   */
+  private static void appendIso8601Interval(StringBuilder sb, int years, int months, int days,
+      long hours, int minutes, int seconds, int micros) {
+    if (years == 0 && months == 0 && days == 0 && hours == 0 && minutes == 0 && seconds == 0
+        && micros == 0) {
+      sb.append("PT0S");
+      return;
+    }
+    sb.append('P');
+    appendIso8601Part(sb, years, 'Y');
+    appendIso8601Part(sb, months, 'M');
+    appendIso8601Part(sb, days, 'D');
+    if (hours != 0 || minutes != 0 || seconds != 0 || micros != 0) {
+      sb.append('T');
+    }
+    appendIso8601Part(sb, hours, 'H');
+    appendIso8601Part(sb, minutes, 'M');
+    if (seconds != 0 || micros != 0) {
+      if (seconds < 0 || micros < 0) {
+        sb.append('-');
+      }
+      sb.append(Math.abs(seconds));
+      appendIntervalFraction(sb, micros);
+      sb.append('S');
+    }
+  }
+
+  private static void appendIso8601Part(StringBuilder sb, long value, char unit) {
+    if (value != 0) {
+      sb.append(value).append(unit);
+    }
+  }
+
+  /**
+   * Appends an interval in the {@code postgres_verbose} style, e.g.
+   * {@code @ 1 year 2 mons -3 days 4 hours 5 mins 6.789 secs}. The sign of the first non-zero
+   * field is printed as a trailing {@code ago} and the following fields are printed relative
+   * to it.
+   */
+  private static void appendVerboseInterval(StringBuilder sb, int years, int months, int days,
+      long hours, int minutes, int seconds, int micros) {
+    sb.append('@');
+    // 0: nothing printed yet, 1: first field was positive, -1: first field was negative
+    int sign = appendVerbosePart(sb, years, " year", 0);
+    sign = appendVerbosePart(sb, months, " mon", sign);
+    sign = appendVerbosePart(sb, days, " day", sign);
+    sign = appendVerbosePart(sb, hours, " hour", sign);
+    sign = appendVerbosePart(sb, minutes, " min", sign);
+    if (seconds != 0 || micros != 0) {
+      sb.append(' ');
+      if (seconds < 0 || (seconds == 0 && micros < 0)) {
+        if (sign == 0) {
+          sign = -1;
+        } else if (sign > 0) {
+          sb.append('-');
+        }
+      } else {
+        if (sign < 0) {
+          sb.append('-');
+        }
+        if (sign == 0) {
+          sign = 1;
+        }
+      }
+      sb.append(Math.abs(seconds));
+      appendIntervalFraction(sb, micros);
+      sb.append(Math.abs(seconds) != 1 || micros != 0 ? " secs" : " sec");
+    }
+    if (sign == 0) {
+      sb.append(" 0");
+    } else if (sign < 0) {
+      sb.append(" ago");
+    }
+  }
+
+  private static int appendVerbosePart(StringBuilder sb, long value, String unit, int sign) {
+    if (value == 0) {
+      return sign;
+    }
+    if (sign == 0) {
+      sign = value < 0 ? -1 : 1;
+      value = Math.abs(value);
+    } else if (sign < 0) {
+      value = -value;
+    }
+    sb.append(' ').append(value).append(unit);
+    if (value != 1) {
+      sb.append('s');
+    }
+    return sign;
+  }
+
+  /**
+   * Appends a {@code year}, {@code mon} or {@code day} part of an interval the way the server
+   * does: parts after a negative one get an explicit {@code +} sign.
+   *
+   * @return true if the appended value was negative, so the next part needs a sign
+   */
+  private static boolean appendIntervalPart(StringBuilder sb, int value, String unit,
+      boolean before) {
+    if (value == 0) {
+      return before;
+    }
+    if (sb.length() != 0) {
+      sb.append(' ');
+    }
+    if (before && value > 0) {
+      sb.append('+');
+    }
+    sb.append(value).append(unit);
+    if (value != 1) {
+      sb.append('s');
+    }
+    return value < 0;
+  }
+
+  private static void appendIntervalTime(StringBuilder sb, long hours, int minutes, int seconds,
+      int micros) {
+    appendTwoDigits(sb, Math.abs(hours));
+    sb.append(':');
+    appendIntervalSeconds(sb, minutes, seconds, micros);
+  }
+
+  // Appends mm:ss[.ffffff] without signs
+  private static void appendIntervalSeconds(StringBuilder sb, int minutes, int seconds,
+      int micros) {
+    appendTwoDigits(sb, Math.abs(minutes));
+    sb.append(':');
+    appendTwoDigits(sb, Math.abs(seconds));
+    appendIntervalFraction(sb, micros);
+  }
+
+  // Appends the fractional seconds without trailing zeros, if any
+  private static void appendIntervalFraction(StringBuilder sb, int micros) {
+    if (micros == 0) {
+      return;
+    }
+    sb.append('.');
+    int start = sb.length();
+    sb.append(Math.abs(micros) + 1000000).deleteCharAt(start);
+    int end = sb.length();
+    while (sb.charAt(end - 1) == '0') {
+      end--;
+    }
+    sb.setLength(end);
+  }
+
+  private static void appendTwoDigits(StringBuilder sb, long value) {
+    if (value < 10) {
+      sb.append('0');
+    }
+    sb.append(value);
+  }
+
   /**
    * PostgreSQL does not store the time zone in the binary representation of timestamptz.
    * However, we want to preserve the output of {@code getString()} in both binary and text formats
@@ -1573,6 +1842,15 @@ private ParsedBinaryTimestamp toProlepticParsedTimestampBin(byte[] bytes)
    * @throws PSQLException If binary format could not be parsed.
    */
   public LocalDateTime toLocalDateTimeBin(byte[] bytes) throws PSQLException {
+    if (!usesDouble) {
+      long micros = toMicrosBin(bytes);
+      if (micros == Long.MAX_VALUE) {
+        return LocalDateTime.MAX;
+      } else if (micros == Long.MIN_VALUE) {
+        return LocalDateTime.MIN;
+      }
+      return LocalDateTime.ofEpochSecond(epochSecond(micros), nanoOfSecond(micros), ZoneOffset.UTC);
+    }
 
     ParsedBinaryTimestamp parsedTimestamp = this.toProlepticParsedTimestampBin(bytes);
     if (parsedTimestamp.infinity == Infinity.POSITIVE) {
@@ -1586,6 +1864,48 @@ public LocalDateTime toLocalDateTimeBin(byte[] bytes) throws PSQLException {
     return LocalDateTime.ofEpochSecond(parsedTimestamp.millis / 1000L, parsedTimestamp.nanos, ZoneOffset.UTC);
   }
 
+  /**
+   * Returns the instant matching the given bytes with {@link Oid#TIMESTAMPTZ} or
+   * {@link Oid#TIMESTAMP}. The value is decoded straight from the binary representation without
+   * any {@link Calendar} or {@link TimeZone} lookup, {@code timestamp} values are treated as UTC.
+   *
+   * @param bytes The binary encoded timestamp value.
+   * @return The instant, infinite values are returned as the instants of
+   *     {@link OffsetDateTime#MAX} and {@link OffsetDateTime#MIN}.
+   * @throws PSQLException If binary format could not be parsed.
+   */
+  public Instant toInstantBin(byte[] bytes) throws PSQLException {
+    if (usesDouble) {
+      return toOffsetDateTimeBin(bytes).toInstant();
+    }
+    long micros = toMicrosBin(bytes);
+    if (micros == Long.MAX_VALUE) {
+      return OffsetDateTime.MAX.toInstant();
+    } else if (micros == Long.MIN_VALUE) {
+      return OffsetDateTime.MIN.toInstant();
+    }
+    return Instant.ofEpochSecond(epochSecond(micros), nanoOfSecond(micros));
+  }
+
+  /**
+   * Reads the number of microseconds since 2000-01-01 from an integer binary timestamp.
+   */
+  private static long toMicrosBin(byte[] bytes) throws PSQLException {
+    if (bytes.length != 8) {
+      throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "timestamp"),
+          PSQLState.BAD_DATETIME_FORMAT);
+    }
+    return ByteConverter.int8(bytes, 0);
+  }
+
+  private static long epochSecond(long pgMicros) {
+    return Math.floorDiv(pgMicros, MICROS_PER_SECOND) + PG_EPOCH_SECONDS;
+  }
+
+  private static int nanoOfSecond(long pgMicros) {
+    return (int) Math.floorMod(pgMicros, MICROS_PER_SECOND) * 1000;
+  }
+
   /**
    * Returns the local date time object matching the given bytes with {@link Oid#DATE} or
    * {@link Oid#TIMESTAMP}.
@@ -1595,6 +1915,16 @@ public LocalDateTime toLocalDateTimeBin(byte[] bytes) throws PSQLException {
    * @throws PSQLException If binary format could not be parsed.
    */
   public LocalDate toLocalDateBin(byte[] bytes) throws PSQLException {
+    if (bytes.length == 8 && !usesDouble) {
+      // timestamp, take the date part without creating an intermediate LocalDateTime
+      long micros = ByteConverter.int8(bytes, 0);
+      if (micros == Long.MAX_VALUE) {
+        return LocalDate.MAX;
+      } else if (micros == Long.MIN_VALUE) {
+        return LocalDate.MIN;
+      }
+      return LocalDate.ofEpochDay(Math.floorDiv(epochSecond(micros), SECONDS_PER_DAY));
+    }
     if (bytes.length != 4) {
       throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "date"),
           PSQLState.BAD_DATETIME_FORMAT);
@@ -1606,7 +1936,7 @@ public LocalDate toLocalDateBin(byte[] bytes) throws PSQLException {
       return LocalDate.MIN;
     }
     // adapt from different Postgres Epoch and convert to LocalDate:
-    return LocalDate.ofEpochDay(PG_EPOCH_DIFF.toDays() + days);
+    return LocalDate.ofEpochDay(PG_EPOCH_DAYS + days);
   }
 
   /**
@@ -1865,6 +2195,102 @@ public void toBinDate(@Nullable TimeZone tz, byte[] bytes, Date value) throws PS
     ByteConverter.int4(bytes, 0, (int) (secs / 86400));
   }
 
+  /**
+   * Converts the local date to binary representation for {@link Oid#DATE}. Values that
+   * {@link #toString(LocalDate)} renders as {@code infinity} or {@code -infinity} are encoded as
+   * infinite dates.
+   *
+   * @param bytes The target array, 4 bytes starting at {@code offset} are written.
+   * @param offset The position in {@code bytes} to write to.
+   * @param value The value to convert.
+   * @throws PSQLException If the value is out of the range of {@code date}.
+   */
+  public void toBinLocalDate(byte[] bytes, int offset, LocalDate value) throws PSQLException {
+    int days;
+    if (LocalDate.MAX.equals(value)) {
+      days = Integer.MAX_VALUE;
+    } else if (value.isBefore(MIN_LOCAL_DATE)) {
+      days = Integer.MIN_VALUE;
+    } else {
+      long pgDays = value.toEpochDay() - PG_EPOCH_DAYS;
+      if (pgDays >= Integer.MAX_VALUE) {
+        throw new PSQLException(GT.tr("Date {0} is out of range.", value),
+            PSQLState.DATETIME_OVERFLOW);
+      }
+      days = (int) pgDays;
+    }
+    ByteConverter.int4(bytes, offset, days);
+  }
+
+  /**
+   * Converts the local date time to binary representation for {@link Oid#TIMESTAMP}. The value is
+   * rounded to microseconds the same way as in {@link #toString(LocalDateTime)}.
+   *
+   * @param bytes The target array, 8 bytes starting at {@code offset} are written.
+   * @param offset The position in {@code bytes} to write to.
+   * @param value The value to convert.
+   * @throws PSQLException If the value is out of the range of {@code timestamp}.
+   */
+  public void toBinLocalDateTime(byte[] bytes, int offset, LocalDateTime value)
+      throws PSQLException {
+    if (value.isAfter(MAX_LOCAL_DATETIME)) {
+      toBinTimestamp(bytes, offset, Long.MAX_VALUE);
+    } else if (value.isBefore(MIN_LOCAL_DATETIME)) {
+      toBinTimestamp(bytes, offset, Long.MIN_VALUE);
+    } else {
+      @SuppressWarnings("JavaLocalDateTimeGetNano")
+      int nano = value.getNano();
+      toBinTimestamp(bytes, offset, toPgMicros(value.toEpochSecond(ZoneOffset.UTC), nano, value));
+    }
+  }
+
+  /**
+   * Converts the offset date time to binary representation for {@link Oid#TIMESTAMPTZ}. The value
+   * is rounded to microseconds the same way as in {@link #toString(OffsetDateTime)}.
+   *
+   * @param bytes The target array, 8 bytes starting at {@code offset} are written.
+   * @param offset The position in {@code bytes} to write to.
+   * @param value The value to convert.
+   * @throws PSQLException If the value is out of the range of {@code timestamptz}.
+   */
+  public void toBinOffsetDateTime(byte[] bytes, int offset, OffsetDateTime value)
+      throws PSQLException {
+    if (value.isAfter(MAX_OFFSET_DATETIME)) {
+      toBinTimestamp(bytes, offset, Long.MAX_VALUE);
+    } else if (value.isBefore(MIN_OFFSET_DATETIME)) {
+      toBinTimestamp(bytes, offset, Long.MIN_VALUE);
+    } else {
+      toBinTimestamp(bytes, offset, toPgMicros(value.toEpochSecond(), value.getNano(), value));
+    }
+  }
+
+  private static long toPgMicros(long epochSecond, int nano, Object value) throws PSQLException {
+    try {
+      return Math.addExact(
+          Math.multiplyExact(epochSecond - PG_EPOCH_SECONDS, MICROS_PER_SECOND),
+          (nano + 500) / 1000);
+    } catch (ArithmeticException e) {
+      throw new PSQLException(GT.tr("Timestamp {0} is out of range.", value),
+          PSQLState.DATETIME_OVERFLOW, e);
+    }
+  }
+
+  /**
+   * Writes microseconds since 2000-01-01, {@link Long#MAX_VALUE} and {@link Long#MIN_VALUE} stand
+   * for {@code infinity} and {@code -infinity}.
+   */
+  private void toBinTimestamp(byte[] bytes, int offset, long pgMicros) {
+    if (!usesDouble) {
+      ByteConverter.int8(bytes, offset, pgMicros);
+    } else if (pgMicros == Long.MAX_VALUE) {
+      ByteConverter.float8(bytes, offset, Double.POSITIVE_INFINITY);
+    } else if (pgMicros == Long.MIN_VALUE) {
+      ByteConverter.float8(bytes, offset, Double.NEGATIVE_INFINITY);
+    } else {
+      ByteConverter.float8(bytes, offset, pgMicros / (double) MICROS_PER_SECOND);
+    }
+  }
+
   /**
    * Converts backend's TimeZone parameter to java format.
    * Notable difference: backend's gmt-3 is GMT+03 in Java.
@@ -12,6 +12,7 @@
 import org.postgresql.core.Oid;
 import org.postgresql.core.QueryExecutor;
 import org.postgresql.core.ServerVersion;
+import org.postgresql.core.SharedTypeCatalog;
 import org.postgresql.core.TypeInfo;
 import org.postgresql.util.GT;
 import org.postgresql.util.PGobject;
@@ -73,6 +74,7 @@ public class TypeInfoCache implements TypeInfo {
   private @Nullable PreparedStatement getArrayDelimiterStatement;
   private @Nullable PreparedStatement getTypeInfoStatement;
   private @Nullable PreparedStatement getAllTypeInfoStatement;
+  private @Nullable SharedTypeCatalog sharedCatalog;
   private final ResourceLock lock = new ResourceLock();
 
   // basic pg types info:
@@ -240,6 +242,62 @@ public Iterator<Integer> getPGTypeOidsWithSQLTypes() {
     return oidToSQLType.keySet().iterator();
   }
 
+  /**
+   * Consults the catalog shared with other connections to the same database before querying the
+   * server for the SQL type, array element and array delimiter of a type oid, and publishes the
+   * results of the queries to it. Loads the catalog if no other connection has loaded it.
+   *
+   * @param sharedCatalog the catalog of the database
+   * @throws SQLException if the catalog can not be loaded
+   */
+  public void setSharedCatalog(SharedTypeCatalog sharedCatalog) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      this.sharedCatalog = sharedCatalog;
+      int loadEpoch = sharedCatalog.startLoad();
+      if (loadEpoch < 0) {
+        return;
+      }
+      boolean success = false;
+      try {
+        loadSharedCatalog(sharedCatalog, loadEpoch);
+        success = true;
+      } finally {
+        if (!success) {
+          sharedCatalog.abortLoad();
+        }
+      }
+    }
+  }
+
+  private void loadSharedCatalog(SharedTypeCatalog sharedCatalog, int loadEpoch)
+      throws SQLException {
+    LOGGER.log(Level.FINEST, "loading shared type catalog {0}", sharedCatalog);
+    String sql = "SELECT t.oid, t.typinput='pg_catalog.array_in'::regproc as is_array, t.typtype,"
+        + " e.oid as element_oid, e.typdelim"
+        + "  FROM pg_catalog.pg_type t"
+        + "  LEFT JOIN pg_catalog.pg_type e ON t.typelem = e.oid";
+    Map<Integer, Integer> sqlTypes = new HashMap<>();
+    Map<Integer, Integer> arrayElements = new HashMap<>();
+    Map<Integer, Character> arrayDelimiters = new HashMap<>();
+    try (BaseStatement stmt = (BaseStatement) conn.createStatement()) {
+      // Go through BaseStatement to avoid transaction start.
+      if (!stmt.executeWithFlags(sql, QueryExecutor.QUERY_SUPPRESS_BEGIN)) {
+        throw new PSQLException(GT.tr("No results were returned by the query."), PSQLState.NO_DATA);
+      }
+      ResultSet rs = castNonNull(stmt.getResultSet());
+      while (rs.next()) {
+        int oid = longOidToInt(rs.getLong("oid"));
+        sqlTypes.put(oid, getSQLTypeFromQueryResult(rs));
+        long elementOid = rs.getLong("element_oid");
+        if (!rs.wasNull()) {
+          arrayElements.put(oid, longOidToInt(elementOid));
+          arrayDelimiters.put(oid, castNonNull(rs.getString("typdelim")).charAt(0));
+        }
+      }
+    }
+    sharedCatalog.finishLoad(loadEpoch, sqlTypes, arrayElements, arrayDelimiters);
+  }
+
   private static String getSQLTypeQuery(boolean typoidParam) {
     // There's no great way of telling what's an array type.
     // People can name their own types starting with _.
@@ -269,9 +327,11 @@ private static String getSQLTypeQuery(boolean typoidParam) {
   }
 
   private static int getSQLTypeFromQueryResult(ResultSet rs) throws SQLException {
+    return getSQLType(rs.getBoolean("is_array"), rs.getString("typtype"));
+  }
+
+  private static int getSQLType(boolean isArray, @Nullable String typtype) {
     Integer type = null;
-    boolean isArray = rs.getBoolean("is_array");
-    String typtype = rs.getString("typtype");
     if (isArray) {
       type = Types.ARRAY;
     } else if ("c".equals(typtype)) {
@@ -320,6 +380,92 @@ public void cacheSQLTypes() throws SQLException {
     rs.close();
   }
 
+  /**
+   * Loads the name, oid, SQL type, array type, array element and array delimiter of all the types
+   * outside of {@code pg_catalog} and {@code information_schema} with a single query, so the first
+   * queries of the connection that use custom, enum, domain or array types do not look them up one
+   * by one. Row types of tables, views and sequences are not loaded, they are looked up on demand.
+   *
+   * <p>Names are resolved with the {@code search_path} of the session at the time of the call, as
+   * {@link #getPGType(int)} and {@link #getPGType(String)} would.</p>
+   *
+   * @throws SQLException if the types can not be loaded
+   */
+  public void preloadTypes() throws SQLException {
+    if (!conn.haveMinimumServerVersion(ServerVersion.v8_3)) {
+      // pg_type.typarray is not available
+      return;
+    }
+    LOGGER.log(Level.FINEST, "preloading types");
+    // -- types earlier in the search path come first, so they win the unqualified names,
+    // see getOidStatement()
+    String sql = "SELECT n.nspname = ANY(current_schemas(true)) as on_path, n.nspname, t.typname,"
+        + " t.oid, t.typtype, t.typdelim, arr.oid as array_oid, arr.typname as array_typname"
+        + "  FROM pg_catalog.pg_type t"
+        + "  JOIN pg_catalog.pg_namespace n ON t.typnamespace = n.oid"
+        + "  LEFT JOIN pg_catalog.pg_type arr ON arr.oid = t.typarray"
+        + "  LEFT JOIN pg_catalog.pg_class c ON c.oid = t.typrelid"
+        + "  LEFT JOIN (select ns.oid as nspoid, r.r "
+        + "          from pg_namespace as ns "
+        + "          join ( select s.r, (current_schemas(false))[s.r] as nspname "
+        + "                   from generate_series(1, array_upper(current_schemas(false), 1)) as s(r) ) as r "
+        + "         using ( nspname ) "
+        + "       ) as sp "
+        + "    ON sp.nspoid = t.typnamespace"
+        + " WHERE n.nspname NOT IN ('pg_catalog', 'information_schema')"
+        + "   AND t.typinput <> 'pg_catalog.array_in'::regproc"
+        + "   AND (t.typrelid = 0 OR c.relkind = 'c')"
+        + " ORDER BY sp.r, t.oid DESC";
+    try (ResourceLock ignore = lock.obtain();
+         BaseStatement stmt = (BaseStatement) conn.createStatement()) {
+      // Go through BaseStatement to avoid transaction start.
+      if (!stmt.executeWithFlags(sql, QueryExecutor.QUERY_SUPPRESS_BEGIN)) {
+        throw new PSQLException(GT.tr("No results were returned by the query."), PSQLState.NO_DATA);
+      }
+      ResultSet rs = castNonNull(stmt.getResultSet());
+      while (rs.next()) {
+        boolean onPath = rs.getBoolean("on_path");
+        String schema = castNonNull(rs.getString("nspname"));
+        String name = castNonNull(rs.getString("typname"));
+        int oid = longOidToInt(rs.getLong("oid"));
+        String pgTypeName = addPreloadedName(onPath, schema, name, oid);
+        oidToSQLType.put(oid, getSQLType(false, rs.getString("typtype")));
+
+        long arrayOid = rs.getLong("array_oid");
+        if (rs.wasNull()) {
+          continue;
+        }
+        int arrayTypeOid = longOidToInt(arrayOid);
+        addPreloadedName(onPath, schema, castNonNull(rs.getString("array_typname")), arrayTypeOid);
+        pgNameToOid.putIfAbsent(pgTypeName + "[]", arrayTypeOid);
+        oidToSQLType.put(arrayTypeOid, Types.ARRAY);
+        pgArrayToPgType.put(arrayTypeOid, oid);
+        arrayOidToDelimiter.put(arrayTypeOid, castNonNull(rs.getString("typdelim")).charAt(0));
+      }
+    }
+  }
+
+  /**
+   * Registers the name of a preloaded type the way {@link #getPGType(int)} does, except that a
+   * name that is already known keeps its oid.
+   */
+  private String addPreloadedName(boolean onPath, String schema, String name, int oid) {
+    String pgTypeName;
+    if (onPath) {
+      pgTypeName = name;
+      pgNameToOid.putIfAbsent(schema + "." + name, oid);
+    } else {
+      pgTypeName = "\"" + schema + "\".\"" + name + "\"";
+      if (schema.equals(schema.toLowerCase(Locale.ROOT)) && schema.indexOf('.') == -1
+          && name.equals(name.toLowerCase(Locale.ROOT)) && name.indexOf('.') == -1) {
+        pgNameToOid.putIfAbsent(schema + "." + name, oid);
+      }
+    }
+    pgNameToOid.putIfAbsent(pgTypeName, oid);
+    oidToPgName.put(oid, pgTypeName);
+    return pgTypeName;
+  }
+
   private PreparedStatement prepareGetTypeInfoStatement() throws SQLException {
     PreparedStatement getTypeInfoStatement = this.getTypeInfoStatement;
     if (getTypeInfoStatement == null) {
@@ -377,6 +523,15 @@ public int getSQLType(int typeOid) throws SQLException {
         return i;
       }
 
+      SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+      if (sharedCatalog != null) {
+        i = sharedCatalog.getSQLType(typeOid);
+        if (i != null) {
+          oidToSQLType.put(typeOid, i);
+          return i;
+        }
+      }
+
       LOGGER.log(Level.FINEST, "querying SQL typecode for pg type oid ''{0}''", intOidToLong(typeOid));
 
       PreparedStatement getTypeInfoStatement = prepareGetTypeInfoStatement();
@@ -394,6 +549,9 @@ public int getSQLType(int typeOid) throws SQLException {
       int sqlType = Types.OTHER;
       if (rs.next()) {
         sqlType = getSQLTypeFromQueryResult(rs);
+        if (sharedCatalog != null) {
+          sharedCatalog.putSQLType(typeOid, sqlType);
+        }
       }
       rs.close();
 
@@ -645,6 +803,15 @@ public char getArrayDelimiter(int oid) throws SQLException {
         return delim;
       }
 
+      SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+      if (sharedCatalog != null) {
+        delim = sharedCatalog.getArrayDelimiter(oid);
+        if (delim != null) {
+          arrayOidToDelimiter.put(oid, delim);
+          return delim;
+        }
+      }
+
       PreparedStatement getArrayDelimiterStatement = prepareGetArrayDelimiterStatement();
 
       getArrayDelimiterStatement.setInt(1, oid);
@@ -664,6 +831,9 @@ public char getArrayDelimiter(int oid) throws SQLException {
       delim = s.charAt(0);
 
       arrayOidToDelimiter.put(oid, delim);
+      if (sharedCatalog != null) {
+        sharedCatalog.putArrayDelimiter(oid, delim);
+      }
 
       rs.close();
 
@@ -695,6 +865,16 @@ public int getPGArrayElement(int oid) throws SQLException {
         return pgType;
       }
 
+      // the shared catalog has no names, getPGType(int) looks them up on demand
+      SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+      if (sharedCatalog != null) {
+        pgType = sharedCatalog.getArrayElement(oid);
+        if (pgType != null) {
+          pgArrayToPgType.put(oid, pgType);
+          return pgType;
+        }
+      }
+
       PreparedStatement getArrayElementOidStatement = prepareGetArrayElementOidStatement();
 
       getArrayElementOidStatement.setInt(1, oid);
@@ -715,6 +895,9 @@ public int getPGArrayElement(int oid) throws SQLException {
       String schema = rs.getString(3);
       String name = castNonNull(rs.getString(4));
       pgArrayToPgType.put(oid, pgType);
+      if (sharedCatalog != null) {
+        sharedCatalog.putArrayElement(oid, pgType);
+      }
       pgNameToOid.put(schema + "." + name, pgType);
       String fullName = "\"" + schema + "\".\"" + name + "\"";
       pgNameToOid.put(fullName, pgType);
@@ -18,7 +18,9 @@
  * threads). After complete streaming should be close, for free resource on backend. Periodical
  * status update work only when use {@link PGReplicationStream#read()} method. It means that
  * process wal record should be fast as possible, because during process wal record lead to
- * disconnect by timeout from server.
+ * disconnect by timeout from server. Streams started with
+ * {@link org.postgresql.replication.fluent.ChainedCommonStreamBuilder#withBackgroundFeedback(boolean)}
+ * also send status updates while the application is not reading.
  */
 public interface PGReplicationStream
     extends AutoCloseable {
@@ -68,6 +70,21 @@
    */
   LogSequenceNumber getLastReceiveLSN();
 
+  /**
+   * Returns the WAL position of the start of the XLogData message last returned by
+   * {@link PGReplicationStream#read()} or {@link PGReplicationStream#readPending()}. Unlike
+   * {@link #getLastReceiveLSN()}, keepalive messages do not change it, including the ones answered
+   * by the background feedback task, so it always matches the returned buffer.
+   *
+   * <p>The default implementation, for streams that do not track it, returns
+   * {@link LogSequenceNumber#INVALID_LSN}.</p>
+   *
+   * @return NOT NULL start LSN of the last returned message
+   */
+  default LogSequenceNumber getLastMessageStartLSN() {
+    return LogSequenceNumber.INVALID_LSN;
+  }
+
   /**
    * Last flushed LSN sent in update message to backend. Parameter updates only via {@link
    * PGReplicationStream#setFlushedLSN(LogSequenceNumber)}
@@ -122,6 +139,23 @@
    */
   void forceUpdateStatus() throws SQLException;
 
+  /**
+   * Returns a snapshot of the throughput and lag counters of this stream, such as bytes and
+   * messages received, keepalive messages, time spent waiting for the server, and the difference
+   * between the server and received LSN.
+   *
+   * <p>It is safe to call this method in a thread different than the main thread.</p>
+   *
+   * <p>The default implementation, for streams that do not keep counters, reports zero for all
+   * counters and only the last received LSN.</p>
+   *
+   * @return not null statistics accumulated since the stream was started
+   */
+  default ReplicationStreamStatistics getStatistics() {
+    return new ReplicationStreamStatistics(0, 0, 0, 0, 0, 0, LogSequenceNumber.INVALID_LSN,
+        getLastReceiveLSN());
+  }
+
   /**
    * @return {@code true} if replication stream was already close, otherwise return {@code false}
    */
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication;
+
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads changes from a {@link PGReplicationStream} and hands them to a fixed number of worker
+ * threads, so applying the changes is not limited by a single thread.
+ *
+ * <p>Every change is routed by the key returned from {@link PartitionKeyExtractor}, usually the
+ * relation and primary key decoded from the output plugin message. Changes with equal keys are
+ * always handled by the same worker in the order they were received, while changes with different
+ * keys can be handled concurrently. Changes without a key are handled by the first worker.</p>
+ *
+ * <p>The dispatcher reports the safe LSN back to the stream with
+ * {@link PGReplicationStream#setFlushedLSN(LogSequenceNumber)} and
+ * {@link PGReplicationStream#setAppliedLSN(LogSequenceNumber)}. The safe LSN is the minimum
+ * position acknowledged across the workers, so every change at or before it has been handled,
+ * regardless of the worker it was routed to. Combine it with
+ * {@link org.postgresql.replication.fluent.ChainedCommonStreamBuilder#withBackgroundFeedback(boolean)}
+ * when the workers can fall far behind the reading thread.</p>
+ *
+ * <p>The dispatching methods must be called from a single thread. The dispatcher does not close
+ * the underlying stream.</p>
+ */
+public class PartitionedReplicationDispatcher implements AutoCloseable {
+
+  private static final Logger LOGGER =
+      Logger.getLogger(PartitionedReplicationDispatcher.class.getName());
+
+  /**
+   * Interval used to re-check for worker failures while waiting for a full worker queue.
+   */
+  private static final long OFFER_TIMEOUT_MS = 100L;
+
+  /**
+   * Extracts the partitioning key from a change received from the replication stream.
+   */
+  public interface PartitionKeyExtractor {
+    /**
+     * @param change change received from the stream, the position of the buffer must not be
+     *               modified
+     * @return the key that defines ordering for the change, for example the relation name and
+     *     primary key, or null when the change is not bound to a key
+     */
+    @Nullable Object getPartitionKey(ByteBuffer change);
+  }
+
+  /**
+   * Applies a change on a worker thread.
+   */
+  public interface ChangeHandler {
+    /**
+     * @param lsn    the LSN of the XLogData message of the change, reported by
+     *               {@link PGReplicationStream#getLastMessageStartLSN()}
+     * @param change change received from the stream
+     * @throws Exception when the change cannot be applied. The worker stops, and the next
+     *     dispatch call fails with the exception as the cause.
+     */
+    void handle(LogSequenceNumber lsn, ByteBuffer change) throws Exception;
+  }
+
+  private static final class Change {
+    private final LogSequenceNumber lsn;
+    private final @Nullable ByteBuffer data;
+
+    Change(LogSequenceNumber lsn, @Nullable ByteBuffer data) {
+      this.lsn = lsn;
+      this.data = data;
+    }
+  }
+
+  private static final Change STOP = new Change(LogSequenceNumber.INVALID_LSN, null);
+
+  private final PGReplicationStream stream;
+  private final PartitionKeyExtractor keyExtractor;
+  private final ChangeHandler handler;
+  private final Worker[] workers;
+  private volatile @Nullable Throwable failure;
+  private volatile LogSequenceNumber lastDispatchedLSN = LogSequenceNumber.INVALID_LSN;
+  private LogSequenceNumber lastReportedLSN = LogSequenceNumber.INVALID_LSN;
+  private boolean started;
+  private boolean closed;
+
+  /**
+   * @param stream        not null replication stream to read changes from
+   * @param workerCount   number of worker threads
+   * @param queueCapacity number of changes that can wait for each worker before dispatching
+   *                      blocks
+   * @param keyExtractor  not null function that returns the partitioning key of a change
+   * @param handler       not null handler invoked by the workers for each change
+   */
+  public PartitionedReplicationDispatcher(PGReplicationStream stream, int workerCount,
+      int queueCapacity, PartitionKeyExtractor keyExtractor, ChangeHandler handler) {
+    if (workerCount <= 0) {
+      throw new IllegalArgumentException("workerCount must be positive: " + workerCount);
+    }
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("queueCapacity must be positive: " + queueCapacity);
+    }
+    this.stream = stream;
+    this.keyExtractor = keyExtractor;
+    this.handler = handler;
+    this.workers = new Worker[workerCount];
+    for (int i = 0; i < workerCount; i++) {
+      workers[i] = new Worker(queueCapacity);
+    }
+  }
+
+  /**
+   * Starts the worker threads. Dispatching starts the workers automatically if needed.
+   */
+  public void start() {
+    if (started) {
+      return;
+    }
+    started = true;
+    for (int i = 0; i < workers.length; i++) {
+      Thread thread = new Thread(workers[i], "PostgreSQL JDBC driver replication worker " + i);
+      thread.setDaemon(true);
+      workers[i].thread = thread;
+      thread.start();
+    }
+  }
+
+  /**
+   * Reads the next change from the stream, blocking until it is available, and routes it to a
+   * worker. Blocks while the queue of the target worker is full.
+   *
+   * @return true if a change was dispatched, false if the stream has ended
+   * @throws SQLException when reading from the stream fails, a worker failed, or the thread is
+   *     interrupted
+   */
+  public boolean dispatch() throws SQLException {
+    checkState();
+    return dispatchInternal(stream.read());
+  }
+
+  /**
+   * Reads the next change from the stream without blocking, and routes it to a worker. Blocks
+   * while the queue of the target worker is full.
+   *
+   * @return true if a change was dispatched, false if no change was pending
+   * @throws SQLException when reading from the stream fails, a worker failed, or the thread is
+   *     interrupted
+   */
+  public boolean dispatchPending() throws SQLException {
+    checkState();
+    return dispatchInternal(stream.readPending());
+  }
+
+  /**
+   * Returns the LSN up to which all dispatched changes have been handled. It is safe to call this
+   * method in a thread different than the dispatching thread.
+   *
+   * @return not null safe LSN, {@link LogSequenceNumber#INVALID_LSN} when nothing was handled yet
+   */
+  public LogSequenceNumber getSafeFlushedLSN() {
+    // read the dispatched position first: a change dispatched after this read cannot make
+    // an idle worker look complete up to a position it has not handled
+    LogSequenceNumber dispatched = lastDispatchedLSN;
+    LogSequenceNumber safe = dispatched;
+    for (Worker worker : workers) {
+      LogSequenceNumber acknowledged =
+          worker.pending.get() == 0 ? dispatched : worker.acknowledgedLSN;
+      if (acknowledged.compareTo(safe) < 0) {
+        safe = acknowledged;
+      }
+    }
+    return safe;
+  }
+
+  /**
+   * Stops the workers after they handle the changes already dispatched to them, and reports the
+   * final safe LSN to the stream. The stream itself is not closed.
+   *
+   * @throws SQLException when the thread is interrupted while waiting for the workers
+   */
+  @Override
+  public void close() throws SQLException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (!started) {
+      return;
+    }
+    try {
+      for (Worker worker : workers) {
+        while (!worker.queue.offer(STOP, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+          if (failure != null) {
+            break;
+          }
+        }
+      }
+      for (Worker worker : workers) {
+        Thread thread = worker.thread;
+        if (thread == null) {
+          continue;
+        }
+        if (failure != null) {
+          // the remaining changes cannot be acknowledged anyway, so do not wait for them
+          thread.interrupt();
+        }
+        thread.join();
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new PSQLException(GT.tr("Interrupted while waiting for replication workers"),
+          PSQLState.OBJECT_NOT_IN_STATE, ie);
+    }
+    reportProgress();
+  }
+
+  private boolean dispatchInternal(@Nullable ByteBuffer change) throws SQLException {
+    if (change == null) {
+      reportProgress();
+      return false;
+    }
+
+    // keepalives answered by the background feedback task can move the received LSN past the
+    // change, the start of the message is only changed by the next read
+    LogSequenceNumber lsn = stream.getLastMessageStartLSN();
+    if (lsn.equals(LogSequenceNumber.INVALID_LSN)) {
+      lsn = stream.getLastReceiveLSN();
+    }
+    Worker worker = workers[partition(keyExtractor.getPartitionKey(change))];
+
+    // increment before publishing the LSN, see getSafeFlushedLSN
+    worker.pending.incrementAndGet();
+    lastDispatchedLSN = lsn;
+    try {
+      Change item = new Change(lsn, change);
+      while (!worker.queue.offer(item, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+        checkFailure();
+      }
+    } catch (InterruptedException ie) {
+      Thread.currentThread().interrupt();
+      throw new PSQLException(GT.tr("Interrupted while dispatching a replication change"),
+          PSQLState.OBJECT_NOT_IN_STATE, ie);
+    }
+
+    reportProgress();
+    return true;
+  }
+
+  private int partition(@Nullable Object key) {
+    if (key == null) {
+      return 0;
+    }
+    int hash = key.hashCode();
+    // spread the hash so keys that differ only in the high bits are distributed as well
+    hash ^= hash >>> 16;
+    return (hash & Integer.MAX_VALUE) % workers.length;
+  }
+
+  private void reportProgress() {
+    LogSequenceNumber safe = getSafeFlushedLSN();
+    if (safe.compareTo(lastReportedLSN) > 0) {
+      lastReportedLSN = safe;
+      stream.setFlushedLSN(safe);
+      stream.setAppliedLSN(safe);
+    }
+  }
+
+  private void checkState() throws SQLException {
+    if (closed) {
+      throw new PSQLException(GT.tr("This replication dispatcher has been closed."),
+          PSQLState.OBJECT_NOT_IN_STATE);
+    }
+    checkFailure();
+    start();
+  }
+
+  private void checkFailure() throws PSQLException {
+    Throwable failure = this.failure;
+    if (failure != null) {
+      throw new PSQLException(GT.tr("A replication worker failed to handle a change"),
+          PSQLState.UNEXPECTED_ERROR, failure);
+    }
+  }
+
+  private final class Worker implements Runnable {
+    private final BlockingQueue<Change> queue;
+    /**
+     * Number of changes dispatched to this worker and not yet handled.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile LogSequenceNumber acknowledgedLSN = LogSequenceNumber.INVALID_LSN;
+    private @Nullable Thread thread;
+
+    Worker(int queueCapacity) {
+      this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @Override
+    public void run() {
+      try {
+        while (true) {
+          Change change = queue.take();
+          ByteBuffer data = change.data;
+          if (data == null) {
+            return;
+          }
+          handler.handle(change.lsn, data);
+          acknowledgedLSN = change.lsn;
+          pending.decrementAndGet();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (Throwable t) {
+        LOGGER.log(Level.WARNING, "Replication worker failed to handle a change", t);
+        if (failure == null) {
+          failure = t;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the counters maintained by a {@link PGReplicationStream}. Counters are cumulative
+ * since the stream was started, use {@link #since(ReplicationStreamStatistics)} to get the values
+ * for the interval between two snapshots.
+ */
+public final class ReplicationStreamStatistics {
+  private final long elapsedNanos;
+  private final long bytesReceived;
+  private final long messagesReceived;
+  private final long keepAlivesReceived;
+  private final long statusUpdatesSent;
+  private final long readBlockedNanos;
+  private final LogSequenceNumber lastServerLSN;
+  private final LogSequenceNumber lastReceiveLSN;
+
+  /**
+   * @param elapsedNanos       time covered by the counters, in nanoseconds
+   * @param bytesReceived      number of bytes received in CopyData messages
+   * @param messagesReceived   number of XLogData messages received
+   * @param keepAlivesReceived number of keepalive messages received
+   * @param statusUpdatesSent  number of standby status updates sent to the server
+   * @param readBlockedNanos   time spent waiting for data from the server, in nanoseconds
+   * @param lastServerLSN      last WAL position reported by the server
+   * @param lastReceiveLSN     last WAL position received by the stream
+   */
+  public ReplicationStreamStatistics(long elapsedNanos, long bytesReceived,
+      long messagesReceived, long keepAlivesReceived, long statusUpdatesSent,
+      long readBlockedNanos, LogSequenceNumber lastServerLSN, LogSequenceNumber lastReceiveLSN) {
+    this.elapsedNanos = elapsedNanos;
+    this.bytesReceived = bytesReceived;
+    this.messagesReceived = messagesReceived;
+    this.keepAlivesReceived = keepAlivesReceived;
+    this.statusUpdatesSent = statusUpdatesSent;
+    this.readBlockedNanos = readBlockedNanos;
+    this.lastServerLSN = lastServerLSN;
+    this.lastReceiveLSN = lastReceiveLSN;
+  }
+
+  /**
+   * @return time covered by the counters, in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * @return number of bytes received in CopyData messages, including the replication message
+   *     headers
+   */
+  public long getBytesReceived() {
+    return bytesReceived;
+  }
+
+  /**
+   * @return number of XLogData messages received
+   */
+  public long getMessagesReceived() {
+    return messagesReceived;
+  }
+
+  /**
+   * @return number of primary keepalive messages received
+   */
+  public long getKeepAlivesReceived() {
+    return keepAlivesReceived;
+  }
+
+  /**
+   * @return number of standby status updates sent to the server
+   */
+  public long getStatusUpdatesSent() {
+    return statusUpdatesSent;
+  }
+
+  /**
+   * @return time spent waiting for data from the server in {@link PGReplicationStream#read()} and
+   *     {@link PGReplicationStream#readPending()}, in nanoseconds
+   */
+  public long getReadBlockedNanos() {
+    return readBlockedNanos;
+  }
+
+  /**
+   * @return last WAL position reported by the server in XLogData or keepalive messages
+   */
+  public LogSequenceNumber getLastServerLSN() {
+    return lastServerLSN;
+  }
+
+  /**
+   * @return last WAL position received by the stream, see
+   *     {@link PGReplicationStream#getLastReceiveLSN()}
+   */
+  public LogSequenceNumber getLastReceiveLSN() {
+    return lastReceiveLSN;
+  }
+
+  /**
+   * Returns how many bytes of WAL the server has that the stream has not received yet. A growing
+   * value means the consumer does not keep up with the server.
+   *
+   * @return the difference between the server and received LSN in bytes, never negative
+   */
+  public long getLagBytes() {
+    if (lastServerLSN.equals(LogSequenceNumber.INVALID_LSN)
+        || lastReceiveLSN.equals(LogSequenceNumber.INVALID_LSN)) {
+      return 0;
+    }
+    return Math.max(0, lastServerLSN.asLong() - lastReceiveLSN.asLong());
+  }
+
+  /**
+   * @return bytes received per second over {@link #getElapsedNanos()}
+   */
+  public double getBytesPerSecond() {
+    return perSecond(bytesReceived);
+  }
+
+  /**
+   * @return XLogData messages received per second over {@link #getElapsedNanos()}
+   */
+  public double getMessagesPerSecond() {
+    return perSecond(messagesReceived);
+  }
+
+  /**
+   * @return keepalive messages received per second over {@link #getElapsedNanos()}
+   */
+  public double getKeepAlivesPerSecond() {
+    return perSecond(keepAlivesReceived);
+  }
+
+  /**
+   * Returns the counters accumulated between {@code earlier} and this snapshot. The LSN values
+   * are the ones of this snapshot.
+   *
+   * @param earlier snapshot taken earlier from the same stream
+   * @return not null statistics for the interval between the two snapshots
+   */
+  public ReplicationStreamStatistics since(ReplicationStreamStatistics earlier) {
+    return new ReplicationStreamStatistics(
+        elapsedNanos - earlier.elapsedNanos,
+        bytesReceived - earlier.bytesReceived,
+        messagesReceived - earlier.messagesReceived,
+        keepAlivesReceived - earlier.keepAlivesReceived,
+        statusUpdatesSent - earlier.statusUpdatesSent,
+        readBlockedNanos - earlier.readBlockedNanos,
+        lastServerLSN,
+        lastReceiveLSN);
+  }
+
+  private double perSecond(long value) {
+    if (elapsedNanos <= 0) {
+      return 0;
+    }
+    return value * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "ReplicationStreamStatistics{"
+        + "elapsedNanos=" + elapsedNanos
+        + ", bytesReceived=" + bytesReceived
+        + ", messagesReceived=" + messagesReceived
+        + ", keepAlivesReceived=" + keepAlivesReceived
+        + ", statusUpdatesSent=" + statusUpdatesSent
+        + ", readBlockedNanos=" + readBlockedNanos
+        + ", lastServerLSN=" + lastServerLSN.asString()
+        + ", lastReceiveLSN=" + lastReceiveLSN.asString()
+        + '}';
+  }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication;
+
+import org.postgresql.util.GT;
+import org.postgresql.util.OSUtil;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes the WAL received from a physical {@link PGReplicationStream} into segment files, similar
+ * to {@code pg_receivewal}.
+ *
+ * <p>The segment that is being received is written to a file with the {@code .partial} suffix. The
+ * file is preallocated to the full segment size when it is created, and every XLogData payload is
+ * written with a positional {@link FileChannel} write at the offset of its LSN, without copying it
+ * into an intermediate buffer. When a segment is complete, it is synced to disk, renamed to its
+ * final name, the directory is synced, and the end of the segment is reported to the server with
+ * {@link PGReplicationStream#setFlushedLSN(LogSequenceNumber)}.</p>
+ *
+ * <p>The stream should be started at the beginning of a segment, for example with the LSN
+ * returned by {@code IDENTIFY_SYSTEM} rounded down to the segment size. If the archiver is
+ * restarted, an existing {@code .partial} file is reused.</p>
+ *
+ * <p>The stream must be started with
+ * {@link org.postgresql.replication.fluent.ChainedCommonStreamBuilder#withAutomaticFlush(boolean)
+ * withAutomaticFlush(false)}. With automatic flush, a keepalive received after a segment was
+ * reported can advance the flushed LSN to the server position, past WAL that is not written to
+ * the files yet, and the server can then recycle it.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ */
+public class WalSegmentArchiver implements AutoCloseable {
+
+  private static final Logger LOGGER = Logger.getLogger(WalSegmentArchiver.class.getName());
+
+  /**
+   * Default size of WAL segment files, {@code wal_segment_size} in PostgreSQL.
+   */
+  public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+  static final String PARTIAL_SUFFIX = ".partial";
+
+  private static final int ZERO_BLOCK_SIZE = 64 * 1024;
+
+  private final PGReplicationStream stream;
+  private final Path directory;
+  private final int timeline;
+  private final int segmentSize;
+
+  private @Nullable FileChannel channel;
+  private @Nullable Path partialFile;
+  private long segmentStart = -1;
+  private LogSequenceNumber writtenLSN = LogSequenceNumber.INVALID_LSN;
+  private boolean closed;
+
+  /**
+   * Creates an archiver for the default segment size of 16 MB.
+   *
+   * @param stream    not null physical replication stream
+   * @param directory not null existing directory for the segment files
+   * @param timeline  timeline of the streamed WAL, used in the segment file names
+   */
+  public WalSegmentArchiver(PGReplicationStream stream, Path directory, int timeline) {
+    this(stream, directory, timeline, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * @param stream      not null physical replication stream
+   * @param directory   not null existing directory for the segment files
+   * @param timeline    timeline of the streamed WAL, used in the segment file names
+   * @param segmentSize size of the WAL segments of the server, must be a power of two
+   */
+  public WalSegmentArchiver(PGReplicationStream stream, Path directory, int timeline,
+      int segmentSize) {
+    if (segmentSize <= 0 || (segmentSize & (segmentSize - 1)) != 0) {
+      throw new IllegalArgumentException("segmentSize must be a power of two: " + segmentSize);
+    }
+    this.stream = stream;
+    this.directory = directory;
+    this.timeline = timeline;
+    this.segmentSize = segmentSize;
+  }
+
+  /**
+   * Reads the next XLogData message from the stream, blocking until it is available, and writes
+   * it to the segment files.
+   *
+   * @return true if WAL was written, false if the stream has ended
+   * @throws SQLException when reading from the stream or writing the files fails
+   */
+  public boolean receive() throws SQLException {
+    checkClose();
+    return write(stream.read());
+  }
+
+  /**
+   * Reads the next XLogData message from the stream without blocking, and writes it to the
+   * segment files.
+   *
+   * @return true if WAL was written, false if no message was pending
+   * @throws SQLException when reading from the stream or writing the files fails
+   */
+  public boolean receivePending() throws SQLException {
+    checkClose();
+    return write(stream.readPending());
+  }
+
+  /**
+   * Syncs the current partial segment to disk and reports the written position to the server as
+   * flushed. Completed segments are synced and reported automatically.
+   *
+   * @throws SQLException when the file cannot be synced
+   */
+  public void flush() throws SQLException {
+    checkClose();
+    FileChannel channel = this.channel;
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.force(false);
+    } catch (IOException e) {
+      throw new PSQLException(GT.tr("Unable to write WAL segment {0}", partialFile),
+          PSQLState.IO_ERROR, e);
+    }
+    stream.setFlushedLSN(writtenLSN);
+  }
+
+  /**
+   * @return the LSN up to which WAL was written to the segment files
+   */
+  public LogSequenceNumber getWrittenLSN() {
+    return writtenLSN;
+  }
+
+  /**
+   * Syncs and closes the current partial segment. The replication stream is not closed.
+   *
+   * @throws SQLException when the file cannot be synced
+   */
+  @Override
+  public void close() throws SQLException {
+    if (closed) {
+      return;
+    }
+    try {
+      flush();
+    } finally {
+      closed = true;
+      closeChannel();
+    }
+  }
+
+  /**
+   * Returns the file name of the segment that contains the given LSN, in the same format as the
+   * server, for example {@code 000000010000000A000000C3}.
+   *
+   * @param timeline    timeline of the segment
+   * @param lsn         any position in the segment
+   * @param segmentSize size of the WAL segments
+   * @return the segment file name
+   */
+  public static String segmentFileName(int timeline, long lsn, int segmentSize) {
+    long segmentNo = lsn / segmentSize;
+    long segmentsPerId = 0x100000000L / segmentSize;
+    return String.format(Locale.ROOT, "%08X%08X%08X",
+        timeline, segmentNo / segmentsPerId, segmentNo % segmentsPerId);
+  }
+
+  private boolean write(@Nullable ByteBuffer payload) throws SQLException {
+    if (payload == null) {
+      return false;
+    }
+
+    // keepalives answered by the background feedback task can move the received LSN past the
+    // payload, the start of the message is only changed by the next read
+    LogSequenceNumber messageStart = stream.getLastMessageStartLSN();
+    long position = messageStart.equals(LogSequenceNumber.INVALID_LSN)
+        // for physical replication the received LSN is the end of the payload
+        ? stream.getLastReceiveLSN().asLong() - payload.remaining()
+        : messageStart.asLong();
+
+    try {
+      while (payload.hasRemaining()) {
+        long start = position - position % segmentSize;
+        FileChannel channel = this.channel;
+        if (channel == null || start != segmentStart) {
+          if (channel != null) {
+            // the stream does not continue the current segment, keep it as a partial file
+            channel.force(false);
+            closeChannel();
+          }
+          channel = openSegment(start);
+        }
+
+        int length = (int) Math.min(payload.remaining(), start + segmentSize - position);
+        int limit = payload.limit();
+        payload.limit(payload.position() + length);
+        long offset = position - start;
+        while (payload.hasRemaining()) {
+          offset += channel.write(payload, offset);
+        }
+        payload.limit(limit);
+        position += length;
+        writtenLSN = LogSequenceNumber.valueOf(position);
+
+        if (position == start + segmentSize) {
+          completeSegment(channel);
+        }
+      }
+    } catch (IOException e) {
+      throw new PSQLException(GT.tr("Unable to write WAL segment {0}", partialFile),
+          PSQLState.IO_ERROR, e);
+    }
+    return true;
+  }
+
+  private FileChannel openSegment(long start) throws IOException {
+    Path file = directory.resolve(segmentFileName(timeline, start, segmentSize) + PARTIAL_SUFFIX);
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.READ, StandardOpenOption.WRITE);
+    try {
+      if (channel.size() < segmentSize) {
+        preallocate(channel, channel.size());
+      }
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+    this.channel = channel;
+    this.partialFile = file;
+    this.segmentStart = start;
+    LOGGER.log(Level.FINE, "Writing WAL segment {0}", file);
+    return channel;
+  }
+
+  /**
+   * Fills the file with zeros so the blocks are allocated up front, like the server and
+   * {@code pg_receivewal} do, instead of extending the file on every write.
+   */
+  private void preallocate(FileChannel channel, long from) throws IOException {
+    ByteBuffer zeros = ByteBuffer.allocateDirect(ZERO_BLOCK_SIZE);
+    long position = from;
+    while (position < segmentSize) {
+      zeros.clear();
+      zeros.limit((int) Math.min(ZERO_BLOCK_SIZE, segmentSize - position));
+      while (zeros.hasRemaining()) {
+        position += channel.write(zeros, position);
+      }
+    }
+    channel.force(true);
+  }
+
+  private void completeSegment(FileChannel channel) throws IOException {
+    Path partial = partialFile;
+    channel.force(false);
+    closeChannel();
+    if (partial != null) {
+      String name = partial.getFileName().toString();
+      Path target = partial.resolveSibling(
+          name.substring(0, name.length() - PARTIAL_SUFFIX.length()));
+      Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+      syncDirectory();
+      LOGGER.log(Level.FINE, "Completed WAL segment {0}", target);
+    }
+    stream.setFlushedLSN(writtenLSN);
+  }
+
+  /**
+   * Syncs the directory so the rename survives a crash before the segment is reported as flushed,
+   * like {@code pg_receivewal} does. Directories cannot be opened for syncing on Windows, where the
+   * step is skipped as it is in PostgreSQL.
+   */
+  private void syncDirectory() throws IOException {
+    if (OSUtil.isWindows()) {
+      return;
+    }
+    try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+      dir.force(true);
+    }
+  }
+
+  private void closeChannel() {
+    FileChannel channel = this.channel;
+    this.channel = null;
+    this.partialFile = null;
+    this.segmentStart = -1;
+    if (channel == null) {
+      return;
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      LOGGER.log(Level.FINE, "Unable to close WAL segment file", e);
+    }
+  }
+
+  private void checkClose() throws PSQLException {
+    if (closed) {
+      throw new PSQLException(GT.tr("This WAL segment archiver has been closed."),
+          PSQLState.OBJECT_NOT_IN_STATE);
+    }
+  }
+}
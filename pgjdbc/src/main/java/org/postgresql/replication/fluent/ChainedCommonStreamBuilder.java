@@ -53,4 +53,21 @@
    * @return not null fluent
    */
   T withAutomaticFlush(boolean automaticFlush);
+
+  /**
+   * Specify if the stream should send feedback to the server from a background task. When enabled,
+   * keepalive messages are answered and the last values passed to
+   * {@link org.postgresql.replication.PGReplicationStream#setFlushedLSN(LogSequenceNumber)} and
+   * {@link org.postgresql.replication.PGReplicationStream#setAppliedLSN(LogSequenceNumber)} are
+   * reported every status interval even while the application does not call {@code read()} or
+   * {@code readPending()}. The task stays idle while the application is reading from the stream.
+   *
+   * @param backgroundFeedback true to send status updates independently of the reading thread
+   * @return not null fluent
+   * @throws UnsupportedOperationException if the builder does not support background feedback
+   */
+  default T withBackgroundFeedback(boolean backgroundFeedback) {
+    throw new UnsupportedOperationException(
+        "Background feedback is not supported by " + getClass().getName());
+  }
 }
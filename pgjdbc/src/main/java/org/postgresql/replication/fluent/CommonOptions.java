@@ -38,4 +38,15 @@ public interface CommonOptions {
   int getStatusInterval();
 
   boolean getAutomaticFlush();
+
+  /**
+   * Specifies whether status updates are sent to the server by a background task, so the
+   * application can spend more than {@code wal_sender_timeout} processing the received changes
+   * without being disconnected. The default value is {@code false}.
+   *
+   * @return true if the stream sends feedback independently of the reading thread
+   */
+  default boolean getBackgroundFeedback() {
+    return false;
+  }
 }
@@ -97,4 +97,9 @@ public int getStatusInterval() {
   public boolean getAutomaticFlush() {
     return automaticFlush;
   }
+
+  @Override
+  public boolean getBackgroundFeedback() {
+    return backgroundFeedback;
+  }
 }
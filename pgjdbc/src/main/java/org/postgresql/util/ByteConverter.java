@@ -5,6 +5,8 @@
 
 package org.postgresql.util;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -68,6 +70,16 @@ private void grow() {
   private static final BigInteger[] BI_TEN_POWERS = new BigInteger[32];
   private static final BigInteger BI_TEN_THOUSAND = BigInteger.valueOf(10000);
   private static final BigInteger BI_MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+  /**
+   * Largest unscaled value that can still be shifted by 4 digits and extended with the next
+   * 4 digits without overflowing a {@code long}.
+   */
+  private static final long MAX_LONG_BEFORE_SHIFT = (Long.MAX_VALUE - 9999) / 10000;
+  /**
+   * Largest scale for which the decimal digits of a {@code long} can be padded to a multiple of
+   * 4 digits without overflowing.
+   */
+  private static final int MAX_LONG_ENCODE_SCALE = 15;
 
   static {
     for (int i = 0; i < INT_TEN_POWERS.length; i++) {
@@ -179,7 +191,7 @@ public static Number numeric(byte [] bytes, int pos, int numBytes) {
     }
 
     if (len == 0) {
-      return new BigDecimal(BigInteger.ZERO, scale);
+      return BigDecimal.valueOf(0, scale);
     }
 
     int idx = pos + 8;
@@ -223,7 +235,7 @@ public static Number numeric(byte [] bytes, int pos, int numBytes) {
       BigInteger unscaledBI = null;
       long unscaledInt = d;
       for (; i < len; i++) {
-        if (i == 4 && effectiveScale > 2) {
+        if (unscaledBI == null && unscaledInt > MAX_LONG_BEFORE_SHIFT) {
           unscaledBI = BigInteger.valueOf(unscaledInt);
         }
         idx += 2;
@@ -257,19 +269,8 @@ public static Number numeric(byte [] bytes, int pos, int numBytes) {
           }
         }
       }
-      //now we need BigInteger to create BigDecimal
-      if (unscaledBI == null) {
-        unscaledBI = BigInteger.valueOf(unscaledInt);
-      }
       //if there is remaining effective scale, apply it here
-      if (effectiveScale > 0) {
-        unscaledBI = unscaledBI.multiply(tenPower(effectiveScale));
-      }
-      if (sign == NUMERIC_NEG) {
-        unscaledBI = unscaledBI.negate();
-      }
-
-      return new BigDecimal(unscaledBI, scale);
+      return toBigDecimal(unscaledBI, unscaledInt, effectiveScale, sign == NUMERIC_NEG, scale);
     }
 
     //if there is no scale, then shorts are the unscaled int
@@ -280,7 +281,7 @@ public static Number numeric(byte [] bytes, int pos, int numBytes) {
       long unscaledInt = d;
       //loop over all of the len shorts to process as the unscaled int
       for (int i = 1; i < len; i++) {
-        if (i == 4) {
+        if (unscaledBI == null && unscaledInt > MAX_LONG_BEFORE_SHIFT) {
           unscaledBI = BigInteger.valueOf(unscaledInt);
         }
         idx += 2;
@@ -295,19 +296,15 @@ public static Number numeric(byte [] bytes, int pos, int numBytes) {
           }
         }
       }
-      //now we need BigInteger to create BigDecimal
-      if (unscaledBI == null) {
-        unscaledBI = BigInteger.valueOf(unscaledInt);
-      }
-      if (sign == NUMERIC_NEG) {
-        unscaledBI = unscaledBI.negate();
-      }
       //the difference between len and weight (adjusted from 0 based) becomes the scale for BigDecimal
       final int bigDecScale = (len - (weight + 1)) * 4;
       //string representation always results in a BigDecimal with scale of 0
       //the binary representation, where weight and len can infer trailing 0s, can result in a negative scale
       //to produce a consistent BigDecimal, we return the equivalent object with scale set to 0
-      return bigDecScale == 0 ? new BigDecimal(unscaledBI) : new BigDecimal(unscaledBI, bigDecScale).setScale(0);
+      if (bigDecScale <= 0) {
+        return toBigDecimal(unscaledBI, unscaledInt, -bigDecScale, sign == NUMERIC_NEG, 0);
+      }
+      return toBigDecimal(unscaledBI, unscaledInt, 0, sign == NUMERIC_NEG, bigDecScale).setScale(0);
     }
 
     //defer moving to BigInteger as long as possible
@@ -319,7 +316,7 @@ public static Number numeric(byte [] bytes, int pos, int numBytes) {
     int effectiveWeight = weight;
     int effectiveScale = scale;
     for (int i = 1; i < len; i++) {
-      if (i == 4) {
+      if (unscaledBI == null && unscaledInt > MAX_LONG_BEFORE_SHIFT) {
         unscaledBI = BigInteger.valueOf(unscaledInt);
       }
       idx += 2;
@@ -362,23 +359,39 @@ public static Number numeric(byte [] bytes, int pos, int numBytes) {
       }
     }
 
-    //now we need BigInteger to create BigDecimal
-    if (unscaledBI == null) {
-      unscaledBI = BigInteger.valueOf(unscaledInt);
-    }
-    //if there is remaining weight, apply it here
-    if (effectiveWeight > 0) {
-      unscaledBI = unscaledBI.multiply(tenPower(effectiveWeight * 4));
+    //if there is remaining weight or effective scale, apply it here
+    return toBigDecimal(unscaledBI, unscaledInt, effectiveWeight * 4 + effectiveScale,
+        sign == NUMERIC_NEG, scale);
+  }
+
+  /**
+   * Creates the decoded {@link BigDecimal}. When the unscaled value still fits in a long, which
+   * is the case for up to 18 significant digits, the result is created with
+   * {@link BigDecimal#valueOf(long, int)} and no {@link BigInteger} is allocated.
+   *
+   * @param unscaledBI the unscaled value if it did not fit in a long, or null
+   * @param unscaledInt the unscaled value if unscaledBI is null
+   * @param exponent power of ten the unscaled value must still be multiplied with
+   * @param negative whether the value is negative
+   * @param scale scale of the result
+   * @return the decoded value
+   */
+  private static BigDecimal toBigDecimal(@Nullable BigInteger unscaledBI, long unscaledInt,
+      int exponent, boolean negative, int scale) {
+    if (unscaledBI == null
+        && exponent < LONG_TEN_POWERS.length
+        && unscaledInt <= Long.MAX_VALUE / LONG_TEN_POWERS[exponent]) {
+      long unscaled = unscaledInt * LONG_TEN_POWERS[exponent];
+      return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
     }
-    //if there is remaining effective scale, apply it here
-    if (effectiveScale > 0) {
-      unscaledBI = unscaledBI.multiply(tenPower(effectiveScale));
+    BigInteger unscaled = unscaledBI == null ? BigInteger.valueOf(unscaledInt) : unscaledBI;
+    if (exponent > 0) {
+      unscaled = unscaled.multiply(tenPower(exponent));
     }
-    if (sign == NUMERIC_NEG) {
-      unscaledBI = unscaledBI.negate();
+    if (negative) {
+      unscaled = unscaled.negate();
     }
-
-    return new BigDecimal(unscaledBI, scale);
+    return new BigDecimal(unscaled, scale);
   }
 
   /**
@@ -427,6 +440,47 @@ public static byte[] numeric(BigDecimal nbr) {
         unscaledLong = unscaledLong / 10000L;
         ++weight;
       } while (unscaledLong != 0);
+    } else if (scale <= MAX_LONG_ENCODE_SCALE && unscaled.bitLength() < Long.SIZE) {
+      //the value fits in a long, so split it without BigInteger division
+      final long unscaledLong = unscaled.longValue();
+      long decimal = unscaledLong % LONG_TEN_POWERS[scale];
+      long wholes = unscaledLong / LONG_TEN_POWERS[scale];
+      if (decimal != 0) {
+        int mod = scale % 4;
+        int segments = scale / 4;
+        if (mod != 0) {
+          decimal *= INT_TEN_POWERS[4 - mod];
+          ++segments;
+        }
+        do {
+          final short shortValue = (short) (decimal % 10000);
+          if (shortValue != 0 || !shorts.isEmpty()) {
+            shorts.push(shortValue);
+          }
+          decimal = decimal / 10000L;
+          --segments;
+        } while (decimal != 0);
+
+        //for the leading 0 shorts we either adjust weight (if no wholes)
+        // or push shorts
+        if (wholes == 0) {
+          weight -= segments;
+        } else {
+          //now add leading 0 shorts
+          for (int i = 0; i < segments; i++) {
+            shorts.push((short) 0);
+          }
+        }
+      }
+
+      while (wholes != 0) {
+        ++weight;
+        final short shortValue = (short) (wholes % 10000);
+        if (shortValue != 0 || !shorts.isEmpty()) {
+          shorts.push(shortValue);
+        }
+        wholes = wholes / 10000L;
+      }
     } else {
       final BigInteger[] split = unscaled.divideAndRemainder(tenPower(scale));
       BigInteger decimal = split[1];
@@ -17,9 +17,10 @@
 /**
  * This implements a class that handles the PostgreSQL interval type.
  */
-public class PGInterval extends PGobject implements Serializable, Cloneable {
+public class PGInterval extends PGobject implements PGBinaryObject, Serializable, Cloneable {
 
   private static final int MICROS_IN_SECOND = 1000000;
+  private static final long MICROS_IN_HOUR = 3600L * MICROS_IN_SECOND;
 
   private int years;
   private int months;
@@ -29,6 +30,8 @@ public class PGInterval extends PGobject implements Serializable, Cloneable {
   private int wholeSeconds;
   private int microSeconds;
   private boolean isNull;
+  // 1 for infinity, -1 for -infinity (PostgreSQL 17+), 0 for finite intervals
+  private int infinity;
 
   /**
    * required by the driver.
@@ -141,6 +144,12 @@ public void setValue(@Nullable String value) throws SQLException {
       isNull = true;
       return;
     }
+    infinity = 0;
+    if ("infinity".equals(value) || "-infinity".equals(value)) {
+      setValue(0, 0, 0, 0, 0, 0);
+      infinity = value.charAt(0) == '-' ? -1 : 1;
+      return;
+    }
     final boolean postgresFormat = !value.startsWith("@");
     if (value.startsWith("P")) {
       parseISO8601Format(value);
@@ -248,6 +257,74 @@ public void setValue(int years, int months, int days, int hours, int minutes, do
     setSeconds(seconds);
   }
 
+  /**
+   * Sets this interval from its binary representation: microseconds as int8, followed by days
+   * and months as int4. Months are split into years and months and microseconds into hours,
+   * minutes and seconds the same way the server does for the text output. Infinite intervals
+   * of PostgreSQL 17+ have all their fields set to zero and are printed as {@code infinity} or
+   * {@code -infinity}.
+   *
+   * @param b binary representation of the interval
+   * @param offset the offset in the byte array where the interval starts
+   * @throws SQLException if the number of hours does not fit into an int
+   */
+  @Override
+  public void setByteValue(byte[] b, int offset) throws SQLException {
+    long micros = ByteConverter.int8(b, offset);
+    int days = ByteConverter.int4(b, offset + 8);
+    int totalMonths = ByteConverter.int4(b, offset + 12);
+    if (micros == Long.MAX_VALUE && days == Integer.MAX_VALUE
+        && totalMonths == Integer.MAX_VALUE) {
+      setValue(0, 0, 0, 0, 0, 0);
+      infinity = 1;
+      return;
+    } else if (micros == Long.MIN_VALUE && days == Integer.MIN_VALUE
+        && totalMonths == Integer.MIN_VALUE) {
+      setValue(0, 0, 0, 0, 0, 0);
+      infinity = -1;
+      return;
+    }
+
+    long hours = micros / MICROS_IN_HOUR;
+    if (hours < Integer.MIN_VALUE || hours > Integer.MAX_VALUE) {
+      throw new PSQLException(GT.tr("Conversion of interval failed"),
+          PSQLState.NUMERIC_CONSTANT_OUT_OF_RANGE);
+    }
+    micros -= hours * MICROS_IN_HOUR;
+    isNull = false;
+    infinity = 0;
+    this.years = totalMonths / 12;
+    this.months = totalMonths % 12;
+    this.days = days;
+    this.hours = (int) hours;
+    this.minutes = (int) (micros / (60L * MICROS_IN_SECOND));
+    micros %= 60L * MICROS_IN_SECOND;
+    this.wholeSeconds = (int) (micros / MICROS_IN_SECOND);
+    this.microSeconds = (int) (micros % MICROS_IN_SECOND);
+  }
+
+  @Override
+  public int lengthInBytes() {
+    return isNull ? 0 : 16;
+  }
+
+  @Override
+  public void toBytes(byte[] b, int offset) {
+    if (isNull) {
+      return;
+    }
+    if (infinity != 0) {
+      ByteConverter.int8(b, offset, infinity > 0 ? Long.MAX_VALUE : Long.MIN_VALUE);
+      ByteConverter.int4(b, offset + 8, infinity > 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+      ByteConverter.int4(b, offset + 12, infinity > 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE);
+      return;
+    }
+    long micros = ((hours * 60L + minutes) * 60L + wholeSeconds) * MICROS_IN_SECOND + microSeconds;
+    ByteConverter.int8(b, offset, micros);
+    ByteConverter.int4(b, offset + 8, days);
+    ByteConverter.int4(b, offset + 12, years * 12 + months);
+  }
+
   /**
    * Returns the stored interval information as a string.
    *
@@ -258,6 +335,9 @@ public void setValue(int years, int months, int days, int hours, int minutes, do
     if (isNull) {
       return null;
     }
+    if (infinity != 0) {
+      return infinity > 0 ? "infinity" : "-infinity";
+    }
 
     // See https://github.com/pgjdbc/pgjdbc/pull/3866 for the justification
     // It looks like any attempt to estimate the buffer size causes noticeable slowdown
@@ -325,6 +405,7 @@ public int getYears() {
    */
   public void setYears(int years) {
     isNull = false;
+    infinity = 0;
     this.years = years;
   }
 
@@ -344,6 +425,7 @@ public int getMonths() {
    */
   public void setMonths(int months) {
     isNull = false;
+    infinity = 0;
     this.months = months;
   }
 
@@ -363,6 +445,7 @@ public int getDays() {
    */
   public void setDays(int days) {
     isNull = false;
+    infinity = 0;
     this.days = days;
   }
 
@@ -382,6 +465,7 @@ public int getHours() {
    */
   public void setHours(int hours) {
     isNull = false;
+    infinity = 0;
     this.hours = hours;
   }
 
@@ -401,6 +485,7 @@ public int getMinutes() {
    */
   public void setMinutes(int minutes) {
     isNull = false;
+    infinity = 0;
     this.minutes = minutes;
   }
 
@@ -438,6 +523,7 @@ public void setSeconds(double seconds) {
       throw new IllegalArgumentException("Number of whole seconds should be within Integer.MIN_VALUE...Integer.MAX_VALUE");
     }
     isNull = false;
+    infinity = 0;
     wholeSeconds = (int) newWholeSeconds;
     microSeconds = (int) (totalMicros % MICROS_IN_SECOND);
   }
@@ -565,7 +651,8 @@ public boolean equals(@Nullable Object obj) {
       return false;
     }
 
-    return pgi.years == years
+    return pgi.infinity == infinity
+        && pgi.years == years
         && pgi.months == months
         && pgi.days == days
         && pgi.hours == hours
@@ -585,7 +672,7 @@ public int hashCode() {
       return 0;
     }
     return (((((((8 * 31 + microSeconds) * 31 + wholeSeconds) * 31 + minutes) * 31 + hours) * 31
-        + days) * 31 + months) * 31 + years) * 31;
+        + days) * 31 + months) * 31 + years) * 31 + infinity;
   }
 
   @Override
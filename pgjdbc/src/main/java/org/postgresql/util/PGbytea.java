@@ -7,6 +7,7 @@
 
 import org.postgresql.core.FixedLengthOutputStream;
 import org.postgresql.core.v3.SqlSerializationContext;
+import org.postgresql.util.internal.VectorizedHex;
 
 import org.checkerframework.checker.nullness.qual.PolyNull;
 
@@ -62,7 +63,8 @@ private static byte[] toBytesHexEscaped(byte[] s) {
     // so they need to be ignored here
     final int realLength = s.length - 2;
     byte[] output = new byte[realLength >>> 1];
-    for (int i = 0; i < realLength; i += 2) {
+    int decoded = VectorizedHex.decode(s, 2, output, 0, output.length);
+    for (int i = 2 * decoded; i < realLength; i += 2) {
       int val = getHex(s[2 + i]) << 4;
       val |= getHex(s[3 + i]);
       output[i >>> 1] = (byte) val;
@@ -143,14 +145,16 @@ private static byte[] toBytesOctalEscaped(byte[] s) {
 
   /**
    * Appends given byte array as hex string.
-   * See HexEncodingBenchmark for the benchmark.
+   * See HexEncodingBenchmark for the benchmark. Longer arrays are encoded with the Vector API when
+   * it is available, see {@link VectorizedHex}.
    * @param sb output builder
    * @param buf buffer to append
    * @param offset offset within the buffer
    * @param length the length of sequence to append
    */
   public static void appendHexString(StringBuilder sb, byte[] buf, int offset, int length) {
-    for (int i = offset; i < offset + length; i++) {
+    int appended = VectorizedHex.append(sb, buf, offset, length);
+    for (int i = offset + appended; i < offset + length; i++) {
       byte element = buf[i];
       sb.append(Character.forDigit((element >> 4) & 0xf, 16));
       sb.append(Character.forDigit(element & 0xf, 16));
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util.internal;
+
+/**
+ * Converts blocks of bytes to and from hex digits with SIMD instructions.
+ *
+ * <p>This is the Java 8 implementation, which converts nothing so callers convert all the bytes
+ * with their scalar loop. On Java 17+ the multi-release JAR replaces it with an implementation
+ * that uses the incubating Vector API when the {@code jdk.incubator.vector} module is available,
+ * see {@code src/main/java17}.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class VectorizedHex {
+
+  private VectorizedHex() {
+  }
+
+  /**
+   * Returns whether the conversions are vectorized.
+   *
+   * @return true if the conversions are vectorized
+   */
+  public static boolean isEnabled() {
+    return false;
+  }
+
+  /**
+   * Decodes pairs of hex digits into bytes, starting from the beginning and stopping before a
+   * block that contains anything but hex digits. The caller decodes the remaining bytes.
+   *
+   * @param src hex digits
+   * @param srcOffset offset of the first digit
+   * @param dst output buffer
+   * @param dstOffset offset of the first output byte
+   * @param length number of bytes to decode, {@code src} must contain twice as many digits
+   * @return the number of bytes decoded
+   */
+  public static int decode(byte[] src, int srcOffset, byte[] dst, int dstOffset, int length) {
+    return 0;
+  }
+
+  /**
+   * Appends the lowercase hex digits of the leading bytes to the builder. The caller appends the
+   * remaining bytes.
+   *
+   * @param sb output builder
+   * @param src bytes to encode
+   * @param offset offset of the first byte
+   * @param length number of bytes to encode
+   * @return the number of bytes appended
+   */
+  public static int append(StringBuilder sb, byte[] src, int offset, int length) {
+    return 0;
+  }
+}
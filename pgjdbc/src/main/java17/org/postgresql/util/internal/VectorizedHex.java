@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Converts blocks of bytes to and from hex digits with SIMD instructions.
+ *
+ * <p>This is the Java 17+ implementation that uses the incubating Vector API. The API is only
+ * usable when the application adds the module with {@code --add-modules jdk.incubator.vector}, so
+ * the vector code lives in {@link VectorizedHexImpl}, which is loaded only after probing that the
+ * module is readable. Without the module, or with 128-bit vectors where the shuffles are slower
+ * than the scalar loops, nothing is converted here and callers use their scalar loops. Set the
+ * {@code pgjdbc.config.vector.enabled} system property to {@code false} to turn the Vector API
+ * off.</p>
+ *
+ * <p>This class replaces the Java 8 implementation via the multi-release JAR mechanism when
+ * running on Java 17+.</p>
+ *
+ * <p>Note: this is a driver-internal class</p>
+ */
+public final class VectorizedHex {
+  private static final Logger LOGGER = Logger.getLogger(VectorizedHex.class.getName());
+
+  /**
+   * Shorter inputs are converted by the callers, setting up the vectors does not pay off for them.
+   */
+  private static final int MIN_LENGTH = 64;
+
+  /**
+   * Number of bytes encoded into the scratch buffer before it is appended to the builder.
+   */
+  private static final int APPEND_CHUNK = 4096;
+
+  private static final boolean ENABLED = probe();
+
+  private VectorizedHex() {
+  }
+
+  private static boolean probe() {
+    if (!Boolean.parseBoolean(System.getProperty("pgjdbc.config.vector.enabled", "true"))) {
+      return false;
+    }
+    try {
+      return VectorizedHexImpl.isSupported();
+    } catch (LinkageError e) {
+      // jdk.incubator.vector is not in the module graph
+      LOGGER.log(Level.FINEST, "Vector API is not available, hex conversion is not vectorized", e);
+      return false;
+    }
+  }
+
+  /**
+   * Returns whether the conversions are vectorized.
+   *
+   * @return true if the conversions are vectorized
+   */
+  public static boolean isEnabled() {
+    return ENABLED;
+  }
+
+  /**
+   * Decodes pairs of hex digits into bytes, starting from the beginning and stopping before a
+   * block that contains anything but hex digits. The caller decodes the remaining bytes.
+   *
+   * @param src hex digits
+   * @param srcOffset offset of the first digit
+   * @param dst output buffer
+   * @param dstOffset offset of the first output byte
+   * @param length number of bytes to decode, {@code src} must contain twice as many digits
+   * @return the number of bytes decoded
+   */
+  public static int decode(byte[] src, int srcOffset, byte[] dst, int dstOffset, int length) {
+    if (!ENABLED || length < MIN_LENGTH) {
+      return 0;
+    }
+    return VectorizedHexImpl.decode(src, srcOffset, dst, dstOffset, length);
+  }
+
+  /**
+   * Appends the lowercase hex digits of the leading bytes to the builder. The caller appends the
+   * remaining bytes.
+   *
+   * @param sb output builder
+   * @param src bytes to encode
+   * @param offset offset of the first byte
+   * @param length number of bytes to encode
+   * @return the number of bytes appended
+   */
+  public static int append(StringBuilder sb, byte[] src, int offset, int length) {
+    if (!ENABLED || length < MIN_LENGTH) {
+      return 0;
+    }
+    byte[] digits = new byte[2 * Math.min(length, APPEND_CHUNK)];
+    int done = 0;
+    while (done < length) {
+      int encoded = VectorizedHexImpl.encode(src, offset + done, digits,
+          Math.min(length - done, APPEND_CHUNK));
+      if (encoded == 0) {
+        break;
+      }
+      // hex digits are latin1, so the String shares the compact representation of the builder
+      sb.append(new String(digits, 0, 2 * encoded, StandardCharsets.ISO_8859_1));
+      done += encoded;
+    }
+    return done;
+  }
+}
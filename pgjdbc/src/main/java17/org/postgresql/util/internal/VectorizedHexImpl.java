@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util.internal;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Vector API kernels for {@link VectorizedHex}. Loading this class fails with
+ * {@link NoClassDefFoundError} unless {@code jdk.incubator.vector} is in the module graph.
+ */
+final class VectorizedHexImpl {
+  private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+  private static final int LANES = SPECIES.length();
+
+  /**
+   * Picks the first and the second digit of every pair out of two vectors of digits.
+   */
+  private static final VectorShuffle<Byte> EVEN = VectorShuffle.fromOp(SPECIES, i -> 2 * i);
+  private static final VectorShuffle<Byte> ODD = VectorShuffle.fromOp(SPECIES, i -> 2 * i + 1);
+
+  /**
+   * Interleaves the high and the low digits of the first and the second half of the input.
+   * Indexes beyond the vector length select from the second vector.
+   */
+  private static final VectorShuffle<Byte> ZIP_FIRST = VectorShuffle.fromOp(SPECIES,
+      i -> (i & 1) == 0 ? i / 2 : LANES + i / 2);
+  private static final VectorShuffle<Byte> ZIP_SECOND = VectorShuffle.fromOp(SPECIES,
+      i -> (i & 1) == 0 ? LANES / 2 + i / 2 : LANES + LANES / 2 + i / 2);
+
+  private VectorizedHexImpl() {
+  }
+
+  static boolean isSupported() {
+    // with 128-bit vectors the shuffles cost more than the scalar table lookups
+    return SPECIES.vectorBitSize() >= 256;
+  }
+
+  /**
+   * Decodes blocks of {@code LANES} bytes.
+   *
+   * @return the number of bytes decoded
+   */
+  static int decode(byte[] src, int srcOffset, byte[] dst, int dstOffset, int length) {
+    int done = 0;
+    for (; done + LANES <= length; done += LANES) {
+      int pos = srcOffset + 2 * done;
+      ByteVector first = nibbles(src, pos);
+      ByteVector second = first == null ? null : nibbles(src, pos + LANES);
+      if (second == null) {
+        // not a hex digit, leave it to the scalar loop
+        break;
+      }
+      ByteVector high = first.rearrange(EVEN, second);
+      ByteVector low = first.rearrange(ODD, second);
+      high.lanewise(VectorOperators.LSHL, 4).or(low).intoArray(dst, dstOffset + done);
+    }
+    return done;
+  }
+
+  /**
+   * Encodes blocks of {@code LANES} bytes into lowercase hex digits at the start of {@code dst}.
+   *
+   * @return the number of bytes encoded
+   */
+  static int encode(byte[] src, int srcOffset, byte[] dst, int length) {
+    int done = 0;
+    for (; done + LANES <= length; done += LANES) {
+      ByteVector value = ByteVector.fromArray(SPECIES, src, srcOffset + done);
+      ByteVector high = digits(value.lanewise(VectorOperators.LSHR, 4));
+      ByteVector low = digits(value.and((byte) 0x0f));
+      high.rearrange(ZIP_FIRST, low).intoArray(dst, 2 * done);
+      high.rearrange(ZIP_SECOND, low).intoArray(dst, 2 * done + LANES);
+    }
+    return done;
+  }
+
+  /**
+   * Returns the values of the hex digits, or null if any of the bytes is not a hex digit.
+   */
+  private static @Nullable ByteVector nibbles(byte[] src, int offset) {
+    ByteVector value = ByteVector.fromArray(SPECIES, src, offset);
+    ByteVector digit = value.sub((byte) '0');
+    // setting 0x20 turns A-F into a-f
+    ByteVector letter = value.or((byte) 0x20).sub((byte) 'a');
+    VectorMask<Byte> isDigit = digit.compare(VectorOperators.UNSIGNED_LT, (byte) 10);
+    VectorMask<Byte> isLetter = letter.compare(VectorOperators.UNSIGNED_LT, (byte) 6);
+    if (!isDigit.or(isLetter).allTrue()) {
+      return null;
+    }
+    return letter.add((byte) 10).blend(digit, isDigit);
+  }
+
+  private static ByteVector digits(ByteVector nibble) {
+    return nibble.add((byte) '0')
+        .blend(nibble.add((byte) ('a' - 10)), nibble.compare(VectorOperators.GT, (byte) 9));
+  }
+}
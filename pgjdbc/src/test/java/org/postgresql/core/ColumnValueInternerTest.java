@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+class ColumnValueInternerTest {
+  private static final Encoding UTF8 = Encoding.getJVMEncoding("UTF-8");
+
+  @Test
+  void repeatedValuesShareInstance() throws IOException {
+    ColumnValueInterner interner = new ColumnValueInterner(10);
+    String first = interner.getString(utf8("active"), UTF8);
+    assertEquals("active", first);
+    assertSame(first, interner.getString(utf8("active"), UTF8));
+    assertNotSame(first, interner.getString(utf8("inactive"), UTF8));
+    assertEquals(2, interner.size());
+  }
+
+  @Test
+  void nonAsciiValues() throws IOException {
+    ColumnValueInterner interner = new ColumnValueInterner(10);
+    String first = interner.getString(utf8("€"), UTF8);
+    assertEquals("€", first);
+    assertSame(first, interner.getString(utf8("€"), UTF8));
+  }
+
+  @Test
+  void growsBeyondInitialCapacity() throws IOException {
+    ColumnValueInterner interner = new ColumnValueInterner(1000);
+    String[] first = new String[100];
+    for (int i = 0; i < first.length; i++) {
+      first[i] = interner.getString(utf8("value " + i), UTF8);
+    }
+    for (int i = 0; i < first.length; i++) {
+      assertSame(first[i], interner.getString(utf8("value " + i), UTF8), "value " + i);
+    }
+    assertEquals(100, interner.size());
+  }
+
+  @Test
+  void limitBoundsRememberedValues() throws IOException {
+    ColumnValueInterner interner = new ColumnValueInterner(2);
+    String a = interner.getString(utf8("a"), UTF8);
+    String b = interner.getString(utf8("b"), UTF8);
+    String c = interner.getString(utf8("c"), UTF8);
+    assertEquals(2, interner.size());
+    assertSame(a, interner.getString(utf8("a"), UTF8));
+    assertSame(b, interner.getString(utf8("b"), UTF8));
+    assertNotSame(c, interner.getString(utf8("c"), UTF8), "c did not fit within the limit");
+  }
+
+  @Test
+  void highCardinalityColumnStopsInterning() throws IOException {
+    ColumnValueInterner interner = new ColumnValueInterner(4);
+    for (int i = 0; i < 8; i++) {
+      interner.getString(utf8("value " + i), UTF8);
+    }
+    assertTrue(interner.isDisabled());
+    assertNotSame(interner.getString(utf8("value 0"), UTF8),
+        interner.getString(utf8("value 0"), UTF8));
+  }
+
+  @Test
+  void hitsKeepInterningEnabled() throws IOException {
+    ColumnValueInterner interner = new ColumnValueInterner(2);
+    interner.getString(utf8("a"), UTF8);
+    interner.getString(utf8("b"), UTF8);
+    for (int i = 0; i < 10; i++) {
+      interner.getString(utf8("other " + i), UTF8);
+      interner.getString(utf8("a"), UTF8);
+    }
+    assertFalse(interner.isDisabled());
+  }
+
+  @Test
+  void longValuesAreNotInterned() throws IOException {
+    ColumnValueInterner interner = new ColumnValueInterner(10);
+    char[] chars = new char[ColumnValueInterner.MAX_VALUE_LENGTH + 1];
+    Arrays.fill(chars, 'x');
+    String value = new String(chars);
+    assertNotSame(interner.getString(utf8(value), UTF8), interner.getString(utf8(value), UTF8));
+    assertEquals(0, interner.size());
+  }
+
+  private static byte[] utf8(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class MetaDataResultCacheTest {
+  private static final Field[] FIELDS = {new Field("TABLE_NAME", Oid.VARCHAR)};
+
+  @Test
+  void oneCachePerKey() {
+    MetaDataResultCache cache = MetaDataResultCache.forDatabase("1/1", "app/false/public", 10, 0);
+    assertSame(cache, MetaDataResultCache.forDatabase("1/1", "app/false/public", 10, 0));
+    assertNotSame(cache, MetaDataResultCache.forDatabase("1/1", "other/false/public", 10, 0));
+  }
+
+  @Test
+  void resultsAreCopied() {
+    MetaDataResultCache cache = MetaDataResultCache.forDatabase("1/2", "app/false/public", 10, 0);
+    List<?> call = Arrays.asList("getTables", null, "public", "orders", null);
+    cache.put(cache.getEpoch(), call, FIELDS, rows("orders"));
+
+    MetaDataResultCache.Result result = cache.get(call);
+    assertNotNull(result);
+    Field[] fields = result.getFields();
+    assertNotSame(fields[0], result.getFields()[0], "fields carry per result set state");
+    assertEquals("TABLE_NAME", fields[0].getColumnLabel());
+    List<Tuple> rows = result.getRows();
+    rows.clear();
+    assertEquals(1, result.getRows().size());
+  }
+
+  @Test
+  void leastRecentlyUsedResultIsEvicted() {
+    MetaDataResultCache cache = MetaDataResultCache.forDatabase("1/3", "app/false/public", 2, 0);
+    List<?> a = Collections.singletonList("a");
+    List<?> b = Collections.singletonList("b");
+    List<?> c = Collections.singletonList("c");
+    cache.put(cache.getEpoch(), a, FIELDS, rows("a"));
+    cache.put(cache.getEpoch(), b, FIELDS, rows("b"));
+    assertNotNull(cache.get(a));
+    cache.put(cache.getEpoch(), c, FIELDS, rows("c"));
+    assertEquals(2, cache.size());
+    assertNotNull(cache.get(a));
+    assertNull(cache.get(b));
+    assertNotNull(cache.get(c));
+  }
+
+  @Test
+  void invalidationDropsResultsComputedBefore() {
+    MetaDataResultCache cache = MetaDataResultCache.forDatabase("1/4", "app/false/public", 10, 0);
+    List<?> call = Collections.singletonList("getTypeInfo");
+    cache.put(cache.getEpoch(), call, FIELDS, rows("int4"));
+    long epoch = cache.getEpoch();
+    cache.invalidate();
+    assertNull(cache.get(call));
+    cache.put(epoch, call, FIELDS, rows("int4"));
+    assertNull(cache.get(call), "result computed from the old catalog");
+  }
+
+  @Test
+  void catalogChangeDropsTheResultsOfEveryRole() {
+    MetaDataResultCache app = MetaDataResultCache.forDatabase("1/5", "app/false/public", 10, 0);
+    MetaDataResultCache migration =
+        MetaDataResultCache.forDatabase("1/5", "migration/false/public", 10, 0);
+    MetaDataResultCache otherDatabase =
+        MetaDataResultCache.forDatabase("1/6", "app/false/public", 10, 0);
+    List<?> call = Arrays.asList("getColumns", null, "public", "orders", null);
+    app.put(app.getEpoch(), call, FIELDS, rows("orders"));
+    otherDatabase.put(otherDatabase.getEpoch(), call, FIELDS, rows("orders"));
+
+    migration.invalidateDatabase();
+    assertNull(app.get(call));
+    assertNotNull(otherDatabase.get(call));
+  }
+
+  private static List<Tuple> rows(String value) {
+    return Collections.singletonList(
+        new Tuple(new byte[][]{value.getBytes(StandardCharsets.UTF_8)}));
+  }
+}
@@ -21,6 +21,7 @@
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -412,4 +413,17 @@ void parseV14functions() throws SQLException {
     assertNotNull(qry);
     assertEquals(1, qry.size(), "There should only be one query returned here");
   }
+
+  @Test
+  void splitStatements() {
+    assertEquals(
+        Arrays.asList("select 1", "select ';' from t where a = ?",
+            "select $$;$$, \"a;b\" /* ; */ from t -- ;\n where b = ?"),
+        Parser.splitStatements(
+            " select 1 ;; select ';' from t where a = ?;\n"
+                + "select $$;$$, \"a;b\" /* ; */ from t -- ;\n where b = ?;",
+            true));
+    assertEquals(Arrays.asList("select 'a\\';'", "select 2"),
+        Parser.splitStatements("select 'a\\';'; select 2", false));
+  }
 }
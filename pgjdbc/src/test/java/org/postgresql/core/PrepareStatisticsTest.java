@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PrepareStatisticsTest {
+  private static final long MILLIS = 1_000_000L;
+  private static final long SECONDS = 1_000 * MILLIS;
+  private static final int THRESHOLD = 5;
+
+  @Test
+  void firstExecutionIsNeverPrepared() {
+    assertFalse(new PrepareStatistics().shouldPrepare(1, 1, 0));
+  }
+
+  @Test
+  void frequentStatementIsPreparedOnSecondExecution() {
+    PrepareStatistics statistics = new PrepareStatistics();
+    assertFalse(statistics.shouldPrepare(1, THRESHOLD, 0));
+    assertTrue(statistics.shouldPrepare(2, THRESHOLD, 10 * MILLIS));
+  }
+
+  @Test
+  void occasionalStatementIsPreparedAtThreshold() {
+    PrepareStatistics statistics = new PrepareStatistics();
+    for (int count = 1; count < THRESHOLD; count++) {
+      assertFalse(statistics.shouldPrepare(count, THRESHOLD, count * 10 * SECONDS));
+    }
+    assertTrue(statistics.shouldPrepare(THRESHOLD, THRESHOLD, THRESHOLD * 10 * SECONDS));
+  }
+
+  @Test
+  void rareStatementIsNotPrepared() {
+    PrepareStatistics statistics = new PrepareStatistics();
+    for (int count = 1; count <= 2 * THRESHOLD; count++) {
+      assertFalse(statistics.shouldPrepare(count, THRESHOLD, count * 120 * SECONDS));
+    }
+  }
+
+  @Test
+  void slowNamedStatementIsClosedForAWhile() {
+    PrepareStatistics statistics = new PrepareStatistics();
+    statistics.recordExecution(false, 2 * MILLIS);
+    int count = 1;
+    for (; count < PrepareStatistics.MIN_NAMED_EXECUTIONS; count++) {
+      statistics.recordExecution(true, 10 * MILLIS);
+      assertFalse(statistics.isNamedStatementHarmful(count), "too few named executions");
+    }
+    statistics.recordExecution(true, 10 * MILLIS);
+    assertTrue(statistics.isNamedStatementHarmful(count));
+    assertTrue(statistics.isNamedStatementClosePending());
+    statistics.namedStatementClosed();
+    assertFalse(statistics.isNamedStatementClosePending());
+
+    assertFalse(statistics.shouldPrepare(count + 1, THRESHOLD, 0));
+    assertFalse(statistics.shouldPrepare(count + 2, THRESHOLD, MILLIS));
+    int retry = count + PrepareStatistics.UNNAMED_EXECUTIONS_AFTER_HARM + 1;
+    assertTrue(statistics.shouldPrepare(retry, THRESHOLD, 2 * MILLIS));
+  }
+
+  @Test
+  void executionsAreIgnoredUntilTheNamedStatementIsClosed() {
+    PrepareStatistics statistics = new PrepareStatistics();
+    statistics.recordExecution(false, 2 * MILLIS);
+    int count = 1;
+    for (; count <= PrepareStatistics.MIN_NAMED_EXECUTIONS; count++) {
+      statistics.recordExecution(true, 10 * MILLIS);
+    }
+    assertTrue(statistics.isNamedStatementHarmful(count));
+    for (int i = 0; i < 2 * PrepareStatistics.MIN_NAMED_EXECUTIONS; i++) {
+      // the executions still use the named statement while it waits to be closed
+      statistics.recordExecution(false, 10 * MILLIS);
+    }
+    assertEquals(-1, statistics.getParsePlanNanos());
+    assertTrue(statistics.isNamedStatementClosePending());
+  }
+
+  @Test
+  void fasterNamedStatementIsKept() {
+    PrepareStatistics statistics = new PrepareStatistics();
+    statistics.recordExecution(false, 3 * MILLIS);
+    for (int count = 1; count <= 2 * PrepareStatistics.MIN_NAMED_EXECUTIONS; count++) {
+      statistics.recordExecution(true, MILLIS);
+      assertFalse(statistics.isNamedStatementHarmful(count));
+    }
+    assertEquals(2 * MILLIS, statistics.getParsePlanNanos());
+  }
+
+  @Test
+  void smallSlowdownIsIgnored() {
+    PrepareStatistics statistics = new PrepareStatistics();
+    statistics.recordExecution(false, 100_000L);
+    for (int count = 1; count <= 2 * PrepareStatistics.MIN_NAMED_EXECUTIONS; count++) {
+      statistics.recordExecution(true, 300_000L);
+      assertFalse(statistics.isNamedStatementHarmful(count), "below the minimum difference");
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Map;
+
+class SharedTypeCatalogTest {
+
+  @Test
+  void oneCatalogPerDatabase() {
+    SharedTypeCatalog catalog = SharedTypeCatalog.forDatabase("7000000000000000001/16384");
+    assertSame(catalog, SharedTypeCatalog.forDatabase("7000000000000000001/16384"));
+    assertNotSame(catalog, SharedTypeCatalog.forDatabase("7000000000000000001/16385"));
+    assertNotSame(catalog, SharedTypeCatalog.forDatabase("7000000000000000002/16384"));
+  }
+
+  @Test
+  void singleLoader() {
+    SharedTypeCatalog catalog = SharedTypeCatalog.forDatabase("7000000000000000003/5");
+    int epoch = catalog.startLoad();
+    assertTrue(epoch >= 0);
+    assertEquals(-1, catalog.startLoad(), "the catalog is being loaded already");
+    catalog.finishLoad(epoch, Collections.singletonMap(1007, Types.ARRAY),
+        Collections.singletonMap(1007, 23), Collections.singletonMap(1007, ','));
+    assertTrue(catalog.isLoaded());
+    assertEquals(-1, catalog.startLoad(), "the catalog is loaded");
+    assertEquals(Types.ARRAY, catalog.getSQLType(1007));
+    assertEquals(23, catalog.getArrayElement(1007));
+    assertEquals(',', catalog.getArrayDelimiter(1007));
+  }
+
+  @Test
+  void abortedLoadCanBeRetried() {
+    SharedTypeCatalog catalog = SharedTypeCatalog.forDatabase("7000000000000000004/5");
+    int epoch = catalog.startLoad();
+    assertTrue(epoch >= 0);
+    catalog.abortLoad();
+    assertFalse(catalog.isLoaded());
+    assertTrue(catalog.startLoad() >= 0);
+  }
+
+  @Test
+  void invalidationDropsLoadInProgress() {
+    SharedTypeCatalog catalog = SharedTypeCatalog.forDatabase("7000000000000000005/5");
+    catalog.putSQLType(16400, Types.OTHER);
+    int epoch = catalog.startLoad();
+    catalog.invalidate();
+    assertNull(catalog.getSQLType(16400));
+    Map<Integer, Integer> stale = Collections.singletonMap(16400, Types.VARCHAR);
+    catalog.finishLoad(epoch, stale, Collections.<Integer, Integer>emptyMap(),
+        Collections.<Integer, Character>emptyMap());
+    assertFalse(catalog.isLoaded());
+    assertNull(catalog.getSQLType(16400), "information loaded before the invalidation is stale");
+    assertTrue(catalog.startLoad() >= 0, "the next connection loads the catalog again");
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+class SingleByteEncodingTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"LATIN2", "LATIN9", "WIN1250", "WIN1256", "WIN874", "WIN",
+      "ALT", "KOI8", "ISO_8859_5", "ISO_8859_7", "TCVN"})
+  void sameResultsAsCharset(String databaseEncoding) throws IOException {
+    Encoding encoding = Encoding.getDatabaseEncoding(databaseEncoding);
+    assertInstanceOf(SingleByteEncoding.class, encoding, databaseEncoding);
+    Charset charset = Charset.forName(encoding.name());
+
+    byte[] all = new byte[256];
+    for (int i = 0; i < all.length; i++) {
+      all[i] = (byte) i;
+    }
+    String decoded = new String(all, charset);
+    assertEquals(decoded, encoding.decode(all));
+    assertEquals(decoded.substring(10, 20), encoding.decode(all, 10, 10));
+    assertArrayEquals(decoded.getBytes(charset), encoding.encode(decoded));
+
+    Random random = new Random(42);
+    for (int i = 0; i < 200; i++) {
+      String value = randomString(random, decoded);
+      assertArrayEquals(value.getBytes(charset), encoding.encode(value), value);
+    }
+  }
+
+  @Test
+  void sharedPerCharset() {
+    assertSame(Encoding.getDatabaseEncoding("WIN1250"), Encoding.getDatabaseEncoding("WIN1250"));
+  }
+
+  @Test
+  void multiByteAndIntrinsifiedCharsetsAreNotTableBased() {
+    assertFalse(Encoding.getDatabaseEncoding("UTF8") instanceof SingleByteEncoding);
+    assertFalse(Encoding.getDatabaseEncoding("LATIN1") instanceof SingleByteEncoding);
+    assertFalse(Encoding.getDatabaseEncoding("SQL_ASCII") instanceof SingleByteEncoding);
+    assertFalse(Encoding.getDatabaseEncoding("EUC_JP") instanceof SingleByteEncoding);
+    assertFalse(Encoding.getDatabaseEncoding("GBK") instanceof SingleByteEncoding);
+  }
+
+  @Test
+  void nullEncodesToNull() throws IOException {
+    assertEquals(null, Encoding.getDatabaseEncoding("WIN").encode(null));
+  }
+
+  /**
+   * Mixes characters of the charset with characters outside of it, surrogate pairs and lone
+   * surrogates.
+   */
+  private static String randomString(Random random, String charsetChars) {
+    StringBuilder sb = new StringBuilder();
+    int length = random.nextInt(40);
+    for (int i = 0; i < length; i++) {
+      switch (random.nextInt(6)) {
+        case 0:
+          sb.append((char) random.nextInt(0xD800));
+          break;
+        case 1:
+          sb.appendCodePoint(0x10000 + random.nextInt(0x100000));
+          break;
+        case 2:
+          sb.append((char) (0xD800 + random.nextInt(0x800)));
+          break;
+        case 3:
+          sb.append('\uFFFD');
+          break;
+        default:
+          sb.append(charsetChars.charAt(random.nextInt(charsetChars.length())));
+          break;
+      }
+    }
+    return sb.toString();
+  }
+}
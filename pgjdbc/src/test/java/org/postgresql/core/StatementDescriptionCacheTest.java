@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class StatementDescriptionCacheTest {
+  private static final String SQL = "select id, name from orders where id = $1";
+  private static final int[] INT4 = {Oid.INT4};
+
+  @Test
+  void oneCachePerKey() {
+    StatementDescriptionCache cache = StatementDescriptionCache.forDatabase("1/1/app/public", 10);
+    assertSame(cache, StatementDescriptionCache.forDatabase("1/1/app/public", 10));
+    assertNotSame(cache, StatementDescriptionCache.forDatabase("1/1/app/\"$user\"", 10));
+  }
+
+  @Test
+  void descriptionsAreKeyedByParameterTypes() {
+    StatementDescriptionCache cache = StatementDescriptionCache.forDatabase("1/2/app/public", 10);
+    cache.put(cache.getEpoch(), SQL, INT4, fields());
+    assertNotNull(cache.get(SQL, new int[]{Oid.INT4}));
+    assertNull(cache.get(SQL, new int[]{Oid.UNSPECIFIED}));
+  }
+
+  @Test
+  void fieldsAreCopiedInTextFormat() {
+    StatementDescriptionCache cache = StatementDescriptionCache.forDatabase("1/3/app/public", 10);
+    Field[] described = fields();
+    described[0].setFormat(Field.BINARY_FORMAT);
+    cache.put(cache.getEpoch(), SQL, INT4, described);
+
+    StatementDescriptionCache.Description description = cache.get(SQL, INT4);
+    assertNotNull(description);
+    Field[] fields = description.getFields();
+    assertNotNull(fields);
+    assertNotSame(described[0], fields[0]);
+    assertEquals(Field.TEXT_FORMAT, fields[0].getFormat(),
+        "each connection decides which columns it receives in binary");
+    assertTrue(description.matches(fields()));
+  }
+
+  @Test
+  void changedColumnsDoNotMatch() {
+    StatementDescriptionCache cache = StatementDescriptionCache.forDatabase("1/4/app/public", 10);
+    cache.put(cache.getEpoch(), SQL, INT4, fields());
+    StatementDescriptionCache.Description description = cache.get(SQL, INT4);
+    assertNotNull(description);
+    assertFalse(description.matches(
+        new Field[]{new Field("id", Oid.INT8), new Field("name", Oid.TEXT)}));
+    assertFalse(description.matches(new Field[]{new Field("id", Oid.INT4)}));
+    assertFalse(description.matches(null));
+  }
+
+  @Test
+  void noDataIsCached() {
+    StatementDescriptionCache cache = StatementDescriptionCache.forDatabase("1/5/app/public", 10);
+    cache.put(cache.getEpoch(), "delete from orders", new int[0], null);
+    StatementDescriptionCache.Description description =
+        cache.get("delete from orders", new int[0]);
+    assertNotNull(description);
+    assertNull(description.getFields());
+    assertTrue(description.matches(null));
+    assertFalse(description.matches(fields()));
+  }
+
+  @Test
+  void leastRecentlyUsedDescriptionIsEvicted() {
+    StatementDescriptionCache cache = StatementDescriptionCache.forDatabase("1/6/app/public", 2);
+    cache.put(cache.getEpoch(), "select 1", new int[0], fields());
+    cache.put(cache.getEpoch(), "select 2", new int[0], fields());
+    assertNotNull(cache.get("select 1", new int[0]));
+    cache.put(cache.getEpoch(), "select 3", new int[0], fields());
+    assertEquals(2, cache.size());
+    assertNotNull(cache.get("select 1", new int[0]));
+    assertNull(cache.get("select 2", new int[0]));
+  }
+
+  @Test
+  void invalidationDropsDescriptionsDescribedBefore() {
+    StatementDescriptionCache cache = StatementDescriptionCache.forDatabase("1/7/app/public", 10);
+    cache.put(cache.getEpoch(), SQL, INT4, fields());
+    long epoch = cache.getEpoch();
+    cache.invalidate();
+    assertNull(cache.get(SQL, INT4));
+    cache.put(epoch, SQL, INT4, fields());
+    assertNull(cache.get(SQL, INT4), "description of the old catalog");
+  }
+
+  private static Field[] fields() {
+    return new Field[]{new Field("id", Oid.INT4), new Field("name", Oid.TEXT)};
+  }
+}
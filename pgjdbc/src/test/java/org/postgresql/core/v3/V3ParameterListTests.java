@@ -6,10 +6,19 @@
 package org.postgresql.core.v3;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.postgresql.core.Oid;
+import org.postgresql.util.ByteStreamWriter;
+import org.postgresql.util.PGInterval;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 
 /**
@@ -61,4 +70,70 @@ void mergeOfParameterLists() throws SQLException {
     assertEquals(
         "<[('1'::int4) ,('2'::int4) ,('3'::int4) ,('4'::int4) ,('5'::int4) ,('6'::int4) ,('7'::int4) ,('8'::int4)]>", s1SPL.toString(), "Expected string representation of values does not match outcome.");
   }
+
+  /**
+   * Binary booleans and intervals are rendered as literals, e.g. for simple query mode.
+   *
+   * @throws SQLException
+   *           raised exception if setting parameter fails.
+   */
+  @Test
+  void binaryBooleanAndIntervalToString() throws SQLException {
+    SimpleParameterList spl = new SimpleParameterList(2, transferModeRegistry);
+    spl.setBinaryParameter(1, new byte[]{1}, Oid.BOOL);
+    PGInterval interval = new PGInterval(1, 2, 3, 4, 5, 6.5);
+    byte[] bytes = new byte[interval.lengthInBytes()];
+    interval.toBytes(bytes, 0);
+    spl.setBinaryParameter(2, bytes, Oid.INTERVAL);
+
+    assertEquals("('TRUE'::boolean)", spl.toString(1, true));
+    assertEquals("('1 years 2 mons 3 days 4 hours 5 mins 6.5 secs'::interval)",
+        spl.toString(2, true));
+  }
+
+  /**
+   * Streamed text, e.g. json bound from an InputStream, is read only when the query is sent.
+   *
+   * @throws SQLException
+   *           raised exception if setting parameter fails.
+   */
+  @Test
+  void streamedTextToString() throws SQLException {
+    SimpleParameterList spl = new SimpleParameterList(2, transferModeRegistry);
+    byte[] json = "{\"a\": \"it's\"}".getBytes(StandardCharsets.UTF_8);
+    spl.setText(1, new ByteArrayInputStream(json), json.length, Oid.UNSPECIFIED);
+    spl.setText(2, ByteStreamWriter.of(ByteBuffer.wrap(json)), Oid.UNSPECIFIED);
+
+    assertEquals("?", spl.toString(1, true));
+    assertEquals("?", spl.toString(2, true));
+    SqlSerializationContext context = SqlSerializationContext.of(true, false);
+    assertEquals("('{\"a\": \"it''s\"}')", spl.toString(1, context));
+    assertEquals("('{\"a\": \"it''s\"}')", spl.toString(2, context));
+  }
+
+  @Test
+  void valueKeyComparesTypesAndValues() throws SQLException {
+    SimpleParameterList first = new SimpleParameterList(3, transferModeRegistry);
+    first.setIntParameter(1, 42);
+    first.setStringParameter(2, "EUR", Oid.VARCHAR);
+    first.setNull(3, Oid.UNSPECIFIED);
+    SimpleParameterList second = new SimpleParameterList(3, transferModeRegistry);
+    second.setIntParameter(1, 42);
+    second.setStringParameter(2, "EUR", Oid.VARCHAR);
+    second.setNull(3, Oid.UNSPECIFIED);
+    assertEquals(first.getValueKey(), second.getValueKey());
+
+    second.setStringParameter(2, "EUR", Oid.TEXT);
+    assertNotEquals(first.getValueKey(), second.getValueKey());
+    second.setStringParameter(2, "USD", Oid.VARCHAR);
+    assertNotEquals(first.getValueKey(), second.getValueKey());
+  }
+
+  @Test
+  void valueKeyIsNullForStreams() throws SQLException {
+    SimpleParameterList spl = new SimpleParameterList(1, transferModeRegistry);
+    assertNull(spl.getValueKey(), "parameter not set");
+    spl.setBytea(1, new ByteArrayInputStream(new byte[]{1, 2}), 2);
+    assertNull(spl.getValueKey());
+  }
 }
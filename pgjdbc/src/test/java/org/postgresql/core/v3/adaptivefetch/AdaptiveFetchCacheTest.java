@@ -9,6 +9,7 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.postgresql.PGProperty;
 import org.postgresql.core.ParameterList;
@@ -21,6 +22,7 @@
 
 import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 
@@ -946,6 +948,78 @@ void updatingAdaptiveFetchSizeWithMaximumSizeIfAdaptiveFetchFalse()
     assertEquals(startSize, resultInfo.getSize());
   }
 
+  /**
+   * Test for calling updateQueryFetchSize method with a histogram of skewed rows. The fetch size
+   * should keep a fetch of rows of the largest size within maxResultBuffer, even though most rows
+   * are small, as PGStream fails the query once a fetch exceeds maxResultBuffer.
+   */
+  @Test
+  void updatingAdaptiveFetchSizeWithSkewedRows()
+      throws NoSuchFieldException, IllegalAccessException {
+    String expectedQuery = "test-query-1";
+    long bufferSize = 1_000_000;
+    setMaximumBufferVariable(bufferSize);
+
+    int[] histogram = new int[Integer.SIZE];
+    histogram[7] = 99; // rows of 64 to 127 bytes
+    histogram[13] = 1; // one row of 4096 to 8191 bytes
+    int maximumRowSize = 5000;
+
+    MockUpQuery query = new MockUpQuery(expectedQuery);
+    adaptiveFetchCache.addNewQuery(true, query);
+    adaptiveFetchCache.updateQueryFetchSize(true, query, maximumRowSize, histogram);
+
+    int fetchSize = adaptiveFetchCache.getFetchSizeForQuery(true, query);
+    assertEquals(bufferSize / maximumRowSize, fetchSize);
+    assertTrue((long) fetchSize * maximumRowSize <= bufferSize);
+  }
+
+  /**
+   * Test that a large row stops lowering the fetch size once enough smaller rows were fetched.
+   */
+  @Test
+  void updatingAdaptiveFetchSizeForgetsOldLargeRows()
+      throws NoSuchFieldException, IllegalAccessException {
+    String expectedQuery = "test-query-1";
+    long bufferSize = 1_000_000;
+    setMaximumBufferVariable(bufferSize);
+
+    MockUpQuery query = new MockUpQuery(expectedQuery);
+    adaptiveFetchCache.addNewQuery(true, query);
+    adaptiveFetchCache.updateQueryFetchSize(true, query, 5000);
+    assertEquals(bufferSize / 5000, adaptiveFetchCache.getFetchSizeForQuery(true, query));
+
+    int[] histogram = new int[Integer.SIZE];
+    histogram[7] = 20_000;
+    adaptiveFetchCache.updateQueryFetchSize(true, query, 100, histogram);
+
+    List<AdaptiveFetchQueryStatistics> statistics = adaptiveFetchCache.getStatistics();
+    assertEquals(1, statistics.size());
+    AdaptiveFetchQueryStatistics queryStatistics = statistics.get(0);
+    assertEquals(expectedQuery, queryStatistics.getSql());
+    assertEquals(2, queryStatistics.getFetchCount());
+    assertEquals(20_001, queryStatistics.getRowCount());
+    assertEquals(127, queryStatistics.getMaximumRowSizeBytes());
+    assertEquals(127, queryStatistics.getPercentileRowSizeBytes());
+    assertEquals(bufferSize / 127, queryStatistics.getFetchSize());
+  }
+
+  /**
+   * Test that the number of cached queries is bounded, even if queries are never removed.
+   */
+  @Test
+  void addingManyQueriesKeepsRecentOnes() throws NoSuchFieldException, IllegalAccessException {
+    for (int i = 0; i < 1000; i++) {
+      adaptiveFetchCache.addNewQuery(true, new MockUpQuery("test-query-" + i));
+    }
+
+    Map<String, AdaptiveFetchCacheEntry> map = getInfoMapVariable();
+
+    assertTrue(map.size() < 1000);
+    assertNotNull(map.get("test-query-999"));
+    assertNull(map.get("test-query-0"));
+  }
+
   // Here are methods for retrieving values from adaptiveFetchCache without calling methods
 
   private Map<String, AdaptiveFetchCacheEntry> getInfoMapVariable()
@@ -1070,7 +1144,8 @@ public int getBatchSize() {
     }
 
     @Override
-    public Map<String, Integer> getResultSetColumnNameIndexMap() {
+    public Map<String, Integer> getResultSetColumnNameIndexMap(
+        org.postgresql.core.Field[] fields) {
       throw new WrongMethodCallException("Method shouldn't be called.");
     }
 
@@ -6,8 +6,10 @@
 package org.postgresql.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import org.postgresql.PGNotification;
+import org.postgresql.codec.BinaryCodec;
 import org.postgresql.copy.CopyManager;
 import org.postgresql.core.BaseConnection;
 import org.postgresql.core.CachedQuery;
@@ -214,6 +216,59 @@ public void test3dString() throws Exception {
     }
   }
 
+  @Test
+  public void primitiveBinary() throws Exception {
+    final A data = testData[0][0];
+    assumeTrue(binarySupported && ArrayDecoding.isPrimitiveArrayType(data.getClass()),
+        "primitive array type");
+
+    final ArrayEncoding.ArrayEncoder<A> support = ArrayEncoding.getArrayEncoder(data);
+    final byte[] bytes = support.toBinaryRepresentation(ENCODING_CONNECTION, data,
+        support.getDefaultArrayTypeOid());
+
+    final Object actual = ArrayDecoding.readBinaryPrimitiveArray(data.getClass(), bytes);
+
+    assertEquals(data.getClass(), actual.getClass());
+    assertArraysEquals("", data, actual);
+  }
+
+  @Test
+  public void primitive2dBinary() throws Exception {
+    final A[] data = testData[0];
+    assumeTrue(binarySupported && ArrayDecoding.isPrimitiveArrayType(data.getClass()),
+        "primitive array type");
+
+    final ArrayEncoding.ArrayEncoder<A[]> support = ArrayEncoding.getArrayEncoder(data);
+    final byte[] bytes = support.toBinaryRepresentation(ENCODING_CONNECTION, data,
+        support.getDefaultArrayTypeOid());
+
+    final Object[] actual = (Object[]) ArrayDecoding.readBinaryPrimitiveArray(data.getClass(), bytes);
+
+    assertEquals(data.getClass(), actual.getClass());
+    assertEquals(data.length, actual.length);
+    for (int i = 0; i < data.length; i++) {
+      assertArraysEquals("array at position " + i, data[i], actual[i]);
+    }
+  }
+
+  @Test
+  public void primitive2dString() throws Exception {
+    final A[] data = testData[0];
+    assumeTrue(ArrayDecoding.isPrimitiveArrayType(data.getClass()), "primitive array type");
+
+    final ArrayEncoding.ArrayEncoder<A[]> support = ArrayEncoding.getArrayEncoder(data);
+    final PgArray pgArray = new PgArray(ENCODING_CONNECTION, arrayTypeOid,
+        support.toArrayString(',', data));
+
+    final Object[] actual = (Object[]) ArrayDecoding.toPrimitiveArray(data.getClass(), pgArray.getArray());
+
+    assertEquals(data.getClass(), actual.getClass());
+    assertEquals(data.length, actual.length);
+    for (int i = 0; i < data.length; i++) {
+      assertArraysEquals("array at position " + i, data[i], actual[i]);
+    }
+  }
+
   @Test
   public void objectArrayCopy() throws Exception {
     final Object[] copy = new Object[testData.length];
@@ -423,6 +478,22 @@ public boolean binaryTransferSend(int oid) {
       throw new UnsupportedOperationException();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BinaryCodec<?> getBinaryCodec(int oid) {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBinaryCodecOid(Object value) {
+      throw new UnsupportedOperationException();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -455,6 +526,14 @@ public LruCache<Key, FieldMetadata> getFieldMetadataCache() {
       throw new UnsupportedOperationException();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SharedFieldMetadataCache getSharedFieldMetadataCache() {
+      throw new UnsupportedOperationException();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -973,6 +1052,14 @@ public void addDataType(String type, Class<? extends PGobject> klass) throws SQL
       throw new UnsupportedOperationException();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addBinaryCodec(BinaryCodec<?> codec) throws SQLException {
+      throw new UnsupportedOperationException();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1137,5 +1224,10 @@ public boolean getLogServerErrorDetail() {
     public boolean getConvertBooleanToNumeric() {
       return false;
     }
+
+    @Override
+    public int getColumnValueInterningLimit() {
+      return 0;
+    }
   }
 }
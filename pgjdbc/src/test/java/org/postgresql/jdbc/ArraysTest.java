@@ -5,16 +5,24 @@
 
 package org.postgresql.jdbc;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.postgresql.core.Oid;
+import org.postgresql.util.ByteConverter;
 import org.postgresql.util.PSQLException;
 
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
 
 class ArraysTest {
 
@@ -35,11 +43,43 @@ void noByteArray() throws Exception {
   @Test
   void binaryNotSupported() throws Exception {
     assertThrows(SQLFeatureNotSupportedException.class, () -> {
-      final ArrayEncoding.ArrayEncoder<BigDecimal[]> support = ArrayEncoding.getArrayEncoder(new BigDecimal[]{});
+      final ArrayEncoding.ArrayEncoder<Timestamp[]> support = ArrayEncoding.getArrayEncoder(new Timestamp[]{});
 
-      assertFalse(support.supportBinaryRepresentation(Oid.FLOAT8_ARRAY));
+      assertFalse(support.supportBinaryRepresentation(Oid.TIMESTAMP_ARRAY));
 
-      support.toBinaryRepresentation(null, new BigDecimal[]{BigDecimal.valueOf(3)}, Oid.FLOAT8_ARRAY);
+      support.toBinaryRepresentation(null, new Timestamp[]{new Timestamp(0)}, Oid.TIMESTAMP_ARRAY);
     });
   }
+
+  @Test
+  void binarySupportedForObjectTypes() throws Exception {
+    assertBinarySupported(Oid.NUMERIC_ARRAY, new BigDecimal[]{BigDecimal.ONE});
+    assertBinarySupported(Oid.UUID_ARRAY, new UUID[]{UUID.randomUUID()});
+    assertBinarySupported(Oid.DATE_ARRAY, new LocalDate[]{LocalDate.now()});
+    assertBinarySupported(Oid.TIMESTAMP_ARRAY, new LocalDateTime[][]{{LocalDateTime.now()}});
+    assertBinarySupported(Oid.TIMESTAMPTZ_ARRAY, new OffsetDateTime[][][]{{{OffsetDateTime.now()}}});
+  }
+
+  private static void assertBinarySupported(int arrayOid, Object array) throws Exception {
+    final ArrayEncoding.ArrayEncoder<Object> support = ArrayEncoding.getArrayEncoder(array);
+    assertEquals(arrayOid, support.getDefaultArrayTypeOid(), "default array oid");
+    assertTrue(support.supportBinaryRepresentation(arrayOid), "binary supported");
+    assertFalse(support.supportBinaryRepresentation(Oid.TEXT_ARRAY), "binary supported for text[]");
+  }
+
+  @Test
+  void uuidBinary() throws Exception {
+    final UUID uuid = new UUID(0x0102030405060708L, 0x090A0B0C0D0E0F10L);
+    final ArrayEncoding.ArrayEncoder<UUID[]> support = ArrayEncoding.getArrayEncoder(new UUID[0]);
+    final byte[] bytes = support.toBinaryRepresentation(null, new UUID[]{uuid, null}, Oid.UUID_ARRAY);
+
+    assertEquals(20 + 4 + 16 + 4, bytes.length);
+    assertEquals(1, ByteConverter.int4(bytes, 4), "has nulls");
+    assertEquals(Oid.UUID, ByteConverter.int4(bytes, 8));
+    assertEquals(2, ByteConverter.int4(bytes, 12), "length");
+    assertEquals(16, ByteConverter.int4(bytes, 20), "element length");
+    assertEquals(uuid.getMostSignificantBits(), ByteConverter.int8(bytes, 24));
+    assertEquals(uuid.getLeastSignificantBits(), ByteConverter.int8(bytes, 32));
+    assertEquals(-1, ByteConverter.int4(bytes, 40), "null element");
+  }
 }
@@ -21,6 +21,6 @@ public class BigDecimalObjectArraysTest extends AbstractArraysTest<BigDecimal[]>
           {valueOf(21D), valueOf(22D), valueOf(23D), valueOf(24D)}}};
 
   public BigDecimalObjectArraysTest() {
-    super(doubles, false, Oid.NUMERIC_ARRAY);
+    super(doubles, true, Oid.NUMERIC_ARRAY);
   }
 }
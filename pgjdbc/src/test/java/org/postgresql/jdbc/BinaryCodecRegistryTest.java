@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.codec.BinaryCodec;
+import org.postgresql.core.Oid;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+class BinaryCodecRegistryTest {
+  @Test
+  void emptyRegistry() {
+    BinaryCodecRegistry registry = new BinaryCodecRegistry();
+    assertNull(registry.getCodec(Oid.INT4));
+    assertEquals(Oid.UNSPECIFIED, registry.getOid(42));
+  }
+
+  @Test
+  void exactClassWinsOverSuperclass() {
+    BinaryCodecRegistry registry = new BinaryCodecRegistry();
+    TestCodec<Number> numberCodec = new TestCodec<>(Number.class);
+    TestCodec<Integer> integerCodec = new TestCodec<>(Integer.class);
+    registry.register(100, numberCodec);
+    registry.register(200, integerCodec);
+
+    assertSame(numberCodec, registry.getCodec(100));
+    assertSame(integerCodec, registry.getCodec(200));
+    assertEquals(200, registry.getOid(42));
+    assertEquals(100, registry.getOid(42L));
+    assertEquals(Oid.UNSPECIFIED, registry.getOid("42"));
+  }
+
+  @Test
+  void registrationReplacesCodecForSameJavaType() {
+    BinaryCodecRegistry registry = new BinaryCodecRegistry();
+    registry.register(100, new TestCodec<>(Integer.class));
+    assertEquals(100, registry.getOid(42));
+
+    TestCodec<Integer> replacement = new TestCodec<>(Integer.class);
+    registry.register(200, replacement);
+    assertNull(registry.getCodec(100), "previous codec for Integer should be removed");
+    assertSame(replacement, registry.getCodec(200));
+    assertEquals(200, registry.getOid(42), "cached oid of Integer should be invalidated");
+  }
+
+  @Test
+  void registrationInvalidatesNegativeLookups() {
+    BinaryCodecRegistry registry = new BinaryCodecRegistry();
+    registry.register(100, new TestCodec<>(Integer.class));
+    assertEquals(Oid.UNSPECIFIED, registry.getOid("text"));
+
+    registry.register(200, new TestCodec<>(String.class));
+    assertEquals(200, registry.getOid("text"));
+  }
+
+  @Test
+  void discoverWithoutServices() {
+    assertTrue(BinaryCodecRegistry.discover(Collections.emptyList()).isEmpty());
+  }
+
+  @Test
+  void servicesAreLoadedOncePerClassLoader(@TempDir Path dir) throws IOException {
+    Path services = dir.resolve("META-INF/services/" + BinaryCodec.class.getName());
+    Files.createDirectories(services.getParent());
+    Files.write(services, Collections.singletonList(ServiceCodec.class.getName()));
+    try (URLClassLoader classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()},
+        getClass().getClassLoader())) {
+      List<List<BinaryCodec<?>>> first =
+          BinaryCodecRegistry.discover(Collections.singletonList(classLoader));
+      assertEquals(1, first.size());
+      assertEquals(1, first.get(0).size());
+      assertTrue(first.get(0).get(0) instanceof ServiceCodec);
+
+      List<List<BinaryCodec<?>>> second =
+          BinaryCodecRegistry.discover(Collections.singletonList(classLoader));
+      assertSame(first.get(0), second.get(0), "codecs should be loaded once");
+    }
+  }
+
+  public static final class ServiceCodec implements BinaryCodec<Integer> {
+    private final TestCodec<Integer> delegate = new TestCodec<>(Integer.class);
+
+    @Override
+    public String getTypeName() {
+      return delegate.getTypeName();
+    }
+
+    @Override
+    public Class<Integer> getJavaType() {
+      return delegate.getJavaType();
+    }
+
+    @Override
+    public Integer decodeBinary(byte[] bytes, int offset, int length) {
+      return delegate.decodeBinary(bytes, offset, length);
+    }
+
+    @Override
+    public Integer decodeText(String value) {
+      return delegate.decodeText(value);
+    }
+
+    @Override
+    public int lengthInBytes(Integer value) {
+      return delegate.lengthInBytes(value);
+    }
+
+    @Override
+    public void encodeBinary(Integer value, byte[] bytes, int offset) {
+      delegate.encodeBinary(value, bytes, offset);
+    }
+
+    @Override
+    public String encodeText(Integer value) {
+      return delegate.encodeText(value);
+    }
+  }
+
+  private static final class TestCodec<T> implements BinaryCodec<T> {
+    private final Class<T> javaType;
+
+    TestCodec(Class<T> javaType) {
+      this.javaType = javaType;
+    }
+
+    @Override
+    public String getTypeName() {
+      return "test";
+    }
+
+    @Override
+    public Class<T> getJavaType() {
+      return javaType;
+    }
+
+    @Override
+    public T decodeBinary(byte[] bytes, int offset, int length) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public T decodeText(String value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public int lengthInBytes(T value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void encodeBinary(T value, byte[] bytes, int offset) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String encodeText(T value) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.postgresql.util.PSQLException;
+
+import org.junit.jupiter.api.Test;
+
+class NetworkTypeUtilTest {
+  @Test
+  void ipv4() throws PSQLException {
+    assertEquals("192.168.0.1", NetworkTypeUtil.toStringInet(inet4(32, false, 192, 168, 0, 1)));
+    assertEquals("192.168.0.1/24", NetworkTypeUtil.toStringInet(inet4(24, false, 192, 168, 0, 1)));
+    assertEquals("10.0.0.0/8", NetworkTypeUtil.toStringInet(inet4(8, true, 10, 0, 0, 0)));
+    assertEquals("10.1.2.3/32", NetworkTypeUtil.toStringInet(inet4(32, true, 10, 1, 2, 3)));
+  }
+
+  @Test
+  void ipv6() throws PSQLException {
+    assertEquals("::", NetworkTypeUtil.toStringInet(inet6(128, false, 0, 0, 0, 0, 0, 0, 0, 0)));
+    assertEquals("::1", NetworkTypeUtil.toStringInet(inet6(128, false, 0, 0, 0, 0, 0, 0, 0, 1)));
+    assertEquals("2001:db8::ff00:42:8329", NetworkTypeUtil.toStringInet(
+        inet6(128, false, 0x2001, 0xdb8, 0, 0, 0, 0xff00, 0x42, 0x8329)));
+    assertEquals("2001:db8::1:0:0:1", NetworkTypeUtil.toStringInet(
+        inet6(128, false, 0x2001, 0xdb8, 0, 0, 1, 0, 0, 1)),
+        "the first of two equally long zero runs is compressed");
+    assertEquals("2001:db8:0:1:1:1:1:1", NetworkTypeUtil.toStringInet(
+        inet6(128, false, 0x2001, 0xdb8, 0, 1, 1, 1, 1, 1)),
+        "a single zero word is not compressed");
+    assertEquals("fe80::/64", NetworkTypeUtil.toStringInet(
+        inet6(64, false, 0xfe80, 0, 0, 0, 0, 0, 0, 0)));
+    assertEquals("2001:db8::/128", NetworkTypeUtil.toStringInet(
+        inet6(128, true, 0x2001, 0xdb8, 0, 0, 0, 0, 0, 0)));
+  }
+
+  @Test
+  void ipv6WithEmbeddedIpv4() throws PSQLException {
+    assertEquals("::ffff:1.2.3.4", NetworkTypeUtil.toStringInet(
+        inet6(128, false, 0, 0, 0, 0, 0, 0xffff, 0x0102, 0x0304)));
+    assertEquals("::1.2.3.4", NetworkTypeUtil.toStringInet(
+        inet6(128, false, 0, 0, 0, 0, 0, 0, 0x0102, 0x0304)));
+  }
+
+  @Test
+  void invalidInet() {
+    assertThrows(PSQLException.class, () -> NetworkTypeUtil.toStringInet(new byte[]{2, 32, 0, 4}));
+  }
+
+  @Test
+  void macaddr() {
+    assertEquals("08:00:2b:01:02:03", NetworkTypeUtil.toStringMacaddr(
+        new byte[]{0x08, 0x00, 0x2b, 0x01, 0x02, 0x03}));
+    assertEquals("08:00:2b:ff:fe:01:02:03", NetworkTypeUtil.toStringMacaddr(
+        new byte[]{0x08, 0x00, 0x2b, (byte) 0xff, (byte) 0xfe, 0x01, 0x02, 0x03}));
+  }
+
+  private static byte[] inet4(int bits, boolean cidr, int... octets) {
+    byte[] value = new byte[8];
+    value[0] = 2;
+    value[1] = (byte) bits;
+    value[2] = (byte) (cidr ? 1 : 0);
+    value[3] = 4;
+    for (int i = 0; i < 4; i++) {
+      value[4 + i] = (byte) octets[i];
+    }
+    return value;
+  }
+
+  private static byte[] inet6(int bits, boolean cidr, int... words) {
+    byte[] value = new byte[20];
+    value[0] = 3;
+    value[1] = (byte) bits;
+    value[2] = (byte) (cidr ? 1 : 0);
+    value[3] = 16;
+    for (int i = 0; i < 8; i++) {
+      value[4 + 2 * i] = (byte) (words[i] >> 8);
+      value[5 + 2 * i] = (byte) words[i];
+    }
+    return value;
+  }
+}
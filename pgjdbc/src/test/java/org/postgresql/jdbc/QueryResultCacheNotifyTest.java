@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.PGStatement;
+import org.postgresql.core.ServerVersion;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+
+class QueryResultCacheNotifyTest {
+  private static final String SELECT_NAME = "select name from result_cache where code = ?";
+
+  private Connection con;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Properties props = new Properties();
+    PGProperty.RESULT_CACHE_SIZE_MIB.set(props, 1);
+    PGProperty.RESULT_CACHE_TTL.set(props, 0);
+    PGProperty.RESULT_CACHE_NOTIFY_CHANNEL.set(props, "result_cache");
+    con = TestUtil.openDB(props);
+    assumeTrue(TestUtil.haveMinimumServerVersion(con, ServerVersion.v9_6));
+    TestUtil.createTable(con, "result_cache", "code text primary key, name text");
+    TestUtil.execute(con, "insert into result_cache values ('EUR', 'euro')");
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    TestUtil.dropTable(con, "result_cache");
+    TestUtil.closeDB(con);
+  }
+
+  @Test
+  void markedStatementIsAnsweredFromTheCacheUntilNotified() throws Exception {
+    QueryResultCache cache = con.unwrap(PgConnection.class).getQueryResultCache();
+    assertNotNull(cache);
+    await(cache::isListening);
+
+    assertEquals("euro", selectName(true));
+    assertEquals(1, cache.size());
+    TestUtil.execute(con, "update result_cache set name = 'Euro' where code = 'EUR'");
+    assertEquals("euro", selectName(true), "the cached result is used");
+    assertEquals("Euro", selectName(false), "unmarked statements are not cached");
+
+    TestUtil.execute(con, "notify result_cache");
+    await(() -> cache.size() == 0);
+    assertEquals("Euro", selectName(true));
+  }
+
+  @Test
+  void transactionReadsItsOwnWrites() throws Exception {
+    QueryResultCache cache = con.unwrap(PgConnection.class).getQueryResultCache();
+    assertNotNull(cache);
+    await(cache::isListening);
+
+    assertEquals("euro", selectName(true));
+    con.setAutoCommit(false);
+    try {
+      TestUtil.execute(con, "update result_cache set name = 'Euro' where code = 'EUR'");
+      assertEquals("Euro", selectName(true), "the cache is not used inside a transaction");
+    } finally {
+      con.rollback();
+      con.setAutoCommit(true);
+    }
+  }
+
+  @Test
+  void changedSessionSettingsStopUsingTheCache() throws Exception {
+    QueryResultCache cache = con.unwrap(PgConnection.class).getQueryResultCache();
+    assertNotNull(cache);
+    await(cache::isListening);
+
+    assertEquals("euro", selectName(true));
+    TestUtil.execute(con, "update result_cache set name = 'Euro' where code = 'EUR'");
+    assertEquals("euro", selectName(true));
+    TestUtil.execute(con, "select set_config('app.tenant', '2', false)");
+    assertEquals("Euro", selectName(true), "set_config might change what the query returns");
+
+    Properties props = new Properties();
+    PGProperty.RESULT_CACHE_SIZE_MIB.set(props, 1);
+    PGProperty.RESULT_CACHE_TTL.set(props, 0);
+    PGProperty.RESULT_CACHE_NOTIFY_CHANNEL.set(props, "result_cache");
+    try (Connection other = TestUtil.openDB(props)) {
+      assertEquals("euro", selectName(other, true));
+      TestUtil.execute(other, "set app.tenant = '2'");
+      assertEquals("Euro", selectName(other, true), "SET might change what the query returns");
+    }
+  }
+
+  private static void await(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!condition.getAsBoolean()) {
+      assertTrue(System.currentTimeMillis() < deadline, "timed out");
+      Thread.sleep(50);
+    }
+  }
+
+  private String selectName(boolean cacheResults) throws SQLException {
+    return selectName(con, cacheResults);
+  }
+
+  private static String selectName(Connection con, boolean cacheResults) throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(SELECT_NAME)) {
+      ps.unwrap(PGStatement.class).setCacheResults(cacheResults);
+      ps.setString(1, "EUR");
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        return rs.getString(1);
+      }
+    }
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.core.Field;
+import org.postgresql.core.Oid;
+import org.postgresql.core.Tuple;
+import org.postgresql.util.HostSpec;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+class QueryResultCacheTest {
+  private static final Field[] FIELDS = {new Field("code", Oid.VARCHAR)};
+  private static final long MIB = 1024 * 1024;
+
+  @Test
+  void oneCachePerKey() {
+    QueryResultCache cache = QueryResultCache.forDatabase("1/1/app/public/null", MIB, 0, null);
+    assertSame(cache, QueryResultCache.forDatabase("1/1/app/public/null", MIB, 0, null));
+    assertNotSame(cache, QueryResultCache.forDatabase("1/1/other/public/null", MIB, 0, null));
+  }
+
+  @Test
+  void resultsAreCopied() {
+    QueryResultCache cache = QueryResultCache.forDatabase("1/2/app/public/null", MIB, 0, null);
+    List<?> call = call("select code from currency", "EUR");
+    cache.put(cache.getEpoch(), call, FIELDS, rows("EUR"));
+
+    QueryResultCache.Result result = cache.get(call);
+    assertNotNull(result);
+    Field[] fields = result.getFields();
+    assertNotSame(fields[0], result.getFields()[0], "fields carry per result set state");
+    List<Tuple> rows = result.getRows();
+    rows.clear();
+    assertEquals(1, result.getRows().size());
+    assertNull(cache.get(call("select code from currency", "USD")));
+  }
+
+  @Test
+  void valuesAreCopied() {
+    QueryResultCache cache = QueryResultCache.forDatabase("1/7/app/public/null", MIB, 0, null);
+    List<?> call = call("select code from currency", "EUR");
+    List<Tuple> stored = rows("EUR");
+    cache.put(cache.getEpoch(), call, FIELDS, stored);
+    stored.get(0).get(0)[0] = 'X';
+
+    QueryResultCache.Result result = cache.get(call);
+    assertNotNull(result);
+    result.getRows().get(0).get(0)[0] = 'Y';
+    assertArrayEquals("EUR".getBytes(StandardCharsets.UTF_8), result.getRows().get(0).get(0),
+        "changing the value array of a result set must not change the cached result");
+  }
+
+  @Test
+  void lastReleaseRemovesTheCache() {
+    QueryResultCache cache = QueryResultCache.forDatabase("1/8/app/public/null", MIB, 0, null);
+    assertTrue(cache.attach(new HostSpec[0], new Properties(), ""));
+    assertTrue(cache.attach(new HostSpec[0], new Properties(), ""));
+    List<?> call = call("select code from currency", "EUR");
+    cache.put(cache.getEpoch(), call, FIELDS, rows("EUR"));
+
+    cache.release();
+    assertSame(cache, QueryResultCache.forDatabase("1/8/app/public/null", MIB, 0, null));
+    assertNotNull(cache.get(call), "another connection still uses the cache");
+
+    cache.release();
+    assertEquals(0, cache.getSizeBytes());
+    assertFalse(cache.attach(new HostSpec[0], new Properties(), ""),
+        "a released cache cannot be attached to");
+    assertNotSame(cache, QueryResultCache.forDatabase("1/8/app/public/null", MIB, 0, null));
+  }
+
+  @Test
+  void leastRecentlyUsedResultsAreEvictedBySize() {
+    QueryResultCache probe = QueryResultCache.forDatabase("1/3/probe/public/null", MIB, 0, null);
+    probe.put(probe.getEpoch(), call("a", "a"), FIELDS, rows("a"));
+    long resultBytes = probe.getSizeBytes();
+
+    QueryResultCache cache =
+        QueryResultCache.forDatabase("1/3/app/public/null", resultBytes * 2, 0, null);
+    List<?> a = call("a", "a");
+    List<?> b = call("b", "b");
+    List<?> c = call("c", "c");
+    cache.put(cache.getEpoch(), a, FIELDS, rows("a"));
+    cache.put(cache.getEpoch(), b, FIELDS, rows("b"));
+    assertNotNull(cache.get(a));
+    cache.put(cache.getEpoch(), c, FIELDS, rows("c"));
+    assertEquals(2, cache.size());
+    assertEquals(resultBytes * 2, cache.getSizeBytes());
+    assertNotNull(cache.get(a));
+    assertNull(cache.get(b));
+    assertNotNull(cache.get(c));
+  }
+
+  @Test
+  void resultLargerThanHalfOfTheCacheIsNotCached() {
+    QueryResultCache cache = QueryResultCache.forDatabase("1/4/app/public/null", 64, 0, null);
+    List<?> call = call("select code from currency", "EUR");
+    cache.put(cache.getEpoch(), call, FIELDS, rows("EUR", "USD", "JPY"));
+    assertNull(cache.get(call));
+  }
+
+  @Test
+  void invalidationDropsResultsReadBefore() {
+    QueryResultCache cache = QueryResultCache.forDatabase("1/5/app/public/null", MIB, 0, null);
+    List<?> call = call("select code from currency", "EUR");
+    cache.put(cache.getEpoch(), call, FIELDS, rows("EUR"));
+    long epoch = cache.getEpoch();
+    cache.invalidate();
+    assertNull(cache.get(call));
+    assertEquals(0, cache.getSizeBytes());
+    cache.put(epoch, call, FIELDS, rows("EUR"));
+    assertNull(cache.get(call), "result read before the notification");
+  }
+
+  @Test
+  void resultsAreNotCachedWhileTheChannelIsNotListened() {
+    QueryResultCache cache =
+        QueryResultCache.forDatabase("1/6/app/public/currency", MIB, 0, "currency");
+    List<?> call = call("select code from currency", "EUR");
+    cache.put(cache.getEpoch(), call, FIELDS, rows("EUR"));
+    assertNull(cache.get(call));
+    assertEquals(0, cache.size());
+  }
+
+  private static List<?> call(String sql, String parameter) {
+    return Arrays.asList(sql, Collections.singletonList(parameter), 0);
+  }
+
+  private static List<Tuple> rows(String... values) {
+    Tuple[] rows = new Tuple[values.length];
+    for (int i = 0; i < values.length; i++) {
+      rows[i] = new Tuple(new byte[][]{values[i].getBytes(StandardCharsets.UTF_8)});
+    }
+    return Arrays.asList(rows);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+
+class SharedFieldMetadataCacheTest {
+
+  @Test
+  void oneCachePerDatabase() {
+    SharedFieldMetadataCache cache = SharedFieldMetadataCache.forDatabase("8000000000000000001/5", 100, 1024);
+    assertSame(cache, SharedFieldMetadataCache.forDatabase("8000000000000000001/5", 100, 1024));
+    assertNotSame(cache, SharedFieldMetadataCache.forDatabase("8000000000000000001/6", 100, 1024));
+  }
+
+  @Test
+  void onlyOneConnectionLooksUpAField() {
+    SharedFieldMetadataCache cache = SharedFieldMetadataCache.forDatabase("8000000000000000002/5", 100, 1024);
+    FieldMetadata.Key key = new FieldMetadata.Key(16400, 1);
+    assertNull(cache.claimLoad(key), "first connection looks the field up");
+    CountDownLatch pending = cache.claimLoad(key);
+    assertNotNull(pending, "second connection waits for the first one");
+    assertEquals(1, pending.getCount());
+
+    cache.getCache().put(key, new FieldMetadata("id", "orders", "public", 0, true));
+    cache.finishLoad(Collections.singletonList(key));
+    assertEquals(0, pending.getCount());
+    assertNotNull(cache.getCache().get(key));
+    assertNull(cache.claimLoad(key), "the claim is released");
+    cache.finishLoad(Collections.singletonList(key));
+  }
+}
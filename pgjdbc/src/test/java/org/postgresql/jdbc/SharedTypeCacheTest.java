@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.core.ServerVersion;
+import org.postgresql.core.SharedTypeCatalog;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.TestLogHandler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+class SharedTypeCacheTest {
+  private static final Pattern SQL_TYPE_QUERY_LOG_FILTER =
+      Pattern.compile("querying SQL typecode for pg type");
+
+  private PgConnection con1;
+  private PgConnection con2;
+  private Connection plain;
+  private TestLogHandler log;
+  private Logger driverLogger;
+  private Level driverLogLevel;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    Properties props = new Properties();
+    PGProperty.SHARED_TYPE_CACHE.set(props, true);
+    con1 = TestUtil.openDB(props).unwrap(PgConnection.class);
+    assumeTrue(TestUtil.haveMinimumServerVersion(con1, ServerVersion.v9_6));
+    con2 = TestUtil.openDB(props).unwrap(PgConnection.class);
+    // The type is created after the catalog was loaded, so only a lookup puts it there
+    plain = TestUtil.openDB();
+    TestUtil.createCompositeType(plain, "shared_type_cache", "a int, b text");
+    log = new TestLogHandler();
+    driverLogger = LogManager.getLogManager().getLogger("org.postgresql");
+    driverLogger.addHandler(log);
+    driverLogLevel = driverLogger.getLevel();
+    driverLogger.setLevel(Level.ALL);
+  }
+
+  @AfterEach
+  void tearDown() throws SQLException {
+    if (driverLogger != null) {
+      driverLogger.removeHandler(log);
+      driverLogger.setLevel(driverLogLevel);
+    }
+    if (plain != null) {
+      TestUtil.dropType(plain, "shared_type_cache");
+      TestUtil.closeDB(plain);
+    }
+    TestUtil.closeDB(con2);
+    TestUtil.closeDB(con1);
+  }
+
+  @Test
+  void connectionsShareTheCatalog() {
+    SharedTypeCatalog catalog = con1.getQueryExecutor().getSharedTypeCatalog();
+    assertNotNull(catalog);
+    assertSame(catalog, con2.getQueryExecutor().getSharedTypeCatalog());
+  }
+
+  @Test
+  void typeResolvedByOneConnectionIsSeenByTheOther() throws SQLException {
+    int oid = getTypeOid("shared_type_cache");
+
+    assertEquals(Types.STRUCT, con1.getTypeInfo().getSQLType(oid));
+    assertEquals(1, log.getRecordsMatching(SQL_TYPE_QUERY_LOG_FILTER).size());
+
+    assertEquals(Types.STRUCT, con2.getTypeInfo().getSQLType(oid));
+    assertEquals(1, log.getRecordsMatching(SQL_TYPE_QUERY_LOG_FILTER).size(),
+        "the second connection should use the type resolved by the first one");
+  }
+
+  @Test
+  void dropTypeInvalidatesTheCatalog() throws SQLException {
+    int oid = getTypeOid("shared_type_cache");
+    SharedTypeCatalog catalog = con1.getQueryExecutor().getSharedTypeCatalog();
+    assertNotNull(catalog);
+
+    assertEquals(Types.STRUCT, con1.getTypeInfo().getSQLType(oid));
+    assertEquals(Types.STRUCT, catalog.getSQLType(oid));
+
+    TestUtil.dropType(con2, "shared_type_cache");
+    assertNull(catalog.getSQLType(oid), "DROP TYPE should clear the shared catalog");
+  }
+
+  private int getTypeOid(String name) throws SQLException {
+    try (Statement st = plain.createStatement();
+         ResultSet rs = st.executeQuery("SELECT '" + name + "'::regtype::oid")) {
+      rs.next();
+      return (int) rs.getLong(1);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * In-memory {@link PGReplicationStream} that returns the queued messages, for testing code built
+ * on top of the stream without a server.
+ */
+class InMemoryReplicationStream implements PGReplicationStream {
+  private final Deque<Object[]> messages = new ArrayDeque<>();
+  private volatile LogSequenceNumber lastReceive = LogSequenceNumber.INVALID_LSN;
+  private volatile LogSequenceNumber lastMessageStart = LogSequenceNumber.INVALID_LSN;
+  private volatile LogSequenceNumber lastFlushed = LogSequenceNumber.INVALID_LSN;
+  private volatile LogSequenceNumber lastApplied = LogSequenceNumber.INVALID_LSN;
+
+  /**
+   * Queues a message that starts and reports as received the given LSN, as logical replication
+   * does.
+   */
+  void add(long lsn, ByteBuffer message) {
+    add(lsn, lsn, message);
+  }
+
+  /**
+   * Queues a message that starts at the given LSN and reports another LSN as received, as physical
+   * replication reports the end of the payload.
+   */
+  void add(long start, long received, ByteBuffer message) {
+    messages.add(new Object[]{LogSequenceNumber.valueOf(start),
+        LogSequenceNumber.valueOf(received), message});
+  }
+
+  /**
+   * Queues a keepalive message. It is answered right after the previous message is returned, the
+   * way the background feedback task can answer it before the application handles that message,
+   * and moves the received LSN up to the server LSN.
+   */
+  void addKeepalive(long serverLSN) {
+    messages.add(new Object[]{LogSequenceNumber.valueOf(serverLSN)});
+  }
+
+  void add(long lsn, String message) {
+    add(lsn, ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Override
+  public @Nullable ByteBuffer read() {
+    return readPending();
+  }
+
+  @Override
+  public @Nullable ByteBuffer readPending() {
+    Object[] next = messages.poll();
+    while (next != null && next.length == 1) {
+      processKeepalive(next);
+      next = messages.poll();
+    }
+    if (next == null) {
+      return null;
+    }
+    lastMessageStart = (LogSequenceNumber) next[0];
+    lastReceive = (LogSequenceNumber) next[1];
+    while (!messages.isEmpty() && messages.peek().length == 1) {
+      processKeepalive(messages.poll());
+    }
+    return (ByteBuffer) next[2];
+  }
+
+  private void processKeepalive(Object[] keepalive) {
+    LogSequenceNumber serverLSN = (LogSequenceNumber) keepalive[0];
+    if (serverLSN.compareTo(lastReceive) > 0) {
+      lastReceive = serverLSN;
+    }
+  }
+
+  @Override
+  public LogSequenceNumber getLastReceiveLSN() {
+    return lastReceive;
+  }
+
+  @Override
+  public LogSequenceNumber getLastMessageStartLSN() {
+    return lastMessageStart;
+  }
+
+  @Override
+  public LogSequenceNumber getLastFlushedLSN() {
+    return lastFlushed;
+  }
+
+  @Override
+  public LogSequenceNumber getLastAppliedLSN() {
+    return lastApplied;
+  }
+
+  @Override
+  public void setFlushedLSN(LogSequenceNumber flushed) {
+    lastFlushed = flushed;
+  }
+
+  @Override
+  public void setAppliedLSN(LogSequenceNumber applied) {
+    lastApplied = applied;
+  }
+
+  @Override
+  public void forceUpdateStatus() {
+  }
+
+  @Override
+  public ReplicationStreamStatistics getStatistics() {
+    return new ReplicationStreamStatistics(0, 0, 0, 0, 0, 0, lastReceive, lastReceive);
+  }
+
+  @Override
+  public boolean isClosed() {
+    return false;
+  }
+
+  @Override
+  public void close() {
+  }
+}
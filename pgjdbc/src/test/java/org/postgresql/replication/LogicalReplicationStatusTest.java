@@ -417,6 +417,80 @@ flushLSN, equalTo(waitLSN)
     );
   }
 
+  @Test
+  void statusCanBeSentByBackgroundFeedbackWithoutReading() throws Exception {
+    PGConnection pgConnection = (PGConnection) replicationConnection;
+
+    final int intervalTime = 100;
+    final TimeUnit timeFormat = TimeUnit.MILLISECONDS;
+
+    LogSequenceNumber startLSN = getCurrentLSN();
+
+    insertPreviousChanges(sqlConnection);
+
+    PGReplicationStream stream =
+        pgConnection
+            .getReplicationAPI()
+            .replicationStream()
+            .logical()
+            .withSlotName(SLOT_NAME)
+            .withStartPosition(startLSN)
+            .withStatusInterval(intervalTime, timeFormat)
+            .withBackgroundFeedback(true)
+            .start();
+
+    receiveMessageWithoutBlock(stream, 3);
+
+    LogSequenceNumber waitLSN = stream.getLastReceiveLSN();
+
+    stream.setAppliedLSN(waitLSN);
+    stream.setFlushedLSN(waitLSN);
+
+    // no read from the stream: the background task must send the status update
+    LogSequenceNumber flushLSN = getLSNFromView(flushColumnName(), waitLSN);
+
+    assertThat("With background feedback enabled the flushed LSN is sent to the backend by the "
+            + "status interval even when the application does not read from the stream",
+        flushLSN, equalTo(waitLSN)
+    );
+
+    stream.close();
+  }
+
+  @Test
+  void statisticsCountReceivedMessages() throws Exception {
+    PGConnection pgConnection = (PGConnection) replicationConnection;
+
+    LogSequenceNumber startLSN = getCurrentLSN();
+
+    insertPreviousChanges(sqlConnection);
+
+    PGReplicationStream stream =
+        pgConnection
+            .getReplicationAPI()
+            .replicationStream()
+            .logical()
+            .withSlotName(SLOT_NAME)
+            .withStartPosition(startLSN)
+            .start();
+
+    ReplicationStreamStatistics before = stream.getStatistics();
+    receiveMessageWithoutBlock(stream, 3);
+    stream.forceUpdateStatus();
+    ReplicationStreamStatistics statistics = stream.getStatistics().since(before);
+
+    assertThat("BEGIN, INSERT and COMMIT are received as three XLogData messages",
+        statistics.getMessagesReceived(), equalTo(3L)
+    );
+    assertThat("Every XLogData message has a 25 byte header in addition to the payload",
+        statistics.getBytesReceived(), greaterThanOrEqualTo(3L * 25)
+    );
+    assertThat(statistics.getStatusUpdatesSent(), greaterThanOrEqualTo(1L));
+    assertThat(statistics.getLastReceiveLSN(), equalTo(stream.getLastReceiveLSN()));
+
+    stream.close();
+  }
+
   private static void insertPreviousChanges(Connection sqlConnection) throws SQLException {
     try (Statement st = sqlConnection.createStatement()) {
       st.execute("insert into test_logic_table(name) values('previous changes')");
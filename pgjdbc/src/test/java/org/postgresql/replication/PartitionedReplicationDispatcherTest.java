@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class PartitionedReplicationDispatcherTest {
+
+  @Test
+  void preservesOrderPerKey() throws Exception {
+    InMemoryReplicationStream stream = new InMemoryReplicationStream();
+    for (int i = 0; i < 1000; i++) {
+      stream.add(100 + i, "k" + (i % 7) + ":" + i);
+    }
+
+    Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+    try (PartitionedReplicationDispatcher dispatcher = new PartitionedReplicationDispatcher(
+        stream, 4, 16, PartitionedReplicationDispatcherTest::key,
+        (lsn, change) -> {
+          String[] parts = toString(change).split(":");
+          received.computeIfAbsent(parts[0], k -> new ArrayList<>())
+              .add(Integer.parseInt(parts[1]));
+        })) {
+      while (dispatcher.dispatchPending()) {
+        // dispatch everything
+      }
+    }
+
+    assertEquals(7, received.size());
+    for (List<Integer> values : received.values()) {
+      for (int i = 1; i < values.size(); i++) {
+        assertTrue(values.get(i - 1) < values.get(i),
+            () -> "changes with the same key must be handled in order: " + values);
+      }
+    }
+    assertEquals(LogSequenceNumber.valueOf(1099), stream.getLastFlushedLSN(),
+        "after close every change is handled, so the last LSN is flushed");
+    assertEquals(LogSequenceNumber.valueOf(1099), stream.getLastAppliedLSN());
+  }
+
+  @Test
+  void safeLSNIsMinimumAcrossWorkers() throws Exception {
+    InMemoryReplicationStream stream = new InMemoryReplicationStream();
+    stream.add(100, "blocked:1");
+    stream.add(200, "free:1");
+    stream.add(300, "free:2");
+
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch freeHandled = new CountDownLatch(2);
+    PartitionedReplicationDispatcher dispatcher = new PartitionedReplicationDispatcher(
+        stream, 2, 16,
+        change -> key(change).equals("blocked") ? 0 : 1,
+        (lsn, change) -> {
+          if (key(change).equals("blocked")) {
+            release.await();
+          } else {
+            freeHandled.countDown();
+          }
+        });
+    try {
+      while (dispatcher.dispatchPending()) {
+        // dispatch everything
+      }
+      assertTrue(freeHandled.await(10, TimeUnit.SECONDS));
+
+      assertEquals(LogSequenceNumber.INVALID_LSN, dispatcher.getSafeFlushedLSN(),
+          "the change at 100 is not handled yet, so nothing can be flushed");
+      assertEquals(LogSequenceNumber.INVALID_LSN, stream.getLastFlushedLSN());
+    } finally {
+      release.countDown();
+      dispatcher.close();
+    }
+
+    assertEquals(LogSequenceNumber.valueOf(300), dispatcher.getSafeFlushedLSN());
+    assertEquals(LogSequenceNumber.valueOf(300), stream.getLastFlushedLSN());
+  }
+
+  @Test
+  void keepaliveAfterReadDoesNotMoveChangeLSN() throws Exception {
+    InMemoryReplicationStream stream = new InMemoryReplicationStream();
+    stream.add(100, "blocked:1");
+    // answered by the background feedback task before the change is dispatched
+    stream.addKeepalive(900);
+    stream.add(200, "free:1");
+
+    Map<String, LogSequenceNumber> lsns = new ConcurrentHashMap<>();
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch freeHandled = new CountDownLatch(1);
+    PartitionedReplicationDispatcher dispatcher = new PartitionedReplicationDispatcher(
+        stream, 2, 16,
+        change -> key(change).equals("blocked") ? 0 : 1,
+        (lsn, change) -> {
+          lsns.put(key(change), lsn);
+          if (key(change).equals("blocked")) {
+            release.await();
+          } else {
+            freeHandled.countDown();
+          }
+        });
+    try {
+      while (dispatcher.dispatchPending()) {
+        // dispatch everything
+      }
+      assertTrue(freeHandled.await(10, TimeUnit.SECONDS));
+      assertEquals(LogSequenceNumber.INVALID_LSN, dispatcher.getSafeFlushedLSN(),
+          "the change at 100 is not handled yet, so nothing can be flushed");
+    } finally {
+      release.countDown();
+      dispatcher.close();
+    }
+
+    assertEquals(LogSequenceNumber.valueOf(100), lsns.get("blocked"),
+        "the change is tagged with its own LSN, not the keepalive server LSN");
+    assertEquals(LogSequenceNumber.valueOf(200), lsns.get("free"));
+    assertEquals(LogSequenceNumber.valueOf(200), stream.getLastFlushedLSN());
+  }
+
+  @Test
+  void workerFailureIsReported() throws Exception {
+    InMemoryReplicationStream stream = new InMemoryReplicationStream();
+    stream.add(100, "a:1");
+
+    IllegalStateException error = new IllegalStateException("apply failed");
+    CountDownLatch failed = new CountDownLatch(1);
+    PartitionedReplicationDispatcher dispatcher = new PartitionedReplicationDispatcher(
+        stream, 1, 1, PartitionedReplicationDispatcherTest::key,
+        (lsn, change) -> {
+          failed.countDown();
+          throw error;
+        });
+    try {
+      assertTrue(dispatcher.dispatchPending());
+      assertTrue(failed.await(10, TimeUnit.SECONDS));
+
+      SQLException e = null;
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (e == null && System.nanoTime() < deadline) {
+        try {
+          dispatcher.dispatchPending();
+        } catch (SQLException ex) {
+          e = ex;
+        }
+      }
+      assertSame(error, e == null ? null : e.getCause());
+    } finally {
+      dispatcher.close();
+    }
+    assertEquals(LogSequenceNumber.INVALID_LSN, stream.getLastFlushedLSN(),
+        "a change that failed must not be acknowledged");
+    assertThrows(SQLException.class, dispatcher::dispatchPending);
+  }
+
+  @Test
+  void nothingPending() throws Exception {
+    InMemoryReplicationStream stream = new InMemoryReplicationStream();
+    try (PartitionedReplicationDispatcher dispatcher = new PartitionedReplicationDispatcher(
+        stream, 2, 1, PartitionedReplicationDispatcherTest::key, (lsn, change) -> { })) {
+      assertFalse(dispatcher.dispatchPending());
+      assertEquals(LogSequenceNumber.INVALID_LSN, dispatcher.getSafeFlushedLSN());
+    }
+  }
+
+  private static String key(ByteBuffer change) {
+    String value = toString(change);
+    return value.substring(0, value.indexOf(':'));
+  }
+
+  private static String toString(ByteBuffer buffer) {
+    return new String(buffer.array(), buffer.arrayOffset() + buffer.position(),
+        buffer.remaining(), StandardCharsets.UTF_8);
+  }
+}
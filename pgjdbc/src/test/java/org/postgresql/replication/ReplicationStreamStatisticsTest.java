@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class ReplicationStreamStatisticsTest {
+  @Test
+  void ratesAreComputedOverElapsedTime() {
+    ReplicationStreamStatistics statistics = new ReplicationStreamStatistics(
+        TimeUnit.SECONDS.toNanos(2), 4096, 10, 4, 3, 0,
+        LogSequenceNumber.valueOf(2000), LogSequenceNumber.valueOf(1500));
+
+    assertEquals(2048, statistics.getBytesPerSecond(), 0.001);
+    assertEquals(5, statistics.getMessagesPerSecond(), 0.001);
+    assertEquals(2, statistics.getKeepAlivesPerSecond(), 0.001);
+    assertEquals(500, statistics.getLagBytes());
+  }
+
+  @Test
+  void sinceReturnsIntervalCounters() {
+    ReplicationStreamStatistics earlier = new ReplicationStreamStatistics(
+        TimeUnit.SECONDS.toNanos(1), 100, 1, 1, 1, 10,
+        LogSequenceNumber.valueOf(1000), LogSequenceNumber.valueOf(900));
+    ReplicationStreamStatistics later = new ReplicationStreamStatistics(
+        TimeUnit.SECONDS.toNanos(3), 300, 5, 3, 2, 30,
+        LogSequenceNumber.valueOf(3000), LogSequenceNumber.valueOf(3000));
+
+    ReplicationStreamStatistics interval = later.since(earlier);
+
+    assertEquals(TimeUnit.SECONDS.toNanos(2), interval.getElapsedNanos());
+    assertEquals(200, interval.getBytesReceived());
+    assertEquals(4, interval.getMessagesReceived());
+    assertEquals(2, interval.getKeepAlivesReceived());
+    assertEquals(1, interval.getStatusUpdatesSent());
+    assertEquals(20, interval.getReadBlockedNanos());
+    assertEquals(100, interval.getBytesPerSecond(), 0.001);
+    assertEquals(0, interval.getLagBytes());
+  }
+
+  @Test
+  void lagIsZeroBeforeServerPositionIsKnown() {
+    ReplicationStreamStatistics statistics = new ReplicationStreamStatistics(0, 0, 0, 0, 0, 0,
+        LogSequenceNumber.INVALID_LSN, LogSequenceNumber.valueOf(1500));
+
+    assertEquals(0, statistics.getLagBytes());
+    assertEquals(0, statistics.getBytesPerSecond(), 0.001);
+  }
+}
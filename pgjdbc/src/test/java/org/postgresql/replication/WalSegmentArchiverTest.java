@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.replication;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+class WalSegmentArchiverTest {
+  private static final int SEGMENT_SIZE = 1024;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void segmentFileNameMatchesServerFormat() {
+    assertEquals("000000010000000000000001",
+        WalSegmentArchiver.segmentFileName(1, 0x1000000L, WalSegmentArchiver.DEFAULT_SEGMENT_SIZE));
+    assertEquals("000000020000000A000000C3",
+        WalSegmentArchiver.segmentFileName(2, 0xAC3000000L + 123,
+            WalSegmentArchiver.DEFAULT_SEGMENT_SIZE));
+  }
+
+  @Test
+  void writesPayloadAtSegmentOffsets() throws Exception {
+    InMemoryReplicationStream stream = new InMemoryReplicationStream();
+    long start = 4L * SEGMENT_SIZE;
+    byte[] first = filled(600, (byte) 1);
+    byte[] second = filled(700, (byte) 2);
+    addXLogData(stream, start, first);
+    addXLogData(stream, start + first.length, second);
+
+    try (WalSegmentArchiver archiver =
+             new WalSegmentArchiver(stream, directory, 1, SEGMENT_SIZE)) {
+      assertTrue(archiver.receivePending());
+      assertEquals(LogSequenceNumber.INVALID_LSN, stream.getLastFlushedLSN(),
+          "segment is not complete yet, so nothing is reported as flushed");
+
+      assertTrue(archiver.receivePending());
+      assertFalse(archiver.receivePending());
+      assertEquals(LogSequenceNumber.valueOf(start + SEGMENT_SIZE), stream.getLastFlushedLSN(),
+          "completed segment is reported as flushed");
+      assertEquals(LogSequenceNumber.valueOf(start + 1300), archiver.getWrittenLSN());
+    }
+    assertEquals(LogSequenceNumber.valueOf(start + 1300), stream.getLastFlushedLSN(),
+        "close flushes the partial segment");
+
+    byte[] completed = Files.readAllBytes(
+        directory.resolve(WalSegmentArchiver.segmentFileName(1, start, SEGMENT_SIZE)));
+    assertEquals(SEGMENT_SIZE, completed.length);
+    assertArrayEquals(first, Arrays.copyOfRange(completed, 0, 600));
+    assertArrayEquals(filled(424, (byte) 2), Arrays.copyOfRange(completed, 600, SEGMENT_SIZE));
+
+    byte[] partial = Files.readAllBytes(directory.resolve(
+        WalSegmentArchiver.segmentFileName(1, start + SEGMENT_SIZE, SEGMENT_SIZE)
+            + WalSegmentArchiver.PARTIAL_SUFFIX));
+    assertEquals(SEGMENT_SIZE, partial.length, "partial segment is preallocated");
+    assertArrayEquals(filled(276, (byte) 2), Arrays.copyOfRange(partial, 0, 276));
+    assertArrayEquals(new byte[SEGMENT_SIZE - 276], Arrays.copyOfRange(partial, 276, SEGMENT_SIZE));
+  }
+
+  @Test
+  void reusesExistingPartialSegment() throws Exception {
+    long start = 8L * SEGMENT_SIZE;
+    InMemoryReplicationStream stream = new InMemoryReplicationStream();
+    addXLogData(stream, start, filled(100, (byte) 3));
+    try (WalSegmentArchiver archiver =
+             new WalSegmentArchiver(stream, directory, 1, SEGMENT_SIZE)) {
+      assertTrue(archiver.receivePending());
+    }
+
+    stream = new InMemoryReplicationStream();
+    addXLogData(stream, start + 100, filled(SEGMENT_SIZE - 100, (byte) 4));
+    try (WalSegmentArchiver archiver =
+             new WalSegmentArchiver(stream, directory, 1, SEGMENT_SIZE)) {
+      assertTrue(archiver.receivePending());
+    }
+
+    byte[] completed = Files.readAllBytes(
+        directory.resolve(WalSegmentArchiver.segmentFileName(1, start, SEGMENT_SIZE)));
+    assertArrayEquals(filled(100, (byte) 3), Arrays.copyOfRange(completed, 0, 100));
+    assertArrayEquals(filled(SEGMENT_SIZE - 100, (byte) 4),
+        Arrays.copyOfRange(completed, 100, SEGMENT_SIZE));
+  }
+
+  @Test
+  void keepaliveAfterReadDoesNotMovePayload() throws Exception {
+    InMemoryReplicationStream stream = new InMemoryReplicationStream();
+    long start = 2L * SEGMENT_SIZE;
+    addXLogData(stream, start, filled(100, (byte) 5));
+    // answered by the background feedback task before the archiver writes the payload
+    stream.addKeepalive(start + 900);
+    addXLogData(stream, start + 100, filled(50, (byte) 6));
+
+    try (WalSegmentArchiver archiver =
+             new WalSegmentArchiver(stream, directory, 1, SEGMENT_SIZE)) {
+      assertTrue(archiver.receivePending());
+      assertEquals(LogSequenceNumber.valueOf(start + 900), stream.getLastReceiveLSN());
+      assertEquals(LogSequenceNumber.valueOf(start + 100), archiver.getWrittenLSN());
+      assertTrue(archiver.receivePending());
+      assertEquals(LogSequenceNumber.valueOf(start + 150), archiver.getWrittenLSN());
+    }
+
+    byte[] partial = Files.readAllBytes(directory.resolve(
+        WalSegmentArchiver.segmentFileName(1, start, SEGMENT_SIZE)
+            + WalSegmentArchiver.PARTIAL_SUFFIX));
+    assertArrayEquals(filled(100, (byte) 5), Arrays.copyOfRange(partial, 0, 100));
+    assertArrayEquals(filled(50, (byte) 6), Arrays.copyOfRange(partial, 100, 150));
+    assertArrayEquals(new byte[SEGMENT_SIZE - 150], Arrays.copyOfRange(partial, 150, SEGMENT_SIZE));
+  }
+
+  @Test
+  void segmentSizeMustBePowerOfTwo() {
+    assertThrows(IllegalArgumentException.class,
+        () -> new WalSegmentArchiver(new InMemoryReplicationStream(), directory, 1, 1000));
+  }
+
+  /**
+   * Queues a payload the way the physical stream returns it: a slice of the XLogData message that
+   * starts at the given LSN, with the received LSN pointing to the end of the payload.
+   */
+  private static void addXLogData(InMemoryReplicationStream stream, long start, byte[] payload) {
+    ByteBuffer message = ByteBuffer.allocate(25 + payload.length);
+    message.position(25);
+    message.put(payload);
+    message.position(25);
+    stream.add(start, start + payload.length, message.slice());
+  }
+
+  private static byte[] filled(int length, byte value) {
+    byte[] result = new byte[length];
+    Arrays.fill(result, value);
+    return result;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.jdbc.PreferQueryMode;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+
+public class AdaptivePrepareThresholdTest extends BaseTest4 {
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.PREPARE_THRESHOLD.set(props, 5);
+    PGProperty.ADAPTIVE_PREPARE_THRESHOLD.set(props, true);
+  }
+
+  @Test
+  public void frequentStatementIsPreparedOnSecondExecution() throws SQLException {
+    assumeTrue(preferQueryMode != PreferQueryMode.SIMPLE, "requires extended protocol");
+    try (PreparedStatement ps = con.prepareStatement("select ?::int4 * 2")) {
+      assertEquals(42, twice(ps, 21));
+      assertEquals(0, countPreparedStatements());
+      assertEquals(84, twice(ps, 42));
+      assertEquals(1, countPreparedStatements(), "second execution within a second is prepared");
+    }
+  }
+
+  private static int twice(PreparedStatement ps, int value) throws SQLException {
+    ps.setInt(1, value);
+    try (ResultSet rs = ps.executeQuery()) {
+      assertTrue(rs.next());
+      return rs.getInt(1);
+    }
+  }
+
+  private int countPreparedStatements() throws SQLException {
+    try (ResultSet rs = con.createStatement().executeQuery(
+        "select count(*) from pg_prepared_statements"
+            + " where not from_sql and statement = 'select $1::int4 * 2'")) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+}
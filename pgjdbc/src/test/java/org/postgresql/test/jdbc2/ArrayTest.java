@@ -5,9 +5,11 @@
 
 package org.postgresql.test.jdbc2;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -20,6 +22,7 @@
 import org.postgresql.jdbc.PreferQueryMode;
 import org.postgresql.test.TestUtil;
 import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -38,8 +41,13 @@
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.UUID;
 
 @ParameterizedClass
 @MethodSource("data")
@@ -787,6 +795,72 @@ public void testNullValues() throws SQLException {
     assertEquals(3, i[2].intValue());
   }
 
+  @Test
+  public void testGetPrimitiveArrays() throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement(
+        "SELECT '{1,2,3}'::int8[], '{1,2,3}'::int4[], '{1,2,3}'::int2[], '{1.5,2.5}'::float8[],"
+            + " '{1.5,2.5}'::float4[], '{t,f}'::bool[], '{{1,2},{3,4}}'::int4[], '{}'::int4[],"
+            + " null::int4[]");
+        ResultSet rs = ps.executeQuery()) {
+      assertTrue(rs.next());
+      assertArrayEquals(new long[]{1, 2, 3}, rs.getObject(1, long[].class));
+      assertArrayEquals(new long[]{1, 2, 3}, rs.getObject(2, long[].class));
+      assertArrayEquals(new int[]{1, 2, 3}, rs.getObject(2, int[].class));
+      assertArrayEquals(new short[]{1, 2, 3}, rs.getObject(3, short[].class));
+      assertArrayEquals(new double[]{1.5, 2.5}, rs.getObject(4, double[].class));
+      assertArrayEquals(new float[]{1.5f, 2.5f}, rs.getObject(5, float[].class));
+      assertArrayEquals(new boolean[]{true, false}, rs.getObject(6, boolean[].class));
+      assertArrayEquals(new int[][]{{1, 2}, {3, 4}}, rs.getObject(7, int[][].class));
+      assertArrayEquals(new int[0], rs.getObject(8, int[].class));
+      assertNull(rs.getObject(9, int[].class));
+
+      PSQLException e = assertThrows(PSQLException.class, () -> rs.getObject(1, int[].class));
+      assertEquals(PSQLState.DATA_TYPE_MISMATCH.getState(), e.getSQLState());
+      e = assertThrows(PSQLException.class, () -> rs.getObject(7, int[].class));
+      assertEquals(PSQLState.DATA_TYPE_MISMATCH.getState(), e.getSQLState());
+    }
+  }
+
+  @Test
+  public void testGetPrimitiveArrayWithNulls() throws SQLException {
+    try (PreparedStatement ps = conn.prepareStatement("SELECT ARRAY[1,NULL,3]");
+        ResultSet rs = ps.executeQuery()) {
+      assertTrue(rs.next());
+      PSQLException e = assertThrows(PSQLException.class, () -> rs.getObject(1, int[].class));
+      assertEquals(PSQLState.DATA_TYPE_MISMATCH.getState(), e.getSQLState());
+    }
+  }
+
+  @Test
+  public void testAnyWithObjectArrays() throws SQLException {
+    final UUID uuid = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    try (PreparedStatement ps = conn.prepareStatement(
+        "SELECT 'abc' = ANY(?), 1.50 = ANY(?), ?::uuid = ANY(?),"
+            + " timestamp '2024-02-29 13:45:30.123456' = ANY(?),"
+            + " timestamptz '2024-02-29 13:45:30+00' = ANY(?), date '1999-12-31' = ANY(?),"
+            + " ?::text[][]")) {
+      ps.setObject(1, new String[]{"xyz", null, "abc"});
+      ps.setObject(2, new BigDecimal[]{new BigDecimal("-12345678901234567890.123"), null,
+          new BigDecimal("1.5")});
+      ps.setString(3, uuid.toString());
+      ps.setObject(4, new UUID[]{UUID.randomUUID(), uuid});
+      ps.setObject(5, new LocalDateTime[]{LocalDateTime.of(2000, 1, 1, 0, 0),
+          LocalDateTime.of(2024, 2, 29, 13, 45, 30, 123_456_000)});
+      ps.setObject(6, new OffsetDateTime[]{
+          OffsetDateTime.of(2024, 2, 29, 16, 45, 30, 0, ZoneOffset.ofHours(3))});
+      ps.setObject(7, new LocalDate[]{null, LocalDate.of(1999, 12, 31)});
+      ps.setObject(8, new String[][]{{"a", "b"}, {"c", null}});
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        for (int i = 1; i <= 6; i++) {
+          assertTrue(rs.getBoolean(i), "column " + i);
+        }
+        assertArrayEquals(new Object[]{new String[]{"a", "b"}, new String[]{"c", null}},
+            (Object[]) rs.getArray(7).getArray());
+      }
+    }
+  }
+
   @Test
   public void testNullFieldString() throws SQLException {
     Array arr = new PgArray((BaseConnection) conn, 1, (String) null);
@@ -6,7 +6,11 @@
 package org.postgresql.test.jdbc2;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import org.postgresql.PGProperty;
+import org.postgresql.PGResultSetMetaData;
 import org.postgresql.core.TypeInfo;
 import org.postgresql.jdbc.PgConnection;
 import org.postgresql.test.TestUtil;
@@ -16,8 +20,13 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
+import java.util.Properties;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.LogRecord;
@@ -82,6 +91,78 @@ void getTypeInfoUsesCache() throws SQLException {
     assertEquals(0, typeQueries.size(), "PgDatabaseMetadata.getTypeInfo() resulted in individual queries for SQL typecodes");
   }
 
+  @Test
+  void metaDataResultsAreSharedAndInvalidatedByDdl() throws SQLException {
+    TestUtil.createTable(con, "metadata_cache_test", "a int");
+    Properties props = new Properties();
+    PGProperty.DATABASE_METADATA_CACHE_RESULTS.set(props, 100);
+    try (Connection first = TestUtil.openDB(props);
+         Connection second = TestUtil.openDB(props)) {
+      assertEquals(1, countColumns(first, "metadata_cache_test"));
+
+      // con does not use the shared cache, so its DDL goes unnoticed
+      try (Statement stmt = con.createStatement()) {
+        stmt.execute("ALTER TABLE metadata_cache_test ADD COLUMN b int");
+      }
+      assertEquals(1, countColumns(second, "metadata_cache_test"),
+          "second connection should reuse the result of the first one");
+
+      try (Statement stmt = first.createStatement()) {
+        stmt.execute("ALTER TABLE metadata_cache_test ADD COLUMN c int");
+      }
+      assertEquals(3, countColumns(second, "metadata_cache_test"),
+          "DDL executed through a connection sharing the cache should invalidate it");
+    } finally {
+      TestUtil.dropTable(con, "metadata_cache_test");
+    }
+  }
+
+  @Test
+  void fieldMetadataIsSharedBetweenConnections() throws SQLException {
+    TestUtil.createTable(con, "field_metadata_cache_test", "id int not null");
+    Properties props = new Properties();
+    PGProperty.SHARED_FIELD_METADATA_CACHE.set(props, true);
+    try (Connection first = TestUtil.openDB(props);
+         Connection second = TestUtil.openDB(props)) {
+      PgConnection firstPg = first.unwrap(PgConnection.class);
+      PgConnection secondPg = second.unwrap(PgConnection.class);
+      assumeTrue(firstPg.getSharedFieldMetadataCache() != null, "requires PostgreSQL 9.6+");
+      assertSame(firstPg.getFieldMetadataCache(), secondPg.getFieldMetadataCache());
+
+      assertEquals("id", getBaseColumnName(first, 2));
+      assertEquals("id", getBaseColumnName(second, 2));
+      // computed columns have no table, so there is nothing to look up for them
+      assertEquals("", getBaseColumnName(second, 1));
+      assertEquals(ResultSetMetaData.columnNoNulls, getNullable(second, 2));
+    } finally {
+      TestUtil.dropTable(con, "field_metadata_cache_test");
+    }
+  }
+
+  private static String getBaseColumnName(Connection connection, int column) throws SQLException {
+    try (Statement stmt = connection.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT 1 AS one, id FROM field_metadata_cache_test")) {
+      return rs.getMetaData().unwrap(PGResultSetMetaData.class).getBaseColumnName(column);
+    }
+  }
+
+  private static int getNullable(Connection connection, int column) throws SQLException {
+    try (Statement stmt = connection.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT 1 AS one, id FROM field_metadata_cache_test")) {
+      return rs.getMetaData().isNullable(column);
+    }
+  }
+
+  private static int countColumns(Connection connection, String table) throws SQLException {
+    int count = 0;
+    try (ResultSet rs = connection.getMetaData().getColumns(null, null, table, null)) {
+      while (rs.next()) {
+        count++;
+      }
+    }
+    return count;
+  }
+
   @Test
   void typeForAlias() {
     TypeInfo ti = con.getTypeInfo();
@@ -11,6 +11,7 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.postgresql.PGProperty;
 import org.postgresql.test.TestUtil;
 import org.postgresql.util.PGInterval;
 
@@ -23,6 +24,7 @@
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -32,6 +34,7 @@
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Properties;
 import java.util.concurrent.ThreadLocalRandom;
 
 @Isolated("Uses Locale.setDefault")
@@ -530,6 +533,87 @@ void microSecondsAreRoundedToNearest() throws SQLException {
     assertEquals(1, pgi.getMicroSeconds());
   }
 
+  @Test
+  void binaryRoundtrip() throws SQLException {
+    PGInterval original = new PGInterval(3, 14, -5, 100, -30, 12.345678);
+    byte[] bytes = new byte[original.lengthInBytes()];
+    original.toBytes(bytes, 0);
+
+    PGInterval copy = new PGInterval();
+    copy.setByteValue(bytes, 0);
+    // months are normalized to years and minutes to hours the same way the server does
+    assertEquals(new PGInterval(4, 2, -5, 99, 30, 12.345678), copy);
+  }
+
+  @Test
+  void infiniteBinaryRoundtrip() throws SQLException {
+    for (String value : new String[]{"infinity", "-infinity"}) {
+      PGInterval original = new PGInterval(value);
+      assertEquals(value, original.getValue());
+      byte[] bytes = new byte[original.lengthInBytes()];
+      original.toBytes(bytes, 0);
+
+      PGInterval copy = new PGInterval();
+      copy.setByteValue(bytes, 0);
+      assertEquals(original, copy, value);
+      assertEquals(value, copy.getValue());
+    }
+    assertFalse(new PGInterval("infinity").equals(new PGInterval("-infinity")));
+    assertFalse(new PGInterval("infinity").equals(new PGInterval()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"postgres", "postgres_verbose", "sql_standard", "iso_8601"})
+  void binaryGetStringMatchesTextForEveryIntervalStyle(String intervalStyle) throws SQLException {
+    String sql = "SELECT v, v::text FROM (VALUES ('0'::interval), ('1 year 2 mons'),"
+        + " ('-1 year -2 mons +3 days -04:05:06'), ('1 year 2 mons -3 days 04:05:06.789'),"
+        + " ('3 days 04:05:06'), ('-1.5 seconds'), ('1 second'), ('-1 day')) t(v)";
+    Properties props = new Properties();
+    PGProperty.PREPARE_THRESHOLD.set(props, -1);
+    PGProperty.BINARY_TRANSFER.set(props, true);
+    try (Connection binaryConn = TestUtil.openDB(props)) {
+      TestUtil.execute(binaryConn, "SET IntervalStyle = " + intervalStyle);
+      try (PreparedStatement ps = binaryConn.prepareStatement(sql);
+           ResultSet rs = ps.executeQuery()) {
+        while (rs.next()) {
+          String text = rs.getString(2);
+          assertEquals(text, rs.getString(1), () -> intervalStyle + " getString() of " + text);
+          assertEquals(text, new String(rs.getBytes(1), StandardCharsets.US_ASCII),
+              () -> intervalStyle + " getBytes() of " + text);
+        }
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "0", "1 year 2 mons", "-1 mons 3 days", "-3 days 04:05:06.789", "1 day -1 hour",
+      "-1.5 seconds", "0.000001 seconds", "100 hours", "-178000000 years"})
+  void binaryGetStringMatchesText(String interval) throws SQLException {
+    String sql = "SELECT ?::interval";
+    String text;
+    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+      ps.setString(1, interval);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        text = rs.getString(1);
+      }
+    }
+    Properties props = new Properties();
+    PGProperty.PREPARE_THRESHOLD.set(props, -1);
+    PGProperty.BINARY_TRANSFER.set(props, true);
+    try (Connection binaryConn = TestUtil.openDB(props);
+         PreparedStatement ps = binaryConn.prepareStatement(sql)) {
+      ps.setString(1, interval);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertEquals(text, rs.getString(1), () -> "getString() of binary " + interval);
+        assertEquals(new PGInterval(text), rs.getObject(1),
+            () -> "getObject() of binary " + interval);
+      }
+    }
+  }
+
   @SuppressWarnings("deprecation")
   private static java.sql.Date makeDate(int y, int m, int d) {
     return new java.sql.Date(y - 1900, m - 1, d);
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.postgresql.PGProperty;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.TypeInfo;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+
+public class PreloadTypesTest extends BaseTest4 {
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    TestUtil.createEnumType(con, "preload_mood", "'sad', 'happy'");
+    TestUtil.createCompositeType(con, "preload_point", "x int4, y int4");
+    TestUtil.createDomain(con, "preload_positive", "int4 check (value > 0)");
+  }
+
+  @Override
+  protected void tearDown() throws SQLException {
+    TestUtil.dropType(con, "preload_mood");
+    TestUtil.dropType(con, "preload_point");
+    TestUtil.dropDomain(con, "preload_positive");
+    super.tearDown();
+  }
+
+  @Test
+  public void typesAreKnownWithoutLookups() throws SQLException {
+    Properties props = new Properties();
+    PGProperty.PRELOAD_TYPES.set(props, true);
+    try (Connection preloaded = TestUtil.openDB(props)) {
+      int mood = getOid("preload_mood");
+      int moodArray = getOid("_preload_mood");
+      int point = getOid("preload_point");
+      int positive = getOid("preload_positive");
+
+      // once the types are gone, only the preloaded information can answer
+      TestUtil.dropType(con, "preload_mood");
+      TestUtil.dropType(con, "preload_point");
+      TestUtil.dropDomain(con, "preload_positive");
+
+      TypeInfo typeInfo = preloaded.unwrap(BaseConnection.class).getTypeInfo();
+      assertEquals(mood, typeInfo.getPGType("preload_mood"));
+      assertEquals("preload_mood", typeInfo.getPGType(mood));
+      assertEquals(Types.VARCHAR, typeInfo.getSQLType(mood));
+      assertEquals(moodArray, typeInfo.getPGArrayType("preload_mood"));
+      assertEquals("_preload_mood", typeInfo.getPGType(moodArray));
+      assertEquals(Types.ARRAY, typeInfo.getSQLType(moodArray));
+      assertEquals(mood, typeInfo.getPGArrayElement(moodArray));
+      assertEquals(',', typeInfo.getArrayDelimiter(moodArray));
+      assertEquals(Types.STRUCT, typeInfo.getSQLType(point));
+      assertEquals(point, typeInfo.getPGType("public.preload_point"));
+      assertEquals(Types.DISTINCT, typeInfo.getSQLType(positive));
+      assertEquals(Types.DISTINCT, typeInfo.getSQLType("preload_positive"));
+    }
+  }
+
+  private int getOid(String typeName) throws SQLException {
+    return con.unwrap(BaseConnection.class).getTypeInfo().getPGType(typeName);
+  }
+}
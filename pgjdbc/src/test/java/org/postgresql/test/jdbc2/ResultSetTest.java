@@ -1387,6 +1387,28 @@ public void testPreparedStatementResultSetColumnMappingCache() throws SQLExcepti
     pstmt.close();
   }
 
+  /**
+   * Test that the result sets of a prepared statement share the column mapping before the
+   * statement is named.
+   */
+  @Test
+  public void testUnnamedPreparedStatementResultSetColumnMappingCacheShared() throws SQLException {
+    PreparedStatement pstmt = con.prepareStatement("SELECT id FROM testrs");
+    ResultSet rs = pstmt.executeQuery();
+    assertTrue(rs.next());
+    rs.getInt("ID");
+    Map<String, Integer> columnNameIndexMap = getResultSetColumnNameIndexMap(rs);
+    assertNotNull(columnNameIndexMap);
+    rs.close();
+    rs = pstmt.executeQuery();
+    assertTrue(rs.next());
+    assertEquals(1, rs.findColumn("Id"));
+    assertSame(columnNameIndexMap, getResultSetColumnNameIndexMap(rs),
+        "Result sets with the same column labels should share the mapping");
+    rs.close();
+    pstmt.close();
+  }
+
   /**
    * Test the behavior of the result set column mapping cache for prepared statements once the
    * statement is named.
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.ServerVersion;
+import org.postgresql.core.StatementDescriptionCache;
+import org.postgresql.jdbc.PreferQueryMode;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+public class SharedStatementDescriptionsTest extends BaseTest4 {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    assumeTrue(preferQueryMode != PreferQueryMode.SIMPLE, "requires extended protocol");
+    assumeMinimumServerVersion(ServerVersion.v9_6);
+    TestUtil.createTable(con, "shared_desc", "id int4, name text");
+    TestUtil.execute(con, "insert into shared_desc values (1, 'one')");
+  }
+
+  @Override
+  public void tearDown() throws SQLException {
+    TestUtil.dropTable(con, "shared_desc");
+    super.tearDown();
+  }
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.SHARED_STATEMENT_DESCRIPTIONS.set(props, true);
+  }
+
+  @Test
+  public void descriptionIsSharedWithOtherConnections() throws SQLException {
+    String sql = "select id, name from shared_desc where id = ?";
+    assertEquals("one", selectName(con, sql));
+    StatementDescriptionCache cache =
+        con.unwrap(BaseConnection.class).getQueryExecutor().getStatementDescriptionCache();
+    assertTrue(cache != null && cache.size() > 0, "the description should be shared");
+
+    Properties props = new Properties();
+    updateProperties(props);
+    try (Connection other = TestUtil.openDB(props)) {
+      assertEquals(cache,
+          other.unwrap(BaseConnection.class).getQueryExecutor().getStatementDescriptionCache());
+      assertEquals("one", selectName(other, sql));
+      assertEquals("one", selectName(other, sql));
+    }
+  }
+
+  @Test
+  public void changedTableIsDescribedAgain() throws SQLException {
+    String sql = "select * from shared_desc where id = ?";
+    assertEquals("one", selectName(con, sql));
+    try (Statement st = con.createStatement()) {
+      st.execute("alter table shared_desc alter column name type varchar(10)");
+    }
+    Properties props = new Properties();
+    updateProperties(props);
+    try (Connection other = TestUtil.openDB(props)) {
+      assertEquals("one", selectName(other, sql));
+    }
+    assertEquals("one", selectName(con, sql));
+  }
+
+  @Test
+  public void typeChangedByNonSharingConnectionIsDecodedWithServerDescription()
+      throws SQLException {
+    String sql = "select id, name from shared_desc where name = ?";
+    assertEquals(1L, selectId(con, sql));
+    assertEquals(1L, selectId(con, sql));
+    try (Connection nonSharing = TestUtil.openDB();
+         Statement st = nonSharing.createStatement()) {
+      st.execute("alter table shared_desc alter column id type int8");
+      st.execute("update shared_desc set id = 5000000000");
+    }
+    assertEquals(5000000000L, selectId(con, sql));
+    Properties props = new Properties();
+    updateProperties(props);
+    try (Connection other = TestUtil.openDB(props)) {
+      assertEquals(5000000000L, selectId(other, sql));
+    }
+  }
+
+  private static long selectId(Connection connection, String sql) throws SQLException {
+    try (PreparedStatement ps = connection.prepareStatement(sql)) {
+      ps.setString(1, "one");
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        return rs.getLong("id");
+      }
+    }
+  }
+
+  private static String selectName(Connection connection, String sql) throws SQLException {
+    try (PreparedStatement ps = connection.prepareStatement(sql)) {
+      ps.setInt(1, 1);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        return rs.getString("name");
+      }
+    }
+  }
+}
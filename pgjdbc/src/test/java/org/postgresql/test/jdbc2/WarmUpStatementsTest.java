@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.PGStatement;
+import org.postgresql.jdbc.PreferQueryMode;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+public class WarmUpStatementsTest extends BaseTest4 {
+
+  @Test
+  public void statementsArePreparedWhenConnecting() throws SQLException {
+    assumeTrue(preferQueryMode != PreferQueryMode.SIMPLE, "warm-up requires extended protocol");
+    Properties props = new Properties();
+    PGProperty.PREPARE_THRESHOLD.set(props, 5);
+    PGProperty.WARM_UP_STATEMENTS.set(props,
+        "select ?::int4 + 1; select 'a;b' where ?::text is not null;");
+    try (Connection warm = TestUtil.openDB(props)) {
+      assertEquals(2, countPreparedStatements(warm));
+
+      try (PreparedStatement ps = warm.prepareStatement("select ?::int4 + 1")) {
+        assertTrue(ps.unwrap(PGStatement.class).isUseServerPrepare(),
+            "first execution should use the warmed up server-prepared statement");
+        ps.setInt(1, 41);
+        try (ResultSet rs = ps.executeQuery()) {
+          assertTrue(rs.next());
+          assertEquals(42, rs.getInt(1));
+        }
+      }
+      assertEquals(2, countPreparedStatements(warm));
+    }
+  }
+
+  @Test
+  public void invalidStatementDoesNotPreventConnecting() throws SQLException {
+    Properties props = new Properties();
+    PGProperty.WARM_UP_STATEMENTS.set(props, "select * from warm_up_missing_table");
+    try (Connection warm = TestUtil.openDB(props)) {
+      try (ResultSet rs = warm.createStatement().executeQuery("select 1")) {
+        assertTrue(rs.next());
+      }
+    }
+  }
+
+  @Test
+  public void stringParameterReusesWarmedUpStatement() throws SQLException {
+    assumeTrue(preferQueryMode != PreferQueryMode.SIMPLE, "warm-up requires extended protocol");
+    Properties props = new Properties();
+    PGProperty.PREPARE_THRESHOLD.set(props, 5);
+    // setString binds varchar, so the parameter is cast to the type it is bound with
+    PGProperty.WARM_UP_STATEMENTS.set(props, "select upper(?::varchar)");
+    try (Connection warm = TestUtil.openDB(props)) {
+      List<String> warmedUp = getPreparedStatementNames(warm);
+      assertEquals(1, warmedUp.size());
+
+      try (PreparedStatement ps = warm.prepareStatement("select upper(?::varchar)")) {
+        ps.setString(1, "warm");
+        try (ResultSet rs = ps.executeQuery()) {
+          assertTrue(rs.next());
+          assertEquals("WARM", rs.getString(1));
+        }
+      }
+      assertEquals(warmedUp, getPreparedStatementNames(warm),
+          "setString should bind the warmed up statement without parsing it again");
+    }
+  }
+
+  @Test
+  public void statementsBeforeAFailingOneArePrepared() throws SQLException {
+    assumeTrue(preferQueryMode != PreferQueryMode.SIMPLE, "warm-up requires extended protocol");
+    Properties props = new Properties();
+    PGProperty.PREPARE_THRESHOLD.set(props, 5);
+    PGProperty.WARM_UP_STATEMENTS.set(props,
+        "select ?::int4 + 1; select * from warm_up_missing_table; select ?::int4 + 2");
+    try (Connection warm = TestUtil.openDB(props)) {
+      // the failure aborts the statements that follow it in the same round trip
+      assertEquals(1, countPreparedStatements(warm));
+
+      try (PreparedStatement ps = warm.prepareStatement("select ?::int4 + 1")) {
+        assertTrue(ps.unwrap(PGStatement.class).isUseServerPrepare(),
+            "statement preceding the failure should stay warmed up");
+      }
+      try (PreparedStatement ps = warm.prepareStatement("select ?::int4 + 2")) {
+        ps.setInt(1, 40);
+        try (ResultSet rs = ps.executeQuery()) {
+          assertTrue(rs.next());
+          assertEquals(42, rs.getInt(1));
+        }
+      }
+    }
+  }
+
+  private static List<String> getPreparedStatementNames(Connection connection)
+      throws SQLException {
+    List<String> names = new ArrayList<>();
+    try (ResultSet rs = connection.createStatement().executeQuery(
+        "select name from pg_prepared_statements where not from_sql order by name")) {
+      while (rs.next()) {
+        names.add(rs.getString(1));
+      }
+    }
+    return names;
+  }
+
+  private static int countPreparedStatements(Connection connection) throws SQLException {
+    try (ResultSet rs = connection.createStatement().executeQuery(
+        "select count(*) from pg_prepared_statements where not from_sql")) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc4;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGResultSetMetaData;
+import org.postgresql.PGStatement;
+import org.postgresql.codec.BinaryCodec;
+import org.postgresql.core.Field;
+import org.postgresql.jdbc.PreferQueryMode;
+import org.postgresql.test.jdbc2.BaseTest4;
+import org.postgresql.util.ByteConverter;
+import org.postgresql.util.PSQLException;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+
+public class BinaryCodecTest extends BaseTest4 {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    con.unwrap(PGConnection.class).addBinaryCodec(new CoordinatesCodec());
+  }
+
+  @Test
+  public void decodesResultInBinaryAndText() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement("select '(1.5,-2)'::point")) {
+      ps.unwrap(PGStatement.class).setPrepareThreshold(-1);
+      for (int i = 0; i < 2; i++) {
+        try (ResultSet rs = ps.executeQuery()) {
+          assertTrue(rs.next());
+          int format = rs.getMetaData().unwrap(PGResultSetMetaData.class).getFormat(1);
+          if (preferQueryMode != PreferQueryMode.SIMPLE) {
+            assertEquals(Field.BINARY_FORMAT, format, "point should be received in binary");
+          }
+          assertEquals(new Coordinates(1.5, -2), rs.getObject(1));
+          assertEquals(new Coordinates(1.5, -2), rs.getObject(1, Coordinates.class));
+        }
+      }
+    }
+
+    try (PreparedStatement ps = con.prepareStatement("select '(3,4)'::point")) {
+      ps.unwrap(PGStatement.class).setPrepareThreshold(0);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertEquals(Field.TEXT_FORMAT,
+            rs.getMetaData().unwrap(PGResultSetMetaData.class).getFormat(1));
+        assertEquals(new Coordinates(3, 4), rs.getObject(1));
+      }
+    }
+  }
+
+  @Test
+  public void encodesParameters() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement("select pg_typeof(?)::text, ? ~= '(5,6)'")) {
+      ps.setObject(1, new Coordinates(5, 6));
+      ps.setObject(2, new Coordinates(5, 6), Types.OTHER);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertEquals("point", rs.getString(1));
+        assertTrue(rs.getBoolean(2));
+      }
+    }
+  }
+
+  @Test
+  public void stringCodecDoesNotTakeOverStrings() throws SQLException {
+    con.unwrap(PGConnection.class).addBinaryCodec(new NameCodec());
+    try (PreparedStatement ps = con.prepareStatement(
+        "select pg_typeof(?)::text, pg_typeof(?)::text, 'abc'::name")) {
+      ps.setObject(1, "abc");
+      ps.setObject(2, "abc", Types.OTHER);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertEquals("character varying", rs.getString(1),
+            "a String is bound as varchar, not as the type of a codec for String");
+        assertEquals("text", rs.getString(2));
+        assertEquals("abc", rs.getObject(3), "the codec still decodes its type");
+      }
+    }
+  }
+
+  @Test
+  public void roundtrip() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement("select ?::point")) {
+      ps.unwrap(PGStatement.class).setPrepareThreshold(-1);
+      for (int i = 0; i < 2; i++) {
+        ps.setObject(1, new Coordinates(i, 0.25));
+        try (ResultSet rs = ps.executeQuery()) {
+          assertTrue(rs.next());
+          assertEquals(new Coordinates(i, 0.25), rs.getObject(1));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void unknownType() {
+    PSQLException e = assertThrows(PSQLException.class,
+        () -> con.unwrap(PGConnection.class).addBinaryCodec(new CoordinatesCodec() {
+          @Override
+          public String getTypeName() {
+            return "binary_codec_test_no_such_type";
+          }
+        }));
+    assertEquals("Unknown type binary_codec_test_no_such_type.", e.getMessage());
+  }
+
+  static final class Coordinates {
+    final double x;
+    final double y;
+
+    Coordinates(double x, double y) {
+      this.x = x;
+      this.y = y;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Coordinates)) {
+        return false;
+      }
+      Coordinates that = (Coordinates) o;
+      return Double.compare(x, that.x) == 0 && Double.compare(y, that.y) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(x, y);
+    }
+
+    @Override
+    public String toString() {
+      return "(" + x + "," + y + ")";
+    }
+  }
+
+  /**
+   * Maps the text-like {@code name} type to {@link String}, like a codec for an extension type
+   * such as {@code ltree} or {@code citext} would.
+   */
+  static class NameCodec implements BinaryCodec<String> {
+    @Override
+    public String getTypeName() {
+      return "name";
+    }
+
+    @Override
+    public Class<String> getJavaType() {
+      return String.class;
+    }
+
+    @Override
+    public String decodeBinary(byte[] bytes, int offset, int length) {
+      return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String decodeText(String value) {
+      return value;
+    }
+
+    @Override
+    public int lengthInBytes(String value) {
+      return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Override
+    public void encodeBinary(String value, byte[] bytes, int offset) {
+      byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+      System.arraycopy(encoded, 0, bytes, offset, encoded.length);
+    }
+
+    @Override
+    public String encodeText(String value) {
+      return value;
+    }
+  }
+
+  /**
+   * Maps {@code point} to {@link Coordinates}, the binary form is two float8 values.
+   */
+  static class CoordinatesCodec implements BinaryCodec<Coordinates> {
+    @Override
+    public String getTypeName() {
+      return "point";
+    }
+
+    @Override
+    public Class<Coordinates> getJavaType() {
+      return Coordinates.class;
+    }
+
+    @Override
+    public Coordinates decodeBinary(byte[] bytes, int offset, int length) {
+      return new Coordinates(ByteConverter.float8(bytes, offset),
+          ByteConverter.float8(bytes, offset + 8));
+    }
+
+    @Override
+    public Coordinates decodeText(String value) {
+      int comma = value.indexOf(',');
+      return new Coordinates(Double.parseDouble(value.substring(1, comma)),
+          Double.parseDouble(value.substring(comma + 1, value.length() - 1)));
+    }
+
+    @Override
+    public int lengthInBytes(Coordinates value) {
+      return 16;
+    }
+
+    @Override
+    public void encodeBinary(Coordinates value, byte[] bytes, int offset) {
+      ByteConverter.float8(bytes, offset, value.x);
+      ByteConverter.float8(bytes, offset + 8, value.y);
+    }
+
+    @Override
+    public String encodeText(Coordinates value) {
+      return value.toString();
+    }
+  }
+}
@@ -5,6 +5,7 @@
 
 package org.postgresql.test.jdbc4;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -163,6 +164,57 @@ public void testGetMetaDataBeforeExecuteQuery() throws SQLException {
 
   }
 
+  @Test
+  public void testTextualTypesMatchTextFormat() throws Exception {
+    String[] values = {
+        "'{\"b\": [1, 2.50, null], \"a\": \"\u00e9\"}'::jsonb",
+        "'192.168.0.1'::inet",
+        "'192.168.0.1/24'::inet",
+        "'10.0.0.0/8'::cidr",
+        "'2001:db8::ff00:42:8329'::inet",
+        "'::ffff:1.2.3.4'::inet",
+        "'fe80::/64'::cidr",
+        "'08:00:2b:01:02:03'::macaddr",
+        "'pg_class'::name",
+        "4294967295::oid",
+    };
+    StringBuilder sql = new StringBuilder("select ");
+    for (int i = 0; i < values.length; i++) {
+      if (i != 0) {
+        sql.append(", ");
+      }
+      // concat() uses the output function of the type, so the result is sent as text
+      sql.append(values[i]).append(", concat(").append(values[i]).append(')');
+    }
+    try (PreparedStatement ps = con.prepareStatement(sql.toString())) {
+      ps.unwrap(PgStatement.class).setPrepareThreshold(-1);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next(), "One row should be returned");
+        assertEquals(Field.BINARY_FORMAT, getFormat(rs));
+        for (int i = 0; i < values.length; i++) {
+          assertEquals(rs.getString(2 * i + 2), rs.getString(2 * i + 1), values[i]);
+          assertEquals(rs.getString(2 * i + 2), String.valueOf(rs.getObject(2 * i + 1)), values[i]);
+          assertArrayEquals(rs.getBytes(2 * i + 2), rs.getBytes(2 * i + 1), values[i]);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testBooleanAndOidInBinary() throws Exception {
+    try (PreparedStatement ps = con.prepareStatement("select ?::text, 4294967295::oid")) {
+      ps.unwrap(PgStatement.class).setPrepareThreshold(-1);
+      ps.setBoolean(1, true);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next(), "One row should be returned");
+        assertEquals("true", rs.getString(1));
+        assertEquals(4294967295L, rs.getLong(2));
+        assertEquals(4294967295L, rs.getObject(2));
+        assertEquals("4294967295", rs.getString(2));
+      }
+    }
+  }
+
   private static int getFormat(ResultSet results) throws SQLException {
     return ((PGResultSetMetaData) results.getMetaData()).getFormat(1);
   }
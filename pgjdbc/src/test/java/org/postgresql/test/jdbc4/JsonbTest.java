@@ -12,6 +12,7 @@
 import org.postgresql.core.ServerVersion;
 import org.postgresql.test.TestUtil;
 import org.postgresql.test.jdbc2.BaseTest4;
+import org.postgresql.util.ByteStreamWriter;
 import org.postgresql.util.PGobject;
 
 import org.junit.jupiter.api.AfterAll;
@@ -20,6 +21,13 @@
 import org.junit.jupiter.params.ParameterizedClass;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Array;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -27,6 +35,7 @@
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -120,6 +129,62 @@ public void testJsonbPreparedStatement() throws SQLException {
     stmt.close();
   }
 
+  @Test
+  public void testJsonbStreams() throws Exception {
+    for (String type : new String[]{"jsonb", "json"}) {
+      try (PreparedStatement ps = con.prepareStatement(
+          "SELECT detail::" + type + " FROM jsonbtest WHERE detail ?? 'a'")) {
+        try (ResultSet rs = ps.executeQuery()) {
+          assertTrue(rs.next());
+          String expected = "{\"a\": 1}";
+          assertEquals(expected, new String(readAll(rs.getBinaryStream(1)), StandardCharsets.UTF_8),
+              () -> "getBinaryStream of " + type);
+          assertEquals(expected, new String(rs.getBytes(1), StandardCharsets.UTF_8),
+              () -> "getBytes of " + type);
+          StringBuilder sb = new StringBuilder();
+          try (Reader reader = rs.getCharacterStream(1)) {
+            int ch;
+            while ((ch = reader.read()) != -1) {
+              sb.append((char) ch);
+            }
+          }
+          assertEquals(expected, sb.toString(), () -> "getCharacterStream of " + type);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testJsonbFromStream() throws Exception {
+    byte[] json = "{\"d\": [1, \"\u00e9\"]}".getBytes(StandardCharsets.UTF_8);
+    try (PreparedStatement ps = con.prepareStatement("INSERT INTO jsonbtest (detail) VALUES (?)")) {
+      ps.setObject(1, new ByteArrayInputStream(json), Types.OTHER);
+      ps.executeUpdate();
+      ps.setObject(1, new ByteArrayInputStream(json), Types.OTHER, json.length);
+      ps.executeUpdate();
+      ps.setObject(1, ByteStreamWriter.of(ByteBuffer.wrap(json)), Types.OTHER);
+      ps.executeUpdate();
+    }
+    try (PreparedStatement ps = con.prepareStatement(
+        "SELECT count(*) FROM jsonbtest WHERE detail = ?::jsonb")) {
+      ps.setString(1, new String(json, StandardCharsets.UTF_8));
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertEquals(3, rs.getInt(1));
+      }
+    }
+  }
+
+  private static byte[] readAll(InputStream in) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    byte[] buffer = new byte[16];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    return out.toByteArray();
+  }
+
   @Test
   public void jsonbArray() throws SQLException {
     jsonArrayGet("jsonb", String.class);
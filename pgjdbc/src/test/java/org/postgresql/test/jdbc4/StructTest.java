@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc4;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.PGResultSetMetaData;
+import org.postgresql.PGStatement;
+import org.postgresql.core.Field;
+import org.postgresql.jdbc.PreferQueryMode;
+import org.postgresql.test.TestUtil;
+import org.postgresql.test.jdbc2.BaseTest4;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Properties;
+
+public class StructTest extends BaseTest4 {
+  private static final String ROW_QUERY = "select row(1, 'a b', null::text, 2.50::numeric, true,"
+      + " '\\x01ff'::bytea, row('x', 'y,\"z\"'))";
+  private static final String COMPOSITE_QUERY = "select (42, 'it''s', '2024-02-29 12:34:56.5',"
+      + " array[1, null, 3])::struct_test_item";
+
+  private static long compositeOid;
+
+  @BeforeAll
+  static void createTypes() throws Exception {
+    try (Connection con = TestUtil.openDB()) {
+      TestUtil.createCompositeType(con, "struct_test_item",
+          "id int4, name text, created timestamp, scores int4[]");
+      try (Statement st = con.createStatement();
+           ResultSet rs = st.executeQuery("select 'struct_test_item'::regtype::oid")) {
+        rs.next();
+        compositeOid = rs.getLong(1);
+      }
+    }
+  }
+
+  @AfterAll
+  static void dropTypes() throws Exception {
+    try (Connection con = TestUtil.openDB()) {
+      TestUtil.dropType(con, "struct_test_item");
+    }
+  }
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.BINARY_TRANSFER_ENABLE.set(props, "record," + compositeOid);
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    assumeTrue(preferQueryMode != PreferQueryMode.SIMPLE,
+        "Binary transfer is not supported in 'simple protocol only'");
+  }
+
+  @Test
+  public void anonymousRecord() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(ROW_QUERY)) {
+      ps.unwrap(PGStatement.class).setPrepareThreshold(-1);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertEquals(Field.BINARY_FORMAT,
+            rs.getMetaData().unwrap(PGResultSetMetaData.class).getFormat(1));
+        Struct struct = assertInstanceOf(Struct.class, rs.getObject(1));
+        assertEquals("record", struct.getSQLTypeName());
+        Object[] attributes = struct.getAttributes();
+        assertEquals(7, attributes.length);
+        assertEquals(1, attributes[0]);
+        assertEquals("a b", attributes[1]);
+        assertNull(attributes[2]);
+        assertEquals(new BigDecimal("2.50"), attributes[3]);
+        assertEquals(true, attributes[4]);
+        assertArrayEquals(new byte[]{1, (byte) 0xff}, (byte[]) attributes[5]);
+        Struct nested = assertInstanceOf(Struct.class, attributes[6]);
+        assertArrayEquals(new Object[]{"x", "y,\"z\""}, nested.getAttributes());
+        assertEquals(textValue(ROW_QUERY), rs.getString(1));
+      }
+    }
+  }
+
+  @Test
+  public void compositeType() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(COMPOSITE_QUERY)) {
+      ps.unwrap(PGStatement.class).setPrepareThreshold(-1);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        Struct struct = rs.getObject(1, Struct.class);
+        assertEquals("struct_test_item", struct.getSQLTypeName());
+        Object[] attributes = struct.getAttributes();
+        assertEquals(42, attributes[0]);
+        assertEquals("it's", attributes[1]);
+        assertEquals("2024-02-29 12:34:56.5", attributes[2].toString());
+        assertArrayEquals(new Integer[]{1, null, 3},
+            (Object[]) ((Array) attributes[3]).getArray());
+        assertEquals(textValue(COMPOSITE_QUERY), rs.getString(1));
+      }
+    }
+  }
+
+  @Test
+  public void nullComposite() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement("select null::struct_test_item")) {
+      ps.unwrap(PGStatement.class).setPrepareThreshold(-1);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertNull(rs.getObject(1));
+        assertNull(rs.getObject(1, Struct.class));
+      }
+    }
+  }
+
+  /**
+   * Returns the value as the server formats it with text transfer.
+   */
+  private String textValue(String sql) throws SQLException {
+    try (Statement st = con.createStatement();
+         ResultSet rs = st.executeQuery(sql)) {
+      assertTrue(rs.next());
+      assertEquals(Field.TEXT_FORMAT,
+          rs.getMetaData().unwrap(PGResultSetMetaData.class).getFormat(1));
+      return rs.getString(1);
+    }
+  }
+}
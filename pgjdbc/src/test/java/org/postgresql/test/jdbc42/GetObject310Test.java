@@ -31,6 +31,7 @@
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -226,6 +227,7 @@ public void testGetLocalTime() throws SQLException {
         assertDataTypeMismatch(rs, "time_without_time_zone_column", OffsetTime.class);
         assertDataTypeMismatch(rs, "time_without_time_zone_column", OffsetDateTime.class);
         assertDataTypeMismatch(rs, "time_without_time_zone_column", LocalDate.class);
+        assertDataTypeMismatch(rs, "time_without_time_zone_column", Instant.class);
         assertDataTypeMismatch(rs, "time_without_time_zone_column", LocalDateTime.class);
       }
     }
@@ -381,6 +383,8 @@ private void runGetOffsetDateTime(ZoneOffset offset) throws SQLException {
         OffsetDateTime offsetDateTime = localDateTime.atOffset(offset).withOffsetSameInstant(ZoneOffset.UTC);
         assertEquals(offsetDateTime, rs.getObject("timestamp_with_time_zone_column", OffsetDateTime.class));
         assertEquals(offsetDateTime, rs.getObject(1, OffsetDateTime.class));
+        assertEquals(offsetDateTime.toInstant(), rs.getObject("timestamp_with_time_zone_column", Instant.class));
+        assertEquals(offsetDateTime.toInstant(), rs.getObject(1, Instant.class));
 
         assertDataTypeMismatch(rs, "timestamp_with_time_zone_column", LocalTime.class);
         assertDataTypeMismatch(rs, "timestamp_with_time_zone_column", LocalDateTime.class);
@@ -13,12 +13,20 @@
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
 import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.TimeZone;
 
 class TimestampUtilsTest {
@@ -126,6 +134,102 @@ private void assertToLocalTimeBin(String expectedOutput, long inputMicros, Strin
         + (message == null ? ": " + message : ""));
   }
 
+  @Test
+  void toJavaTimeFromTimestampBin() throws SQLException {
+    assertTimestampBin("2000-01-01T00:00", 0L);
+    assertTimestampBin("2000-01-01T00:00:00.000001", 1L);
+    assertTimestampBin("1999-12-31T23:59:59.999999", -1L);
+    assertTimestampBin("1999-12-31T23:59:59", -1_000_000L);
+    assertTimestampBin("1970-01-01T00:00", -946_684_800_000_000L);
+    assertTimestampBin("1969-12-31T23:59:59.5", -946_684_800_500_000L);
+    assertTimestampBin("2024-02-29T13:45:30.123456", 762_529_530_123_456L);
+    assertTimestampBin("0001-01-01T00:00", -63_082_281_600_000_000L);
+    assertTimestampBin("+294276-12-31T23:59:59.999999", 9_223_371_331_199_999_999L);
+  }
+
+  private void assertTimestampBin(String expected, long inputMicros) throws SQLException {
+    LocalDateTime expectedDateTime = LocalDateTime.parse(expected);
+    assertEquals(expectedDateTime,
+        LocalDateTime.of(2000, 1, 1, 0, 0).plus(inputMicros, ChronoUnit.MICROS),
+        "test data for " + inputMicros);
+
+    final byte[] bytes = new byte[8];
+    ByteConverter.int8(bytes, 0, inputMicros);
+    assertEquals(expectedDateTime, timestampUtils.toLocalDateTimeBin(bytes),
+        "timestampUtils.toLocalDateTimeBin(" + inputMicros + ")");
+    assertEquals(expectedDateTime.atOffset(ZoneOffset.UTC), timestampUtils.toOffsetDateTimeBin(bytes),
+        "timestampUtils.toOffsetDateTimeBin(" + inputMicros + ")");
+    assertEquals(expectedDateTime.toInstant(ZoneOffset.UTC), timestampUtils.toInstantBin(bytes),
+        "timestampUtils.toInstantBin(" + inputMicros + ")");
+    assertEquals(expectedDateTime.toLocalDate(), timestampUtils.toLocalDateBin(bytes),
+        "timestampUtils.toLocalDateBin(" + inputMicros + ")");
+
+    final byte[] encoded = new byte[12];
+    timestampUtils.toBinLocalDateTime(encoded, 4, expectedDateTime);
+    assertEquals(inputMicros, ByteConverter.int8(encoded, 4),
+        "timestampUtils.toBinLocalDateTime(" + expected + ")");
+    timestampUtils.toBinOffsetDateTime(encoded, 4,
+        expectedDateTime.atOffset(ZoneOffset.UTC).withOffsetSameInstant(ZoneOffset.ofHours(3)));
+    assertEquals(inputMicros, ByteConverter.int8(encoded, 4),
+        "timestampUtils.toBinOffsetDateTime(" + expected + ")");
+    timestampUtils.toBinLocalDate(encoded, 0, expectedDateTime.toLocalDate());
+    assertEquals(expectedDateTime.toLocalDate(),
+        timestampUtils.toLocalDateBin(Arrays.copyOf(encoded, 4)),
+        "timestampUtils.toBinLocalDate(" + expected + ")");
+  }
+
+  @Test
+  void toBinTimestampRoundsToMicros() throws SQLException {
+    final byte[] bytes = new byte[8];
+    timestampUtils.toBinLocalDateTime(bytes, 0, LocalDateTime.of(2000, 1, 1, 0, 0, 0, 1_499));
+    assertEquals(1L, ByteConverter.int8(bytes, 0));
+    timestampUtils.toBinLocalDateTime(bytes, 0, LocalDateTime.of(2000, 1, 1, 0, 0, 0, 1_500));
+    assertEquals(2L, ByteConverter.int8(bytes, 0));
+    timestampUtils.toBinLocalDateTime(bytes, 0, LocalDateTime.of(1999, 12, 31, 23, 59, 59, 999_999_500));
+    assertEquals(0L, ByteConverter.int8(bytes, 0));
+  }
+
+  @Test
+  void toBinInfiniteTimestamp() throws SQLException {
+    final byte[] bytes = new byte[8];
+    timestampUtils.toBinLocalDateTime(bytes, 0, LocalDateTime.MAX);
+    assertEquals(Long.MAX_VALUE, ByteConverter.int8(bytes, 0));
+    timestampUtils.toBinOffsetDateTime(bytes, 0, OffsetDateTime.MIN);
+    assertEquals(Long.MIN_VALUE, ByteConverter.int8(bytes, 0));
+    timestampUtils.toBinLocalDate(bytes, 0, LocalDate.MAX);
+    assertEquals(Integer.MAX_VALUE, ByteConverter.int4(bytes, 0));
+  }
+
+  @Test
+  void toBinTimestampRejectsOutOfRange() {
+    PSQLException e = assertThrows(PSQLException.class,
+        () -> timestampUtils.toBinLocalDateTime(new byte[8], 0, LocalDateTime.of(300_000, 1, 1, 0, 0)));
+    assertEquals(PSQLState.DATETIME_OVERFLOW.getState(), e.getSQLState());
+  }
+
+  @Test
+  void toJavaTimeFromInfiniteTimestampBin() throws SQLException {
+    final byte[] bytes = new byte[8];
+    ByteConverter.int8(bytes, 0, Long.MAX_VALUE);
+    assertEquals(LocalDateTime.MAX, timestampUtils.toLocalDateTimeBin(bytes));
+    assertEquals(OffsetDateTime.MAX, timestampUtils.toOffsetDateTimeBin(bytes));
+    assertEquals(OffsetDateTime.MAX.toInstant(), timestampUtils.toInstantBin(bytes));
+    assertEquals(LocalDate.MAX, timestampUtils.toLocalDateBin(bytes));
+
+    ByteConverter.int8(bytes, 0, Long.MIN_VALUE);
+    assertEquals(LocalDateTime.MIN, timestampUtils.toLocalDateTimeBin(bytes));
+    assertEquals(OffsetDateTime.MIN, timestampUtils.toOffsetDateTimeBin(bytes));
+    assertEquals(OffsetDateTime.MIN.toInstant(), timestampUtils.toInstantBin(bytes));
+    assertEquals(LocalDate.MIN, timestampUtils.toLocalDateBin(bytes));
+  }
+
+  @Test
+  void toInstantBinRejectsInvalidLength() {
+    PSQLException e = assertThrows(PSQLException.class,
+        () -> timestampUtils.toInstantBin(new byte[4]));
+    assertEquals(PSQLState.BAD_DATETIME_FORMAT.getState(), e.getSQLState());
+  }
+
   @Test
   void toStringOfOffsetTime() {
     assertToStringOfOffsetTime("00:00:00+00", "00:00:00+00:00");
@@ -192,4 +296,72 @@ void toTimestampRejectsEmptyByteArray() {
     assertEquals(PSQLState.BAD_DATETIME_FORMAT.getState(), e.getSQLState(),
         "SQLState of the exception for empty input");
   }
+
+  @Test
+  void toStringInterval() {
+    assertToStringInterval("00:00:00", 0, 0, 0);
+    assertToStringInterval("1 year 2 mons", 14, 0, 0);
+    assertToStringInterval("1 year 1 day", 12, 1, 0);
+    assertToStringInterval("-1 years -2 mons", -14, 0, 0);
+    assertToStringInterval("-1 mons +3 days", -1, 3, 0);
+    assertToStringInterval("-3 days +04:05:06.789", 0, -3, 14_706_789_000L);
+    assertToStringInterval("1 day -01:00:00", 0, 1, -3_600_000_000L);
+    assertToStringInterval("-00:00:01.5", 0, 0, -1_500_000L);
+    assertToStringInterval("00:00:00.000001", 0, 0, 1L);
+    assertToStringInterval("100:00:00", 0, 0, 360_000_000_000L);
+    assertToStringInterval("infinity", Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE);
+    assertToStringInterval("-infinity", Integer.MIN_VALUE, Integer.MIN_VALUE, Long.MIN_VALUE);
+  }
+
+  @Test
+  void toStringIntervalSqlStandard() {
+    assertToStringInterval("sql_standard", "0", 0, 0, 0);
+    assertToStringInterval("sql_standard", "1-2", 14, 0, 0);
+    assertToStringInterval("sql_standard", "-1-2", -14, 0, 0);
+    assertToStringInterval("sql_standard", "3 4:05:06", 0, 3, 14_706_000_000L);
+    assertToStringInterval("sql_standard", "-0:00:01.5", 0, 0, -1_500_000L);
+    assertToStringInterval("sql_standard", "-1-2 +3 -4:05:06", -14, 3, -14_706_000_000L);
+    assertToStringInterval("sql_standard", "+1-2 -3 +4:05:06.789", 14, -3, 14_706_789_000L);
+    assertToStringInterval("sql_standard", "infinity",
+        Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE);
+  }
+
+  @Test
+  void toStringIntervalIso8601() {
+    assertToStringInterval("iso_8601", "PT0S", 0, 0, 0);
+    assertToStringInterval("iso_8601", "P1Y2M", 14, 0, 0);
+    assertToStringInterval("iso_8601", "P3DT4H5M6S", 0, 3, 14_706_000_000L);
+    assertToStringInterval("iso_8601", "P-1Y-2M3DT-4H-5M-6S", -14, 3, -14_706_000_000L);
+    assertToStringInterval("iso_8601", "PT-1.5S", 0, 0, -1_500_000L);
+    assertToStringInterval("iso_8601", "PT0.000001S", 0, 0, 1L);
+  }
+
+  @Test
+  void toStringIntervalPostgresVerbose() {
+    assertToStringInterval("postgres_verbose", "@ 0", 0, 0, 0);
+    assertToStringInterval("postgres_verbose", "@ 1 year 2 mons", 14, 0, 0);
+    assertToStringInterval("postgres_verbose", "@ 3 days 4 hours 5 mins 6 secs",
+        0, 3, 14_706_000_000L);
+    assertToStringInterval("postgres_verbose", "@ 1 year 2 mons -3 days 4 hours 5 mins 6 secs ago",
+        -14, 3, -14_706_000_000L);
+    assertToStringInterval("postgres_verbose", "@ 1.5 secs ago", 0, 0, -1_500_000L);
+    assertToStringInterval("postgres_verbose", "@ 1 sec", 0, 0, 1_000_000L);
+    assertToStringInterval("postgres_verbose", "@ 1 day ago", 0, -1, 0);
+  }
+
+  private static void assertToStringInterval(String expected, int months, int days, long micros) {
+    assertToStringInterval(null, expected, months, days, micros);
+    assertToStringInterval("postgres", expected, months, days, micros);
+  }
+
+  private static void assertToStringInterval(@Nullable String intervalStyle, String expected,
+      int months, int days, long micros) {
+    byte[] bytes = new byte[16];
+    ByteConverter.int8(bytes, 0, micros);
+    ByteConverter.int4(bytes, 8, days);
+    ByteConverter.int4(bytes, 12, months);
+    assertEquals(expected, TimestampUtils.toStringInterval(bytes, intervalStyle),
+        "toStringInterval(months=" + months + ", days=" + days + ", micros=" + micros
+            + ", IntervalStyle=" + intervalStyle + ")");
+  }
 }
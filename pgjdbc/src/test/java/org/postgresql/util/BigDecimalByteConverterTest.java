@@ -68,6 +68,22 @@ public static Iterable<Object[]> data() {
     numbers.add(new Object[]{new BigDecimal("1000000").setScale(31)});
     numbers.add(new Object[]{new BigDecimal("10000000000000000000000000000000000000").setScale(14)});
     numbers.add(new Object[]{new BigDecimal("90000000000000000000000000000000000000")});
+    numbers.add(new Object[]{new BigDecimal("12.34")});
+    numbers.add(new Object[]{new BigDecimal("-0.05")});
+    numbers.add(new Object[]{new BigDecimal("123456789.01")});
+    numbers.add(new Object[]{new BigDecimal("9999999999999999.99")});
+    numbers.add(new Object[]{new BigDecimal("-9999999999999999.99")});
+    numbers.add(new Object[]{new BigDecimal("99999999999999999.99")});
+    numbers.add(new Object[]{new BigDecimal("999999999999999999")});
+    numbers.add(new Object[]{new BigDecimal("-999999999999999999")});
+    numbers.add(new Object[]{new BigDecimal("9999999999999999999")});
+    numbers.add(new Object[]{new BigDecimal("0.999999999999999999")});
+    numbers.add(new Object[]{new BigDecimal("0.000000000000000001")});
+    numbers.add(new Object[]{new BigDecimal("12.345678901234567")});
+    numbers.add(new Object[]{new BigDecimal("1.2345678901234567")});
+    numbers.add(new Object[]{new BigDecimal("123456789012345.123")});
+    numbers.add(new Object[]{new BigDecimal("1234567890.1200000000")});
+    numbers.add(new Object[]{new BigDecimal("100000000.000000000")});
     return numbers;
   }
 
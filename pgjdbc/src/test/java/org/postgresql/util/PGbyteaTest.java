@@ -14,6 +14,7 @@
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Random;
 
@@ -42,6 +43,34 @@ void hexDecode_upper() throws SQLException {
     assertArrayEquals(data, decoded);
   }
 
+  @Test
+  void hexDecode_mixedCaseAllLengths() throws SQLException {
+    // covers lengths below, at and between the block sizes of the vectorized decoder
+    Random random = new Random(11);
+    for (int length = 0; length <= 300; length++) {
+      final byte[] data = new byte[length];
+      random.nextBytes(data);
+      final byte[] encoded = hexEncode(data, random.nextBoolean() ? HEX_DIGITS_L : HEX_DIGITS_U);
+      assertArrayEquals(data, PGbytea.toBytes(encoded), "length " + length);
+    }
+  }
+
+  @Test
+  void appendHexString_allLengths() {
+    Random random = new Random(13);
+    final byte[] data = new byte[10000];
+    random.nextBytes(data);
+    for (int length : new int[]{0, 1, 63, 64, 65, 127, 128, 129, 1000, 4096, 4097, 9999}) {
+      int offset = random.nextInt(data.length - length + 1);
+      StringBuilder sb = new StringBuilder("prefix");
+      PGbytea.appendHexString(sb, data, offset, length);
+      byte[] expected = new byte[length];
+      System.arraycopy(data, offset, expected, 0, length);
+      assertEquals("prefix" + new String(hexEncode(expected, HEX_DIGITS_L), 2, 2 * length,
+          StandardCharsets.US_ASCII), sb.toString(), "length " + length);
+    }
+  }
+
   @Test
   void toPGLiteral_byteArray() throws IOException {
     assertEquals("'\\x00010203'::bytea",